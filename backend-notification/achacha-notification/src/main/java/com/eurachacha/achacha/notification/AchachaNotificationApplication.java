@@ -4,10 +4,11 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
+import com.eurachacha.achacha.notification.config.FcmProperties;
 import com.eurachacha.achacha.notification.config.FirebaseProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties({FirebaseProperties.class})
+@EnableConfigurationProperties({FirebaseProperties.class, FcmProperties.class})
 public class AchachaNotificationApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,17 @@
+package com.eurachacha.achacha.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FCM 전송 설정
+ * - maxInFlight: 동시에 진행할 수 있는 FCM 전송(메시지) 수, RabbitMQ prefetch와 같은 값을 사용
+ */
+@ConfigurationProperties(prefix = "fcm")
+@RequiredArgsConstructor
+@Getter
+public class FcmProperties {
+	private final int maxInFlight;
+}
@@ -28,6 +28,13 @@ public class RabbitMQConfig {
 	public static final String NOTIFICATION_QUEUE = "achacha.notification.queue";
 	public static final String NOTIFICATION_ROUTING_KEY = "achacha.notification";
 
+	// 여러 토큰을 묶은 배치 메시지 관련 상수
+	public static final String NOTIFICATION_BATCH_QUEUE = "achacha.notification.batch.queue";
+	public static final String NOTIFICATION_BATCH_ROUTING_KEY = "achacha.notification.batch";
+
+	// 무효 토큰 반환용 Routing Key (큐는 메인 서버에서 선언하고 소비)
+	public static final String INVALID_FCM_TOKEN_ROUTING_KEY = "achacha.notification.token.invalid";
+
 	// Dead Letter Queue 관련 상수 (선택 사항)
 	public static final String DLX_EXCHANGE = "achacha.notification.dlx";
 	public static final String DLQ_QUEUE = "achacha.notification.dlq";
@@ -68,6 +75,28 @@ public class RabbitMQConfig {
 			.with(NOTIFICATION_ROUTING_KEY);
 	}
 
+	/**
+	 * 배치 알림 메시지를 저장할 Queue 정의
+	 * - 메시지 하나에 최대 500개 토큰이 담기며 기본 큐와 같은 DLQ를 사용
+	 */
+	@Bean
+	public Queue notificationBatchQueue() {
+		return QueueBuilder.durable(NOTIFICATION_BATCH_QUEUE)
+			.withArgument("x-dead-letter-exchange", DLX_EXCHANGE)
+			.withArgument("x-dead-letter-routing-key", DLQ_ROUTING_KEY)
+			.build();
+	}
+
+	/**
+	 * Exchange와 배치 Queue를 연결하는 Binding 정의
+	 */
+	@Bean
+	public Binding notificationBatchBinding() {
+		return BindingBuilder.bind(notificationBatchQueue())
+			.to(notificationExchange())
+			.with(NOTIFICATION_BATCH_ROUTING_KEY);
+	}
+
 	/**
 	 * Dead Letter Exchange 정의
 	 * - 메시지 처리 실패 시 메시지를 DLQ로 라우팅할 Exchange
@@ -0,0 +1,20 @@
+package com.eurachacha.achacha.notification.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * FCM이 UNREGISTERED 또는 INVALID_ARGUMENT로 응답한 토큰 목록
+ * 메인 서버가 받아 토큰 저장소에서 삭제함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class InvalidFcmTokenEventDto {
+	private List<String> fcmTokens;
+}
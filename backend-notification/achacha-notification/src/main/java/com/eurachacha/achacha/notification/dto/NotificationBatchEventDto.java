@@ -0,0 +1,23 @@
+package com.eurachacha.achacha.notification.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 같은 제목/내용/데이터를 받는 최대 500개의 토큰을 묶은 알림 메시지
+ * sendEachForMulticast 한 번으로 전송됨
+ */
+@Getter
+@NoArgsConstructor
+@ToString(exclude = "fcmTokens")
+public class NotificationBatchEventDto {
+	private List<String> fcmTokens;
+	private String title;
+	private String body;
+	private String notificationTypeCode;
+	private String referenceEntityType;
+	private String referenceEntityId;
+}
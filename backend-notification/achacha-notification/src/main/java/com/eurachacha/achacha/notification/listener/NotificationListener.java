@@ -1,14 +1,27 @@
 package com.eurachacha.achacha.notification.listener;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import com.eurachacha.achacha.notification.config.RabbitMQConfig;
+import com.eurachacha.achacha.notification.dto.NotificationBatchEventDto;
 import com.eurachacha.achacha.notification.dto.NotificationEventDto;
 import com.eurachacha.achacha.notification.service.FcmService;
+import com.rabbitmq.client.Channel;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 알림 메시지 리스너
+ * - 수동 ack 모드로 동작하며 FCM 전송 future가 완료된 뒤 ack, 전송 실패 시 nack하여 DLQ로 보냄
+ * - prefetch가 FCM 동시 전송 수와 같으므로 응답을 기다리는 메시지 수만큼만 브로커에서 받아옴
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -16,22 +29,75 @@ public class NotificationListener {
 
 	private final FcmService fcmService;
 
+	// 배치 메시지 도입 전에 발행되어 큐에 남아 있는 단건 메시지 처리용
 	@RabbitListener(queues = "achacha.notification.queue")
-	public void handleNotificationEvent(NotificationEventDto eventDto) {
+	public void handleNotificationEvent(NotificationEventDto eventDto, Channel channel,
+		@Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
 		log.info("Received notification event: {}", eventDto);
 
 		try {
 			// FCM 토큰, 제목, 내용이 모두 존재하는 경우에만 알림 전송
 			if (eventDto.getFcmToken() != null && eventDto.getTitle() != null && eventDto.getBody() != null) {
-				fcmService.sendNotification(eventDto);
-				
+				ackOnCompletion(fcmService.sendNotification(eventDto), channel, deliveryTag);
+
 				log.info("Notification processed for user: {}, type: {}",
 					eventDto.getUserId(), eventDto.getNotificationTypeCode());
 				return;
 			}
 			log.warn("Invalid notification event data: {}", eventDto);
+			ack(channel, deliveryTag);
 		} catch (Exception e) {
 			log.error("Error processing notification event: {}", e.getMessage(), e);
+			nack(channel, deliveryTag);
+		}
+	}
+
+	@RabbitListener(queues = RabbitMQConfig.NOTIFICATION_BATCH_QUEUE)
+	public void handleNotificationBatchEvent(NotificationBatchEventDto batchEventDto, Channel channel,
+		@Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+		log.info("Received notification batch event: {}, tokens: {}", batchEventDto,
+			batchEventDto.getFcmTokens() == null ? 0 : batchEventDto.getFcmTokens().size());
+
+		try {
+			// 토큰 목록, 제목, 내용이 모두 존재하는 경우에만 알림 전송
+			if (batchEventDto.getFcmTokens() != null && !batchEventDto.getFcmTokens().isEmpty()
+				&& batchEventDto.getTitle() != null && batchEventDto.getBody() != null) {
+				ackOnCompletion(fcmService.sendMulticastNotification(batchEventDto), channel, deliveryTag);
+				return;
+			}
+			log.warn("Invalid notification batch event data: {}", batchEventDto);
+			ack(channel, deliveryTag);
+		} catch (Exception e) {
+			log.error("Error processing notification batch event: {}", e.getMessage(), e);
+			nack(channel, deliveryTag);
+		}
+	}
+
+	// 리스너 스레드는 전송 요청만 하고 바로 다음 메시지를 처리, ack는 FCM 응답을 받은 스레드에서 수행
+	private void ackOnCompletion(CompletableFuture<Void> future, Channel channel, long deliveryTag) {
+		future.whenComplete((result, e) -> {
+			if (e == null) {
+				ack(channel, deliveryTag);
+			} else {
+				nack(channel, deliveryTag);
+			}
+		});
+	}
+
+	private void ack(Channel channel, long deliveryTag) {
+		try {
+			channel.basicAck(deliveryTag, false);
+		} catch (IOException e) {
+			log.error("Failed to ack notification message: deliveryTag={}", deliveryTag, e);
+		}
+	}
+
+	// 재전송해도 같은 결과일 가능성이 높으므로 다시 큐에 넣지 않고 DLQ로 보냄
+	private void nack(Channel channel, long deliveryTag) {
+		try {
+			channel.basicNack(deliveryTag, false, false);
+		} catch (IOException e) {
+			log.error("Failed to nack notification message: deliveryTag={}", deliveryTag, e);
 		}
 	}
 }
@@ -1,7 +1,13 @@
 package com.eurachacha.achacha.notification.service;
 
+import java.util.concurrent.CompletableFuture;
+
+import com.eurachacha.achacha.notification.dto.NotificationBatchEventDto;
 import com.eurachacha.achacha.notification.dto.NotificationEventDto;
 
 public interface FcmService {
-	void sendNotification(NotificationEventDto notificationEventDto);
+	// 전송이 끝나면 완료되는 future 반환, FCM 호출 자체가 실패한 경우 예외로 완료됨
+	CompletableFuture<Void> sendNotification(NotificationEventDto notificationEventDto);
+
+	CompletableFuture<Void> sendMulticastNotification(NotificationBatchEventDto notificationBatchEventDto);
 }
@@ -1,58 +1,202 @@
 package com.eurachacha.achacha.notification.service;
 
-import org.springframework.scheduling.annotation.Async;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 import org.springframework.stereotype.Service;
 
+import com.eurachacha.achacha.notification.config.FcmProperties;
+import com.eurachacha.achacha.notification.dto.NotificationBatchEventDto;
 import com.eurachacha.achacha.notification.dto.NotificationEventDto;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FcmServiceImpl implements FcmService {
 
 	private final FirebaseMessaging firebaseMessaging;
 
-	@Async("fcmTaskExecutor")
+	// 진행 중인 FCM 전송 수 제한, 응답을 기다리는 동안 스레드를 점유하지 않으므로 스레드 수와 무관함
+	private final Semaphore inFlight;
+
+	private final InvalidFcmTokenPublisher invalidFcmTokenPublisher;
+
+	public FcmServiceImpl(FirebaseMessaging firebaseMessaging, FcmProperties fcmProperties,
+		InvalidFcmTokenPublisher invalidFcmTokenPublisher) {
+		this.firebaseMessaging = firebaseMessaging;
+		this.invalidFcmTokenPublisher = invalidFcmTokenPublisher;
+		this.inFlight = new Semaphore(fcmProperties.getMaxInFlight());
+	}
+
 	@Override
-	public void sendNotification(NotificationEventDto eventDto) {
+	public CompletableFuture<Void> sendNotification(NotificationEventDto eventDto) {
+		// 기본 알림 설정
+		Message.Builder messageBuilder = Message.builder()
+			.setToken(eventDto.getFcmToken())
+			.setNotification(Notification.builder()
+				.setTitle(eventDto.getTitle())
+				.setBody(eventDto.getBody())
+				.build());
+
+		// 추가 데이터 필드 설정
+		if (eventDto.getNotificationTypeCode() != null) {
+			messageBuilder.putData("notificationTypeCode", eventDto.getNotificationTypeCode());
+		}
+
+		if (eventDto.getReferenceEntityType() != null) {
+			messageBuilder.putData("referenceEntityType", eventDto.getReferenceEntityType());
+		}
+
+		if (eventDto.getReferenceEntityId() != null) {
+			messageBuilder.putData("referenceEntityId", eventDto.getReferenceEntityId());
+		}
+
+		if (eventDto.getUserId() != null) {
+			messageBuilder.putData("userId", eventDto.getUserId().toString());
+		}
+
+		Message message = messageBuilder.build();
+
+		return sendAsync(eventDto.getFcmToken(), () -> firebaseMessaging.sendAsync(message), messageId ->
+			log.info("Successfully sent FCM notification with additional data: {}", messageId));
+	}
+
+	@Override
+	public CompletableFuture<Void> sendMulticastNotification(NotificationBatchEventDto batchEventDto) {
+		// 멀티캐스트 메시지는 모든 토큰에 같은 데이터가 전달되므로 사용자별 값(userId)은 담지 않음
+		Map<String, String> data = new HashMap<>();
+
+		if (batchEventDto.getNotificationTypeCode() != null) {
+			data.put("notificationTypeCode", batchEventDto.getNotificationTypeCode());
+		}
+
+		if (batchEventDto.getReferenceEntityType() != null) {
+			data.put("referenceEntityType", batchEventDto.getReferenceEntityType());
+		}
+
+		if (batchEventDto.getReferenceEntityId() != null) {
+			data.put("referenceEntityId", batchEventDto.getReferenceEntityId());
+		}
+
+		MulticastMessage message = MulticastMessage.builder()
+			.addAllTokens(batchEventDto.getFcmTokens())
+			.setNotification(Notification.builder()
+				.setTitle(batchEventDto.getTitle())
+				.setBody(batchEventDto.getBody())
+				.build())
+			.putAllData(data)
+			.build();
+
+		// 최대 500개 토큰을 한 번의 요청으로 전송하고 토큰별 결과를 받음
+		return sendAsync(null, () -> firebaseMessaging.sendEachForMulticastAsync(message), response -> {
+			log.info("Sent FCM multicast notification: type={}, success={}, failure={}",
+				batchEventDto.getNotificationTypeCode(), response.getSuccessCount(), response.getFailureCount());
+			invalidFcmTokenPublisher.publish(collectInvalidTokens(response, batchEventDto.getFcmTokens()));
+		});
+	}
+
+	/*
+	 * 허용량만큼만 동시에 전송하고, 허용량이 없으면 호출한 리스너 스레드가 기다리며 메시지 소비 속도를 늦춤
+	 * 허가는 FCM 응답이 도착했을 때 반환됨
+	 * 단건 전송(fcmToken 지정)이 무효 토큰으로 실패한 경우 토큰을 반환하고 정상 처리된 것으로 완료
+	 */
+	private <T> CompletableFuture<Void> sendAsync(String fcmToken, Supplier<ApiFuture<T>> call,
+		Consumer<T> onSuccess) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+
 		try {
-			// 기본 알림 설정
-			Message.Builder messageBuilder = Message.builder()
-				.setToken(eventDto.getFcmToken())
-				.setNotification(Notification.builder()
-					.setTitle(eventDto.getTitle())
-					.setBody(eventDto.getBody())
-					.build());
-
-			// 추가 데이터 필드 설정
-			if (eventDto.getNotificationTypeCode() != null) {
-				messageBuilder.putData("notificationTypeCode", eventDto.getNotificationTypeCode());
-			}
+			inFlight.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.completeExceptionally(e);
+			return result;
+		}
 
-			if (eventDto.getReferenceEntityType() != null) {
-				messageBuilder.putData("referenceEntityType", eventDto.getReferenceEntityType());
+		ApiFuture<T> future;
+		try {
+			future = call.get();
+		} catch (RuntimeException e) {
+			inFlight.release();
+			result.completeExceptionally(e);
+			return result;
+		}
+
+		// 응답을 전달한 스레드에서 바로 처리하여 별도 스레드 풀을 거치지 않음
+		ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+			@Override
+			public void onSuccess(T response) {
+				inFlight.release();
+				try {
+					onSuccess.accept(response);
+				} finally {
+					result.complete(null);
+				}
 			}
 
-			if (eventDto.getReferenceEntityId() != null) {
-				messageBuilder.putData("referenceEntityId", eventDto.getReferenceEntityId());
+			@Override
+			public void onFailure(Throwable t) {
+				inFlight.release();
+				if (fcmToken != null && t instanceof FirebaseMessagingException e
+					&& InvalidFcmTokenPublisher.isInvalidToken(e, false)) {
+					invalidFcmTokenPublisher.publish(List.of(fcmToken));
+					result.complete(null);
+					return;
+				}
+
+				if (t instanceof FirebaseMessagingException e) {
+					log.error("Failed to send FCM notification: {}", e.getMessage());
+				} else {
+					log.error("Failed to send FCM notification: {}", t.getMessage(), t);
+				}
+				result.completeExceptionally(t);
 			}
+		}, Runnable::run);
+
+		return result;
+	}
 
-			if (eventDto.getUserId() != null) {
-				messageBuilder.putData("userId", eventDto.getUserId().toString());
+	// 응답 순서는 요청한 토큰 순서와 같음
+	private List<String> collectInvalidTokens(BatchResponse response, List<String> fcmTokens) {
+		if (response.getFailureCount() == 0) {
+			return List.of();
+		}
+
+		// 한 건이라도 성공했다면 메시지 자체는 정상이므로 INVALID_ARGUMENT는 토큰 문제로 판단
+		boolean anySucceeded = response.getSuccessCount() > 0;
+
+		List<String> invalidTokens = new ArrayList<>();
+		for (int i = 0; i < response.getResponses().size(); i++) {
+			if (!response.getResponses().get(i).isSuccessful()) {
+				FirebaseMessagingException e = response.getResponses().get(i).getException();
+				log.debug("Failed to send FCM multicast notification to token index {}: {}", i,
+					e.getMessagingErrorCode());
+
+				if (InvalidFcmTokenPublisher.isInvalidToken(e, anySucceeded)) {
+					invalidTokens.add(fcmTokens.get(i));
+				}
 			}
+		}
 
-			Message message = messageBuilder.build();
-			String messageId = firebaseMessaging.send(message);
-			log.info("Successfully sent FCM notification with additional data: {}", messageId);
-		} catch (FirebaseMessagingException e) {
-			log.error("Failed to send FCM notification with additional data: {}", e.getMessage());
+		if (!anySucceeded && invalidTokens.size() < response.getFailureCount()) {
+			log.warn("FCM multicast rejected without token-specific errors, skipping token pruning: failure={}",
+				response.getFailureCount());
 		}
+		return invalidTokens;
 	}
 }
@@ -0,0 +1,74 @@
+package com.eurachacha.achacha.notification.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.notification.config.RabbitMQConfig;
+import com.eurachacha.achacha.notification.dto.InvalidFcmTokenEventDto;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 더 이상 유효하지 않은 FCM 토큰을 메인 서버로 반환
+ * 전달에 실패해도 다음 전송에서 다시 발견되므로 재시도하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InvalidFcmTokenPublisher {
+
+	private static final String REGISTRATION_TOKEN_KEYWORD = "registration token";
+
+	private final RabbitTemplate rabbitTemplate;
+
+	/*
+	 * 다시 보내도 성공하지 않는 토큰인지 판별
+	 * UNREGISTERED는 기기에서 앱이 삭제된 토큰
+	 * INVALID_ARGUMENT는 메시지 자체(페이로드 형식, 크기)가 잘못된 경우에도 발생하므로
+	 * 같은 요청의 다른 토큰이 성공했거나(메시지는 정상) 오류 내용이 등록 토큰을 가리킬 때만 토큰 문제로 판단
+	 */
+	public static boolean isInvalidToken(FirebaseMessagingException e, boolean otherTokensSucceeded) {
+		if (e == null) {
+			return false;
+		}
+
+		if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+			return true;
+		}
+
+		if (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+			return otherTokensSucceeded || namesRegistrationToken(e);
+		}
+
+		return false;
+	}
+
+	private static boolean namesRegistrationToken(FirebaseMessagingException e) {
+		return e.getMessage() != null
+			&& e.getMessage().toLowerCase(Locale.ROOT).contains(REGISTRATION_TOKEN_KEYWORD);
+	}
+
+	public void publish(List<String> fcmTokens) {
+		if (fcmTokens.isEmpty()) {
+			return;
+		}
+
+		try {
+			rabbitTemplate.convertAndSend(
+				RabbitMQConfig.NOTIFICATION_EXCHANGE,
+				RabbitMQConfig.INVALID_FCM_TOKEN_ROUTING_KEY,
+				new InvalidFcmTokenEventDto(fcmTokens)
+			);
+			log.info("Published {} invalid FCM tokens", fcmTokens.size());
+		} catch (AmqpException e) {
+			log.error("Failed to publish invalid FCM tokens: {}", e.getMessage());
+		}
+	}
+}
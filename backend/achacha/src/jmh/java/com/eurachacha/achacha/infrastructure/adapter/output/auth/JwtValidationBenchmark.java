@@ -0,0 +1,89 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
+import com.eurachacha.achacha.infrastructure.config.JwtProperties;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 액세스 토큰 검증 처리량 비교 (8 스레드 동시 실행, 사용자 1,000명의 토큰을 돌아가며 검증)
+ * - legacyParserPerCall: 기존 방식 (요청마다 Jwts.parser().verifyWith(key).build())
+ * - sharedParser: 시작 시 만든 파서 재사용, 매번 서명 검증 (캐시 저장 비용 포함)
+ * - cachedValidate: 파서 재사용 + 검증된 토큰 캐시 (실제 요청 경로)
+ * 실행: ./gradlew jmh (gc 프로파일러로 gc.alloc.rate.norm 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class JwtValidationBenchmark {
+
+	private static final int USER_COUNT = 1000;
+	private static final String SECRET = "benchmark-jwt-secret-key-must-be-at-least-256-bits-long";
+
+	private JwtTokenServiceAdapter jwtTokenServiceAdapter;
+	private SecretKey key;
+	private List<String> accessTokens;
+
+	@State(Scope.Thread)
+	public static class TokenCursor {
+		private int index;
+
+		String next(List<String> accessTokens) {
+			index = (index + 1) % accessTokens.size();
+			return accessTokens.get(index);
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		jwtTokenServiceAdapter = new JwtTokenServiceAdapter(new JwtProperties(SECRET, 2592000L, 2592000L));
+		jwtTokenServiceAdapter.init();
+		key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+		accessTokens = new ArrayList<>(USER_COUNT);
+		for (int userId = 1; userId <= USER_COUNT; userId++) {
+			accessTokens.add(jwtTokenServiceAdapter.createAccessToken(userId, "사용자" + userId));
+		}
+	}
+
+	@Benchmark
+	public Integer legacyParserPerCall(TokenCursor cursor) {
+		return Integer.parseInt(
+			Jwts.parser()
+				.verifyWith(key)
+				.build()
+				.parseSignedClaims(cursor.next(accessTokens))
+				.getPayload()
+				.getSubject()
+		);
+	}
+
+	@Benchmark
+	public AuthenticatedUser sharedParser(TokenCursor cursor) {
+		String accessToken = cursor.next(accessTokens);
+		return jwtTokenServiceAdapter.verifyAccessToken(accessToken, jwtTokenServiceAdapter.digest(accessToken));
+	}
+
+	@Benchmark
+	public AuthenticatedUser cachedValidate(TokenCursor cursor) {
+		return jwtTokenServiceAdapter.validateAccessTokenAndGetUser(cursor.next(accessTokens));
+	}
+}
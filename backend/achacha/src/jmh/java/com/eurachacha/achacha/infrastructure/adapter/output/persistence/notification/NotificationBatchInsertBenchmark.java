@@ -0,0 +1,171 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 알림 10,000건 저장 시 초당 저장 행 수(ops/s = rows/s) 비교
+ * - identityRowByRow: 기존 방식 (IDENTITY 전략의 JPA saveAll과 같이 행마다 INSERT 후 생성 키 조회)
+ * - jdbcBatch: JDBC 배치 (rewriteBatchedStatements=false, 드라이버가 문장을 하나씩 전송)
+ * - jdbcBatchRewritten: JDBC 배치 + rewriteBatchedStatements=true (multi-row INSERT로 전송)
+ * 실제 MySQL이 필요하며 notification_benchmark 테이블을 만들어 사용함
+ * 실행: ./gradlew jmh (접속 정보는 jdbcUrl, username, password 파라미터로 변경, DB가 없으면 이 벤치마크만 실패함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NotificationBatchInsertBenchmark {
+
+	private static final int ROW_COUNT = 10_000;
+	private static final int BATCH_SIZE = 500;
+
+	private static final String CREATE_TABLE = """
+		CREATE TABLE IF NOT EXISTS notification_benchmark (
+			id INT AUTO_INCREMENT PRIMARY KEY,
+			title VARCHAR(255),
+			content VARCHAR(255),
+			reference_entity_type VARCHAR(255),
+			reference_entity_id INT,
+			detail VARCHAR(255),
+			notification_type_id INT,
+			user_id INT,
+			is_read BIT(1),
+			created_at DATETIME(6),
+			updated_at DATETIME(6)
+		)
+		""";
+	private static final String INSERT_NOTIFICATION = """
+		INSERT INTO notification_benchmark
+			(title, content, reference_entity_type, reference_entity_id, detail, notification_type_id, user_id,
+			is_read, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	@Param("jdbc:mysql://localhost:3306/achacha?useSSL=false&serverTimezone=Asia/Seoul&allowPublicKeyRetrieval=true")
+	private String jdbcUrl;
+
+	@Param("root")
+	private String username;
+
+	@Param("root")
+	private String password;
+
+	private Connection plainConnection;
+	private Connection rewrittenConnection;
+
+	@Setup
+	public void setUp() throws SQLException {
+		plainConnection = DriverManager.getConnection(jdbcUrl + "&rewriteBatchedStatements=false", username,
+			password);
+		rewrittenConnection = DriverManager.getConnection(jdbcUrl + "&rewriteBatchedStatements=true", username,
+			password);
+
+		try (Statement statement = plainConnection.createStatement()) {
+			statement.execute(CREATE_TABLE);
+		}
+
+		plainConnection.setAutoCommit(false);
+		rewrittenConnection.setAutoCommit(false);
+	}
+
+	// 테이블 크기가 계속 커지면 뒤쪽 반복일수록 느려지므로 반복마다 비움
+	@Setup(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (Statement statement = plainConnection.createStatement()) {
+			statement.execute("TRUNCATE TABLE notification_benchmark");
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		try (Statement statement = plainConnection.createStatement()) {
+			statement.execute("DROP TABLE IF EXISTS notification_benchmark");
+		}
+		plainConnection.close();
+		rewrittenConnection.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROW_COUNT)
+	public void identityRowByRow(Blackhole blackhole) throws SQLException {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		try (PreparedStatement ps = plainConnection.prepareStatement(INSERT_NOTIFICATION,
+			Statement.RETURN_GENERATED_KEYS)) {
+			for (int i = 0; i < ROW_COUNT; i++) {
+				bind(ps, i, now);
+				ps.executeUpdate();
+
+				// IDENTITY 전략은 영속화 시 생성 키를 즉시 읽어옴
+				try (ResultSet keys = ps.getGeneratedKeys()) {
+					keys.next();
+					blackhole.consume(keys.getInt(1));
+				}
+			}
+		}
+		plainConnection.commit();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROW_COUNT)
+	public void jdbcBatch() throws SQLException {
+		insertInBatches(plainConnection);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROW_COUNT)
+	public void jdbcBatchRewritten() throws SQLException {
+		insertInBatches(rewrittenConnection);
+	}
+
+	// NotificationPersistenceAdapter.saveAll과 같은 방식 (BATCH_SIZE 단위 executeBatch)
+	private void insertInBatches(Connection connection) throws SQLException {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		try (PreparedStatement ps = connection.prepareStatement(INSERT_NOTIFICATION)) {
+			for (int i = 0; i < ROW_COUNT; i++) {
+				bind(ps, i, now);
+				ps.addBatch();
+
+				if ((i + 1) % BATCH_SIZE == 0) {
+					ps.executeBatch();
+				}
+			}
+			ps.executeBatch();
+		}
+		connection.commit();
+	}
+
+	private void bind(PreparedStatement ps, int index, Timestamp now) throws SQLException {
+		ps.setString(1, "쉐어박스 기프티콘 등록");
+		ps.setString(2, "벤치마크 쉐어박스에 기프티콘 " + index + "이(가) 등록되었어요.");
+		ps.setString(3, "sharebox");
+		ps.setInt(4, 1);
+		ps.setString(5, null);
+		ps.setInt(6, 1);
+		ps.setInt(7, index + 1);
+		ps.setBoolean(8, false);
+		ps.setTimestamp(9, now);
+		ps.setTimestamp(10, now);
+	}
+}
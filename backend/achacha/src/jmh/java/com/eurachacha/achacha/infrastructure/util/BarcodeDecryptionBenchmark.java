@@ -0,0 +1,116 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
+
+/**
+ * 기프티콘 20건 페이지 조회 시 바코드 복호화 비용 비교
+ * 모든 케이스가 엔티티 20건을 생성하므로 차이는 복호화 방식과 시점에서만 발생함
+ * - legacyEagerPage: 기존 방식 (행마다 Cipher.getInstance + 조회 즉시 복호화)
+ * - cachedCipherEagerPage: 스레드별 Cipher 재사용 + 조회 즉시 복호화
+ * - lazyListPage: 지연 복호화, 목록처럼 바코드를 읽지 않는 경우
+ * - lazyBarcodeView: 지연 복호화, 바코드 조회처럼 한 건만 읽는 경우
+ * 실행: ./gradlew jmh (gc 프로파일러로 gc.alloc.rate.norm 함께 출력)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BarcodeDecryptionBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+	private static final String RAW_KEY = "benchmark-encryption-key";
+
+	private EncryptionUtil encryptionUtil;
+	private SecretKeySpec legacyKey;
+	private List<String> encryptedBarcodes;
+
+	@Setup
+	public void setUp() throws Exception {
+		encryptionUtil = new EncryptionUtil(
+			new EncryptionProperties(RAW_KEY, "", "", "", "benchmark-blind-index-key"));
+		encryptionUtil.init();
+
+		byte[] key = MessageDigest.getInstance("SHA-256").digest(RAW_KEY.getBytes(StandardCharsets.UTF_8));
+		legacyKey = new SecretKeySpec(Arrays.copyOf(key, 32), "AES");
+
+		encryptedBarcodes = new ArrayList<>();
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			encryptedBarcodes.add(encryptionUtil.encrypt("8801234567" + String.format("%03d", i)));
+		}
+	}
+
+	@Benchmark
+	public void legacyEagerPage(Blackhole blackhole) throws Exception {
+		List<Gifticon> page = new ArrayList<>(PAGE_SIZE);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+			cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+			byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedBarcodes.get(i)));
+			page.add(createGifticon(i).barcode(new String(decrypted, StandardCharsets.UTF_8)).build());
+		}
+		consumeNames(page, blackhole);
+	}
+
+	@Benchmark
+	public void cachedCipherEagerPage(Blackhole blackhole) {
+		List<Gifticon> page = new ArrayList<>(PAGE_SIZE);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			page.add(createGifticon(i).barcode(encryptionUtil.decrypt(encryptedBarcodes.get(i))).build());
+		}
+		consumeNames(page, blackhole);
+	}
+
+	@Benchmark
+	public void lazyListPage(Blackhole blackhole) {
+		consumeNames(loadPage(), blackhole);
+	}
+
+	@Benchmark
+	public void lazyBarcodeView(Blackhole blackhole) {
+		List<Gifticon> page = loadPage();
+		blackhole.consume(page.get(0).getBarcode());
+	}
+
+	// Hibernate 조회 후 @PostLoad에서 복호화 함수만 연결된 상태를 재현
+	private List<Gifticon> loadPage() {
+		List<Gifticon> page = new ArrayList<>(PAGE_SIZE);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			page.add(createGifticon(i).barcodeDecryptor(encryptionUtil::decrypt).build());
+		}
+		return page;
+	}
+
+	// 모든 케이스가 같은 엔티티 20건을 생성하도록 공통 필드를 채운 빌더 반환
+	private Gifticon.GifticonBuilder createGifticon(int index) {
+		return Gifticon.builder()
+			.id(index)
+			.name("기프티콘 " + index)
+			.encryptedBarcode(encryptedBarcodes.get(index));
+	}
+
+	private static void consumeNames(List<Gifticon> page, Blackhole blackhole) {
+		for (Gifticon gifticon : page) {
+			blackhole.consume(gifticon.getName());
+		}
+	}
+}
@@ -12,11 +12,12 @@ import com.eurachacha.achacha.infrastructure.config.AwsS3Properties;
 import com.eurachacha.achacha.infrastructure.config.ClovaOcrProperties;
 import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
 import com.eurachacha.achacha.infrastructure.config.JwtProperties;
+import com.eurachacha.achacha.infrastructure.config.SchedulerProperties;
 
 @SpringBootApplication
 @EnableConfigurationProperties({ClovaOcrProperties.class, AIServiceProperties.class,
 	AwsProperties.class, AwsS3Properties.class, AwsCloudFrontProperties.class, JwtProperties.class,
-	EncryptionProperties.class})
+	EncryptionProperties.class, SchedulerProperties.class})
 @EnableScheduling
 public class AchachaApplication {
 
@@ -1,12 +1,21 @@
 package com.eurachacha.achacha.application.port.input.auth;
 
+import java.util.List;
+
 import com.eurachacha.achacha.application.port.input.auth.dto.request.KakaoLoginRequestDto;
 import com.eurachacha.achacha.application.port.input.auth.dto.request.RefreshTokenRequestDto;
 import com.eurachacha.achacha.application.port.input.auth.dto.response.TokenResponseDto;
+import com.eurachacha.achacha.application.port.output.file.dto.response.SignedCookieDto;
 
 public interface AuthAppService {
 	TokenResponseDto loginWithKakao(KakaoLoginRequestDto requestDto);
 
 	TokenResponseDto refreshToken(RefreshTokenRequestDto requestDto);
 
+	// 로그인/토큰 갱신 시 함께 내려줄 이미지 접근용 서명된 쿠키
+	List<SignedCookieDto> issueImageAccessCookies();
+
+	// 쿠키 만료(24시간)가 액세스 토큰 만료보다 짧으므로 로그인된 사용자가 쿠키만 다시 발급받을 때 사용
+	List<SignedCookieDto> reissueImageAccessCookies();
+
 }
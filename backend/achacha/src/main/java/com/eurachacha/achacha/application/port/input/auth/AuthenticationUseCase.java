@@ -1,6 +1,6 @@
 package com.eurachacha.achacha.application.port.input.auth;
 
-import org.springframework.security.core.userdetails.UserDetails;
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
 
 /**
  * 인증 및 로그아웃 관련 사용 사례를 정의하는 인터페이스
@@ -11,8 +11,8 @@ public interface AuthenticationUseCase {
 	// 액세스 토큰을 검증하고 사용자 ID를 반환
 	Integer validateAccessToken(String token);
 
-	// 사용자 ID를 기반으로 인증에 사용할 UserDetails 객체를 생성
-	UserDetails createUserDetails(Integer userId);
+	// 액세스 토큰을 검증하고 SecurityContext에 보관할 인증 주체를 생성 (사용자 조회 없음)
+	AuthenticatedUser authenticate(String token);
 
 	// 사용자의 로그아웃 처리
 	void logout(Integer userId, String refreshToken, String fcmToken, String bleToken);
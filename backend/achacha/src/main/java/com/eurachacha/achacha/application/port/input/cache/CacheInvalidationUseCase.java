@@ -0,0 +1,10 @@
+package com.eurachacha.achacha.application.port.input.cache;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+
+/**
+ * 다른 서버 노드에서 온 캐시 무효화 메시지를 처리하는 입력 포트
+ */
+public interface CacheInvalidationUseCase {
+	void invalidateLocal(CacheInvalidationDto invalidationDto);
+}
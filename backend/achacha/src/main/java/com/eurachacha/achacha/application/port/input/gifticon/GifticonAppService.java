@@ -23,6 +23,9 @@ public interface GifticonAppService {
 	AvailableGifticonsResponseDto getAvailableGifticons(GifticonScopeType scope, GifticonType type,
 		GifticonSortType sort, Integer page, Integer size);
 
+	AvailableGifticonsResponseDto getAvailableGifticonsByCursor(GifticonScopeType scope, GifticonType type,
+		GifticonSortType sort, String cursor, Integer size);
+
 	AvailableGifticonDetailResponseDto getAvailableGifticonDetail(Integer gifticonId);
 
 	UsedGifticonsResponseDto getUsedGifticons(GifticonType type, GifticonUsedSortType sort, Integer page, Integer size);
@@ -34,4 +37,7 @@ public interface GifticonAppService {
 	GifticonBarcodeResponseDto getUsedGifticonBarcode(Integer gifticonId);
 
 	void deleteGifticon(Integer gifticonId);
+
+	// 바코드 조회 후 미사용 기프티콘 사용 완료 확인 알림 (지연 작업용)
+	void checkUsedAndSaveAndSendNotification(Integer userId, Integer gifticonId);
 }
@@ -0,0 +1,10 @@
+package com.eurachacha.achacha.application.port.input.job;
+
+public interface DelayedJobAppService {
+
+	// 실행 시점이 지난 지연 작업 점유 후 실행 (스케줄러용)
+	void executeDueJobs();
+
+	// 완료/취소/실패된 지연 작업 정리 (스케줄러용)
+	void purgeFinishedJobs();
+}
@@ -0,0 +1,13 @@
+package com.eurachacha.achacha.application.port.input.job;
+
+import java.time.Duration;
+
+public interface SchedulerLockAppService {
+
+	/*
+	 * 분산 락을 점유한 경우에만 작업 실행, 실행했다면 true
+	 * lockAtMostFor: 노드가 비정상 종료되었을 때 락이 풀리기까지의 시간 (실행 중에는 heartbeat로 연장)
+	 * lockAtLeastFor: 작업이 빨리 끝나도 유지할 최소 시간 (노드 간 시계 오차로 같은 주기에 다시 실행되는 것을 방지)
+	 */
+	boolean executeWithLock(String lockName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task);
+}
@@ -5,6 +5,12 @@ public interface GifticonExpiryNotificationAppService {
 	// 모든 사용자에 대한 유효기간 알림 전송 (스케줄러용)
 	void sendExpiryDateNotification();
 
+	// 수신자 사용자 ID 범위 중 shardIndex번째 범위만 처리 (여러 노드에 나누어 실행할 때 사용)
+	void sendExpiryDateNotification(int shardIndex, int shardCount);
+
 	// 특정 사용자에 대한 유효기간 알림 전송 (알림 설정 변경 이벤트용)
 	void sendExpiryDateNotificationForUser(Integer userId);
+
+	// 보관 기간이 지난 유효기간 알림 발송 이력 삭제 (스케줄러용)
+	void purgeExpiryNotificationLedger();
 }
@@ -9,6 +9,8 @@ public interface NotificationAppService {
 
 	NotificationsResponseDto getNotifications(NotificationSortType sort, Integer page, Integer size);
 
+	NotificationsResponseDto getNotificationsByCursor(NotificationSortType sort, String cursor, Integer size);
+
 	NotificationCountResponseDto countUnreadNotifications(boolean read);
 
 	void markAllNotificationsAsRead();
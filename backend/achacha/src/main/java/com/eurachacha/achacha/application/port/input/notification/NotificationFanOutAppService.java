@@ -0,0 +1,10 @@
+package com.eurachacha.achacha.application.port.input.notification;
+
+public interface NotificationFanOutAppService {
+
+	// 알림 작업을 남은 청크까지 처리 (다른 노드가 처리 중이면 건너뜀)
+	void processJob(Long jobId);
+
+	// 커밋 직후 처리되지 못한 알림 작업 재처리 (스케줄러용)
+	void processDueJobs();
+}
@@ -0,0 +1,10 @@
+package com.eurachacha.achacha.application.port.input.notification;
+
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutJobCreatedEvent;
+
+public interface NotificationFanOutEventListener {
+	void handleNotificationFanOut(NotificationFanOutEvent event);
+
+	void handleNotificationFanOutJobCreated(NotificationFanOutJobCreatedEvent event);
+}
@@ -1,7 +1,10 @@
 package com.eurachacha.achacha.application.port.input.notification;
 
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
 
-public interface AsyncNotificationEventListener {
+public interface NotificationOutboxEventListener {
 	void handleNotificationEvent(NotificationEventMessage event);
+
+	void handleBulkNotificationEvent(BulkNotificationEventMessage event);
 }
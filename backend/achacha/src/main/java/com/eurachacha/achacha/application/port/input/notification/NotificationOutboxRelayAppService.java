@@ -0,0 +1,7 @@
+package com.eurachacha.achacha.application.port.input.notification;
+
+public interface NotificationOutboxRelayAppService {
+
+	// 발행 대기 중인 아웃박스를 배치 단위로 발행하고 확인된 행은 삭제 (스케줄러용)
+	void relayOutbox();
+}
@@ -12,4 +12,6 @@ public interface NotificationSettingAppService {
 	void updateNotificationSetting(NotificationTypeCode typeCode, Boolean isEnabled);
 
 	void updateExpirationCycle(ExpirationCycle expirationCycle);
+
+	void updateExpiryDigest(Boolean isDigestEnabled);
 }
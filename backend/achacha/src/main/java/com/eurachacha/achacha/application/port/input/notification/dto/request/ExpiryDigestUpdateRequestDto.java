@@ -0,0 +1,13 @@
+package com.eurachacha.achacha.application.port.input.notification.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExpiryDigestUpdateRequestDto {
+
+	private Boolean isDigestEnabled;
+}
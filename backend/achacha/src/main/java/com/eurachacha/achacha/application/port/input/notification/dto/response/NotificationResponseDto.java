@@ -30,4 +30,7 @@ public class NotificationResponseDto {
 	private String referenceEntityType; // "gifticon" 또는 "sharebox"
 	private Integer referenceEntityId;
 
+	// 요약 알림의 항목 (기프티콘ID:남은일수 목록), 일반 알림은 null
+	private String notificationDetail;
+
 }
@@ -19,4 +19,5 @@ public class NotificationSettingDto {
 	private String notificationTypeName;
 	private Boolean isEnabled;
 	private ExpirationCycle expirationCycle;
+	private Boolean isDigestEnabled;
 }
\ No newline at end of file
@@ -16,4 +16,5 @@ public class NotificationsResponseDto {
 	private List<NotificationResponseDto> notifications;
 	private boolean hasNextPage;
 	private Integer nextPage;
+	private String nextCursor;
 }
@@ -0,0 +1,12 @@
+package com.eurachacha.achacha.application.port.input.user;
+
+import java.util.List;
+
+public interface FcmTokenAppService {
+
+	// 더 이상 전송할 수 없는 토큰을 일괄 삭제하고 삭제한 행 수 반환
+	int pruneInvalidTokens(List<String> tokenValues);
+
+	// retentionDays일 동안 사용되지 않은 토큰 삭제 (스케줄러용)
+	int expireStaleTokens(int retentionDays);
+}
@@ -0,0 +1,15 @@
+package com.eurachacha.achacha.application.port.input.user.dto.request;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 알림 서버가 FCM 전송 결과로 받은 무효 토큰(UNREGISTERED, INVALID_ARGUMENT) 목록
+@Getter
+@NoArgsConstructor
+@ToString
+public class InvalidFcmTokenEventDto {
+	private List<String> fcmTokens;
+}
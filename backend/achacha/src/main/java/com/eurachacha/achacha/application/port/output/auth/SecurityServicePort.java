@@ -1,9 +1,17 @@
 package com.eurachacha.achacha.application.port.output.auth;
 
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
 import com.eurachacha.achacha.domain.model.user.User;
 
 public interface SecurityServicePort {
 	boolean isLoggedIn();
 
+	// 토큰 클레임 기반 인증 주체 (DB 조회 없음)
+	AuthenticatedUser getAuthenticatedUser();
+
+	// 토큰 클레임 기반 사용자 ID (DB 조회 없음)
+	Integer getLoggedInUserId();
+
+	// 사용자 엔티티가 꼭 필요한 경우에만 사용 (호출할 때마다 DB 조회)
 	User getLoggedInUser();
 }
@@ -1,7 +1,10 @@
 package com.eurachacha.achacha.application.port.output.auth;
 
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
+
 public interface TokenServicePort {
-	String createAccessToken(Integer userId);
+	// 사용자 ID(subject)와 이름 클레임을 담은 액세스 토큰 발급
+	String createAccessToken(Integer userId, String userName);
 
 	String createRefreshToken(Integer userId);
 
@@ -9,5 +12,8 @@ public interface TokenServicePort {
 
 	Integer validateAccessTokenAndGetUserId(String accessToken);
 
+	// 액세스 토큰을 검증하고 클레임으로 인증 주체 생성
+	AuthenticatedUser validateAccessTokenAndGetUser(String accessToken);
+
 	long getAccessTokenExpirySeconds();
 }
\ No newline at end of file
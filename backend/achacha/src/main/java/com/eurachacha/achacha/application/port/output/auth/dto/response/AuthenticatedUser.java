@@ -0,0 +1,16 @@
+package com.eurachacha.achacha.application.port.output.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 액세스 토큰 클레임으로 만든 인증 주체
+ * 요청마다 사용자 엔티티를 조회하지 않도록 SecurityContext에 이 값만 보관함
+ * (이름 클레임이 없던 이전 토큰은 name이 null)
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser {
+	private Integer id;
+	private String name;
+}
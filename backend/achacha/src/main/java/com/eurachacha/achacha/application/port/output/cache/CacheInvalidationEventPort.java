@@ -0,0 +1,8 @@
+package com.eurachacha.achacha.application.port.output.cache;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+
+public interface CacheInvalidationEventPort {
+	// 모든 서버 노드에 로컬 캐시 무효화를 알림
+	void broadcast(CacheInvalidationDto invalidationDto);
+}
@@ -0,0 +1,46 @@
+package com.eurachacha.achacha.application.port.output.cache.dto.request;
+
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 서버 노드 간 로컬 캐시 무효화 메시지 (어떤 캐시의 어느 사용자 항목을 비울지)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CacheInvalidationDto {
+	private Target target;
+	private List<Integer> userIds;
+	// NOTIFICATION_SETTING일 때만 사용
+	private NotificationTypeCode typeCode;
+
+	public static CacheInvalidationDto shareBoxMembership(List<Integer> userIds) {
+		return new CacheInvalidationDto(Target.SHAREBOX_MEMBERSHIP, userIds, null);
+	}
+
+	public static CacheInvalidationDto fcmTokens(List<Integer> userIds) {
+		return new CacheInvalidationDto(Target.FCM_TOKEN, userIds, null);
+	}
+
+	// 토큰 값으로 삭제하여 소유자를 알 수 없는 경우 전체 제거
+	public static CacheInvalidationDto allFcmTokens() {
+		return new CacheInvalidationDto(Target.ALL_FCM_TOKENS, List.of(), null);
+	}
+
+	public static CacheInvalidationDto notificationSetting(Integer userId, NotificationTypeCode typeCode) {
+		return new CacheInvalidationDto(Target.NOTIFICATION_SETTING, List.of(userId), typeCode);
+	}
+
+	public enum Target {
+		SHAREBOX_MEMBERSHIP,
+		FCM_TOKEN,
+		ALL_FCM_TOKENS,
+		NOTIFICATION_SETTING
+	}
+}
@@ -1,7 +1,10 @@
 package com.eurachacha.achacha.application.port.output.file;
 
+import java.util.List;
+
 import org.springframework.web.multipart.MultipartFile;
 
+import com.eurachacha.achacha.application.port.output.file.dto.response.SignedCookieDto;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 
 public interface FileStoragePort {
@@ -13,4 +16,7 @@ public interface FileStoragePort {
 	String generateFileUrl(String fileName, FileType fileType, long expirationTimeInMillis);
 
 	void deleteFile(String filePath, FileType fileType);
+
+	// 서명된 쿠키 모드에서 썸네일 경로에 대한 접근 쿠키 발급 (비활성화 시 빈 목록)
+	List<SignedCookieDto> generateSignedCookies();
 }
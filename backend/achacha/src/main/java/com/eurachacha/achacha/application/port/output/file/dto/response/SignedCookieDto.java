@@ -0,0 +1,16 @@
+package com.eurachacha.achacha.application.port.output.file.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SignedCookieDto {
+	private String name;
+	private String value;
+	private String domain;
+	private String path;
+	private long maxAgeSeconds;
+}
@@ -0,0 +1,27 @@
+package com.eurachacha.achacha.application.port.output.gifticon;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeHashUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonBarcodeDto;
+
+public interface GifticonBarcodeBatchRepository {
+
+	// id 오름차순으로 afterId 이후의 바코드를 최대 limit건 조회 (삭제된 기프티콘 포함)
+	List<GifticonBarcodeDto> findBarcodesAfterId(Integer afterId, int limit);
+
+	// JDBC 배치로 바코드 일괄 갱신 후 실제로 갱신된 건수 반환
+	int updateBarcodes(List<GifticonBarcodeUpdateDto> updates);
+
+	// id 오름차순으로 afterId 이후의 바코드 해시가 없는 기프티콘을 최대 limit건 조회 (삭제된 기프티콘 제외)
+	List<GifticonBarcodeDto> findBarcodesWithoutHashAfterId(Integer afterId, int limit);
+
+	// 주어진 해시 중 이미 저장되어 있는 해시 조회
+	Set<String> findExistingBarcodeHashes(Collection<String> barcodeHashes);
+
+	// JDBC 배치로 바코드 해시 일괄 저장 (이미 해시가 있으면 건너뜀) 후 실제로 갱신된 건수 반환
+	int updateBarcodeHashes(List<GifticonBarcodeHashUpdateDto> updates);
+}
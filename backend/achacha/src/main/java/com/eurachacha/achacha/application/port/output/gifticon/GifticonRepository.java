@@ -7,8 +7,11 @@ import java.util.Map;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonDetailDto;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 
 public interface GifticonRepository {
@@ -17,8 +20,15 @@ public interface GifticonRepository {
 	Slice<Gifticon> findAvailableGifticons(Integer userId, GifticonScopeType scope,
 		GifticonType type, Pageable pageable);
 
+	// 커서 기반 사용가능 기프티콘 조회 (cursor가 null이면 첫 페이지)
+	Slice<Gifticon> findAvailableGifticonsByCursor(Integer userId, GifticonScopeType scope, GifticonType type,
+		GifticonSortType sort, GifticonCursorDto cursor, int size);
+
 	Gifticon getGifticonDetail(Integer gifticonId);
 
+	// 상세 화면용 읽기 모델 (조회 사용자의 쉐어박스 참여 여부와 파일 경로 포함)
+	GifticonDetailDto getGifticonDetailView(Integer gifticonId, Integer userId);
+
 	boolean existsByBarcode(String barcode);
 
 	Slice<Gifticon> getUsedGifticons(Integer userId, GifticonType type, Pageable pageable);
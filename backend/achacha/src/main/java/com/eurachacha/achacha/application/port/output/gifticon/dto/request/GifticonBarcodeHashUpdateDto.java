@@ -0,0 +1,11 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GifticonBarcodeHashUpdateDto {
+	private Integer id;
+	private String barcodeHash;
+}
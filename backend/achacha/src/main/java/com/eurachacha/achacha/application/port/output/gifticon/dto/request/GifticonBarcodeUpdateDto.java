@@ -0,0 +1,13 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GifticonBarcodeUpdateDto {
+	private Integer id;
+	// 읽은 이후 다른 곳에서 변경되었으면 갱신하지 않기 위한 기존 값
+	private String previousEncryptedBarcode;
+	private String encryptedBarcode;
+}
@@ -0,0 +1,26 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto.request;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 키셋(커서) 페이징 기준 값
+ * EXPIRY_ASC 정렬은 (expiryDate, id), CREATED_DESC 정렬은 (createdAt, id)를 사용
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class GifticonCursorDto {
+	private LocalDate expiryDate;
+	private LocalDateTime createdAt;
+	private Integer id;
+}
@@ -0,0 +1,12 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 암호화된 상태 그대로의 바코드 값 (컨버터를 거치지 않음)
+@Getter
+@AllArgsConstructor
+public class GifticonBarcodeDto {
+	private Integer id;
+	private String encryptedBarcode;
+}
@@ -0,0 +1,18 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto.response;
+
+import java.util.Map;
+
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 기프티콘 상세 조회용 읽기 모델 (브랜드/소유자/쉐어박스, 조회 사용자의 쉐어박스 참여 여부, 파일 타입별 경로)
+@Getter
+@AllArgsConstructor
+public class GifticonDetailDto {
+	private Gifticon gifticon;
+	private boolean participating;
+	private Map<FileType, String> filePaths;
+}
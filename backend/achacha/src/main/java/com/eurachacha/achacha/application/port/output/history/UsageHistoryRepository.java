@@ -16,4 +16,7 @@ public interface UsageHistoryRepository {
 	void delete(UsageHistory usageHistory);
 
 	List<UsageHistory> findLatestForEachGifticonByIdsAndUserId(List<Integer> ids, Integer userId);
+
+	// 기프티콘별 가장 최근 사용 내역 (마지막 사용자 포함)
+	List<UsageHistory> findLatestForEachGifticonByIds(List<Integer> ids);
 }
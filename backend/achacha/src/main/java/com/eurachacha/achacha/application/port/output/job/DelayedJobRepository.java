@@ -0,0 +1,29 @@
+package com.eurachacha.achacha.application.port.output.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.job.DelayedJob;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
+
+public interface DelayedJobRepository {
+
+	// 지연 작업 예약 (같은 dedupeKey가 이미 있으면 실행 시각만 갱신)
+	void schedule(DelayedJobType jobType, String dedupeKey, Integer userId, Integer referenceEntityId,
+		LocalDateTime dueAt);
+
+	// 아직 실행되지 않은 작업 취소
+	void cancelPendingByReference(DelayedJobType jobType, Integer referenceEntityId);
+
+	// 실행 시점이 지난 작업을 owner 노드가 leaseUntil까지 점유하고, 점유한 작업 목록 반환
+	List<DelayedJob> claimDueJobs(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+	void markDone(Long jobId, String owner);
+
+	void markRetry(Long jobId, String owner, LocalDateTime nextDueAt);
+
+	void markFailed(Long jobId, String owner);
+
+	// 완료/취소/실패된 작업 정리
+	int deleteFinishedBefore(LocalDateTime threshold);
+}
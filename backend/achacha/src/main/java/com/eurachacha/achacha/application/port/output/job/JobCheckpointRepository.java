@@ -0,0 +1,11 @@
+package com.eurachacha.achacha.application.port.output.job;
+
+import com.eurachacha.achacha.domain.model.job.JobCheckpoint;
+
+public interface JobCheckpointRepository {
+
+	// 체크포인트 조회, 없으면 처음 위치로 생성
+	JobCheckpoint findOrCreate(String jobName);
+
+	JobCheckpoint save(JobCheckpoint jobCheckpoint);
+}
@@ -0,0 +1,14 @@
+package com.eurachacha.achacha.application.port.output.job;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository {
+
+	// lockedUntil이 지난 락만 점유 가능, 점유에 성공하면 true
+	boolean tryAcquire(String lockName, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+	// 락을 보유한 노드만 연장 가능, 다른 노드에게 넘어갔다면 false
+	boolean extend(String lockName, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+	void release(String lockName, String owner, LocalDateTime lockedUntil);
+}
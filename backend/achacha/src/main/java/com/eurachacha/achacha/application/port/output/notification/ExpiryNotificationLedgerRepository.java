@@ -0,0 +1,21 @@
+package com.eurachacha.achacha.application.port.output.notification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.notification.ExpiryNotificationLedger;
+
+public interface ExpiryNotificationLedgerRepository {
+
+	// 해당 날짜에 이미 발송된 이력을 기프티콘 ID 목록으로 한 번에 조회
+	List<ExpiryNotificationLedger> findAllByGifticonIdsAndNotifiedDate(List<Integer> gifticonIds,
+		LocalDate notifiedDate);
+
+	// 해당 날짜에 이미 발송된 이력을 사용자 ID 목록으로 한 번에 조회 (요약 알림용)
+	List<ExpiryNotificationLedger> findAllByUserIdsAndNotifiedDate(List<Integer> userIds, LocalDate notifiedDate);
+
+	// 유니크 키가 중복되면 EXPIRY_NOTIFICATION_ALREADY_SENT 예외가 발생하므로 호출한 트랜잭션 전체가 롤백됨
+	void saveAll(List<ExpiryNotificationLedger> ledgers);
+
+	int deleteAllByNotifiedDateBefore(LocalDate notifiedDate);
+}
@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.application.port.output.notification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.eurachacha.achacha.application.port.output.notification.dto.response.ExpiryNotificationTargetDto;
+
+public interface ExpiryNotificationTargetRepository {
+
+	// 해당 만료일의 미사용 기프티콘 ID를 afterId 이후부터 id 오름차순으로 최대 limit건 조회
+	List<Integer> findExpiringGifticonIds(LocalDate expiryDate, Integer afterId, int limit);
+
+	/*
+	 * 기프티콘 → 수신자(미공유: 소유자, 공유: 쉐어박스 참여자) → 유효기간 알림 설정 → FCM 토큰을 한 번에 조인하여 조회
+	 * 남은 일수가 사용자의 알림 주기 이내이고 수신자 ID가 [userIdFrom, userIdTo] 범위인 경우만 반환하며,
+	 * 결과는 (기프티콘 ID, 사용자 ID) 순으로 정렬됨
+	 */
+	List<ExpiryNotificationTargetDto> findTargets(List<Integer> gifticonIds, Integer notificationTypeId,
+		LocalDate today, int userIdFrom, int userIdTo);
+
+	// 요약 알림을 선택한 사용자 ID를 afterUserId 이후부터 userIdTo까지 id 오름차순으로 최대 limit건 조회
+	List<Integer> findDigestUserIds(Integer notificationTypeId, Integer afterUserId, int userIdTo, int limit);
+
+	/*
+	 * 사용자별로 만료일이 expiryDates에 해당하는 소유/공유 기프티콘을 한 번에 조회 (fcmToken은 항상 null)
+	 * 남은 일수가 사용자의 알림 주기 이내인 경우만 반환하며, 결과는 (사용자 ID, 만료일, 기프티콘 ID) 순으로 정렬됨
+	 */
+	List<ExpiryNotificationTargetDto> findDigestTargets(List<Integer> userIds, Integer notificationTypeId,
+		List<LocalDate> expiryDates, LocalDate today);
+}
@@ -1,7 +1,15 @@
 package com.eurachacha.achacha.application.port.output.notification;
 
-import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import java.util.List;
+import java.util.Set;
+
+import com.eurachacha.achacha.application.port.output.notification.dto.response.NotificationOutboxDto;
 
 public interface NotificationEventPort {
-	void sendNotificationEvent(NotificationEventDto eventDto);
+
+	/*
+	 * 같은 내용의 아웃박스 행들을 최대 500개 토큰 단위의 배치 메시지로 묶어 하나의 채널에서 연속 전송한 뒤
+	 * 브로커가 발행을 확인(ack)한 배치에 속한 행의 id만 반환
+	 */
+	Set<Long> sendNotificationEvents(List<NotificationOutboxDto> outboxes);
 }
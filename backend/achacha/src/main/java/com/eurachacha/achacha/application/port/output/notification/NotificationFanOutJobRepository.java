@@ -0,0 +1,20 @@
+package com.eurachacha.achacha.application.port.output.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+
+public interface NotificationFanOutJobRepository {
+
+	NotificationFanOutJob save(NotificationFanOutJob job);
+
+	// 작업 행을 잠그고 조회, 다른 노드가 처리 중이거나 이미 끝난 작업이면 빈 값 (트랜잭션 안에서 호출)
+	Optional<NotificationFanOutJob> findByIdForUpdate(Long id);
+
+	// 실행 시점이 지난 작업 ID를 id 순으로 최대 limit건 조회
+	List<Long> findDueIds(LocalDateTime now, int limit);
+
+	void delete(NotificationFanOutJob job);
+}
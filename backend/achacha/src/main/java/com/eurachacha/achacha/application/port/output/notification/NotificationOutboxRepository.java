@@ -0,0 +1,22 @@
+package com.eurachacha.achacha.application.port.output.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.NotificationOutboxDto;
+
+public interface NotificationOutboxRepository {
+
+	// 호출한 트랜잭션 안에서 함께 저장
+	void saveAll(List<NotificationEventDto> eventDtos);
+
+	// 발행 시점이 된 행을 id 순으로 최대 limit건 잠그고 조회, 다른 노드가 잠근 행은 건너뜀 (트랜잭션 안에서 호출)
+	List<NotificationOutboxDto> findPublishableForUpdate(LocalDateTime now, int limit);
+
+	void deleteAllByIds(List<Long> ids);
+
+	// 발행에 실패한 행의 시도 횟수를 늘리고 다음 발행 시점을 갱신
+	void updateNextAttempts(Map<Long, LocalDateTime> nextAttemptAtById);
+}
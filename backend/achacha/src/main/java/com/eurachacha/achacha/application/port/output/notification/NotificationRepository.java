@@ -1,16 +1,28 @@
 package com.eurachacha.achacha.application.port.output.notification;
 
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 
 public interface NotificationRepository {
 	Notification save(Notification notification);
 
+	// 대량 저장 (JDBC 배치 insert, 생성된 ID는 채워지지 않음)
+	void saveAll(List<Notification> notifications);
+
 	Slice<Notification> findNotifications(Integer userId, Pageable pageable);
 
+	// 커서 기반 알림 조회 (cursor가 null이면 첫 페이지)
+	Slice<Notification> findNotificationsByCursor(Integer userId, NotificationCursorDto cursor, int size);
+
 	int countByUserIdAndRead(Integer userId, boolean read);
 
+	// 사용자별로 유지되는 읽지 않은 알림 수 (알림 저장/전체 읽음 처리 시 함께 갱신됨)
+	int countUnread(Integer userId);
+
 	void updateAllNotificationsToRead(Integer userId);
 }
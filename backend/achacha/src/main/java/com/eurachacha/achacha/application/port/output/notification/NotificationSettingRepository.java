@@ -12,7 +12,7 @@ public interface NotificationSettingRepository {
 
 	NotificationSetting save(NotificationSetting notificationSetting);
 
-	List<NotificationSetting> saveAll(List<NotificationSetting> notificationSettings);
+	void saveAll(List<NotificationSetting> notificationSettings);
 
 	List<NotificationSetting> findByUserIdInAndNotificationTypeId(List<Integer> userIds, Integer notificationTypeId);
 
@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.application.port.output.notification.dto.request;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 같은 제목/내용/데이터를 받는 여러 토큰을 하나로 묶은 알림 메시지
+ * 알림 서버에서 sendEachForMulticast 한 번으로 전송되므로 토큰은 최대 500개까지 담음
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString(exclude = "fcmTokens")
+public class NotificationBatchEventDto {
+	public static final int MAX_TOKENS = 500;
+
+	private List<String> fcmTokens;
+	private String title;
+	private String body;
+	private String notificationTypeCode;
+	private Integer referenceEntityId;
+	private String referenceEntityType;
+}
@@ -0,0 +1,23 @@
+package com.eurachacha.achacha.application.port.output.notification.dto.request;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 알림함 키셋(커서) 페이징 기준 값 (createdAt, id)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class NotificationCursorDto {
+	private LocalDateTime createdAt;
+	private Integer id;
+}
@@ -0,0 +1,19 @@
+package com.eurachacha.achacha.application.port.output.notification.dto.response;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 유효기간 알림 대상 (기프티콘, 수신자, 알림 설정, FCM 토큰) 조인 결과 한 행
+@Getter
+@AllArgsConstructor
+public class ExpiryNotificationTargetDto {
+	private Integer gifticonId;
+	private String gifticonName;
+	private LocalDate expiryDate;
+	private Integer userId;
+	private Boolean isEnabled;
+	// 알림이 비활성화되었거나 토큰이 없으면 null
+	private String fcmToken;
+}
@@ -0,0 +1,15 @@
+package com.eurachacha.achacha.application.port.output.notification.dto.response;
+
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 발행 대기 중인 아웃박스 한 행
+@Getter
+@AllArgsConstructor
+public class NotificationOutboxDto {
+	private Long id;
+	private Integer attempts;
+	private NotificationEventDto eventDto;
+}
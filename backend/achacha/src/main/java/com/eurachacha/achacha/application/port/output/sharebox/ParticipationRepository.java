@@ -14,6 +14,15 @@ public interface ParticipationRepository {
 
 	List<Participation> findByShareBoxId(Integer shareBoxId);
 
+	// 알림 수신자 조회용 참여자 ID 목록
+	List<Integer> findUserIdsByShareBoxId(Integer shareBoxId);
+
+	// 알림 작업 청크 조회용, afterUserId보다 큰 참여자 ID를 오름차순으로 최대 limit건
+	List<Integer> findUserIdsByShareBoxIdAfter(Integer shareBoxId, Integer afterUserId, int limit);
+
+	// 참여 여부 캐시 적재용 사용자의 쉐어박스 ID 목록
+	List<Integer> findShareBoxIdsByUserId(Integer userId);
+
 	void deleteByUserIdAndShareBoxId(Integer userId, Integer shareBoxId);
 
 	void deleteAllByShareBoxId(Integer shareBoxId);
@@ -1,6 +1,8 @@
 package com.eurachacha.achacha.application.port.output.user;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 
@@ -8,7 +10,19 @@ public interface FcmTokenRepository {
 
 	List<FcmToken> findAllByUserId(Integer userId);
 
+	List<FcmToken> findAllByUserIdIn(List<Integer> userIds);
+
 	FcmToken save(FcmToken fcmToken);
 
+	// 토큰 값 기준 upsert, 이미 있으면 사용자와 마지막 사용 시각만 갱신하고 갱신 전 소유자 ID를 반환
+	Optional<Integer> upsert(Integer userId, String value, LocalDateTime lastSeenAt);
+
+	// 로그인 없이 토큰 재발급으로 사용을 이어가는 사용자의 토큰이 만료 정리되지 않도록 마지막 사용 시각 갱신
+	int touchAllByUserId(Integer userId, LocalDateTime lastSeenAt);
+
+	int deleteAllByLastSeenAtBefore(LocalDateTime lastSeenAt);
+
 	void deleteByUserIdAndValue(Integer userId, String value);
+
+	int deleteAllByValueIn(List<String> values);
 }
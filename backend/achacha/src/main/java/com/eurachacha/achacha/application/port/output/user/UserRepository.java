@@ -11,4 +11,7 @@ public interface UserRepository {
 
 	User save(User user);
 
+	// 가장 큰 사용자 ID, 사용자가 없으면 0
+	int findMaxId();
+
 }
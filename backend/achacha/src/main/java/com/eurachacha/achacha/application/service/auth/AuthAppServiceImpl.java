@@ -1,10 +1,10 @@
 package com.eurachacha.achacha.application.service.auth;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -15,15 +15,19 @@ import com.eurachacha.achacha.application.port.input.auth.dto.request.KakaoLogin
 import com.eurachacha.achacha.application.port.input.auth.dto.request.RefreshTokenRequestDto;
 import com.eurachacha.achacha.application.port.input.auth.dto.response.TokenResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.AuthServicePort;
+import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.auth.TokenServicePort;
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
 import com.eurachacha.achacha.application.port.output.auth.dto.response.KakaoUserInfoDto;
 import com.eurachacha.achacha.application.port.output.ble.BleTokenRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.dto.response.SignedCookieDto;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
 import com.eurachacha.achacha.application.port.output.user.RefreshTokenRepository;
 import com.eurachacha.achacha.application.port.output.user.UserRepository;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.ExpirationCycle;
@@ -49,6 +53,9 @@ public class AuthAppServiceImpl implements AuthAppService, AuthenticationUseCase
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final AuthServicePort authServicePort;
 	private final TokenServicePort tokenServicePort;
+	private final SecurityServicePort securityServicePort;
+	private final FileStoragePort fileStoragePort;
+	private final NotificationRecipientResolver notificationRecipientResolver;
 
 	// 카카오 제공자 상수
 	private static final String KAKAO_PROVIDER = "KAKAO";
@@ -89,7 +96,7 @@ public class AuthAppServiceImpl implements AuthAppService, AuthenticationUseCase
 		}
 
 		// JWT 토큰 발급
-		String accessToken = tokenServicePort.createAccessToken(user.getId());
+		String accessToken = tokenServicePort.createAccessToken(user.getId(), user.getName());
 		String refreshToken = tokenServicePort.createRefreshToken(user.getId());
 		log.debug("JWT 토큰 발급 완료: userId={}", user.getId());
 
@@ -111,11 +118,28 @@ public class AuthAppServiceImpl implements AuthAppService, AuthenticationUseCase
 		// 사용자의 리프레시 토큰 조회
 		RefreshToken refreshToken = refreshTokenRepository.findByUserIdAndValue(userId, requestDto.getRefreshToken());
 
-		String newAccessToken = tokenServicePort.createAccessToken(userId);
+		// 리프레시 토큰으로만 로그인을 유지하는 사용자의 FCM 토큰이 만료 정리되지 않도록 마지막 사용 시각 갱신
+		fcmTokenRepository.touchAllByUserId(userId, LocalDateTime.now());
+
+		String newAccessToken = tokenServicePort.createAccessToken(userId, user.getName());
 
 		return new TokenResponseDto(newAccessToken, refreshToken.getValue());
 	}
 
+	@Override
+	public List<SignedCookieDto> issueImageAccessCookies() {
+		return fileStoragePort.generateSignedCookies();
+	}
+
+	@Override
+	public List<SignedCookieDto> reissueImageAccessCookies() {
+		// 인증되지 않은 요청이면 예외 발생
+		Integer userId = securityServicePort.getLoggedInUserId();
+		log.debug("이미지 접근 쿠키 재발급 - 사용자 ID: {}", userId);
+
+		return fileStoragePort.generateSignedCookies();
+	}
+
 	private User createKakaoUser(KakaoUserInfoDto kakaoUserInfo) {
 		User newUser = User.builder()
 			.provider(KAKAO_PROVIDER)
@@ -136,13 +160,16 @@ public class AuthAppServiceImpl implements AuthAppService, AuthenticationUseCase
 		refreshTokenRepository.save(refreshToken);
 	}
 
-	// FCM 토큰 저장 메서드
+	// FCM 토큰 저장 메서드 (같은 기기로 다시 로그인하면 새 행을 만들지 않고 사용자와 마지막 사용 시각만 갱신)
 	private void saveFcmToken(User user, String tokenValue) {
-		FcmToken fcmToken = FcmToken.builder()
-			.user(user)
-			.value(tokenValue)
-			.build();
-		fcmTokenRepository.save(fcmToken);
+		Optional<Integer> previousUserId = fcmTokenRepository.upsert(user.getId(), tokenValue, LocalDateTime.now());
+
+		// 다른 계정에서 옮겨온 토큰이면 이전 사용자의 알림이 이 기기로 가지 않도록 이전 사용자 캐시도 제거
+		List<Integer> changedUserIds = previousUserId
+			.filter(previousId -> !previousId.equals(user.getId()))
+			.map(previousId -> List.of(user.getId(), previousId))
+			.orElseGet(() -> List.of(user.getId()));
+		notificationRecipientResolver.evictFcmTokens(changedUserIds);
 	}
 
 	/**
@@ -203,10 +230,8 @@ public class AuthAppServiceImpl implements AuthAppService, AuthenticationUseCase
 	}
 
 	@Override
-	public UserDetails createUserDetails(Integer userId) {
-		// Spring Security의 UserDetails 객체 생성
-		return new org.springframework.security.core.userdetails.User(
-			userId.toString(), "", new ArrayList<>());
+	public AuthenticatedUser authenticate(String token) {
+		return tokenServicePort.validateAccessTokenAndGetUser(token);
 	}
 
 	@Override
@@ -221,6 +246,7 @@ public class AuthAppServiceImpl implements AuthAppService, AuthenticationUseCase
 		// fcmToken 처리
 		if (StringUtils.hasText(fcmToken) && userId != null) {
 			fcmTokenRepository.deleteByUserIdAndValue(userId, fcmToken);
+			notificationRecipientResolver.evictFcmTokens(List.of(userId));
 		}
 
 		// bleToken 처리
@@ -0,0 +1,61 @@
+package com.eurachacha.achacha.application.service.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eurachacha.achacha.application.port.input.cache.CacheInvalidationUseCase;
+import com.eurachacha.achacha.application.port.output.cache.CacheInvalidationEventPort;
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.service.cache.event.CacheInvalidationEvent;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.sharebox.ShareBoxMembershipCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 로컬 캐시 무효화
+ * 커밋 후 현재 노드의 캐시를 비우고 RabbitMQ Fanout으로 다른 노드에도 알림
+ * 메시지를 받지 못한 노드도 각 캐시의 만료 시간 안에 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationService implements CacheInvalidationUseCase {
+
+	private final ShareBoxMembershipCache shareBoxMembershipCache;
+	private final NotificationRecipientResolver notificationRecipientResolver;
+	private final CacheInvalidationEventPort cacheInvalidationEventPort;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleCacheInvalidation(CacheInvalidationEvent event) {
+		invalidateAndBroadcast(event.getInvalidation());
+	}
+
+	/**
+	 * 이미 커밋된 변경을 바로 반영할 때 사용 (AFTER_COMMIT 리스너 안에서 발행한 이벤트는 처리되지 않음)
+	 */
+	public void invalidateAndBroadcast(CacheInvalidationDto invalidationDto) {
+		invalidateLocal(invalidationDto);
+
+		// 브로커 장애 시 다른 노드는 만료 시간 안에 반영되므로 요청은 실패시키지 않음
+		try {
+			cacheInvalidationEventPort.broadcast(invalidationDto);
+		} catch (Exception e) {
+			log.error("캐시 무효화 전파 실패 - 대상: {}, 사용자 수: {}, 오류: {}",
+				invalidationDto.getTarget(), invalidationDto.getUserIds().size(), e.getMessage());
+		}
+	}
+
+	@Override
+	public void invalidateLocal(CacheInvalidationDto invalidationDto) {
+		switch (invalidationDto.getTarget()) {
+			case SHAREBOX_MEMBERSHIP -> shareBoxMembershipCache.invalidateLocal(invalidationDto.getUserIds());
+			case FCM_TOKEN -> notificationRecipientResolver.invalidateFcmTokens(invalidationDto.getUserIds());
+			case ALL_FCM_TOKENS -> notificationRecipientResolver.invalidateAllFcmTokens();
+			case NOTIFICATION_SETTING -> notificationRecipientResolver.invalidateSettings(
+				invalidationDto.getUserIds(), invalidationDto.getTypeCode());
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.eurachacha.achacha.application.service.cache.event;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+
+import lombok.Getter;
+
+// 트랜잭션 커밋 후 모든 노드에서 비울 캐시 항목
+@Getter
+public class CacheInvalidationEvent {
+	private final CacheInvalidationDto invalidation;
+
+	public CacheInvalidationEvent(CacheInvalidationDto invalidation) {
+		this.invalidation = invalidation;
+	}
+}
@@ -5,9 +5,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -35,20 +32,23 @@ import com.eurachacha.achacha.application.port.output.brand.BrandRepository;
 import com.eurachacha.achacha.application.port.output.file.FileRepository;
 import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonDetailDto;
 import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
 import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
+import com.eurachacha.achacha.application.port.output.job.DelayedJobRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
 import com.eurachacha.achacha.application.port.output.ocr.OcrPort;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
+import com.eurachacha.achacha.application.service.sharebox.ShareBoxMembershipCache;
 import com.eurachacha.achacha.domain.model.ai.OcrTrainingData;
 import com.eurachacha.achacha.domain.model.brand.Brand;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.file.File;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
@@ -60,16 +60,16 @@ import com.eurachacha.achacha.domain.model.history.GifticonOwnerHistory;
 import com.eurachacha.achacha.domain.model.history.UsageHistory;
 import com.eurachacha.achacha.domain.model.history.enums.TransferType;
 import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+import com.eurachacha.achacha.domain.model.job.DelayedJob;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
-import com.eurachacha.achacha.domain.model.sharebox.Participation;
 import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.file.FileDomainService;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.GifticonCursorCodec;
 import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.PageableFactory;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
@@ -83,10 +83,15 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class GifticonAppServiceImpl implements GifticonAppService {
 
+	private static final long USAGE_COMPLETE_REMINDER_DELAY_MINUTES = 5L;
+
 	private final GifticonDomainService gifticonDomainService;
 	private final GifticonRepository gifticonRepository;
+	private final ShareBoxMembershipCache shareBoxMembershipCache;
 	private final ParticipationRepository participationRepository;
 	private final PageableFactory pageableFactory;
+	private final GifticonCursorCodec gifticonCursorCodec;
+	private final GifticonPageAssembler gifticonPageAssembler;
 	private final OcrPort ocrPort;
 	private final AIServicePort aiServicePort;
 	private final BrandRepository brandRepository;
@@ -99,11 +104,10 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 	private final ShareBoxRepository shareBoxRepository;
 	private final SecurityServicePort securityServicePort;
 	private final NotificationRepository notificationRepository;
-	private final FcmTokenRepository fcmTokenRepository;
 	private final NotificationTypeRepository notificationTypeRepository;
-	private final NotificationSettingRepository notificationSettingRepository;
-	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final NotificationRecipientResolver notificationRecipientResolver;
+	private final DelayedJobRepository delayedJobRepository;
 
 	@Override
 	public GifticonMetadataResponseDto extractGifticonMetadata(MultipartFile image, GifticonType gifticonType) {
@@ -189,7 +193,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		if (requestDto.getShareBoxId() != null) {
 			shareBox = shareBoxRepository.findById(requestDto.getShareBoxId());
 
-			// 현재 사용자가 해당 공유 박스에 참여 중인지 확인
+			// 현재 사용자가 해당 공유 박스에 참여 중인지 확인 (쓰기 경로는 캐시 대신 DB로 확인)
 			boolean hasParticipation = participationRepository.checkParticipation(loggedInUser.getId(),
 				shareBox.getId());
 
@@ -260,8 +264,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		log.info("사용가능 기프티콘 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 페이징 처리
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
@@ -279,6 +282,36 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			.gifticons(availableGifticonResponseDtos)
 			.hasNextPage(gifticonSlice.hasNext())
 			.nextPage(gifticonSlice.hasNext() ? page + 1 : null)
+			.nextCursor(getNextCursor(gifticonSlice, sort))
+			.build();
+	}
+
+	@Override
+	public AvailableGifticonsResponseDto getAvailableGifticonsByCursor(GifticonScopeType scope, GifticonType type,
+		GifticonSortType sort, String cursor, Integer size) {
+
+		log.info("사용가능 기프티콘 커서 조회 시작");
+
+		// 로그인 된 유저
+		Integer userId = securityServicePort.getLoggedInUserId();
+
+		// 커서 해석 (정렬 기준과 맞지 않으면 예외 발생)
+		GifticonCursorDto cursorDto = gifticonCursorCodec.decode(cursor, sort);
+
+		// 기프티콘 조회 쿼리 실행
+		Slice<Gifticon> gifticonSlice = gifticonRepository.findAvailableGifticonsByCursor(userId, scope, type, sort,
+			cursorDto, size);
+
+		// entity -> dto 변환
+		List<AvailableGifticonResponseDto> availableGifticonResponseDtos = getAvailableGifticonResponseDto(
+			gifticonSlice);
+
+		log.info("사용가능 기프티콘 커서 조회 완료");
+
+		return AvailableGifticonsResponseDto.builder()
+			.gifticons(availableGifticonResponseDtos)
+			.hasNextPage(gifticonSlice.hasNext())
+			.nextCursor(getNextCursor(gifticonSlice, sort))
 			.build();
 	}
 
@@ -288,10 +321,11 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		log.info("사용가능 기프티콘 상세 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
-		Gifticon findGifticon = gifticonRepository.getGifticonDetail(gifticonId);
+		// 기프티콘, 참여 여부, 파일 경로를 한 번에 조회
+		GifticonDetailDto gifticonDetail = gifticonRepository.getGifticonDetailView(gifticonId, userId);
+		Gifticon findGifticon = gifticonDetail.getGifticon();
 
 		/*
 		 * 사용가능 기프티콘 검증 로직
@@ -301,7 +335,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		gifticonDomainService.validateGifticonIsAvailable(findGifticon);
 
 		// 사용 권한 검증
-		validateGifticonAccess(findGifticon, userId);
+		validateGifticonAccess(findGifticon, userId, gifticonDetail.isParticipating());
 
 		// 기프티콘 스코프 결정에 따른 값
 		String scope = findGifticon.getSharebox() == null ? "MY_BOX" : "SHARE_BOX";
@@ -322,8 +356,8 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			.userName(findGifticon.getUser().getName())
 			.shareBoxId(shareBoxId)
 			.shareBoxName(shareBoxName)
-			.thumbnailPath(getGifticonImageUrl(gifticonId, FileType.THUMBNAIL)) // 파일로직 구현 후 수정
-			.originalImagePath(getGifticonImageUrl(gifticonId, FileType.ORIGINAL)) // 파일로직 구현 후 수정
+			.thumbnailPath(getGifticonImageUrl(gifticonDetail, FileType.THUMBNAIL))
+			.originalImagePath(getGifticonImageUrl(gifticonDetail, FileType.ORIGINAL))
 			.gifticonCreatedAt(findGifticon.getCreatedAt())
 			.gifticonOriginalAmount(findGifticon.getOriginalAmount())
 			.gifticonRemainingAmount(findGifticon.getRemainingAmount())
@@ -337,8 +371,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		log.info("사용완료 기프티콘 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 페이징 처리
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
@@ -363,11 +396,11 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		log.info("사용완료 기프티콘 상세 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
-		// 해당 기프티콘 조회
-		Gifticon findGifticon = gifticonRepository.getGifticonDetail(gifticonId);
+		// 기프티콘, 참여 여부, 파일 경로를 한 번에 조회
+		GifticonDetailDto gifticonDetail = gifticonRepository.getGifticonDetailView(gifticonId, userId);
+		Gifticon findGifticon = gifticonDetail.getGifticon();
 
 		// 삭제 여부 검토
 		boolean deleted = gifticonDomainService.isDeleted(findGifticon);
@@ -380,17 +413,9 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		UsageHistory findUsageHistory = usageHistoryRepository.findLatestByUserIdAndGifticonId(userId,
 			findGifticon.getId());
 
-		// 기프티콘이 공유 중인지 확인
+		// 기프티콘이 공유 중인 경우에만 사용자의 참여 여부 반영
 		boolean isShared = gifticonDomainService.isAlreadyShared(findGifticon);
-		// 기본적으로 참여하지 않은 것으로 설정
-		boolean isParticipating = false;
-
-		// 기프티콘이 공유 중이라면, 사용자의 참여 여부 확인
-		if (isShared) {
-			// 기프티콘이 속한 쉐어박스 ID 가져오기
-			Integer shareBoxId = findGifticon.getSharebox().getId();
-			isParticipating = participationRepository.checkParticipation(userId, shareBoxId);
-		}
+		boolean isParticipating = isShared && gifticonDetail.isParticipating();
 
 		// 해당 사용자가 기프티콘 선물 및 뿌리기를 한 적이 없었고, 사용자가 기프티콘을 사용한 적이 없었고, 쉐어박스에 올라온 기프티콘도 아닌 경우 에러 발생
 		if (findOwnerHistory == null && findUsageHistory == null && !isParticipating) {
@@ -399,7 +424,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 
 		UsageType usageType = UsageType.SELF_USE; // 사용 타입
 		LocalDateTime usedAt = null; // 사용 시간
-		String thumbnailPath = getGifticonImageUrl(findGifticon.getId(), FileType.THUMBNAIL);
+		String thumbnailPath = getGifticonImageUrl(gifticonDetail, FileType.THUMBNAIL);
 		String originalImagePath = null; // 원본 이미지 파일 경로
 
 		// 본인이 사용한 기록이 있는 경우
@@ -414,7 +439,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			}
 
 			usedAt = findUsageHistory.getCreatedAt();
-			originalImagePath = getGifticonImageUrl(findGifticon.getId(), FileType.ORIGINAL);
+			originalImagePath = getGifticonImageUrl(gifticonDetail, FileType.ORIGINAL);
 		}
 		// 타인에게 넘겨준 경우
 		else if (findOwnerHistory != null) {
@@ -433,10 +458,10 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			if (!used) {
 				throw new CustomException(ErrorCode.GIFTICON_AVAILABLE);
 			}
-			usedAt = usageHistoryRepository.findAllByGifticonIdOrderByCreatedAtDesc(findGifticon.getId())
+			usedAt = usageHistoryRepository.findLatestForEachGifticonByIds(List.of(findGifticon.getId()))
 				.get(0)
 				.getCreatedAt();
-			originalImagePath = getGifticonImageUrl(findGifticon.getId(), FileType.ORIGINAL);
+			originalImagePath = getGifticonImageUrl(gifticonDetail, FileType.ORIGINAL);
 		}
 
 		Integer amount = findGifticon.getType() == GifticonType.AMOUNT ? findGifticon.getOriginalAmount() : null;
@@ -466,8 +491,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		log.info("사용가능 기프티콘 바코드 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
 
@@ -498,8 +522,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		log.info("사용완료 기프티콘 바코드 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 해당 기프티콘 조회
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
@@ -532,8 +555,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 	public void deleteGifticon(Integer gifticonId) {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 해당 기프티콘 조회
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
@@ -598,11 +620,32 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		return fileStoragePort.generateFileUrl(file.getPath(), fileType);
 	}
 
-	private String getSignedUrl(String filePath, FileType fileType) {
-		return fileStoragePort.generateFileUrl(filePath, fileType);
+	private String getGifticonImageUrl(GifticonDetailDto gifticonDetail, FileType fileType) {
+		String path = gifticonDetail.getFilePaths().get(fileType);
+		if (path == null) {
+			throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+		}
+
+		return fileStoragePort.generateFileUrl(path, fileType);
+	}
+
+	private String getNextCursor(Slice<Gifticon> gifticonSlice, GifticonSortType sort) {
+		if (!gifticonSlice.hasNext() || gifticonSlice.getContent().isEmpty()) {
+			return null;
+		}
+
+		List<Gifticon> content = gifticonSlice.getContent();
+		return gifticonCursorCodec.encode(content.get(content.size() - 1), sort);
 	}
 
 	private void validateGifticonAccess(Gifticon findGifticon, Integer userId) {
+		boolean hasParticipation = findGifticon.getSharebox() != null
+			&& shareBoxMembershipCache.isMember(userId, findGifticon.getSharebox().getId());
+		validateGifticonAccess(findGifticon, userId, hasParticipation);
+	}
+
+	// 참여 여부를 이미 조회한 경우 (상세 조회 읽기 모델)
+	private void validateGifticonAccess(Gifticon findGifticon, Integer userId, boolean hasParticipation) {
 		// 공유되지 않은 기프티콘인 경우 소유자 판단
 		if (findGifticon.getSharebox() == null) {
 			boolean isOwner = gifticonDomainService.hasAccess(userId, findGifticon.getUser().getId());
@@ -612,44 +655,14 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		}
 
 		// 공유된 기프티콘인 경우 참여 여부 판단
-		if (findGifticon.getSharebox() != null) {
-			boolean hasParticipation = participationRepository.checkParticipation(userId,
-				findGifticon.getSharebox().getId());
-			if (!hasParticipation) {
-				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
-			}
+		if (findGifticon.getSharebox() != null && !hasParticipation) {
+			throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
 		}
 	}
 
 	private List<AvailableGifticonResponseDto> getAvailableGifticonResponseDto(
 		Slice<Gifticon> gifticons) {
-
-		// 기프티콘 id 추출
-		List<Integer> ids = gifticons.getContent().stream()
-			.map(Gifticon::getId)
-			.toList();
-
-		// 파일을 한번에 조회
-		Map<Integer, String> pathMap = getFilePathMap(ids);
-
-		return gifticons.getContent().stream()
-			.map(dto -> AvailableGifticonResponseDto.builder()
-				.gifticonId(dto.getId())
-				.gifticonName(dto.getName())
-				.gifticonType(dto.getType())
-				.gifticonExpiryDate(dto.getExpiryDate())
-				.brandId(dto.getBrand().getId())
-				.brandName(dto.getBrand().getName())
-				.scope(dto.getSharebox() == null ? GifticonScopeType.MY_BOX.name() : GifticonScopeType.SHARE_BOX.name())
-				.userId(dto.getUser().getId())
-				.userName(dto.getUser().getName())
-				.shareboxId(dto.getSharebox() == null ? null : dto.getSharebox().getId())
-				.shareboxName(dto.getSharebox() == null ? null : dto.getSharebox().getName())
-				.thumbnailPath(
-					pathMap.get(dto.getId()) != null ? getSignedUrl(pathMap.get(dto.getId()), FileType.THUMBNAIL) :
-						null)
-				.build())
-			.toList();
+		return gifticonPageAssembler.toAvailableGifticonResponseDtos(gifticons.getContent());
 	}
 
 	private List<UsedGifticonResponseDto> getUsedGifticonResponseDtos(Integer userId,
@@ -660,7 +673,8 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			.map(Gifticon::getId)
 			.toList();
 
-		Map<Integer, String> pathMap = getFilePathMap(ids);
+		// 썸네일 URL을 한번에 조회
+		Map<Integer, String> thumbnailUrlMap = gifticonPageAssembler.getThumbnailUrlMap(ids);
 
 		Map<Integer, GifticonOwnerHistory> ownerHistoryMap = getOwnerHistoryMap(userId, ids);
 
@@ -677,9 +691,6 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			// 사용시간, 타입 처리
 			UsageInfo usageInfo = getUsageInfo(usageHistory, ownerHistory);
 
-			// 썸네일 경로 처리
-			String thumbnailPath = getThumbnailPath(pathMap, gifticonId);
-
 			UsedGifticonResponseDto newDto = UsedGifticonResponseDto.builder()
 				.gifticonId(gifticon.getId())
 				.gifticonName(gifticon.getName())
@@ -689,7 +700,7 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 				.brandName(gifticon.getBrand().getName())
 				.usageType(usageInfo.usageType())
 				.usedAt(usageInfo.usedAt())
-				.thumbnailPath(thumbnailPath)
+				.thumbnailPath(thumbnailUrlMap.get(gifticonId))
 				.build();
 
 			responseDtos.add(newDto);
@@ -721,14 +732,6 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 	private record UsageInfo(UsageType usageType, LocalDateTime usedAt) {
 	}
 
-	private String getThumbnailPath(Map<Integer, String> pathMap, Integer gifticonId) {
-		String thumbnailPath = null;
-		if (pathMap.containsKey(gifticonId)) {
-			thumbnailPath = getSignedUrl(pathMap.get(gifticonId), FileType.THUMBNAIL);
-		}
-		return thumbnailPath;
-	}
-
 	private Map<Integer, UsageHistory> getUsageHistoryMap(Integer userId, List<Integer> ids) {
 		// 사용 내역을 한번에 조회
 		List<UsageHistory> usageHistories = usageHistoryRepository.findLatestForEachGifticonByIdsAndUserId(ids, userId);
@@ -762,16 +765,6 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			));
 	}
 
-	private Map<Integer, String> getFilePathMap(List<Integer> ids) {
-		// 파일을 한번에 조회
-		List<File> thumbs = fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(
-			"gifticon", ids, FileType.THUMBNAIL);
-
-		// 경로 맵 생성 (gifticonId -> 썸네일 경로)
-		return thumbs.stream()
-			.collect(Collectors.toMap(File::getReferenceEntityId, File::getPath));
-	}
-
 	private UsageType convertTransferTypeToUsageType(TransferType transferType) {
 		return switch (transferType) {
 			case GIVE_AWAY -> UsageType.GIVE_AWAY;
@@ -783,71 +776,43 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 	 * 기프티콘 쉐어박스 등록 알림을 전송합니다.
 	 */
 	private void sendGifticonRegisteredToShareBoxNotification(ShareBox shareBox, Gifticon gifticon) {
-		try {
-			log.info("기프티콘 쉐어박스 등록 알림 전송 시작 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
-				shareBox.getId(), gifticon.getId());
-
-			// 알림 타입 조회
-			NotificationType notificationType = notificationTypeRepository.findByCode(
-				NotificationTypeCode.SHAREBOX_GIFTICON);
-			String title = notificationType.getCode().getDisplayName();
+		// 알림 내용 설정
+		String content = String.format("%s 쉐어박스에 %s이(가) 등록되었어요.",
+			shareBox.getName(), gifticon.getName());
 
-			// 알림 내용 설정
-			String content = String.format("%s 쉐어박스에 %s이(가) 등록되었어요.",
-				shareBox.getName(), gifticon.getName());
+		// 모든 참여자에게 알림 전송 (등록한 사용자 포함, 커밋 후 백그라운드 처리)
+		applicationEventPublisher.publishEvent(NotificationFanOutEvent.toShareBoxMembers(shareBox.getId(), null,
+			NotificationTypeCode.SHAREBOX_GIFTICON, content));
 
-			// 해당 쉐어박스의 모든 참여자 조회
-			List<Participation> participations = participationRepository.findByShareBoxId(shareBox.getId());
-
-			for (Participation participation : participations) {
-				User participant = participation.getUser();
-				Integer participantId = participant.getId();
-
-				// 모든 참여자에게 알림 전송 (등록한 사용자 포함)
-				sendNotificationToUser(participantId, notificationType, title, content,
-					"sharebox", shareBox.getId());
-			}
-
-			log.info("기프티콘 쉐어박스 등록 알림 전송 완료 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
-				shareBox.getId(), gifticon.getId());
-		} catch (Exception e) {
-			// 알림 전송 실패시 로그만 남기고 계속 진행
-			log.error("기프티콘 쉐어박스 등록 알림 전송 실패 - 쉐어박스 ID: {}, 기프티콘 ID: {}, 오류: {}",
-				shareBox.getId(), gifticon.getId(), e.getMessage(), e);
-		}
+		log.info("기프티콘 쉐어박스 등록 알림 요청 완료 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
+			shareBox.getId(), gifticon.getId());
 	}
 
 	/**
 	 * 지정된 사용자에게 알림을 전송합니다.
 	 */
 	private void sendNotificationToUser(Integer userId, NotificationType notificationType,
+		String title, String content,
+		String referenceEntityType, Integer referenceEntityId) {
+		sendNotificationToUsers(List.of(userId), notificationType, title, content, referenceEntityType,
+			referenceEntityId);
+	}
+
+	/**
+	 * 지정된 사용자들에게 같은 알림을 전송합니다.
+	 */
+	private void sendNotificationToUsers(List<Integer> userIds, NotificationType notificationType,
 		String title, String content,
 		String referenceEntityType, Integer referenceEntityId) {
 		// 항상 알림 정보는 데이터베이스에 저장
-		saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId);
-
-		// 사용자의 알림 설정 조회
-		try {
-			NotificationSetting setting = notificationSettingRepository.findByUserIdAndNotificationTypeId(
-				userId, notificationType.getId());
-
-			// 사용자가 해당 알림을 비활성화했으면 FCM 알림만 보내지 않음
-			if (!notificationSettingDomainService.isEnabled(setting)) {
-				log.info("사용자가 알림을 비활성화하여 FCM 알림은 전송하지 않음 - 알림 타입: {}, 사용자 ID: {}",
-					notificationType.getCode(), userId);
-				return;
-			}
-		} catch (CustomException e) {
-			// 알림 설정이 없는 경우 기본적으로 FCM 알림을 보내지 않음
-			if (e.getErrorCode() == ErrorCode.NOTIFICATION_SETTING_NOT_FOUND) {
-				log.info("사용자의 알림 설정을 찾을 수 없어 FCM 알림은 전송하지 않음 - 사용자 ID: {}", userId);
-				return;
-			}
-			throw e;
-		}
+		userIds.forEach(userId ->
+			saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId));
+
+		// 알림을 켠 사용자와 FCM 토큰을 한 번에 조회 (설정이 없거나 비활성화한 사용자는 FCM 알림만 보내지 않음)
+		Map<Integer, List<String>> recipients = notificationRecipientResolver.resolve(userIds, notificationType);
 
 		// FCM 토큰 조회 및 알림 전송
-		sendPushNotification(userId, title, content, notificationType.getCode(), referenceEntityType,
+		sendPushNotification(recipients, title, content, notificationType.getCode(), referenceEntityType,
 			referenceEntityId);
 	}
 
@@ -876,57 +841,47 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 	/**
 	 * FCM을 통해 푸시 알림을 전송합니다.
 	 */
-	private void sendPushNotification(Integer userId, String title, String content,
+	private void sendPushNotification(Map<Integer, List<String>> recipients, String title, String content,
 		NotificationTypeCode typeCode,
 		String referenceEntityType, Integer referenceEntityId) {
-		// FCM 토큰 조회
-		List<FcmToken> fcmTokens = fcmTokenRepository.findAllByUserId(userId);
-
-		if (fcmTokens.isEmpty()) {
-			log.info("사용자의 FCM 토큰이 없음 - 사용자 ID: {}", userId);
-			return;
-		}
-
-		// 사용자의 모든 기기에 알림 전송
-		for (FcmToken fcmToken : fcmTokens) {
-			NotificationEventDto eventDto = NotificationEventDto.builder()
-				.fcmToken(fcmToken.getValue())
+		// 수신자들의 모든 기기에 보낼 알림을 모아 한 번에 발행
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		recipients.forEach((userId, fcmTokens) -> fcmTokens.forEach(fcmToken -> eventDtos.add(
+			NotificationEventDto.builder()
+				.fcmToken(fcmToken)
 				.title(title)
 				.body(content)
 				.userId(userId)
 				.notificationTypeCode(typeCode.name())
 				.referenceEntityId(referenceEntityId)
 				.referenceEntityType(referenceEntityType)
-				.build();
+				.build())));
 
-			applicationEventPublisher.publishEvent(new NotificationEventMessage(eventDto));
+		if (eventDtos.isEmpty()) {
+			log.info("알림을 받을 FCM 토큰이 없음 - 수신자 수: {}", recipients.size());
+			return;
 		}
 
-		log.debug("푸시 알림 전송 완료 - 사용자 ID: {}", userId);
+		applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		log.debug("푸시 알림 전송 완료 - 수신자 수: {}, 토큰 수: {}", recipients.size(), eventDtos.size());
 	}
 
-	// 5분 뒤 알림을 보내는 메서드
+	// 5분 뒤 알림을 지연 작업으로 예약하는 메서드
+	// 같은 사용자가 같은 기프티콘 바코드를 반복 조회하면 예약이 하나로 합쳐지고 실행 시각만 갱신됨
 	private void useCompleteGifticonNotificationSchedule(Gifticon gifticon, Integer userId) {
 		final Integer gifticonId = gifticon.getId();
 
-		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		delayedJobRepository.schedule(
+			DelayedJobType.USAGE_COMPLETE_REMINDER,
+			DelayedJob.createDedupeKey(DelayedJobType.USAGE_COMPLETE_REMINDER, gifticonId, userId),
+			userId,
+			gifticonId,
+			LocalDateTime.now().plusMinutes(USAGE_COMPLETE_REMINDER_DELAY_MINUTES));
 
-		scheduler.schedule(() -> {
-			try {
-
-				// 사용여부 체크 후 저장, 전송
-				checkUsedAndSaveAndSendNotification(userId, gifticonId);
-
-			} catch (Exception e) {
-				log.error("기프티콘 바코드 조회 후 알림 전송 실패: {}", e.getMessage(), e);
-			} finally {
-				scheduler.shutdown();
-			}
-		}, 5, TimeUnit.MINUTES);
-
-		log.info("기프티콘 ID: {} 바코드 조회 후 5분 뒤 알림 예약됨", gifticonId);
+		log.info("기프티콘 ID: {} 바코드 조회 후 {}분 뒤 알림 예약됨", gifticonId, USAGE_COMPLETE_REMINDER_DELAY_MINUTES);
 	}
 
+	@Override
 	@Transactional
 	public void checkUsedAndSaveAndSendNotification(Integer userId, Integer gifticonId) {
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
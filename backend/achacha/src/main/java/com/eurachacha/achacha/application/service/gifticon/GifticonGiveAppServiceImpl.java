@@ -2,7 +2,9 @@ package com.eurachacha.achacha.application.service.gifticon;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -18,22 +20,19 @@ import com.eurachacha.achacha.application.port.output.ble.BleTokenRepository;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
 import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
 import com.eurachacha.achacha.application.port.output.present.ColorPaletteRepository;
 import com.eurachacha.achacha.application.port.output.present.PresentCardRepository;
 import com.eurachacha.achacha.application.port.output.present.PresentTemplateRepository;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.domain.model.ble.BleToken;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.history.GifticonOwnerHistory;
 import com.eurachacha.achacha.domain.model.history.enums.TransferType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
 import com.eurachacha.achacha.domain.model.present.ColorPalette;
@@ -43,7 +42,6 @@ import com.eurachacha.achacha.domain.model.present.enums.TemplateCategory;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonGiveDomainService;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
@@ -68,10 +66,8 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 	private final PresentCardRepository presentCardRepository;
 	private final NotificationTypeRepository notificationTypeRepository;
 	private final NotificationRepository notificationRepository;
-	private final FcmTokenRepository fcmTokenRepository;
-	private final NotificationSettingRepository notificationSettingRepository;
-	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final NotificationRecipientResolver notificationRecipientResolver;
 
 	@Override
 	@Transactional
@@ -204,11 +200,11 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 	@Override
 	@Transactional
 	public void cancelPresentGifticon(Integer gifticonId) {
-		User user = securityServicePort.getLoggedInUser();
+		Integer userId = securityServicePort.getLoggedInUserId();
 		Gifticon gifticon = gifticonRepository.findById(gifticonId);
 
 		// 본인 소유인지 확인
-		gifticonDomainService.validateGifticonForPresentCancel(user.getId(), gifticon);
+		gifticonDomainService.validateGifticonForPresentCancel(userId, gifticon);
 
 		// 기프티콘 사용 완료 취소
 		gifticon.cancelUse();
@@ -260,33 +256,27 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 	 * 지정된 사용자에게 알림을 전송합니다.
 	 */
 	private void sendNotificationToUser(Integer userId, NotificationType notificationType,
+		String title, String content,
+		String referenceEntityType, Integer referenceEntityId) {
+		sendNotificationToUsers(List.of(userId), notificationType, title, content, referenceEntityType,
+			referenceEntityId);
+	}
+
+	/**
+	 * 지정된 사용자들에게 같은 알림을 전송합니다.
+	 */
+	private void sendNotificationToUsers(List<Integer> userIds, NotificationType notificationType,
 		String title, String content,
 		String referenceEntityType, Integer referenceEntityId) {
 		// 항상 알림 정보는 데이터베이스에 저장
-		saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId);
-
-		// 사용자의 알림 설정 조회
-		try {
-			NotificationSetting setting = notificationSettingRepository.findByUserIdAndNotificationTypeId(
-				userId, notificationType.getId());
-
-			// 사용자가 해당 알림을 비활성화했으면 FCM 알림만 보내지 않음
-			if (!notificationSettingDomainService.isEnabled(setting)) {
-				log.info("사용자가 알림을 비활성화하여 FCM 알림은 전송하지 않음 - 알림 타입: {}, 사용자 ID: {}",
-					notificationType.getCode(), userId);
-				return;
-			}
-		} catch (CustomException e) {
-			// 알림 설정이 없는 경우 기본적으로 FCM 알림을 보내지 않음
-			if (e.getErrorCode() == ErrorCode.NOTIFICATION_SETTING_NOT_FOUND) {
-				log.info("사용자의 알림 설정을 찾을 수 없어 FCM 알림은 전송하지 않음 - 사용자 ID: {}", userId);
-				return;
-			}
-			throw e;
-		}
+		userIds.forEach(userId ->
+			saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId));
+
+		// 알림을 켠 사용자와 FCM 토큰을 한 번에 조회 (설정이 없거나 비활성화한 사용자는 FCM 알림만 보내지 않음)
+		Map<Integer, List<String>> recipients = notificationRecipientResolver.resolve(userIds, notificationType);
 
 		// FCM 토큰 조회 및 알림 전송
-		sendPushNotification(userId, title, content, notificationType.getCode(), referenceEntityType,
+		sendPushNotification(recipients, title, content, notificationType.getCode(), referenceEntityType,
 			referenceEntityId);
 	}
 
@@ -315,32 +305,28 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 	/**
 	 * FCM을 통해 푸시 알림을 전송합니다.
 	 */
-	private void sendPushNotification(Integer userId, String title, String content,
+	private void sendPushNotification(Map<Integer, List<String>> recipients, String title, String content,
 		NotificationTypeCode typeCode,
 		String referenceEntityType, Integer referenceEntityId) {
-		// FCM 토큰 조회
-		List<FcmToken> fcmTokens = fcmTokenRepository.findAllByUserId(userId);
-
-		if (fcmTokens.isEmpty()) {
-			log.info("사용자의 FCM 토큰이 없음 - 사용자 ID: {}", userId);
-			return;
-		}
-
-		// 사용자의 모든 기기에 알림 전송
-		for (FcmToken fcmToken : fcmTokens) {
-			NotificationEventDto eventDto = NotificationEventDto.builder()
-				.fcmToken(fcmToken.getValue())
+		// 수신자들의 모든 기기에 보낼 알림을 모아 한 번에 발행
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		recipients.forEach((userId, fcmTokens) -> fcmTokens.forEach(fcmToken -> eventDtos.add(
+			NotificationEventDto.builder()
+				.fcmToken(fcmToken)
 				.title(title)
 				.body(content)
 				.userId(userId)
 				.notificationTypeCode(typeCode.name())
 				.referenceEntityId(referenceEntityId)
 				.referenceEntityType(referenceEntityType)
-				.build();
+				.build())));
 
-			applicationEventPublisher.publishEvent(new NotificationEventMessage(eventDto));
+		if (eventDtos.isEmpty()) {
+			log.info("알림을 받을 FCM 토큰이 없음 - 수신자 수: {}", recipients.size());
+			return;
 		}
 
-		log.debug("푸시 알림 전송 완료 - 사용자 ID: {}", userId);
+		applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		log.debug("푸시 알림 전송 완료 - 수신자 수: {}, 토큰 수: {}", recipients.size(), eventDtos.size());
 	}
 }
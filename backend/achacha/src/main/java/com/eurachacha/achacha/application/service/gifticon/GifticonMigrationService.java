@@ -1,15 +1,27 @@
 package com.eurachacha.achacha.application.service.gifticon;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon.GifticonJpaRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonBarcodeBatchRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeHashUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonBarcodeDto;
+import com.eurachacha.achacha.application.port.output.job.JobCheckpointRepository;
+import com.eurachacha.achacha.domain.model.job.JobCheckpoint;
+import com.eurachacha.achacha.infrastructure.util.BlindIndexUtil;
 import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,55 +30,225 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GifticonMigrationService {
 
-	private final GifticonJpaRepository gifticonRepository;
+	private static final String BARCODE_RE_ENCRYPTION_JOB = "BARCODE_RE_ENCRYPTION";
+
 	private final EncryptionUtil encryptionUtil;
-	private final EntityManager entityManager;
+	private final BlindIndexUtil blindIndexUtil;
+	private final GifticonBarcodeBatchRepository gifticonBarcodeBatchRepository;
+	private final JobCheckpointRepository jobCheckpointRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final AtomicBoolean reEncryptionRunning = new AtomicBoolean(false);
+	private final AtomicBoolean hashBackfillRunning = new AtomicBoolean(false);
+
+	/**
+	 * 바코드 재암호화 (키 교체)
+	 * id 범위로 chunkSize만큼씩 읽어 현재 키가 아닌 값만 다시 암호화하며, 청크마다 별도 트랜잭션에서 JDBC 배치로 갱신함
+	 * 진행 위치는 청크와 같은 트랜잭션에서 체크포인트로 저장되므로 중단되어도 다시 호출하면 이어서 진행됨
+	 * 체크포인트에는 대상 키 식별자가 함께 저장되며, 현재 키가 바뀌었으면 처음부터 다시 진행함
+	 * 복호화에 실패한 행이 남아 있으면 완료로 표시하지 않고 다음 호출에서 처음부터 다시 확인함
+	 */
+	public void reEncryptBarcodes(int chunkSize, boolean restart) {
+		if (chunkSize <= 0) {
+			throw new CustomException(ErrorCode.INVALID_PARAMETER);
+		}
+
+		if (!reEncryptionRunning.compareAndSet(false, true)) {
+			log.warn("바코드 재암호화가 이미 진행 중입니다.");
+			return;
+		}
 
-	@Transactional
-	public void migrateExistingBarcodes() {
 		try {
-			log.info("바코드 암호화 마이그레이션 시작");
+			String targetKeyId = encryptionUtil.getCurrentKeyId();
+
+			JobCheckpoint checkpoint = transactionTemplate.execute(status -> {
+				JobCheckpoint found = jobCheckpointRepository.findOrCreate(BARCODE_RE_ENCRYPTION_JOB);
+				if (restart || !found.isTargeting(targetKeyId)) {
+					log.info("바코드 재암호화 체크포인트 초기화 - 이전 대상 키: {}, 현재 키: {}", found.getTarget(), targetKeyId);
+					found.reset(targetKeyId);
+				}
+				return jobCheckpointRepository.save(found);
+			});
+
+			if (checkpoint.getCompleted()) {
+				log.info("바코드 재암호화가 이미 완료되었습니다. 다시 실행하려면 restart를 사용하세요.");
+				return;
+			}
+
+			log.info("바코드 재암호화 시작 - 시작 ID: {}, 청크 크기: {}", checkpoint.getLastProcessedId(), chunkSize);
+
+			boolean hasNext = true;
+			while (hasNext) {
+				hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> reEncryptChunk(chunkSize)));
+			}
+
+			JobCheckpoint result = transactionTemplate.execute(
+				status -> jobCheckpointRepository.findOrCreate(BARCODE_RE_ENCRYPTION_JOB));
+			if (result.getCompleted()) {
+				log.info("바코드 재암호화 완료 - 대상 키: {}, 갱신: {}", targetKeyId, result.getProcessedCount());
+			} else {
+				log.warn("바코드 재암호화 미완료 - 복호화에 실패한 행이 남아 있습니다. 원인을 해결한 뒤 다시 실행하세요.");
+			}
+		} finally {
+			reEncryptionRunning.set(false);
+		}
+	}
+
+	// 하나의 청크 처리 후 다음 청크 존재 여부 반환
+	private boolean reEncryptChunk(int chunkSize) {
+		JobCheckpoint checkpoint = jobCheckpointRepository.findOrCreate(BARCODE_RE_ENCRYPTION_JOB);
+
+		List<GifticonBarcodeDto> rows = gifticonBarcodeBatchRepository.findBarcodesAfterId(
+			checkpoint.getLastProcessedId().intValue(), chunkSize);
+
+		if (rows.isEmpty()) {
+			finishPass(checkpoint);
+			return false;
+		}
+
+		List<GifticonBarcodeUpdateDto> updates = new ArrayList<>();
+		int failedCount = 0;
+		for (GifticonBarcodeDto row : rows) {
+			if (encryptionUtil.isEncryptedWithCurrentKey(row.getEncryptedBarcode())) {
+				continue;
+			}
+
+			try {
+				String plainBarcode = encryptionUtil.decrypt(row.getEncryptedBarcode());
+				updates.add(new GifticonBarcodeUpdateDto(row.getId(), row.getEncryptedBarcode(),
+					encryptionUtil.encrypt(plainBarcode)));
+			} catch (Exception e) {
+				failedCount++;
+				log.error("ID {} 바코드 복호화 실패, 건너뜀: {}", row.getId(), e.getMessage());
+			}
+		}
+
+		int updated = gifticonBarcodeBatchRepository.updateBarcodes(updates);
+
+		Integer lastId = rows.get(rows.size() - 1).getId();
+		checkpoint.advance(lastId.longValue(), updated, failedCount);
 
-			// 실제 테이블 이름 확인
-			List<Object[]> results = entityManager
-				.createNativeQuery(
-					"SELECT id, barcode FROM gifticon WHERE barcode IS NOT NULL")
-				.getResultList();
+		log.info("바코드 재암호화 진행 - 마지막 ID: {}, 갱신: {}/{}, 실패: {}", lastId, updated, rows.size(), failedCount);
 
-			log.info("암호화 대상 바코드 수: {}", results.size());
+		// 마지막 청크(chunkSize 미만)면 여기서 한 바퀴를 마침
+		if (rows.size() < chunkSize) {
+			finishPass(checkpoint);
+			return false;
+		}
+
+		jobCheckpointRepository.save(checkpoint);
+		return true;
+	}
+
+	// 끝까지 처리한 뒤 실패한 행이 없으면 완료, 있으면 다음 실행에서 다시 확인하도록 처음 위치로 되돌림
+	private void finishPass(JobCheckpoint checkpoint) {
+		if (checkpoint.getFailedCount() > 0) {
+			log.warn("바코드 재암호화 중 복호화 실패 {}건이 남아 완료로 표시하지 않음", checkpoint.getFailedCount());
+			checkpoint.rewind();
+		} else {
+			checkpoint.complete();
+		}
+		jobCheckpointRepository.save(checkpoint);
+	}
+
+	/**
+	 * 블라인드 인덱스 도입 이전에 저장된 기프티콘의 바코드 해시 채우기
+	 * 재암호화와 같이 id 범위로 chunkSize만큼씩 읽어 청크마다 별도 트랜잭션에서 JDBC 배치로 갱신함
+	 * 이미 저장된 해시와 겹치는 바코드는 유니크 제약 위반을 일으키지 않도록 미리 걸러내 해시를 비워둔 채 보고함
+	 * 해시가 없는 행만 조회하므로 중단되어도 다시 호출하면 남은 행부터 처리됨
+	 */
+	public void backfillBarcodeHashes(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new CustomException(ErrorCode.INVALID_PARAMETER);
+		}
 
-			int successCount = 0;
-			for (Object[] result : results) {
-				try {
-					Integer id = ((Number)result[0]).intValue();
-					String plainBarcode = (String)result[1];
+		if (!hashBackfillRunning.compareAndSet(false, true)) {
+			log.warn("바코드 블라인드 인덱스 생성이 이미 진행 중입니다.");
+			return;
+		}
 
-					if (plainBarcode != null && !plainBarcode.isEmpty()) {
-						Query query = entityManager.createNativeQuery(
-							"UPDATE gifticon SET barcode = ?1 WHERE id = ?2");
+		try {
+			log.info("바코드 블라인드 인덱스 생성 시작 - 청크 크기: {}", chunkSize);
 
-						query.setParameter(1, encryptionUtil.encrypt(plainBarcode));
-						query.setParameter(2, id);
+			int lastId = 0;
+			int updatedCount = 0;
+			int failedCount = 0;
+			List<Integer> duplicateIds = new ArrayList<>();
 
-						int updated = query.executeUpdate();
+			while (true) {
+				int afterId = lastId;
+				HashBackfillChunkResult result = transactionTemplate.execute(
+					status -> backfillBarcodeHashChunk(afterId, chunkSize));
 
-						if (updated > 0) {
-							successCount++;
-						}
-					}
-				} catch (Exception e) {
-					log.error("ID {} 바코드 암호화 실패: {}", result[0], e.getMessage(), e);
+				if (result == null || result.fetchedCount() == 0) {
+					break;
 				}
+
+				lastId = result.lastId();
+				updatedCount += result.updatedCount();
+				failedCount += result.failedCount();
+				duplicateIds.addAll(result.duplicateIds());
+
+				if (result.fetchedCount() < chunkSize) {
+					break;
+				}
+			}
+
+			if (!duplicateIds.isEmpty()) {
+				log.warn("중복 바코드로 블라인드 인덱스를 생성하지 않은 기프티콘 ID: {}", duplicateIds);
 			}
+			log.info("바코드 블라인드 인덱스 생성 완료 - 성공: {}, 중복: {}, 복호화 실패: {}",
+				updatedCount, duplicateIds.size(), failedCount);
+		} finally {
+			hashBackfillRunning.set(false);
+		}
+	}
 
-			log.info("바코드 암호화 완료. 성공: {}/{}", successCount, results.size());
+	private HashBackfillChunkResult backfillBarcodeHashChunk(int afterId, int chunkSize) {
+		List<GifticonBarcodeDto> rows = gifticonBarcodeBatchRepository.findBarcodesWithoutHashAfterId(afterId,
+			chunkSize);
 
-			entityManager.flush();
-			entityManager.clear();
-		} catch (Exception e) {
-			log.error("바코드 마이그레이션 과정 중 오류 발생", e);
-			throw new RuntimeException("바코드 암호화 마이그레이션 실패", e);
+		if (rows.isEmpty()) {
+			return new HashBackfillChunkResult(afterId, 0, 0, 0, List.of());
 		}
+
+		// 복호화 후 해시 계산 (id 오름차순 유지)
+		Map<Integer, String> hashById = new LinkedHashMap<>();
+		int failedCount = 0;
+		for (GifticonBarcodeDto row : rows) {
+			try {
+				hashById.put(row.getId(), blindIndexUtil.hash(encryptionUtil.decrypt(row.getEncryptedBarcode())));
+			} catch (Exception e) {
+				failedCount++;
+				log.error("ID {} 바코드 복호화 실패, 건너뜀: {}", row.getId(), e.getMessage());
+			}
+		}
+
+		// 이미 저장된 해시 또는 같은 청크에서 먼저 나온 해시와 겹치면 갱신하지 않음
+		Set<String> existingHashes = gifticonBarcodeBatchRepository.findExistingBarcodeHashes(
+			new HashSet<>(hashById.values()));
+		Set<String> chunkHashes = new HashSet<>();
+		List<GifticonBarcodeHashUpdateDto> updates = new ArrayList<>();
+		List<Integer> duplicateIds = new ArrayList<>();
+
+		hashById.forEach((id, hash) -> {
+			if (existingHashes.contains(hash) || !chunkHashes.add(hash)) {
+				duplicateIds.add(id);
+				return;
+			}
+			updates.add(new GifticonBarcodeHashUpdateDto(id, hash));
+		});
+
+		int updated = gifticonBarcodeBatchRepository.updateBarcodeHashes(updates);
+
+		Integer lastId = rows.get(rows.size() - 1).getId();
+		log.info("바코드 블라인드 인덱스 생성 진행 - 마지막 ID: {}, 갱신: {}/{}", lastId, updated, rows.size());
+
+		return new HashBackfillChunkResult(lastId, rows.size(), updated, failedCount, duplicateIds);
+	}
+
+	private record HashBackfillChunkResult(int lastId, int fetchedCount, int updatedCount, int failedCount,
+		List<Integer> duplicateIds) {
 	}
 
 	// /**
@@ -0,0 +1,121 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonResponseDto;
+import com.eurachacha.achacha.application.port.output.file.FileRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
+import com.eurachacha.achacha.domain.model.file.File;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.history.UsageHistory;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기프티콘 목록 페이지 응답 조립
+ * 썸네일, 최근 사용 내역을 행마다 조회하지 않고 페이지 단위로 한 번씩만 조회함
+ */
+@Component
+@RequiredArgsConstructor
+public class GifticonPageAssembler {
+
+	private final FileRepository fileRepository;
+	private final FileStoragePort fileStoragePort;
+	private final UsageHistoryRepository usageHistoryRepository;
+
+	/**
+	 * 사용가능 기프티콘 목록 응답 (썸네일 조회 쿼리 1회)
+	 */
+	public List<AvailableGifticonResponseDto> toAvailableGifticonResponseDtos(List<Gifticon> gifticons) {
+		Map<Integer, String> thumbnailUrlMap = getThumbnailUrlMap(getIds(gifticons));
+
+		return gifticons.stream()
+			.map(gifticon -> AvailableGifticonResponseDto.builder()
+				.gifticonId(gifticon.getId())
+				.gifticonName(gifticon.getName())
+				.gifticonType(gifticon.getType())
+				.gifticonExpiryDate(gifticon.getExpiryDate())
+				.brandId(gifticon.getBrand().getId())
+				.brandName(gifticon.getBrand().getName())
+				.scope(gifticon.getSharebox() == null ? GifticonScopeType.MY_BOX.name() :
+					GifticonScopeType.SHARE_BOX.name())
+				.userId(gifticon.getUser().getId())
+				.userName(gifticon.getUser().getName())
+				.shareboxId(gifticon.getSharebox() == null ? null : gifticon.getSharebox().getId())
+				.shareboxName(gifticon.getSharebox() == null ? null : gifticon.getSharebox().getName())
+				.thumbnailPath(thumbnailUrlMap.get(gifticon.getId()))
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 쉐어박스 사용완료 기프티콘 목록 응답 (썸네일, 최근 사용 내역 조회 쿼리 각 1회)
+	 * 사용 내역이 없는 기프티콘은 제외하며, 사용자 정보는 마지막으로 사용한 사용자로 채움
+	 */
+	public List<UsedGifticonResponseDto> toShareBoxUsedGifticonResponseDtos(List<Gifticon> gifticons) {
+		List<Integer> ids = getIds(gifticons);
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Integer, UsageHistory> latestUsageMap = usageHistoryRepository.findLatestForEachGifticonByIds(ids)
+			.stream()
+			.collect(Collectors.toMap(history -> history.getGifticon().getId(), history -> history,
+				(existing, replacement) -> existing));
+		Map<Integer, String> thumbnailUrlMap = getThumbnailUrlMap(ids);
+
+		return gifticons.stream()
+			.filter(gifticon -> latestUsageMap.containsKey(gifticon.getId()))
+			.map(gifticon -> {
+				UsageHistory lastUsage = latestUsageMap.get(gifticon.getId());
+
+				return UsedGifticonResponseDto.builder()
+					.gifticonId(gifticon.getId())
+					.gifticonName(gifticon.getName())
+					.gifticonType(gifticon.getType())
+					.gifticonExpiryDate(gifticon.getExpiryDate())
+					.brandId(gifticon.getBrand().getId())
+					.brandName(gifticon.getBrand().getName())
+					.userId(lastUsage.getUser().getId())       // 실제 사용한 사용자 ID
+					.userName(lastUsage.getUser().getName())   // 실제 사용한 사용자 이름
+					.usageType(UsageType.SELF_USE)             // 기본값으로 SELF_USE 설정
+					.usedAt(lastUsage.getCreatedAt())          // 사용 시간
+					.thumbnailPath(thumbnailUrlMap.get(gifticon.getId()))
+					.build();
+			})
+			.toList();
+	}
+
+	/**
+	 * 기프티콘 ID -> 썸네일 URL (썸네일이 없는 기프티콘은 포함되지 않음)
+	 */
+	public Map<Integer, String> getThumbnailUrlMap(List<Integer> gifticonIds) {
+		if (gifticonIds.isEmpty()) {
+			return Map.of();
+		}
+
+		// 파일을 한번에 조회
+		List<File> thumbnails = fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(
+			"gifticon", gifticonIds, FileType.THUMBNAIL);
+
+		return thumbnails.stream()
+			.collect(Collectors.toMap(File::getReferenceEntityId,
+				file -> fileStoragePort.generateFileUrl(file.getPath(), FileType.THUMBNAIL),
+				(existing, replacement) -> existing));
+	}
+
+	private List<Integer> getIds(List<Gifticon> gifticons) {
+		return gifticons.stream()
+			.map(Gifticon::getId)
+			.toList();
+	}
+}
@@ -13,26 +13,18 @@ import com.eurachacha.achacha.application.port.input.gifticon.dto.response.Produ
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
 import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
-import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.job.DelayedJobRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
+import com.eurachacha.achacha.application.service.sharebox.ShareBoxMembershipCache;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.history.UsageHistory;
-import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
-import com.eurachacha.achacha.domain.model.notification.NotificationType;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
-import com.eurachacha.achacha.domain.model.sharebox.Participation;
 import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonUsageDomainService;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
@@ -45,18 +37,15 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 
+	private final ShareBoxMembershipCache shareBoxMembershipCache;
 	private final ParticipationRepository participationRepository;
 	private final GifticonRepository gifticonRepository;
 	private final GifticonDomainService gifticonDomainService;
 	private final GifticonUsageDomainService gifticonUsageDomainService;
 	private final UsageHistoryRepository usageHistoryRepository;
 	private final SecurityServicePort securityServicePort;
-	private final NotificationRepository notificationRepository;
-	private final FcmTokenRepository fcmTokenRepository;
-	private final NotificationTypeRepository notificationTypeRepository;
-	private final NotificationSettingRepository notificationSettingRepository;
-	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final DelayedJobRepository delayedJobRepository;
 
 	@Override
 	@Transactional
@@ -78,7 +67,7 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		gifticonDomainService.validateAmountGifticonForCommand(findGifticon);
 
 		// 사용 권한 검증
-		validateGifticonAccess(findGifticon, userId);
+		validateGifticonAccessForUpdate(findGifticon, userId);
 
 		// 잔액, 사용금액 검증
 		gifticonUsageDomainService.validateSufficientBalance(findGifticon.getRemainingAmount(),
@@ -97,6 +86,9 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		// 사용 기록 처리
 		usageHistoryRepository.saveUsageHistory(newUsageHistory);
 
+		// 바코드 조회 시 예약된 사용 완료 확인 알림 취소
+		delayedJobRepository.cancelPendingByReference(DelayedJobType.USAGE_COMPLETE_REMINDER, gifticonId);
+
 		// 완전히 사용되고, 쉐어박스에 있는 기프티콘인 경우 알림 전송
 		if (gifticonDomainService.isUsed(findGifticon) && findGifticon.getSharebox() != null) {
 			sendShareBoxGifticonUsedNotification(findGifticon.getSharebox(), loggedInUser, findGifticon);
@@ -107,8 +99,7 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 	public AmountGifticonUsageHistoriesResponseDto getAmountGifticonUsageHistories(Integer gifticonId) {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
 
@@ -179,8 +170,7 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 	public void deleteAmountGifticonUsageHistory(Integer gifticonId, Integer usageHistoryId) {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 해당 기프티콘 조회
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
@@ -217,7 +207,7 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		gifticonDomainService.validateProductGifticonForCommand(findGifticon);
 
 		// 사용 권한 검증
-		validateGifticonAccess(findGifticon, userId);
+		validateGifticonAccessForUpdate(findGifticon, userId);
 
 		// 사용 처리
 		findGifticon.use();
@@ -232,6 +222,9 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		// 사용 기록 처리
 		usageHistoryRepository.saveUsageHistory(newUsageHistory);
 
+		// 바코드 조회 시 예약된 사용 완료 확인 알림 취소
+		delayedJobRepository.cancelPendingByReference(DelayedJobType.USAGE_COMPLETE_REMINDER, gifticonId);
+
 		// 쉐어박스에 있는 기프티콘인 경우 알림 전송
 		if (findGifticon.getSharebox() != null) {
 			sendShareBoxGifticonUsedNotification(findGifticon.getSharebox(), loggedInUser, findGifticon);
@@ -242,8 +235,7 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 	public ProductGifticonUsageHistoryResponseDto getProductGifticonUsageHistories(Integer gifticonId) {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		Gifticon findGifticon = gifticonRepository.findById(gifticonId);
 
@@ -272,7 +264,21 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 			.build();
 	}
 
+	// 조회 경로는 참여 여부 캐시 사용
 	private void validateGifticonAccess(Gifticon findGifticon, Integer userId) {
+		boolean hasParticipation = findGifticon.getSharebox() != null
+			&& shareBoxMembershipCache.isMember(userId, findGifticon.getSharebox().getId());
+		validateGifticonAccess(findGifticon, userId, hasParticipation);
+	}
+
+	// 사용 처리 같은 쓰기 경로는 다른 노드의 캐시 무효화 누락에 영향받지 않도록 DB로 참여 여부 확인
+	private void validateGifticonAccessForUpdate(Gifticon findGifticon, Integer userId) {
+		boolean hasParticipation = findGifticon.getSharebox() != null
+			&& participationRepository.checkParticipation(userId, findGifticon.getSharebox().getId());
+		validateGifticonAccess(findGifticon, userId, hasParticipation);
+	}
+
+	private void validateGifticonAccess(Gifticon findGifticon, Integer userId, boolean hasParticipation) {
 		// 공유되지 않은 기프티콘인 경우 소유자 판단
 		if (findGifticon.getSharebox() == null) {
 			boolean isOwner = gifticonDomainService.hasAccess(userId, findGifticon.getUser().getId());
@@ -282,12 +288,8 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		}
 
 		// 공유된 기프티콘인 경우 참여 여부 판단
-		if (findGifticon.getSharebox() != null) {
-			boolean hasParticipation = participationRepository.checkParticipation(userId,
-				findGifticon.getSharebox().getId());
-			if (!hasParticipation) {
-				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
-			}
+		if (findGifticon.getSharebox() != null && !hasParticipation) {
+			throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
 		}
 	}
 
@@ -295,125 +297,15 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 	 * 쉐어박스 기프티콘 사용 알림을 전송합니다.
 	 */
 	private void sendShareBoxGifticonUsedNotification(ShareBox shareBox, User usedBy, Gifticon gifticon) {
-		try {
-			log.info("쉐어박스 기프티콘 사용 알림 전송 시작 - 쉐어박스 ID: {}, 기프티콘 ID: {}, 사용자 ID: {}",
-				shareBox.getId(), gifticon.getId(), usedBy.getId());
-
-			// 알림 타입 조회
-			NotificationType notificationType = notificationTypeRepository.findByCode(
-				NotificationTypeCode.SHAREBOX_USAGE_COMPLETE);
-			String title = notificationType.getCode().getDisplayName();
-
-			// 알림 내용 설정
-			String content = String.format("%s 쉐어박스에 %s이(가) 사용되었어요.",
-				shareBox.getName(), gifticon.getName());
-
-			// 해당 쉐어박스의 모든 참여자 조회
-			List<Participation> participations = participationRepository.findByShareBoxId(shareBox.getId());
-
-			for (Participation participation : participations) {
-				User participant = participation.getUser();
-				Integer participantId = participant.getId();
-
-				// 모든 참여자에게 알림 전송 (사용한 사용자 포함)
-				sendNotificationToUser(participantId, notificationType, title, content,
-					"sharebox", shareBox.getId());
-			}
+		// 알림 내용 설정
+		String content = String.format("%s 쉐어박스에 %s이(가) 사용되었어요.",
+			shareBox.getName(), gifticon.getName());
 
-			log.info("쉐어박스 기프티콘 사용 알림 전송 완료 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
-				shareBox.getId(), gifticon.getId());
-		} catch (Exception e) {
-			// 알림 전송 실패시 로그만 남기고 계속 진행
-			log.error("쉐어박스 기프티콘 사용 알림 전송 실패 - 쉐어박스 ID: {}, 기프티콘 ID: {}, 오류: {}",
-				shareBox.getId(), gifticon.getId(), e.getMessage(), e);
-		}
-	}
-
-	/**
-	 * 지정된 사용자에게 알림을 전송합니다.
-	 */
-	private void sendNotificationToUser(Integer userId, NotificationType notificationType,
-		String title, String content,
-		String referenceEntityType, Integer referenceEntityId) {
-		// 항상 알림 정보는 데이터베이스에 저장
-		saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId);
-
-		// 사용자의 알림 설정 조회
-		try {
-			NotificationSetting setting = notificationSettingRepository.findByUserIdAndNotificationTypeId(
-				userId, notificationType.getId());
-
-			// 사용자가 해당 알림을 비활성화했으면 FCM 알림만 보내지 않음
-			if (!notificationSettingDomainService.isEnabled(setting)) {
-				log.info("사용자가 알림을 비활성화하여 FCM 알림은 전송하지 않음 - 알림 타입: {}, 사용자 ID: {}",
-					notificationType.getCode(), userId);
-				return;
-			}
-		} catch (CustomException e) {
-			// 알림 설정이 없는 경우 기본적으로 FCM 알림을 보내지 않음
-			if (e.getErrorCode() == ErrorCode.NOTIFICATION_SETTING_NOT_FOUND) {
-				log.info("사용자의 알림 설정을 찾을 수 없어 FCM 알림은 전송하지 않음 - 사용자 ID: {}", userId);
-				return;
-			}
-			throw e;
-		}
-
-		// FCM 토큰 조회 및 알림 전송
-		sendPushNotification(userId, title, content, notificationType.getCode(), referenceEntityType,
-			referenceEntityId);
-	}
-
-	/**
-	 * 알림 정보를 저장합니다.
-	 */
-	private void saveNotification(Integer userId, NotificationType notificationType,
-		String title, String content,
-		String referenceEntityType, Integer referenceEntityId) {
-		User user = User.builder().id(userId).build(); // 최소한의 정보만 포함
-
-		Notification notification = Notification.builder()
-			.title(title)
-			.content(content)
-			.referenceEntityType(referenceEntityType)
-			.referenceEntityId(referenceEntityId)
-			.notificationType(notificationType)
-			.user(user)
-			.isRead(false)
-			.build();
-
-		notificationRepository.save(notification);
-		log.debug("알림 정보 저장 완료 - 사용자 ID: {}, 알림 타입: {}", userId, notificationType.getCode());
-	}
-
-	/**
-	 * FCM을 통해 푸시 알림을 전송합니다.
-	 */
-	private void sendPushNotification(Integer userId, String title, String content,
-		NotificationTypeCode typeCode,
-		String referenceEntityType, Integer referenceEntityId) {
-		// FCM 토큰 조회
-		List<FcmToken> fcmTokens = fcmTokenRepository.findAllByUserId(userId);
-
-		if (fcmTokens.isEmpty()) {
-			log.info("사용자의 FCM 토큰이 없음 - 사용자 ID: {}", userId);
-			return;
-		}
-
-		// 사용자의 모든 기기에 알림 전송
-		for (FcmToken fcmToken : fcmTokens) {
-			NotificationEventDto eventDto = NotificationEventDto.builder()
-				.fcmToken(fcmToken.getValue())
-				.title(title)
-				.body(content)
-				.userId(userId)
-				.notificationTypeCode(typeCode.name())
-				.referenceEntityId(referenceEntityId)
-				.referenceEntityType(referenceEntityType)
-				.build();
-
-			applicationEventPublisher.publishEvent(new NotificationEventMessage(eventDto));
-		}
+		// 모든 참여자에게 알림 전송 (사용한 사용자 포함, 커밋 후 백그라운드 처리)
+		applicationEventPublisher.publishEvent(NotificationFanOutEvent.toShareBoxMembers(shareBox.getId(), null,
+			NotificationTypeCode.SHAREBOX_USAGE_COMPLETE, content));
 
-		log.debug("푸시 알림 전송 완료 - 사용자 ID: {}", userId);
+		log.info("쉐어박스 기프티콘 사용 알림 요청 완료 - 쉐어박스 ID: {}, 기프티콘 ID: {}, 사용자 ID: {}",
+			shareBox.getId(), gifticon.getId(), usedBy.getId());
 	}
 }
@@ -0,0 +1,86 @@
+package com.eurachacha.achacha.application.service.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonAppService;
+import com.eurachacha.achacha.application.port.input.job.DelayedJobAppService;
+import com.eurachacha.achacha.application.port.output.job.DelayedJobRepository;
+import com.eurachacha.achacha.domain.model.job.DelayedJob;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB에 저장된 지연 작업을 노드별 단일 스케줄러가 주기적으로 점유하여 실행
+ * 점유는 lease(lockedUntil) 기반이므로 작업 도중 노드가 내려가면 lease 만료 후 다른 노드가 이어서 실행함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DelayedJobAppServiceImpl implements DelayedJobAppService {
+
+	private static final int CLAIM_BATCH_SIZE = 100;
+	private static final long LEASE_SECONDS = 60L;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long RETRY_DELAY_SECONDS = 30L;
+	private static final long RETENTION_DAYS = 7L;
+
+	// 노드 식별자 (컨테이너 hostname + 기동 시 생성한 UUID)
+	private static final String NODE_ID = System.getenv().getOrDefault("HOSTNAME", "node")
+		+ "-" + UUID.randomUUID();
+
+	private final DelayedJobRepository delayedJobRepository;
+	private final GifticonAppService gifticonAppService;
+
+	@Override
+	public void executeDueJobs() {
+		LocalDateTime now = LocalDateTime.now();
+
+		List<DelayedJob> claimedJobs = delayedJobRepository.claimDueJobs(NODE_ID, now,
+			now.plusSeconds(LEASE_SECONDS), CLAIM_BATCH_SIZE);
+
+		if (claimedJobs.isEmpty()) {
+			return;
+		}
+
+		log.info("지연 작업 {}건 점유 - 노드: {}", claimedJobs.size(), NODE_ID);
+
+		claimedJobs.forEach(this::execute);
+	}
+
+	@Override
+	public void purgeFinishedJobs() {
+		int deleted = delayedJobRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+		log.info("종료된 지연 작업 {}건 삭제", deleted);
+	}
+
+	private void execute(DelayedJob job) {
+		try {
+			switch (job.getJobType()) {
+				case USAGE_COMPLETE_REMINDER ->
+					gifticonAppService.checkUsedAndSaveAndSendNotification(job.getUserId(),
+						job.getReferenceEntityId());
+			}
+
+			delayedJobRepository.markDone(job.getId(), NODE_ID);
+		} catch (CustomException e) {
+			// 기프티콘 삭제 등 재시도해도 결과가 같은 경우
+			log.warn("지연 작업 실행 불가 - 작업 ID: {}, 사유: {}", job.getId(), e.getMessage());
+			delayedJobRepository.markFailed(job.getId(), NODE_ID);
+		} catch (Exception e) {
+			log.error("지연 작업 실행 실패 - 작업 ID: {}, 시도 횟수: {}", job.getId(), job.getAttempts(), e);
+
+			if (job.getAttempts() >= MAX_ATTEMPTS) {
+				delayedJobRepository.markFailed(job.getId(), NODE_ID);
+				return;
+			}
+
+			delayedJobRepository.markRetry(job.getId(), NODE_ID, LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS));
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.eurachacha.achacha.application.service.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.eurachacha.achacha.application.port.input.job.SchedulerLockAppService;
+import com.eurachacha.achacha.application.port.output.job.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockAppServiceImpl implements SchedulerLockAppService {
+
+	private static final long MIN_HEARTBEAT_MILLIS = 1000L;
+
+	// 노드 식별자 (컨테이너 hostname + 기동 시 생성한 UUID)
+	private static final String NODE_ID = System.getenv().getOrDefault("HOSTNAME", "node")
+		+ "-" + UUID.randomUUID();
+
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final MeterRegistry meterRegistry;
+
+	// 스케줄러 스레드가 작업을 실행하는 동안 락을 연장할 별도 스레드
+	private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+		runnable -> {
+			Thread thread = new Thread(runnable, "scheduler-lock-heartbeat");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+	@Override
+	public boolean executeWithLock(String lockName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+		LocalDateTime lockedAt = LocalDateTime.now();
+
+		if (!tryAcquire(lockName, lockedAt, lockAtMostFor)) {
+			return false;
+		}
+
+		log.info("스케줄러 락 점유: 락={}, 노드={}", lockName, NODE_ID);
+
+		// lockAtMostFor의 1/3마다 연장하여 한두 번 실패해도 락이 만료되지 않도록 함
+		long heartbeatMillis = Math.max(MIN_HEARTBEAT_MILLIS, lockAtMostFor.toMillis() / 3);
+		ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+			() -> heartbeat(lockName, lockAtMostFor), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			task.run();
+			return true;
+		} finally {
+			heartbeat.cancel(false);
+			sample.stop(meterRegistry.timer("scheduler.lock.held", "lock", lockName));
+			release(lockName, lockedAt.plus(lockAtLeastFor));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeatExecutor.shutdownNow();
+	}
+
+	private boolean tryAcquire(String lockName, LocalDateTime now, Duration lockAtMostFor) {
+		try {
+			boolean acquired = schedulerLockRepository.tryAcquire(lockName, NODE_ID, now, now.plus(lockAtMostFor));
+			countAcquisition(lockName, acquired ? "acquired" : "skipped");
+			return acquired;
+		} catch (Exception e) {
+			// 락 점유 여부를 알 수 없으면 중복 실행보다 건너뛰는 쪽을 택함
+			countAcquisition(lockName, "error");
+			log.error("스케줄러 락 점유 실패: 락={}", lockName, e);
+			return false;
+		}
+	}
+
+	private void heartbeat(String lockName, Duration lockAtMostFor) {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			if (!schedulerLockRepository.extend(lockName, NODE_ID, now, now.plus(lockAtMostFor))) {
+				meterRegistry.counter("scheduler.lock.heartbeat.lost", "lock", lockName).increment();
+				log.warn("스케줄러 락 연장 실패, 다른 노드가 점유함: 락={}, 노드={}", lockName, NODE_ID);
+			}
+		} catch (Exception e) {
+			// 예외가 전파되면 이후 heartbeat가 더 이상 실행되지 않으므로 여기서 처리
+			log.warn("스케줄러 락 연장 중 오류: 락={}", lockName, e);
+		}
+	}
+
+	private void release(String lockName, LocalDateTime minLockedUntil) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			schedulerLockRepository.release(lockName, NODE_ID, now.isAfter(minLockedUntil) ? now : minLockedUntil);
+		} catch (Exception e) {
+			// 해제하지 못해도 lockedUntil이 지나면 다른 노드가 점유할 수 있음
+			log.warn("스케줄러 락 해제 실패: 락={}", lockName, e);
+		}
+	}
+
+	private void countAcquisition(String lockName, String result) {
+		meterRegistry.counter("scheduler.lock.acquisition", "lock", lockName, "result", result).increment();
+	}
+}
@@ -1,33 +1,46 @@
 package com.eurachacha.achacha.application.service.notification;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.eurachacha.achacha.application.port.input.notification.GifticonExpiryNotificationAppService;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.notification.ExpiryNotificationLedgerRepository;
+import com.eurachacha.achacha.application.port.output.notification.ExpiryNotificationTargetRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
-import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.ExpiryNotificationTargetDto;
 import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+import com.eurachacha.achacha.application.port.output.user.UserRepository;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.notification.ExpiryNotificationLedger;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.ExpirationCycle;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
-import com.eurachacha.achacha.domain.model.sharebox.Participation;
-import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
+import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,45 +51,270 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class GifticonExpiryNotificationAppServiceImpl implements GifticonExpiryNotificationAppService {
 
+	private static final int CHUNK_SIZE = 1000;
+	private static final long LEDGER_RETENTION_DAYS = 7L;
+	private static final int DIGEST_DETAIL_MAX_ITEMS = 50;
+	private static final String DIGEST_DETAIL_PREFIX = "digest:";
+
 	private final GifticonRepository gifticonRepository;
-	private final GifticonDomainService gifticonDomainService;
-	private final ParticipationRepository participationRepository;
 	private final NotificationTypeRepository notificationTypeRepository;
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final FcmTokenRepository fcmTokenRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
 	private final NotificationRepository notificationRepository;
 	private final NotificationSettingDomainService notificationSettingDomainService;
-
+	private final ExpiryNotificationTargetRepository expiryNotificationTargetRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ExpiryNotificationLedgerRepository expiryNotificationLedgerRepository;
+	private final UserRepository userRepository;
+
+	/*
+	 * 집합 기반 유효기간 알림 처리
+	 *  1. 만료일별로 대상 기프티콘 ID를 키셋 커서로 CHUNK_SIZE만큼씩 조회
+	 *  2. 청크마다 기프티콘 → 수신자 → 알림 설정 → FCM 토큰을 한 번의 조인 쿼리로 조회
+	 *  3. 오늘 이미 발송된 (기프티콘, 사용자, 남은 일수)는 발송 이력으로 한 번에 걸러냄
+	 *  4. 알림과 발송 이력은 JDBC 배치로 저장하고, 푸시는 커밋 후 한 번에 발행
+	 * 스케줄러가 매시간 실행되어도 같은 알림은 하루에 한 번만 저장/발송됨
+	 * 요약 알림을 선택한 사용자는 위 단계에서 제외하고, 사용자 단위로 묶어 요약 알림 1건만 저장/발송함
+	 * 청크마다 별도 트랜잭션으로 처리하여 대상이 많아도 트랜잭션과 메모리 사용량이 일정하게 유지됨
+	 * 다른 실행과 겹친 청크는 롤백 후 건너뛰고, 남은 알림은 다음 실행에서 처리됨
+	 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void sendExpiryDateNotification() {
+		sendExpiryDateNotification(0, 1);
+	}
 
-		LocalDate today = LocalDate.now();
+	/*
+	 * 수신자 사용자 ID 범위를 shardCount개로 나누어 shardIndex번째 범위만 처리
+	 * 공유 기프티콘은 참여자별로 알림이 생성되므로 기프티콘이 아닌 수신자 기준으로 나눔
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void sendExpiryDateNotification(int shardIndex, int shardCount) {
 
-		// 1, 2, 3, 7, 30, 60, 90일 남은 기프티콘 조회
-		List<Gifticon> findGifticons = gifticonRepository.findGifticonsWithExpiryDates(getExpiryDates(today));
+		LocalDate today = LocalDate.now();
 
-		if (findGifticons.isEmpty()) {
-			return; // 해당하는 기프티콘이 없을 경우 종료
+		// 담당 사용자 ID 범위 계산 (마지막 샤드는 작업 중 가입한 사용자까지 포함)
+		int userIdFrom = 0;
+		int userIdTo = Integer.MAX_VALUE;
+		if (shardCount > 1) {
+			int shardSize = userRepository.findMaxId() / shardCount + 1;
+			userIdFrom = shardIndex * shardSize;
+			userIdTo = shardIndex == shardCount - 1 ? Integer.MAX_VALUE : (shardIndex + 1) * shardSize - 1;
 		}
 
 		// 알림 타입 찾기
 		NotificationType findCode = notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE);
 
-		for (Gifticon findGifticon : findGifticons) {
+		int totalNotifications = 0;
 
-			// 이미 공유된 기프티콘일 경우
-			if (gifticonDomainService.isAlreadyShared(findGifticon)) {
-				sharedGifticons(findGifticon, findCode, today);
+		// 1, 2, 3, 7, 30, 60, 90일 남은 기프티콘 조회
+		for (LocalDate expiryDate : getExpiryDates(today)) {
+			Integer lastGifticonId = 0;
+
+			while (true) {
+				List<Integer> gifticonIds = expiryNotificationTargetRepository.findExpiringGifticonIds(expiryDate,
+					lastGifticonId, CHUNK_SIZE);
+
+				if (gifticonIds.isEmpty()) {
+					break; // 해당하는 기프티콘이 없을 경우 다음 만료일로
+				}
+
+				int from = userIdFrom;
+				int to = userIdTo;
+				totalNotifications += executeChunk(
+					status -> sendExpiryNotificationChunk(gifticonIds, findCode, today, from, to));
+
+				if (gifticonIds.size() < CHUNK_SIZE) {
+					break;
+				}
+
+				lastGifticonId = gifticonIds.get(gifticonIds.size() - 1);
+			}
+		}
+
+		// 요약 알림을 선택한 사용자는 만료일과 관계없이 사용자 단위로 묶어서 처리
+		totalNotifications += sendExpiryDigests(findCode, today, userIdFrom, userIdTo);
+
+		log.info("유효기간 알림 처리 완료: 오늘날짜={}, 샤드={}/{}, 알림수={}", today, shardIndex, shardCount,
+			totalNotifications);
+	}
+
+	// 청크 하나의 알림 저장 및 발행 후 저장한 알림 수 반환
+	private int sendExpiryNotificationChunk(List<Integer> gifticonIds, NotificationType findCode, LocalDate today,
+		int userIdFrom, int userIdTo) {
+		List<ExpiryNotificationTargetDto> targets = expiryNotificationTargetRepository.findTargets(gifticonIds,
+			findCode.getId(), today, userIdFrom, userIdTo);
+
+		// 오늘 이미 발송된 이력 조회
+		Set<String> notifiedKeys = getNotifiedKeys(gifticonIds, today);
+
+		String title = findCode.getCode().getDisplayName();
+		List<Notification> notifications = new ArrayList<>();
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		List<ExpiryNotificationLedger> ledgers = new ArrayList<>();
+
+		// 결과가 (기프티콘 ID, 사용자 ID) 순으로 정렬되어 있으므로 키가 바뀔 때마다 알림 1건 생성
+		ExpiryNotificationTargetDto previous = null;
+		for (ExpiryNotificationTargetDto target : targets) {
+			int offsetDays = getOffsetDays(target.getExpiryDate(), today);
+
+			// 이미 발송된 경우 저장/발송하지 않음
+			if (notifiedKeys.contains(
+				ExpiryNotificationLedger.createKey(target.getGifticonId(), target.getUserId(), offsetDays))) {
 				continue;
 			}
 
-			// 공유되지 않은 기프티콘일 경우
-			unsharedGifticons(findGifticon, findCode, today);
+			String content = getContent(target.getGifticonName(), target.getExpiryDate(), today);
+
+			if (previous == null || !previous.getGifticonId().equals(target.getGifticonId())
+				|| !previous.getUserId().equals(target.getUserId())) {
+				ledgers.add(createLedger(target.getGifticonId(), target.getUserId(), offsetDays, today));
+				notifications.add(Notification.builder()
+					.title(title)
+					.content(content)
+					.referenceEntityType("gifticon")
+					.referenceEntityId(target.getGifticonId())
+					.notificationType(findCode)
+					.user(User.builder().id(target.getUserId()).build())
+					.isRead(false)
+					.build());
+			}
+
+			// 알림 설정 활성화 시 FCM 알림 전송 (비활성화된 경우 토큰이 조인되지 않음)
+			if (target.getFcmToken() != null) {
+				eventDtos.add(NotificationEventDto.builder()
+					.fcmToken(target.getFcmToken())
+					.title(title)
+					.body(content)
+					.userId(target.getUserId())
+					.notificationTypeCode(findCode.getCode().name())
+					.referenceEntityId(target.getGifticonId())
+					.referenceEntityType("gifticon")
+					.build());
+			}
+
+			previous = target;
+		}
+
+		// 발송 이력을 먼저 저장 (다른 실행과 겹쳐 유니크 키가 중복되면 청크 전체가 롤백되고 건너뜀)
+		expiryNotificationLedgerRepository.saveAll(ledgers);
+
+		// 알림 저장
+		notificationRepository.saveAll(notifications);
+
+		// 커밋 이후 한 번에 발행
+		if (!eventDtos.isEmpty()) {
+			applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		}
+
+		return notifications.size();
+	}
+
+	// 요약 알림 사용자를 키셋 커서로 CHUNK_SIZE명씩 처리한 후 저장한 알림 수 반환
+	private int sendExpiryDigests(NotificationType findCode, LocalDate today, int userIdFrom, int userIdTo) {
+		List<LocalDate> expiryDates = getExpiryDates(today);
+		int totalNotifications = 0;
+		Integer lastUserId = userIdFrom - 1;
+
+		while (true) {
+			List<Integer> userIds = expiryNotificationTargetRepository.findDigestUserIds(findCode.getId(), lastUserId,
+				userIdTo, CHUNK_SIZE);
+
+			if (userIds.isEmpty()) {
+				break;
+			}
+
+			totalNotifications += executeChunk(
+				status -> sendExpiryDigestChunk(userIds, findCode, today, expiryDates));
+
+			if (userIds.size() < CHUNK_SIZE) {
+				break;
+			}
+
+			lastUserId = userIds.get(userIds.size() - 1);
+		}
+
+		return totalNotifications;
+	}
+
+	/*
+	 * 청크 하나를 별도 트랜잭션으로 처리한 후 저장한 알림 수 반환
+	 * 다른 실행이 같은 알림을 먼저 기록했으면 청크 전체가 롤백되므로 건너뛰고 다음 청크를 계속 처리함
+	 * (롤백된 청크의 나머지 알림은 발송 이력이 남지 않아 다음 실행에서 다시 처리됨)
+	 */
+	private int executeChunk(TransactionCallback<Integer> chunk) {
+		try {
+			Integer processed = transactionTemplate.execute(chunk);
+			return processed == null ? 0 : processed;
+		} catch (CustomException e) {
+			if (e.getErrorCode() != ErrorCode.EXPIRY_NOTIFICATION_ALREADY_SENT) {
+				throw e;
+			}
+			log.warn("다른 실행에서 이미 발송된 유효기간 알림이 있어 청크를 건너뜀");
+			return 0;
 		}
 	}
 
+	// 사용자 청크 하나의 요약 알림 저장 및 발행 후 저장한 알림 수 반환
+	private int sendExpiryDigestChunk(List<Integer> userIds, NotificationType findCode, LocalDate today,
+		List<LocalDate> expiryDates) {
+		List<ExpiryNotificationTargetDto> targets = expiryNotificationTargetRepository.findDigestTargets(userIds,
+			findCode.getId(), expiryDates, today);
+
+		if (targets.isEmpty()) {
+			return 0;
+		}
+
+		// 오늘 이미 발송된 항목을 제외하고 사용자별로 묶음 (만료일 순서 유지)
+		Set<String> notifiedKeys = expiryNotificationLedgerRepository.findAllByUserIdsAndNotifiedDate(userIds, today)
+			.stream()
+			.map(ExpiryNotificationLedger::getKey)
+			.collect(Collectors.toSet());
+
+		Map<Integer, List<ExpiryNotificationTargetDto>> itemsByUser = targets.stream()
+			.filter(target -> !notifiedKeys.contains(ExpiryNotificationLedger.createKey(target.getGifticonId(),
+				target.getUserId(), getOffsetDays(target.getExpiryDate(), today))))
+			.collect(Collectors.groupingBy(ExpiryNotificationTargetDto::getUserId, LinkedHashMap::new,
+				Collectors.toList()));
+
+		// 알림이 활성화된 사용자의 FCM 토큰을 한 번에 조회
+		List<Integer> pushUserIds = itemsByUser.values().stream()
+			.filter(items -> Boolean.TRUE.equals(items.get(0).getIsEnabled()))
+			.map(items -> items.get(0).getUserId())
+			.toList();
+		Map<Integer, List<String>> tokensByUser = fcmTokenRepository.findAllByUserIdIn(pushUserIds).stream()
+			.collect(Collectors.groupingBy(fcmToken -> fcmToken.getUser().getId(),
+				Collectors.mapping(FcmToken::getValue, Collectors.toList())));
+
+		List<Notification> notifications = new ArrayList<>();
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		List<ExpiryNotificationLedger> ledgers = new ArrayList<>();
+
+		itemsByUser.forEach((userId, items) -> {
+			Notification notification = createDigestNotification(User.builder().id(userId).build(), items,
+				findCode, today);
+			notifications.add(notification);
+			ledgers.addAll(createLedgers(userId, items, today));
+
+			// 기기마다 요약 알림 1건만 발송
+			tokensByUser.getOrDefault(userId, List.of())
+				.forEach(fcmToken -> eventDtos.add(createEventDto(fcmToken, notification, findCode)));
+		});
+
+		// 발송 이력을 먼저 저장 (다른 실행과 겹쳐 유니크 키가 중복되면 청크 전체가 롤백되고 건너뜀)
+		expiryNotificationLedgerRepository.saveAll(ledgers);
+		notificationRepository.saveAll(notifications);
+
+		// 커밋 이후 한 번에 발행
+		if (!eventDtos.isEmpty()) {
+			applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		}
+
+		return notifications.size();
+	}
+
 	@Override
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void sendExpiryDateNotificationForUser(Integer userId) {
@@ -108,87 +346,173 @@ public class GifticonExpiryNotificationAppServiceImpl implements GifticonExpiryN
 			getExpiryDates(today), userId);
 		log.info("알림 대상 기프티콘 조회 완료: 사용자ID={}, 대상 기프티콘 수={}", userId, allRelevantGifticons.size());
 
+		// 오늘 이미 발송된 이력 조회
+		Set<String> notifiedKeys = getNotifiedKeys(
+			allRelevantGifticons.stream().map(Gifticon::getId).toList(), today);
+
+		// 요약 알림을 선택한 경우 대상 기프티콘을 묶어서 1건만 발송
+		if (notificationSettingDomainService.isDigestEnabled(findSetting)) {
+			sendExpiryDigestForUser(allRelevantGifticons, notifiedKeys, findCode, findSetting, today);
+			return;
+		}
+
+		// FCM 토큰은 기프티콘마다 조회하지 않고 한 번만 조회 (알림 설정이 활성화된 경우에만 여기까지 옴)
+		List<String> fcmTokens = fcmTokenRepository.findAllByUserId(userId).stream()
+			.map(FcmToken::getValue)
+			.toList();
+		log.info("FCM 토큰 조회 완료: 사용자={}, 토큰수={}", userId, fcmTokens.size());
+
+		int day = findSetting.getExpirationCycle().getDays();
+		List<Notification> notifications = new ArrayList<>();
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		List<ExpiryNotificationLedger> ledgers = new ArrayList<>();
+
 		// 모든 관련 기프티콘에 대해 알림 처리
 		for (Gifticon gifticon : allRelevantGifticons) {
 			log.info("기프티콘 처리: ID={}, 이름={}, 만료일={}",
 				gifticon.getId(), gifticon.getName(), gifticon.getExpiryDate());
-			saveAndSendNotification(gifticon, findCode, today, findSetting);
+
+			int offsetDays = getOffsetDays(gifticon.getExpiryDate(), today);
+			if (notifiedKeys.contains(ExpiryNotificationLedger.createKey(gifticon.getId(), userId, offsetDays))) {
+				continue; // 이미 발송된 경우 건너뜀
+			}
+
+			// 만료일 확인: 기프티콘의 만료일이 조회된 만료일 목록(1,2,3,7,30,60,90일 후)에 포함되고,
+			// 알림 주기 확인: 만료일이 사용자의 알림 설정 주기보다 이른 경우에만 알림 발송
+			boolean isExpiryMatch = expiryDates.stream()
+				.anyMatch(expiryDate -> checkExpiryDate(gifticon, today, expiryDate, day));
+			if (!isExpiryMatch) {
+				continue;
+			}
+
+			Notification notification = createNotification(gifticon, findCode, findSetting.getUser(), today);
+			notifications.add(notification);
+			ledgers.add(createLedger(gifticon.getId(), userId, offsetDays, today));
+			fcmTokens.forEach(fcmToken -> eventDtos.add(createEventDto(fcmToken, notification, findCode)));
+		}
+
+		expiryNotificationLedgerRepository.saveAll(ledgers);
+		notificationRepository.saveAll(notifications);
+
+		// 커밋 이후 한 번에 발행
+		if (!eventDtos.isEmpty()) {
+			applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
 		}
+		log.info("사용자 유효기간 알림 생성: 사용자ID={}, 알림수={}", userId, notifications.size());
 	}
 
-	private void sharedGifticons(Gifticon findGifticon, NotificationType findCode, LocalDate today) {
+	private void sendExpiryDigestForUser(List<Gifticon> gifticons, Set<String> notifiedKeys,
+		NotificationType findCode, NotificationSetting findSetting, LocalDate today) {
+		Integer userId = findSetting.getUser().getId();
+		int day = findSetting.getExpirationCycle().getDays();
+
+		// 이미 발송되지 않았고 알림 주기 이내인 기프티콘만 만료일 순으로 정렬
+		List<ExpiryNotificationTargetDto> items = gifticons.stream()
+			.filter(gifticon -> !notifiedKeys.contains(ExpiryNotificationLedger.createKey(gifticon.getId(), userId,
+				getOffsetDays(gifticon.getExpiryDate(), today))))
+			.filter(gifticon -> !gifticon.getExpiryDate().isAfter(today.plusDays(day)))
+			.sorted(Comparator.comparing(Gifticon::getExpiryDate).thenComparing(Gifticon::getId))
+			.map(gifticon -> new ExpiryNotificationTargetDto(gifticon.getId(), gifticon.getName(),
+				gifticon.getExpiryDate(), userId, true, null))
+			.toList();
 
-		// 참여자 ID 목록 추출
-		List<Integer> userIds = getUserIds(findGifticon);
+		if (items.isEmpty()) {
+			return;
+		}
 
-		// 참여자 만료 알림 조회
-		List<NotificationSetting> findSettings = notificationSettingRepository
-			.findByUserIdInAndNotificationTypeId(userIds, findCode.getId());
+		Notification notification = createDigestNotification(findSetting.getUser(), items, findCode, today);
+		notificationRepository.save(notification);
+		expiryNotificationLedgerRepository.saveAll(createLedgers(userId, items, today));
 
-		for (NotificationSetting findSetting : findSettings) {
+		List<NotificationEventDto> eventDtos = fcmTokenRepository.findAllByUserId(userId).stream()
+			.map(fcmToken -> createEventDto(fcmToken.getValue(), notification, findCode))
+			.toList();
 
-			// 알림 전송
-			saveAndSendNotification(findGifticon, findCode, today, findSetting);
+		if (!eventDtos.isEmpty()) {
+			applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
 		}
+		log.info("유효기간 요약 알림 생성: 사용자ID={}, 항목수={}", userId, items.size());
 	}
 
-	private void unsharedGifticons(Gifticon findGifticon, NotificationType findCode, LocalDate today) {
+	/*
+	 * 만료일 순으로 정렬된 항목들을 요약 알림 1건으로 생성
+	 * 항목이 하나면 일반 알림과 같은 형태로, 여러 개면 가장 임박한 기프티콘을 대표로 요약하고
+	 * 각 항목은 detail에 "digest:기프티콘ID:남은일수,..." 형식으로 저장함
+	 * 앱은 참조 타입으로 화면을 이동하므로 참조 타입은 "gifticon"으로 두고 대표 기프티콘 상세로 이동시킴
+	 */
+	private static Notification createDigestNotification(User user, List<ExpiryNotificationTargetDto> items,
+		NotificationType findCode, LocalDate today) {
+		ExpiryNotificationTargetDto first = items.get(0);
+		Notification.NotificationBuilder builder = Notification.builder()
+			.title(findCode.getCode().getDisplayName())
+			.referenceEntityType("gifticon")
+			.referenceEntityId(first.getGifticonId())
+			.notificationType(findCode)
+			.user(user)
+			.isRead(false);
 
-		// 사용자 알림 설정 조회
-		NotificationSetting findSetting = notificationSettingRepository
-			.findByUserIdAndNotificationTypeId(findGifticon.getUser().getId(), findCode.getId());
+		if (items.size() == 1) {
+			return builder
+				.content(getContent(first.getGifticonName(), first.getExpiryDate(), today))
+				.build();
+		}
 
-		// 알림 저장 및 전송
-		saveAndSendNotification(findGifticon, findCode, today, findSetting);
+		int maxDays = getOffsetDays(items.get(items.size() - 1).getExpiryDate(), today);
+		String detail = items.stream()
+			.limit(DIGEST_DETAIL_MAX_ITEMS)
+			.map(item -> item.getGifticonId() + ":" + getOffsetDays(item.getExpiryDate(), today))
+			.collect(Collectors.joining(",", DIGEST_DETAIL_PREFIX, ""));
+
+		return builder
+			.content(first.getGifticonName() + " 외 " + (items.size() - 1) + "개 기프티콘의 유효기간이 "
+				+ maxDays + "일 이내로 남았습니다.")
+			.detail(detail)
+			.build();
 	}
 
-	private void saveAndSendNotification(Gifticon findGifticon, NotificationType findCode, LocalDate today,
-		NotificationSetting findSetting) {
-		// 알림 주기
-		int day = findSetting.getExpirationCycle().getDays();
-		log.info("알림 발송 검사 시작: 기프티콘={}, 만료일={}, 알림주기={}일",
-			findGifticon.getId(), findGifticon.getExpiryDate(), day);
+	private static List<ExpiryNotificationLedger> createLedgers(Integer userId,
+		List<ExpiryNotificationTargetDto> items, LocalDate today) {
+		return items.stream()
+			.map(item -> createLedger(item.getGifticonId(), userId, getOffsetDays(item.getExpiryDate(), today),
+				today))
+			.toList();
+	}
 
-		List<LocalDate> expiryDates = getExpiryDates(today);
+	private static NotificationEventDto createEventDto(String fcmToken, Notification notification,
+		NotificationType findCode) {
+		return NotificationEventDto.builder()
+			.fcmToken(fcmToken)
+			.title(notification.getTitle())
+			.body(notification.getContent())
+			.userId(notification.getUser().getId())
+			.notificationTypeCode(findCode.getCode().name())
+			.referenceEntityId(notification.getReferenceEntityId())
+			.referenceEntityType(notification.getReferenceEntityType())
+			.build();
+	}
 
-		boolean isExpiryMatch = expiryDates.stream()
-			.anyMatch(expiryDate -> checkExpiryDate(findGifticon, today, expiryDate, day));
-
-		// 만료일 확인 결과
-		log.info("만료일 확인 결과: 기프티콘={}, 알림발송여부={}", findGifticon.getId(), isExpiryMatch);
-
-		// 만료일 확인: 기프티콘의 만료일이 조회된 만료일 목록(1,2,3,7,30,60,90일 후)에 포함되고,
-		// 알림 주기 확인: 만료일이 사용자의 알림 설정 주기보다 이른 경우에만 알림 발송
-		if (isExpiryMatch) {
-			String title = findCode.getCode().getDisplayName();
-			String content = getContent(findGifticon);
-			log.info("알림 생성: 제목={}, 내용={}", title, content);
-
-			// 알림 저장
-			saveNotification(findGifticon, findCode, findSetting, title, content);
-
-			// 알림 설정 활성화 시 FCM 알림 전송
-			if (notificationSettingDomainService.isEnabled(findSetting)) {
-				// fcm token 조회
-				List<FcmToken> findFcmTokens = fcmTokenRepository.findAllByUserId(findSetting.getUser().getId());
-				log.info("FCM 토큰 조회 완료: 사용자={}, 토큰수={}", findSetting.getUser().getId(), findFcmTokens.size());
-
-				findFcmTokens.forEach(fcmToken -> {
-					log.info("FCM 알림 발송: 토큰={}", fcmToken.getValue());
-					NotificationEventDto dto = NotificationEventDto.builder()
-						.fcmToken(fcmToken.getValue())
-						.title(title)
-						.body(content)
-						.userId(findSetting.getUser().getId())
-						.notificationTypeCode(findCode.getCode().name())
-						.referenceEntityId(findGifticon.getId())
-						.referenceEntityType("gifticon")
-						.build();
-
-					applicationEventPublisher.publishEvent(new NotificationEventMessage(dto));
-				});
-			}
-		}
+	@Override
+	@Transactional
+	public void purgeExpiryNotificationLedger() {
+		int deleted = expiryNotificationLedgerRepository.deleteAllByNotifiedDateBefore(
+			LocalDate.now().minusDays(LEDGER_RETENTION_DAYS));
+		log.info("유효기간 알림 발송 이력 {}건 삭제", deleted);
+	}
+
+	private Set<String> getNotifiedKeys(List<Integer> gifticonIds, LocalDate today) {
+		return expiryNotificationLedgerRepository.findAllByGifticonIdsAndNotifiedDate(gifticonIds, today).stream()
+			.map(ExpiryNotificationLedger::getKey)
+			.collect(Collectors.toSet());
+	}
+
+	private static ExpiryNotificationLedger createLedger(Integer gifticonId, Integer userId, int offsetDays,
+		LocalDate today) {
+		return ExpiryNotificationLedger.builder()
+			.gifticonId(gifticonId)
+			.userId(userId)
+			.expiryOffsetDays(offsetDays)
+			.notifiedDate(today)
+			.build();
 	}
 
 	private static boolean checkExpiryDate(Gifticon findGifticon, LocalDate today, LocalDate expiryDate, int day) {
@@ -197,37 +521,26 @@ public class GifticonExpiryNotificationAppServiceImpl implements GifticonExpiryN
 				.isEqual(today.plusDays(day)));
 	}
 
-	private static String getContent(Gifticon findGifticon) {
-		long calDays = findGifticon.getExpiryDate().toEpochDay() - LocalDate.now().toEpochDay();
-		int day = (int)calDays;
-		return findGifticon.getName() + "의 유효기간이 " + day + "일 남았습니다.";
+	private static int getOffsetDays(LocalDate expiryDate, LocalDate today) {
+		return (int)(expiryDate.toEpochDay() - today.toEpochDay());
+	}
+
+	private static String getContent(String gifticonName, LocalDate expiryDate, LocalDate today) {
+		int day = getOffsetDays(expiryDate, today);
+		return gifticonName + "의 유효기간이 " + day + "일 남았습니다.";
 	}
 
-	private void saveNotification(Gifticon findGifticon, NotificationType findCode, NotificationSetting findSetting,
-		String title, String content) {
-		Notification notification = Notification.builder()
-			.title(title)
-			.content(content)
+	private static Notification createNotification(Gifticon gifticon, NotificationType findCode, User user,
+		LocalDate today) {
+		return Notification.builder()
+			.title(findCode.getCode().getDisplayName())
+			.content(getContent(gifticon.getName(), gifticon.getExpiryDate(), today))
 			.referenceEntityType("gifticon")
-			.referenceEntityId(findGifticon.getId())
+			.referenceEntityId(gifticon.getId())
 			.notificationType(findCode)
-			.user(findSetting.getUser())
+			.user(user)
 			.isRead(false)
 			.build();
-
-		// 알림 저장
-		notificationRepository.save(notification);
-	}
-
-	private List<Integer> getUserIds(Gifticon findGifticon) {
-		// 참여된 유저 리스트
-		List<Participation> findParticipations = participationRepository
-			.findByShareBoxId(findGifticon.getSharebox().getId());
-
-		// 참여자 ID 목록 추출
-		return findParticipations.stream()
-			.map(p -> p.getUser().getId())
-			.toList();
 	}
 
 	private List<LocalDate> getExpiryDates(LocalDate today) {
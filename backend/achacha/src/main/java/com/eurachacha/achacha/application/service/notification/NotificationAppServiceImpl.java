@@ -1,6 +1,8 @@
 package com.eurachacha.achacha.application.service.notification;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -17,24 +19,19 @@ import com.eurachacha.achacha.application.port.input.notification.dto.response.N
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.domain.model.brand.Brand;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationSortType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
 import com.eurachacha.achacha.domain.model.user.User;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.NotificationCursorCodec;
 import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.PageableFactory;
-import com.eurachacha.achacha.web.common.exception.CustomException;
-import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,20 +44,18 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 
 	private final NotificationRepository notificationRepository;
 	private final PageableFactory pageableFactory;
+	private final NotificationCursorCodec notificationCursorCodec;
 	private final SecurityServicePort securityServicePort;
 	private final NotificationTypeRepository notificationTypeRepository;
-	private final NotificationSettingRepository notificationSettingRepository;
-	private final FcmTokenRepository fcmTokenRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
-	private final NotificationSettingDomainService notificationSettingDomainService;
+	private final NotificationRecipientResolver notificationRecipientResolver;
 	private final GifticonRepository gifticonRepository;
 
 	@Override
 	public NotificationsResponseDto getNotifications(NotificationSortType sort, Integer page, Integer size) {
 		log.info("알림 목록 조회 시작");
 
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 페이징 처리
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
@@ -77,30 +72,42 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 				.build();
 		}
 
-		List<NotificationResponseDto> notificationResponseDtos = notificationSlice.getContent().stream()
-			.map(notification -> NotificationResponseDto.builder()
-				.notificationId(notification.getId())
-				.notificationTitle(notification.getTitle())
-				.notificationContent(notification.getContent())
-				.notificationCreatedAt(notification.getCreatedAt())
-				.notificationIsRead(notification.getIsRead())
-				.notificationType(notification.getNotificationType().getCode())
-				.referenceEntityType(notification.getReferenceEntityType())
-				.referenceEntityId(notification.getReferenceEntityId())
-				.build())
-			.collect(Collectors.toList());
-
 		return NotificationsResponseDto.builder()
-			.notifications(notificationResponseDtos)
+			.notifications(getNotificationResponseDtos(notificationSlice))
 			.hasNextPage(notificationSlice.hasNext())
 			.nextPage(notificationSlice.hasNext() ? page + 1 : null)
+			.nextCursor(getNextCursor(notificationSlice, sort))
+			.build();
+	}
+
+	@Override
+	public NotificationsResponseDto getNotificationsByCursor(NotificationSortType sort, String cursor, Integer size) {
+		log.info("알림 목록 커서 조회 시작");
+
+		Integer userId = securityServicePort.getLoggedInUserId();
+
+		// 커서 해석 (정렬 기준과 맞지 않으면 예외 발생)
+		NotificationCursorDto cursorDto = notificationCursorCodec.decode(cursor, sort);
+
+		// 알림 목록 조회
+		Slice<Notification> notificationSlice = notificationRepository.findNotificationsByCursor(
+			userId, cursorDto, size);
+
+		return NotificationsResponseDto.builder()
+			.notifications(getNotificationResponseDtos(notificationSlice))
+			.hasNextPage(notificationSlice.hasNext())
+			.nextCursor(getNextCursor(notificationSlice, sort))
 			.build();
 	}
 
 	@Override
 	public NotificationCountResponseDto countUnreadNotifications(boolean read) {
-		User user = securityServicePort.getLoggedInUser();
-		int count = notificationRepository.countByUserIdAndRead(user.getId(), read);
+		Integer userId = securityServicePort.getLoggedInUserId();
+
+		// 읽지 않은 알림 수는 사용자별로 유지되는 값을 사용 (알림 배지 조회 시 COUNT 쿼리를 하지 않음)
+		int count = read
+			? notificationRepository.countByUserIdAndRead(userId, true)
+			: notificationRepository.countUnread(userId);
 		return NotificationCountResponseDto.builder()
 			.count(count)
 			.build();
@@ -109,14 +116,14 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 	@Override
 	@Transactional
 	public void markAllNotificationsAsRead() {
-		User user = securityServicePort.getLoggedInUser();
-		notificationRepository.updateAllNotificationsToRead(user.getId());
+		Integer userId = securityServicePort.getLoggedInUserId();
+		notificationRepository.updateAllNotificationsToRead(userId);
 	}
 
 	@Override
 	@Transactional
 	public void requestNotification(LocationBasedNotificationRequestDto requestDto) {
-		User user = securityServicePort.getLoggedInUser();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 요청 기프티콘 조회
 		Gifticon findGifticon = gifticonRepository.findById(requestDto.getGifticonId());
@@ -130,41 +137,60 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 		String title = notificationType.getCode().getDisplayName();
 		String content = "반경 50m 내에 " + findGifticon.getName() + "을(를) 사용할 수 있는 " + findBrand.getName() + "매장이 있어요!";
 
-		sendNotificationToUser(user.getId(), notificationType, title, content, "gifticon", requestDto.getGifticonId());
+		sendNotificationToUser(userId, notificationType, title, content, "gifticon", requestDto.getGifticonId());
+
+	}
+
+	private List<NotificationResponseDto> getNotificationResponseDtos(Slice<Notification> notificationSlice) {
+		return notificationSlice.getContent().stream()
+			.map(notification -> NotificationResponseDto.builder()
+				.notificationId(notification.getId())
+				.notificationTitle(notification.getTitle())
+				.notificationContent(notification.getContent())
+				.notificationCreatedAt(notification.getCreatedAt())
+				.notificationIsRead(notification.getIsRead())
+				.notificationType(notification.getNotificationType().getCode())
+				.referenceEntityType(notification.getReferenceEntityType())
+				.referenceEntityId(notification.getReferenceEntityId())
+				.notificationDetail(notification.getDetail())
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	private String getNextCursor(Slice<Notification> notificationSlice, NotificationSortType sort) {
+		if (!notificationSlice.hasNext() || notificationSlice.getContent().isEmpty()) {
+			return null;
+		}
 
+		List<Notification> content = notificationSlice.getContent();
+		return notificationCursorCodec.encode(content.get(content.size() - 1), sort);
 	}
 
 	/**
 	 * 지정된 사용자에게 알림을 전송합니다.
 	 */
-	private void sendNotificationToUser(Integer userId, NotificationType notificationType, String title, String content,
+	private void sendNotificationToUser(Integer userId, NotificationType notificationType,
+		String title, String content,
 		String referenceEntityType, Integer referenceEntityId) {
+		sendNotificationToUsers(List.of(userId), notificationType, title, content, referenceEntityType,
+			referenceEntityId);
+	}
 
+	/**
+	 * 지정된 사용자들에게 같은 알림을 전송합니다.
+	 */
+	private void sendNotificationToUsers(List<Integer> userIds, NotificationType notificationType,
+		String title, String content,
+		String referenceEntityType, Integer referenceEntityId) {
 		// 항상 알림 정보는 데이터베이스에 저장
-		saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId);
-
-		// 사용자의 알림 설정 조회
-		try {
-			NotificationSetting setting = notificationSettingRepository.findByUserIdAndNotificationTypeId(
-				userId, notificationType.getId());
-
-			// 사용자가 해당 알림을 비활성화했으면 FCM 알림만 보내지 않음
-			if (!notificationSettingDomainService.isEnabled(setting)) {
-				log.info("사용자가 알림을 비활성화하여 FCM 알림은 전송하지 않음 - 알림 타입: {}, 사용자 ID: {}",
-					notificationType.getCode(), userId);
-				return;
-			}
-		} catch (CustomException e) {
-			// 알림 설정이 없는 경우 기본적으로 FCM 알림을 보내지 않음
-			if (e.getErrorCode() == ErrorCode.NOTIFICATION_SETTING_NOT_FOUND) {
-				log.info("사용자의 알림 설정을 찾을 수 없어 FCM 알림은 전송하지 않음 - 사용자 ID: {}", userId);
-				return;
-			}
-			throw e;
-		}
+		userIds.forEach(userId ->
+			saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId));
+
+		// 알림을 켠 사용자와 FCM 토큰을 한 번에 조회 (설정이 없거나 비활성화한 사용자는 FCM 알림만 보내지 않음)
+		Map<Integer, List<String>> recipients = notificationRecipientResolver.resolve(userIds, notificationType);
 
 		// FCM 토큰 조회 및 알림 전송
-		sendPushNotification(userId, title, content, notificationType.getCode(), referenceEntityType,
+		sendPushNotification(recipients, title, content, notificationType.getCode(), referenceEntityType,
 			referenceEntityId);
 	}
 
@@ -193,32 +219,28 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 	/**
 	 * FCM을 통해 푸시 알림을 전송합니다.
 	 */
-	private void sendPushNotification(Integer userId, String title, String content,
+	private void sendPushNotification(Map<Integer, List<String>> recipients, String title, String content,
 		NotificationTypeCode typeCode,
 		String referenceEntityType, Integer referenceEntityId) {
-		// FCM 토큰 조회
-		List<FcmToken> fcmTokens = fcmTokenRepository.findAllByUserId(userId);
-
-		if (fcmTokens.isEmpty()) {
-			log.info("사용자의 FCM 토큰이 없음 - 사용자 ID: {}", userId);
-			return;
-		}
-
-		// 사용자의 모든 기기에 알림 전송
-		for (FcmToken fcmToken : fcmTokens) {
-			NotificationEventDto eventDto = NotificationEventDto.builder()
-				.fcmToken(fcmToken.getValue())
+		// 수신자들의 모든 기기에 보낼 알림을 모아 한 번에 발행
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		recipients.forEach((userId, fcmTokens) -> fcmTokens.forEach(fcmToken -> eventDtos.add(
+			NotificationEventDto.builder()
+				.fcmToken(fcmToken)
 				.title(title)
 				.body(content)
 				.userId(userId)
 				.notificationTypeCode(typeCode.name())
 				.referenceEntityId(referenceEntityId)
 				.referenceEntityType(referenceEntityType)
-				.build();
+				.build())));
 
-			applicationEventPublisher.publishEvent(new NotificationEventMessage(eventDto));
+		if (eventDtos.isEmpty()) {
+			log.info("알림을 받을 FCM 토큰이 없음 - 수신자 수: {}", recipients.size());
+			return;
 		}
 
-		log.debug("푸시 알림 전송 완료 - 사용자 ID: {}", userId);
+		applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		log.debug("푸시 알림 전송 완료 - 수신자 수: {}, 토큰 수: {}", recipients.size(), eventDtos.size());
 	}
 }
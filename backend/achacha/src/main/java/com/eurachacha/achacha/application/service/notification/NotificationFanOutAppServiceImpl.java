@@ -0,0 +1,196 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationFanOutAppService;
+import com.eurachacha.achacha.application.port.output.notification.NotificationFanOutJobRepository;
+import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
+import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
+import com.eurachacha.achacha.domain.model.notification.Notification;
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+import com.eurachacha.achacha.domain.model.notification.NotificationType;
+import com.eurachacha.achacha.domain.model.user.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쉐어박스 참여자 알림 작업 처리
+ * 수신자를 CHUNK_SIZE명씩 사용자 ID 순으로 나누어 청크마다 알림을 일괄 저장하고 푸시를 한 번에 발행
+ * 청크마다 작업 행을 잠근 새 트랜잭션에서 알림 저장, 아웃박스 저장, 진행 위치 갱신을 함께 커밋하므로
+ * 중간에 실패하거나 노드가 내려가도 다음 시도는 처리하지 않은 청크부터 이어서 진행함
+ */
+@Service
+@Slf4j
+public class NotificationFanOutAppServiceImpl implements NotificationFanOutAppService {
+
+	private static final int CHUNK_SIZE = 500;
+	private static final int DUE_JOB_BATCH_SIZE = 20;
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long BASE_BACKOFF_SECONDS = 30L;
+
+	private final NotificationFanOutJobRepository notificationFanOutJobRepository;
+	private final ParticipationRepository participationRepository;
+	private final NotificationTypeRepository notificationTypeRepository;
+	private final NotificationRepository notificationRepository;
+	private final NotificationRecipientResolver notificationRecipientResolver;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final TransactionTemplate transactionTemplate;
+
+	public NotificationFanOutAppServiceImpl(NotificationFanOutJobRepository notificationFanOutJobRepository,
+		ParticipationRepository participationRepository, NotificationTypeRepository notificationTypeRepository,
+		NotificationRepository notificationRepository, NotificationRecipientResolver notificationRecipientResolver,
+		ApplicationEventPublisher applicationEventPublisher, PlatformTransactionManager transactionManager) {
+		this.notificationFanOutJobRepository = notificationFanOutJobRepository;
+		this.participationRepository = participationRepository;
+		this.notificationTypeRepository = notificationTypeRepository;
+		this.notificationRepository = notificationRepository;
+		this.notificationRecipientResolver = notificationRecipientResolver;
+		this.applicationEventPublisher = applicationEventPublisher;
+		// 호출 스레드에 다른 트랜잭션이 남아 있어도 청크마다 독립된 트랜잭션으로 커밋되어야 함
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	public void processJob(Long jobId) {
+		try {
+			int totalNotifications = 0;
+			Integer processed;
+			while ((processed = transactionTemplate.execute(status -> processNextChunk(jobId))) != null) {
+				totalNotifications += processed;
+			}
+
+			log.info("쉐어박스 알림 작업 처리 완료 - 작업 ID: {}, 알림수: {}", jobId, totalNotifications);
+		} catch (Exception e) {
+			log.error("쉐어박스 알림 작업 처리 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage(), e);
+			scheduleRetry(jobId);
+		}
+	}
+
+	@Override
+	public void processDueJobs() {
+		List<Long> jobIds = notificationFanOutJobRepository.findDueIds(LocalDateTime.now(), DUE_JOB_BATCH_SIZE);
+		if (jobIds.isEmpty()) {
+			return;
+		}
+
+		log.warn("커밋 후 처리되지 않은 쉐어박스 알림 작업 {}건 재처리", jobIds.size());
+		jobIds.forEach(this::processJob);
+	}
+
+	/*
+	 * 작업 행을 잠그고 다음 청크를 처리한 후 저장한 알림 수 반환
+	 * 작업이 끝났거나 다른 노드가 처리 중이면 null 반환
+	 */
+	private Integer processNextChunk(Long jobId) {
+		Optional<NotificationFanOutJob> lockedJob = notificationFanOutJobRepository.findByIdForUpdate(jobId);
+		if (lockedJob.isEmpty()) {
+			return null;
+		}
+
+		NotificationFanOutJob job = lockedJob.get();
+		List<Integer> chunk = getNextChunk(job);
+
+		// 마지막 청크면 작업 삭제, 다음 시도에서 빈 결과로 끝남
+		if (chunk.size() < CHUNK_SIZE) {
+			notificationFanOutJobRepository.delete(job);
+		} else {
+			job.advance(chunk.get(chunk.size() - 1));
+		}
+
+		List<Integer> userIds = chunk.stream()
+			.filter(userId -> !userId.equals(job.getExcludedUserId()))
+			.toList();
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+
+		NotificationType notificationType = notificationTypeRepository.findByCode(job.getTypeCode());
+		return sendNotificationChunk(userIds, notificationType, job);
+	}
+
+	// 진행 위치 이후의 수신자 ID를 오름차순으로 최대 CHUNK_SIZE명 조회 (제외 대상 포함)
+	private List<Integer> getNextChunk(NotificationFanOutJob job) {
+		if (job.hasRecipientUserIds()) {
+			return job.getRecipientUserIdsAfterLast(CHUNK_SIZE);
+		}
+
+		return participationRepository.findUserIdsByShareBoxIdAfter(job.getShareBoxId(), job.getLastUserId(),
+			CHUNK_SIZE);
+	}
+
+	// 청크 하나의 알림 저장 및 발행 후 저장한 알림 수 반환
+	private int sendNotificationChunk(List<Integer> userIds, NotificationType notificationType,
+		NotificationFanOutJob job) {
+		// 항상 알림 정보는 데이터베이스에 저장
+		List<Notification> notifications = userIds.stream()
+			.map(userId -> Notification.builder()
+				.title(job.getTitle())
+				.content(job.getContent())
+				.referenceEntityType(job.getReferenceEntityType())
+				.referenceEntityId(job.getReferenceEntityId())
+				.notificationType(notificationType)
+				.user(User.builder().id(userId).build())
+				.isRead(false)
+				.build())
+			.toList();
+		notificationRepository.saveAll(notifications);
+
+		// 알림을 켠 사용자와 FCM 토큰을 한 번에 조회 (설정이 없거나 비활성화한 사용자는 FCM 알림만 보내지 않음)
+		Map<Integer, List<String>> recipients = notificationRecipientResolver.resolve(userIds, notificationType);
+
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		recipients.forEach((userId, fcmTokens) -> fcmTokens.forEach(fcmToken -> eventDtos.add(
+			NotificationEventDto.builder()
+				.fcmToken(fcmToken)
+				.title(job.getTitle())
+				.body(job.getContent())
+				.userId(userId)
+				.notificationTypeCode(job.getTypeCode().name())
+				.referenceEntityId(job.getReferenceEntityId())
+				.referenceEntityType(job.getReferenceEntityType())
+				.build())));
+
+		// 청크 트랜잭션 커밋 전에 아웃박스에 함께 저장됨
+		if (!eventDtos.isEmpty()) {
+			applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		}
+
+		return notifications.size();
+	}
+
+	// 실패한 작업은 30초부터 2배씩 늘려 다시 시도하고, 재시도 횟수를 넘으면 삭제
+	private void scheduleRetry(Long jobId) {
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				notificationFanOutJobRepository.findByIdForUpdate(jobId).ifPresent(this::scheduleRetry));
+		} catch (Exception e) {
+			// 작업 행은 그대로 남아 있으므로 스케줄러가 다시 가져감
+			log.error("쉐어박스 알림 작업 재시도 예약 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage());
+		}
+	}
+
+	private void scheduleRetry(NotificationFanOutJob job) {
+		if (job.getAttempts() + 1 >= MAX_ATTEMPTS) {
+			log.error("쉐어박스 알림 작업 재시도 횟수 초과로 삭제 - 작업 ID: {}, 쉐어박스 ID: {}",
+				job.getId(), job.getShareBoxId());
+			notificationFanOutJobRepository.delete(job);
+			return;
+		}
+
+		job.scheduleRetry(LocalDateTime.now().plusSeconds(BASE_BACKOFF_SECONDS << job.getAttempts()));
+	}
+}
@@ -0,0 +1,64 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationFanOutAppService;
+import com.eurachacha.achacha.application.port.input.notification.NotificationFanOutEventListener;
+import com.eurachacha.achacha.application.port.output.notification.NotificationFanOutJobRepository;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutJobCreatedEvent;
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쉐어박스 참여자 알림 요청 처리
+ * 요청 트랜잭션 커밋 직전에 알림 작업을 저장하고, 커밋 후 notificationTaskExecutor에서 바로 처리하여
+ * API 응답 시간이 참여자 수와 무관함
+ * 작업 스레드가 처리하지 못한 작업(큐 포화, 노드 종료)은 NotificationFanOutScheduler가 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFanOutEventListenerImpl implements NotificationFanOutEventListener {
+
+	// 작업 스레드가 먼저 처리하도록 스케줄러는 이 시간이 지난 작업만 가져감
+	private static final long SCHEDULER_PICKUP_DELAY_SECONDS = 30L;
+
+	private final NotificationFanOutJobRepository notificationFanOutJobRepository;
+	private final NotificationFanOutAppService notificationFanOutAppService;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void handleNotificationFanOut(NotificationFanOutEvent event) {
+		NotificationFanOutJob job = notificationFanOutJobRepository.save(NotificationFanOutJob.builder()
+			.shareBoxId(event.getShareBoxId())
+			.recipientUserIds(event.getUserIds() == null ? null : NotificationFanOutJob.joinUserIds(event.getUserIds()))
+			.excludedUserId(event.getExcludedUserId())
+			.typeCode(event.getTypeCode())
+			.title(event.getTitle())
+			.content(event.getContent())
+			.referenceEntityType(event.getReferenceEntityType())
+			.referenceEntityId(event.getReferenceEntityId())
+			.nextAttemptAt(LocalDateTime.now().plusSeconds(SCHEDULER_PICKUP_DELAY_SECONDS))
+			.build());
+
+		// 커밋 직전에 발행한 이벤트도 같은 트랜잭션의 커밋 후 리스너로 전달됨
+		applicationEventPublisher.publishEvent(new NotificationFanOutJobCreatedEvent(job.getId()));
+	}
+
+	@Override
+	@Async("notificationTaskExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleNotificationFanOutJobCreated(NotificationFanOutJobCreatedEvent event) {
+		notificationFanOutAppService.processJob(event.getJobId());
+	}
+}
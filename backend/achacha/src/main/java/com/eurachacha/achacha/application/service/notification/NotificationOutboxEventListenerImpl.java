@@ -0,0 +1,41 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationOutboxEventListener;
+import com.eurachacha.achacha.application.port.output.notification.NotificationOutboxRepository;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 알림 이벤트를 발행한 트랜잭션이 커밋되기 직전에 아웃박스에 저장
+ * 알림 저장과 같은 트랜잭션으로 커밋되므로 알림은 저장되었는데 이벤트만 유실되는 경우가 없음
+ * 실제 발행은 NotificationOutboxRelayAppService가 담당
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxEventListenerImpl implements NotificationOutboxEventListener {
+	private final NotificationOutboxRepository notificationOutboxRepository;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	@Override
+	public void handleNotificationEvent(NotificationEventMessage event) {
+		notificationOutboxRepository.saveAll(List.of(event.getEventDto()));
+		log.info("알림 이벤트 아웃박스 저장: {}", event.getEventDto());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	@Override
+	public void handleBulkNotificationEvent(BulkNotificationEventMessage event) {
+		notificationOutboxRepository.saveAll(event.getEventDtos());
+		log.info("대량 알림 이벤트 아웃박스 저장: {}건", event.getEventDtos().size());
+	}
+}
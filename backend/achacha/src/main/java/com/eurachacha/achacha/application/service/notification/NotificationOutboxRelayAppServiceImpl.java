@@ -0,0 +1,84 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationOutboxRelayAppService;
+import com.eurachacha.achacha.application.port.output.notification.NotificationEventPort;
+import com.eurachacha.achacha.application.port.output.notification.NotificationOutboxRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.NotificationOutboxDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxRelayAppServiceImpl implements NotificationOutboxRelayAppService {
+
+	private static final int BATCH_SIZE = 500;
+	private static final int MAX_BATCHES_PER_RUN = 20;
+	private static final long BASE_BACKOFF_SECONDS = 5L;
+	private static final long MAX_BACKOFF_SECONDS = 600L;
+	private static final int ALERT_ATTEMPTS = 10;
+
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final NotificationEventPort notificationEventPort;
+	private final TransactionTemplate transactionTemplate;
+
+	/*
+	 * 배치마다 별도 트랜잭션에서 행을 잠그고 발행한 뒤 확인된 행은 삭제, 나머지는 지수 백오프로 재시도 예약
+	 * 한 번 실행에 최대 MAX_BATCHES_PER_RUN 배치까지만 처리하여 스케줄러 스레드를 오래 점유하지 않음
+	 */
+	@Override
+	public void relayOutbox() {
+		for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+			Integer relayed = transactionTemplate.execute(status -> relayBatch());
+			if (relayed == null || relayed < BATCH_SIZE) {
+				break;
+			}
+		}
+	}
+
+	// 배치 하나를 발행한 후 조회한 행 수 반환
+	private int relayBatch() {
+		LocalDateTime now = LocalDateTime.now();
+		List<NotificationOutboxDto> outboxes = notificationOutboxRepository.findPublishableForUpdate(now, BATCH_SIZE);
+
+		if (outboxes.isEmpty()) {
+			return 0;
+		}
+
+		Set<Long> confirmedIds = notificationEventPort.sendNotificationEvents(outboxes);
+
+		Map<Long, LocalDateTime> nextAttemptAtById = new HashMap<>();
+		outboxes.stream()
+			.filter(outbox -> !confirmedIds.contains(outbox.getId()))
+			.forEach(outbox -> {
+				nextAttemptAtById.put(outbox.getId(), now.plusSeconds(getBackoffSeconds(outbox.getAttempts())));
+				if (outbox.getAttempts() + 1 >= ALERT_ATTEMPTS) {
+					log.error("알림 이벤트 발행 반복 실패: 아웃박스ID={}, 시도횟수={}", outbox.getId(), outbox.getAttempts() + 1);
+				}
+			});
+
+		notificationOutboxRepository.deleteAllByIds(List.copyOf(confirmedIds));
+		notificationOutboxRepository.updateNextAttempts(nextAttemptAtById);
+
+		if (!nextAttemptAtById.isEmpty()) {
+			log.warn("알림 이벤트 발행 실패 {}건 재시도 예약", nextAttemptAtById.size());
+		}
+
+		return outboxes.size();
+	}
+
+	// 5초부터 2배씩 늘려 최대 10분
+	private static long getBackoffSeconds(int attempts) {
+		return Math.min(MAX_BACKOFF_SECONDS, BASE_BACKOFF_SECONDS << Math.min(attempts, 20));
+	}
+}
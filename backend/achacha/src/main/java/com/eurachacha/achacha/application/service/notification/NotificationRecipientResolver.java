@@ -0,0 +1,152 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
+import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.service.cache.event.CacheInvalidationEvent;
+import com.eurachacha.achacha.domain.model.fcm.FcmToken;
+import com.eurachacha.achacha.domain.model.notification.NotificationType;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 수신자 조회
+ * 사용자 ID 목록과 알림 타입으로 알림을 켠 사용자와 FCM 토큰을 구함
+ * 캐시에 없는 사용자만 설정/토큰을 각각 한 번의 IN 쿼리로 조회하며, 설정 변경·토큰 저장/삭제·로그아웃 시 해당 항목을 비움
+ * 캐시는 노드별로 유지되므로 무효화는 커밋 후 모든 노드에 전파되며 (CacheInvalidationService),
+ * 메시지를 받지 못한 노드도 만료 시간(CACHE_TTL) 안에 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRecipientResolver {
+
+	private static final long CACHE_MAX_SIZE = 50000L;
+	private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+	private final NotificationSettingRepository notificationSettingRepository;
+	private final FcmTokenRepository fcmTokenRepository;
+	private final NotificationSettingDomainService notificationSettingDomainService;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	// (사용자 ID, 알림 타입)별 알림 활성화 여부, 설정이 없으면 false
+	private final Cache<SettingKey, Boolean> enabledCache = Caffeine.newBuilder()
+		.maximumSize(CACHE_MAX_SIZE)
+		.expireAfterWrite(CACHE_TTL)
+		.build();
+
+	// 사용자 ID별 FCM 토큰 값 목록
+	private final Cache<Integer, List<String>> fcmTokenCache = Caffeine.newBuilder()
+		.maximumSize(CACHE_MAX_SIZE)
+		.expireAfterWrite(CACHE_TTL)
+		.build();
+
+	/**
+	 * 알림을 켠 사용자 ID -> FCM 토큰 값 목록 (입력 순서 유지, 토큰이 없는 사용자는 빈 목록)
+	 * 설정이 없거나 알림을 끈 사용자는 결과에 포함되지 않음
+	 */
+	public Map<Integer, List<String>> resolve(Collection<Integer> userIds, NotificationType notificationType) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+
+		List<SettingKey> settingKeys = userIds.stream()
+			.distinct()
+			.map(userId -> new SettingKey(userId, notificationType.getCode()))
+			.toList();
+
+		Map<SettingKey, Boolean> enabledByKey = enabledCache.getAll(settingKeys,
+			missingKeys -> loadEnabled(missingKeys, notificationType));
+
+		List<Integer> enabledUserIds = settingKeys.stream()
+			.filter(key -> Boolean.TRUE.equals(enabledByKey.get(key)))
+			.map(SettingKey::userId)
+			.toList();
+
+		if (enabledUserIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Integer, List<String>> fcmTokensByUserId = fcmTokenCache.getAll(enabledUserIds, this::loadFcmTokens);
+
+		Map<Integer, List<String>> recipients = new LinkedHashMap<>();
+		enabledUserIds.forEach(userId -> recipients.put(userId, fcmTokensByUserId.getOrDefault(userId, List.of())));
+		return recipients;
+	}
+
+	/**
+	 * 토큰이 바뀐 사용자들의 캐시를 현재 트랜잭션 커밋 후 모든 노드에서 비움
+	 * 커밋 전에 비우면 그 사이 다른 요청이 변경 전 토큰을 다시 적재할 수 있음
+	 */
+	public void evictFcmTokens(Collection<Integer> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		applicationEventPublisher.publishEvent(
+			new CacheInvalidationEvent(CacheInvalidationDto.fcmTokens(List.copyOf(userIds))));
+	}
+
+	// 토큰 값으로 삭제하여 소유자를 알 수 없는 경우 사용
+	public void evictAllFcmTokens() {
+		applicationEventPublisher.publishEvent(new CacheInvalidationEvent(CacheInvalidationDto.allFcmTokens()));
+	}
+
+	// 현재 노드의 캐시만 비움 (다른 노드에서 온 무효화 메시지 처리용)
+	public void invalidateSettings(Collection<Integer> userIds, NotificationTypeCode typeCode) {
+		enabledCache.invalidateAll(userIds.stream().map(userId -> new SettingKey(userId, typeCode)).toList());
+	}
+
+	public void invalidateFcmTokens(Collection<Integer> userIds) {
+		fcmTokenCache.invalidateAll(userIds);
+	}
+
+	public void invalidateAllFcmTokens() {
+		fcmTokenCache.invalidateAll();
+	}
+
+	private Map<SettingKey, Boolean> loadEnabled(Set<? extends SettingKey> keys, NotificationType notificationType) {
+		List<Integer> userIds = keys.stream().map(SettingKey::userId).toList();
+
+		Map<Integer, Boolean> enabledByUserId = notificationSettingRepository
+			.findByUserIdInAndNotificationTypeId(userIds, notificationType.getId()).stream()
+			.collect(Collectors.toMap(
+				setting -> setting.getUser().getId(),
+				notificationSettingDomainService::isEnabled,
+				(first, second) -> first));
+
+		// 설정이 없는 사용자도 false로 캐시하여 다시 조회하지 않음
+		Map<SettingKey, Boolean> result = new HashMap<>();
+		keys.forEach(key -> result.put(key, enabledByUserId.getOrDefault(key.userId(), false)));
+		return result;
+	}
+
+	private Map<Integer, List<String>> loadFcmTokens(Set<? extends Integer> userIds) {
+		Map<Integer, List<String>> fcmTokensByUserId = fcmTokenRepository.findAllByUserIdIn(List.copyOf(userIds))
+			.stream()
+			.collect(Collectors.groupingBy(
+				fcmToken -> fcmToken.getUser().getId(),
+				Collectors.mapping(FcmToken::getValue, Collectors.toList())));
+
+		Map<Integer, List<String>> result = new HashMap<>();
+		userIds.forEach(userId -> result.put(userId, List.copyOf(fcmTokensByUserId.getOrDefault(userId, List.of()))));
+		return result;
+	}
+
+	private record SettingKey(Integer userId, NotificationTypeCode typeCode) {
+	}
+}
@@ -17,7 +17,6 @@ import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.ExpirationCycle;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
-import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
@@ -41,8 +40,7 @@ public class NotificationSettingAppServiceImpl implements NotificationSettingApp
 	public List<NotificationSettingDto> getUserNotificationSettings() {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		List<NotificationSetting> settings = notificationSettingRepository.findAllByUserId(userId);
 
@@ -53,6 +51,7 @@ public class NotificationSettingAppServiceImpl implements NotificationSettingApp
 				.notificationTypeName(setting.getNotificationType().getCode().getDisplayName())
 				.isEnabled(setting.getIsEnabled())
 				.expirationCycle(setting.getExpirationCycle())
+				.isDigestEnabled(notificationSettingDomainService.isDigestEnabled(setting))
 				.build())
 			.collect(Collectors.toList());
 	}
@@ -62,8 +61,7 @@ public class NotificationSettingAppServiceImpl implements NotificationSettingApp
 	public void updateNotificationSetting(NotificationTypeCode typeCode, Boolean isEnabled) {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		log.info("알림 설정 업데이트 시작: 사용자ID={}, 알림타입={}, 활성화={}", userId, typeCode, isEnabled);
 
@@ -79,12 +77,10 @@ public class NotificationSettingAppServiceImpl implements NotificationSettingApp
 		setting.updateIsEnabled(isEnabled);
 		log.info("알림 설정 업데이트 완료: 설정ID={}, 새 활성화 상태={}", setting.getId(), isEnabled);
 
-		// 유효기간 알림이고 활성화된 경우에만 이벤트 발행
-		if (typeCode == NotificationTypeCode.EXPIRY_DATE && isEnabled) {
-			log.info("유효기간 알림 이벤트 발행: 사용자ID={}", userId);
-			applicationEventPublisher.publishEvent(
-				new NotificationSettingUpdatedEvent(userId, typeCode, isEnabled));
-		}
+		// 알림 수신자 캐시를 비우기 위해 모든 변경에 대해 이벤트 발행 (유효기간 알림 처리는 리스너에서 판단)
+		log.info("알림 설정 변경 이벤트 발행: 사용자ID={}, 알림타입={}", userId, typeCode);
+		applicationEventPublisher.publishEvent(
+			new NotificationSettingUpdatedEvent(userId, typeCode, isEnabled));
 	}
 
 	@Override
@@ -92,8 +88,7 @@ public class NotificationSettingAppServiceImpl implements NotificationSettingApp
 	public void updateExpirationCycle(ExpirationCycle expirationCycle) {
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 알림 타입 찾기
 		NotificationType notificationType = notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE);
@@ -112,4 +107,22 @@ public class NotificationSettingAppServiceImpl implements NotificationSettingApp
 		applicationEventPublisher.publishEvent(
 			new NotificationSettingUpdatedEvent(userId, NotificationTypeCode.EXPIRY_DATE, true));
 	}
+
+	@Override
+	@Transactional
+	public void updateExpiryDigest(Boolean isDigestEnabled) {
+
+		// 로그인 된 유저
+		Integer userId = securityServicePort.getLoggedInUserId();
+
+		// 알림 타입 찾기
+		NotificationType notificationType = notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE);
+
+		// 사용자 ID와 알림 타입 ID로 설정 직접 찾기
+		NotificationSetting setting = notificationSettingRepository
+			.findByUserIdAndNotificationTypeId(userId, notificationType.getId());
+
+		setting.updateIsDigestEnabled(isDigestEnabled);
+		log.info("유효기간 요약 알림 설정 변경: 사용자ID={}, 요약 알림={}", userId, isDigestEnabled);
+	}
 }
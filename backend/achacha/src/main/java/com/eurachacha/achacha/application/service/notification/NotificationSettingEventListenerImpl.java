@@ -6,8 +6,12 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.eurachacha.achacha.application.port.input.notification.GifticonExpiryNotificationAppService;
 import com.eurachacha.achacha.application.port.input.notification.NotificationSettingEventListener;
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.service.cache.CacheInvalidationService;
 import com.eurachacha.achacha.application.service.notification.event.NotificationSettingUpdatedEvent;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,17 +22,31 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationSettingEventListenerImpl implements NotificationSettingEventListener {
 
 	private final GifticonExpiryNotificationAppService gifticonExpiryNotificationAppService;
+	private final CacheInvalidationService cacheInvalidationService;
 
 	@Override
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleNotificationSettingUpdated(NotificationSettingUpdatedEvent event) {
 		log.info("알림 설정 이벤트 수신: 사용자ID={}, 알림타입={}, 활성화={}",
 			event.getUserId(), event.getTypeCode(), event.getIsEnabled());
+
+		// 커밋된 설정이 다음 알림부터 반영되도록 모든 노드의 수신자 캐시 제거 (이미 커밋 후이므로 바로 전파)
+		cacheInvalidationService.invalidateAndBroadcast(
+			CacheInvalidationDto.notificationSetting(event.getUserId(), event.getTypeCode()));
+
 		// EXPIRY_DATE 타입의 알림이 활성화될 때만 처리
-		if (event.getTypeCode() == NotificationTypeCode.EXPIRY_DATE && event.getIsEnabled()) {
+		if (event.getTypeCode() == NotificationTypeCode.EXPIRY_DATE && Boolean.TRUE.equals(event.getIsEnabled())) {
 			log.info("유효기간 알림 서비스 호출 시작: 사용자ID={}", event.getUserId());
 			// 해당 사용자의 유효기간 알림 서비스 호출
-			gifticonExpiryNotificationAppService.sendExpiryDateNotificationForUser(event.getUserId());
+			try {
+				gifticonExpiryNotificationAppService.sendExpiryDateNotificationForUser(event.getUserId());
+			} catch (CustomException e) {
+				// 스케줄러가 같은 알림을 먼저 발송한 경우 (사용자별 발송은 롤백됨)
+				if (e.getErrorCode() != ErrorCode.EXPIRY_NOTIFICATION_ALREADY_SENT) {
+					throw e;
+				}
+				log.info("이미 발송된 유효기간 알림이 있어 사용자별 발송 생략: 사용자ID={}", event.getUserId());
+			}
 		}
 	}
 }
@@ -0,0 +1,16 @@
+package com.eurachacha.achacha.application.service.notification.event;
+
+import java.util.List;
+
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+
+import lombok.Getter;
+
+@Getter
+public class BulkNotificationEventMessage {
+	private final List<NotificationEventDto> eventDtos;
+
+	public BulkNotificationEventMessage(List<NotificationEventDto> eventDtos) {
+		this.eventDtos = eventDtos;
+	}
+}
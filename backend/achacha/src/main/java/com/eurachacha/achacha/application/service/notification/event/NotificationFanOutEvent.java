@@ -0,0 +1,50 @@
+package com.eurachacha.achacha.application.service.notification.event;
+
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+
+import lombok.Getter;
+
+/**
+ * 쉐어박스 참여자 전체에게 보내는 알림 요청
+ * 커밋 이후 백그라운드에서 수신자 조회, 알림 저장, 푸시 발행을 처리함
+ */
+@Getter
+public class NotificationFanOutEvent {
+	private final Integer shareBoxId;
+	// 수신자를 직접 지정한 경우 (쉐어박스 삭제처럼 커밋 후 참여자를 조회할 수 없는 경우), null이면 참여자 전체
+	private final List<Integer> userIds;
+	// 수신자에서 제외할 사용자 ID (null이면 제외하지 않음)
+	private final Integer excludedUserId;
+	private final NotificationTypeCode typeCode;
+	private final String title;
+	private final String content;
+	private final String referenceEntityType;
+	private final Integer referenceEntityId;
+
+	private NotificationFanOutEvent(Integer shareBoxId, List<Integer> userIds, Integer excludedUserId,
+		NotificationTypeCode typeCode, String title, String content,
+		String referenceEntityType, Integer referenceEntityId) {
+		this.shareBoxId = shareBoxId;
+		this.userIds = userIds;
+		this.excludedUserId = excludedUserId;
+		this.typeCode = typeCode;
+		this.title = title;
+		this.content = content;
+		this.referenceEntityType = referenceEntityType;
+		this.referenceEntityId = referenceEntityId;
+	}
+
+	public static NotificationFanOutEvent toShareBoxMembers(Integer shareBoxId, Integer excludedUserId,
+		NotificationTypeCode typeCode, String content) {
+		return new NotificationFanOutEvent(shareBoxId, null, excludedUserId, typeCode, typeCode.getDisplayName(),
+			content, "sharebox", shareBoxId);
+	}
+
+	public static NotificationFanOutEvent toUsers(Integer shareBoxId, List<Integer> userIds,
+		NotificationTypeCode typeCode, String content) {
+		return new NotificationFanOutEvent(shareBoxId, List.copyOf(userIds), null, typeCode,
+			typeCode.getDisplayName(), content, "sharebox", shareBoxId);
+	}
+}
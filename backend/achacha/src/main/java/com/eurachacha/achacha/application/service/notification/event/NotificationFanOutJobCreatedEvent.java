@@ -0,0 +1,13 @@
+package com.eurachacha.achacha.application.service.notification.event;
+
+import lombok.Getter;
+
+// 요청 트랜잭션에 저장된 쉐어박스 참여자 알림 작업 (커밋 후 바로 처리하는 데 사용)
+@Getter
+public class NotificationFanOutJobCreatedEvent {
+	private final Long jobId;
+
+	public NotificationFanOutJobCreatedEvent(Long jobId) {
+		this.jobId = jobId;
+	}
+}
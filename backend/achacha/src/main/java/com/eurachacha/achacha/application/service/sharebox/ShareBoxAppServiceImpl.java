@@ -28,29 +28,21 @@ import com.eurachacha.achacha.application.port.input.sharebox.dto.response.Share
 import com.eurachacha.achacha.application.port.input.sharebox.dto.response.ShareBoxSettingsResponseDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.response.ShareBoxesResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
-import com.eurachacha.achacha.application.port.output.file.FileRepository;
-import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
-import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
-import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.application.service.gifticon.GifticonPageAssembler;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
-import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonUsedSortType;
-import com.eurachacha.achacha.domain.model.history.UsageHistory;
-import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
 import com.eurachacha.achacha.domain.model.sharebox.Participation;
@@ -58,7 +50,6 @@ import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.sharebox.enums.ShareBoxSortType;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
 import com.eurachacha.achacha.domain.service.sharebox.ShareBoxDomainService;
 import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.PageableFactory;
 import com.eurachacha.achacha.web.common.exception.CustomException;
@@ -76,20 +67,17 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 
 	private final ShareBoxDomainService shareBoxDomainService;
 	private final GifticonDomainService gifticonDomainService;
-	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ShareBoxRepository shareBoxRepository;
 	private final GifticonRepository gifticonRepository;
 	private final ParticipationRepository participationRepository;
+	private final ShareBoxMembershipCache shareBoxMembershipCache;
 	private final PageableFactory pageableFactory;
-	private final FileRepository fileRepository;
-	private final FileStoragePort fileStoragePort;
-	private final UsageHistoryRepository usageHistoryRepository;
+	private final GifticonPageAssembler gifticonPageAssembler;
 	private final SecurityServicePort securityServicePort;
 	private final NotificationRepository notificationRepository;
 	private final NotificationTypeRepository notificationTypeRepository;
-	private final NotificationSettingRepository notificationSettingRepository;
-	private final FcmTokenRepository fcmTokenRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final NotificationRecipientResolver notificationRecipientResolver;
 
 	@Transactional
 	@Override
@@ -141,7 +129,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		// 참여 가능 여부 검증
 		shareBoxDomainService.validateParticipationAllowed(shareBox);
 
-		// 이미 참여 중인지 확인
+		// 이미 참여 중인지 확인 (쓰기 경로는 캐시 대신 DB로 확인)
 		if (participationRepository.checkParticipation(userId, shareBox.getId())) {
 			throw new CustomException(ErrorCode.ALREADY_PARTICIPATING_SHAREBOX);
 		}
@@ -157,6 +145,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 			.build();
 
 		participationRepository.save(participation);
+		shareBoxMembershipCache.evict(List.of(userId));
 
 		log.info("쉐어박스 참여 완료 - 사용자 ID: {}, 쉐어박스 ID: {}", userId, shareBox.getId());
 
@@ -170,8 +159,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("기프티콘 공유 시작 - 쉐어박스 ID: {}, 기프티콘 ID: {}", shareBoxId, gifticonId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 조회
 		ShareBox shareBox = shareBoxRepository.findById(shareBoxId);
@@ -210,8 +198,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("기프티콘 공유 해제 시작 - 쉐어박스 ID: {}, 기프티콘 ID: {}", shareBoxId, gifticonId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 존재 여부 확인
 		if (!shareBoxRepository.existsById(shareBoxId)) {
@@ -245,8 +232,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 목록 조회 시작");
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 페이징 처리
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
@@ -298,8 +284,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 			shareBoxId, requestDto.getShareBoxAllowParticipation());
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 조회
 		ShareBox shareBox = shareBoxRepository.findById(shareBoxId);
@@ -320,8 +305,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 			shareBoxId, requestDto.getShareBoxName());
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 조회
 		ShareBox shareBox = shareBoxRepository.findById(shareBoxId);
@@ -344,8 +328,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 탈퇴 시작 - 쉐어박스 ID: {}", shareBoxId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 조회
 		ShareBox shareBox = shareBoxRepository.findById(shareBoxId);
@@ -362,16 +345,17 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		if (isOwner) {
 			log.info("방장의 쉐어박스 탈퇴로 인한 쉐어박스 삭제 - 쉐어박스 ID: {}", shareBoxId);
 
-			// 쉐어박스 삭제 알림을 전송하기 위해 참여자 목록 미리 조회
-			List<Participation> participations = participationRepository.findByShareBoxId(shareBoxId);
+			// 쉐어박스 삭제 알림을 전송하기 위해 참여자 ID 목록 미리 조회
+			List<Integer> participantIds = participationRepository.findUserIdsByShareBoxId(shareBoxId);
 			// 1. 모든 쉐어박스 연결 기프티콘 해제 (벌크 업데이트)
 			gifticonRepository.unshareAllGifticonsByShareBoxId(shareBoxId);
 			// 2. 모든 참여 정보 삭제
 			participationRepository.deleteAllByShareBoxId(shareBoxId);
+			shareBoxMembershipCache.evict(participantIds);
 			// 3. 쉐어박스 삭제
 			shareBoxRepository.delete(shareBox);
 			// 쉐어박스 삭제 알림 전송
-			sendShareBoxDeletedNotification(shareBox, participations);
+			sendShareBoxDeletedNotification(shareBox, participantIds);
 
 			return;
 		}
@@ -384,6 +368,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 
 		// 2. 참여 정보 삭제
 		participationRepository.deleteByUserIdAndShareBoxId(userId, shareBoxId);
+		shareBoxMembershipCache.evict(List.of(userId));
 
 		log.info("쉐어박스 탈퇴 완료 - 사용자 ID: {}, 쉐어박스 ID: {}", userId, shareBoxId);
 	}
@@ -399,8 +384,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 내 사용가능한 기프티콘 조회 시작 - 쉐어박스 ID: {}", shareBoxId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 존재 여부 확인
 		if (!shareBoxRepository.existsById(shareBoxId)) {
@@ -408,7 +392,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		}
 
 		// 참여 권한 검증 - 서비스 레이어에서 권한 검증
-		if (!participationRepository.checkParticipation(userId, shareBoxId)) {
+		if (!shareBoxMembershipCache.isMember(userId, shareBoxId)) {
 			throw new CustomException(ErrorCode.UNAUTHORIZED_SHAREBOX_ACCESS);
 		}
 
@@ -419,23 +403,9 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		Slice<Gifticon> gifticonSlice = gifticonRepository.findGifticonsByShareBoxId(
 			shareBoxId, type, pageable);
 
-		// 기프티콘 엔티티를 DTO로 변환
-		List<AvailableGifticonResponseDto> availableGifticonDtos = gifticonSlice.getContent().stream()
-			.map(gifticon -> AvailableGifticonResponseDto.builder()
-				.gifticonId(gifticon.getId())
-				.gifticonName(gifticon.getName())
-				.gifticonType(gifticon.getType())
-				.gifticonExpiryDate(gifticon.getExpiryDate())
-				.brandId(gifticon.getBrand().getId())
-				.brandName(gifticon.getBrand().getName())
-				.scope(GifticonScopeType.SHARE_BOX.name())
-				.userId(gifticon.getUser().getId())
-				.userName(gifticon.getUser().getName())
-				.shareboxId(gifticon.getSharebox().getId())
-				.shareboxName(gifticon.getSharebox().getName())
-				.thumbnailPath(getGifticonThumbnailPath(gifticon.getId()))
-				.build())
-			.collect(Collectors.toList());
+		// 기프티콘 엔티티를 DTO로 변환 (썸네일은 페이지 단위로 한 번에 조회)
+		List<AvailableGifticonResponseDto> availableGifticonDtos =
+			gifticonPageAssembler.toAvailableGifticonResponseDtos(gifticonSlice.getContent());
 
 		log.info("쉐어박스 내 사용가능한 기프티콘 조회 완료 - 쉐어박스 ID: {}, 조회된 기프티콘 수: {}",
 			shareBoxId, availableGifticonDtos.size());
@@ -459,8 +429,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 내 사용완료 기프티콘 조회 시작 - 쉐어박스 ID: {}", shareBoxId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 존재 여부 확인
 		if (!shareBoxRepository.existsById(shareBoxId)) {
@@ -468,7 +437,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		}
 
 		// 참여 권한 검증
-		if (!participationRepository.checkParticipation(userId, shareBoxId)) {
+		if (!shareBoxMembershipCache.isMember(userId, shareBoxId)) {
 			throw new CustomException(ErrorCode.UNAUTHORIZED_SHAREBOX_ACCESS);
 		}
 
@@ -479,33 +448,9 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		Slice<Gifticon> gifticonSlice = gifticonRepository.findUsedGifticonsByShareBoxId(
 			shareBoxId, type, pageable);
 
-		// 기프티콘 엔티티를 DTO로 변환 (사용 이력 포함)
-		List<UsedGifticonResponseDto> usedGifticonDtos = new ArrayList<>();
-
-		for (Gifticon gifticon : gifticonSlice.getContent()) {
-			// 각 기프티콘의 사용 이력 조회 (마지막 사용자)
-			List<UsageHistory> usageHistories = usageHistoryRepository.findAllByGifticonIdOrderByCreatedAtDesc(
-				gifticon.getId());
-
-			// 사용 이력이 있는 경우
-			if (!usageHistories.isEmpty()) {
-				UsageHistory lastUsage = usageHistories.get(0); // 가장 최근 사용 이력
-
-				usedGifticonDtos.add(UsedGifticonResponseDto.builder()
-					.gifticonId(gifticon.getId())
-					.gifticonName(gifticon.getName())
-					.gifticonType(gifticon.getType())
-					.gifticonExpiryDate(gifticon.getExpiryDate())
-					.brandId(gifticon.getBrand().getId())
-					.brandName(gifticon.getBrand().getName())
-					.userId(lastUsage.getUser().getId())       // 실제 사용한 사용자 ID
-					.userName(lastUsage.getUser().getName())   // 실제 사용한 사용자 이름
-					.usageType(UsageType.SELF_USE)             // 기본값으로 SELF_USE 설정
-					.usedAt(lastUsage.getCreatedAt())          // 사용 시간
-					.thumbnailPath(getGifticonThumbnailPath(gifticon.getId()))
-					.build());
-			}
-		}
+		// 기프티콘 엔티티를 DTO로 변환 (마지막 사용 이력, 썸네일은 페이지 단위로 한 번에 조회)
+		List<UsedGifticonResponseDto> usedGifticonDtos = gifticonPageAssembler.toShareBoxUsedGifticonResponseDtos(
+			gifticonSlice.getContent());
 
 		log.info("쉐어박스 내 사용완료 기프티콘 조회 완료 - 쉐어박스 ID: {}, 조회된 기프티콘 수: {}",
 			shareBoxId, usedGifticonDtos.size());
@@ -522,14 +467,13 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 설정 조회 시작 - 쉐어박스 ID: {}", shareBoxId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 조회
 		ShareBox shareBox = shareBoxRepository.findById(shareBoxId);
 
 		// 참여 권한 검증
-		if (!participationRepository.checkParticipation(userId, shareBoxId)) {
+		if (!shareBoxMembershipCache.isMember(userId, shareBoxId)) {
 			throw new CustomException(ErrorCode.UNAUTHORIZED_SHAREBOX_ACCESS);
 		}
 
@@ -549,14 +493,13 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 참여자 조회 시작 - 쉐어박스 ID: {}", shareBoxId);
 
 		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-		Integer userId = loggedInUser.getId();
+		Integer userId = securityServicePort.getLoggedInUserId();
 
 		// 쉐어박스 조회
 		ShareBox shareBox = shareBoxRepository.findById(shareBoxId);
 
 		// 참여 권한 검증
-		if (!participationRepository.checkParticipation(userId, shareBoxId)) {
+		if (!shareBoxMembershipCache.isMember(userId, shareBoxId)) {
 			throw new CustomException(ErrorCode.UNAUTHORIZED_SHAREBOX_ACCESS);
 		}
 
@@ -616,17 +559,10 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 			.build();
 
 		participationRepository.save(participation);
+		shareBoxMembershipCache.evict(List.of(user.getId()));
 		log.info("쉐어박스 참여 정보 저장 완료 (사용자 ID: {}, 쉐어박스 ID: {})", user.getId(), shareBox.getId());
 	}
 
-	// 기프티콘 썸네일 경로를 가져오는 헬퍼 메서드
-	private String getGifticonThumbnailPath(Integer gifticonId) {
-		return fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(
-				"gifticon", gifticonId, FileType.THUMBNAIL)
-			.map(file -> fileStoragePort.generateFileUrl(file.getPath(), FileType.THUMBNAIL))
-			.orElse(null);
-	}
-
 	/**
 	 * 쉐어박스 멤버 참여 알림을 전송합니다.
 	 */
@@ -634,16 +570,11 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		try {
 			log.info("쉐어박스 멤버 참여 알림 전송 시작 - 쉐어박스 ID: {}, 신규 멤버 ID: {}", shareBox.getId(), newMember.getId());
 
-			// 알림 타입 조회
-			NotificationType notificationType = notificationTypeRepository.findByCode(
-				NotificationTypeCode.SHAREBOX_MEMBER_JOIN);
-			String title = notificationType.getCode().getDisplayName();
-
-			// 1. 기존 참여자들에게 알림 전송
-			sendNotificationToExistingMembers(shareBox, newMember, notificationType, title);
+			// 1. 기존 참여자들에게 알림 전송 (커밋 후 백그라운드 처리)
+			sendNotificationToExistingMembers(shareBox, newMember);
 
 			// 2. 신규 참여자에게 환영 알림 전송
-			sendWelcomeNotificationToNewMember(shareBox, newMember, notificationType, title);
+			sendWelcomeNotificationToNewMember(shareBox, newMember);
 
 			log.info("쉐어박스 멤버 참여 알림 전송 완료 - 쉐어박스 ID: {}", shareBox.getId());
 		} catch (Exception e) {
@@ -656,34 +587,25 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 	/**
 	 * 쉐어박스의 기존 참여자들에게 새 멤버 참여 알림을 전송합니다.
 	 */
-	private void sendNotificationToExistingMembers(ShareBox shareBox, User newMember, NotificationType notificationType,
-		String title) {
+	private void sendNotificationToExistingMembers(ShareBox shareBox, User newMember) {
 		// 기존 참여자들에게 전송할 알림 내용
 		String content = String.format("%s 쉐어박스에 %s님이 참여했어요. 기프티콘을 공유해볼까요?",
 			shareBox.getName(), newMember.getName());
 
-		// 해당 쉐어박스의 모든 참여자 조회
-		List<Participation> participations = participationRepository.findByShareBoxId(shareBox.getId());
-
-		for (Participation participation : participations) {
-			User participant = participation.getUser();
-			Integer participantId = participant.getId();
-
-			// 신규 참여자에게는 알림을 보내지 않음
-			if (participantId.equals(newMember.getId())) {
-				continue;
-			}
-
-			// 참여자에게 알림 전송
-			sendNotificationToUser(participantId, notificationType, title, content, "sharebox", shareBox.getId());
-		}
+		// 신규 참여자를 제외한 모든 참여자에게 알림 전송
+		applicationEventPublisher.publishEvent(NotificationFanOutEvent.toShareBoxMembers(shareBox.getId(),
+			newMember.getId(), NotificationTypeCode.SHAREBOX_MEMBER_JOIN, content));
 	}
 
 	/**
 	 * 새로 참여한 멤버에게 환영 알림을 전송합니다.
 	 */
-	private void sendWelcomeNotificationToNewMember(ShareBox shareBox, User newMember,
-		NotificationType notificationType, String title) {
+	private void sendWelcomeNotificationToNewMember(ShareBox shareBox, User newMember) {
+		// 알림 타입 조회
+		NotificationType notificationType = notificationTypeRepository.findByCode(
+			NotificationTypeCode.SHAREBOX_MEMBER_JOIN);
+		String title = notificationType.getCode().getDisplayName();
+
 		// 신규 참여자에게 전송할 알림 내용
 		String content = String.format("%s 쉐어박스에 참여했어요. 기프티콘을 공유해볼까요?",
 			shareBox.getName());
@@ -694,105 +616,60 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 
 	/**
 	 * 쉐어박스 삭제 알림을 전송합니다.
+	 * 참여 정보가 함께 삭제되므로 삭제 전에 조회한 참여자 ID를 넘겨줍니다.
 	 */
-	private void sendShareBoxDeletedNotification(ShareBox shareBox, List<Participation> participations) {
-		try {
-			log.info("쉐어박스 삭제 알림 전송 시작 - 쉐어박스 ID: {}", shareBox.getId());
-
-			// 알림 타입 조회
-			NotificationType notificationType = notificationTypeRepository.findByCode(
-				NotificationTypeCode.SHAREBOX_DELETED);
-			String title = notificationType.getCode().getDisplayName();
+	private void sendShareBoxDeletedNotification(ShareBox shareBox, List<Integer> participantIds) {
+		// 알림 내용 설정
+		String content = String.format("%s 쉐어박스가 삭제되었어요.", shareBox.getName());
 
-			// 알림 내용 설정
-			String content = String.format("%s 쉐어박스가 삭제되었어요.", shareBox.getName());
+		// 모든 참여자에게 알림 전송 (커밋 후 백그라운드 처리)
+		applicationEventPublisher.publishEvent(NotificationFanOutEvent.toUsers(shareBox.getId(), participantIds,
+			NotificationTypeCode.SHAREBOX_DELETED, content));
 
-			// 모든 참여자에게 알림 전송
-			for (Participation participation : participations) {
-				User participant = participation.getUser();
-				Integer participantId = participant.getId();
-
-				// 참여자에게 알림 전송
-				sendNotificationToUser(participantId, notificationType, title, content, "sharebox", shareBox.getId());
-			}
-
-			log.info("쉐어박스 삭제 알림 전송 완료 - 쉐어박스 ID: {}", shareBox.getId());
-		} catch (Exception e) {
-			// 알림 전송 실패시 로그만 남기고 계속 진행
-			log.error("쉐어박스 삭제 알림 전송 실패 - 쉐어박스 ID: {}, 오류: {}",
-				shareBox.getId(), e.getMessage(), e);
-		}
+		log.info("쉐어박스 삭제 알림 요청 완료 - 쉐어박스 ID: {}, 참여자 수: {}", shareBox.getId(), participantIds.size());
 	}
 
 	/**
 	 * 기프티콘 쉐어박스 공유 알림을 전송합니다.
 	 */
 	private void sendGifticonSharedNotification(ShareBox shareBox, Gifticon gifticon) {
-		try {
-			log.info("기프티콘 쉐어박스 공유 알림 전송 시작 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
-				shareBox.getId(), gifticon.getId());
-
-			// 알림 타입 조회
-			NotificationType notificationType = notificationTypeRepository.findByCode(
-				NotificationTypeCode.SHAREBOX_GIFTICON);
-			String title = notificationType.getCode().getDisplayName();
-
-			// 알림 내용 설정
-			String content = String.format("[%s] 쉐어박스에 [%s]이(가) 등록되었어요.",
-				shareBox.getName(), gifticon.getName());
-
-			// 해당 쉐어박스의 모든 참여자 조회
-			List<Participation> participations = participationRepository.findByShareBoxId(shareBox.getId());
+		// 알림 내용 설정
+		String content = String.format("[%s] 쉐어박스에 [%s]이(가) 등록되었어요.",
+			shareBox.getName(), gifticon.getName());
 
-			for (Participation participation : participations) {
-				User participant = participation.getUser();
-				Integer participantId = participant.getId();
+		// 모든 참여자에게 알림 전송 (공유한 사용자 포함, 커밋 후 백그라운드 처리)
+		applicationEventPublisher.publishEvent(NotificationFanOutEvent.toShareBoxMembers(shareBox.getId(), null,
+			NotificationTypeCode.SHAREBOX_GIFTICON, content));
 
-				// 모든 참여자에게 알림 전송 (공유한 사용자 포함)
-				sendNotificationToUser(participantId, notificationType, title, content,
-					"sharebox", shareBox.getId());
-			}
-
-			log.info("기프티콘 쉐어박스 공유 알림 전송 완료 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
-				shareBox.getId(), gifticon.getId());
-		} catch (Exception e) {
-			// 알림 전송 실패시 로그만 남기고 계속 진행
-			log.error("기프티콘 쉐어박스 공유 알림 전송 실패 - 쉐어박스 ID: {}, 기프티콘 ID: {}, 오류: {}",
-				shareBox.getId(), gifticon.getId(), e.getMessage(), e);
-		}
+		log.info("기프티콘 쉐어박스 공유 알림 요청 완료 - 쉐어박스 ID: {}, 기프티콘 ID: {}",
+			shareBox.getId(), gifticon.getId());
 	}
 
 	/**
 	 * 지정된 사용자에게 알림을 전송합니다.
 	 */
 	private void sendNotificationToUser(Integer userId, NotificationType notificationType,
+		String title, String content,
+		String referenceEntityType, Integer referenceEntityId) {
+		sendNotificationToUsers(List.of(userId), notificationType, title, content, referenceEntityType,
+			referenceEntityId);
+	}
+
+	/**
+	 * 지정된 사용자들에게 같은 알림을 전송합니다.
+	 */
+	private void sendNotificationToUsers(List<Integer> userIds, NotificationType notificationType,
 		String title, String content,
 		String referenceEntityType, Integer referenceEntityId) {
 		// 항상 알림 정보는 데이터베이스에 저장
-		saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId);
+		userIds.forEach(userId ->
+			saveNotification(userId, notificationType, title, content, referenceEntityType, referenceEntityId));
 
-		// 사용자의 알림 설정 조회
-		try {
-			NotificationSetting setting = notificationSettingRepository.findByUserIdAndNotificationTypeId(
-				userId, notificationType.getId());
-
-			// 사용자가 해당 알림을 비활성화했으면 FCM 알림만 보내지 않음
-			if (!notificationSettingDomainService.isEnabled(setting)) {
-				log.info("사용자가 알림을 비활성화하여 FCM 알림은 전송하지 않음 - 알림 타입: {}, 사용자 ID: {}",
-					notificationType.getCode(), userId);
-				return;
-			}
-		} catch (CustomException e) {
-			// 알림 설정이 없는 경우 기본적으로 FCM 알림을 보내지 않음
-			if (e.getErrorCode() == ErrorCode.NOTIFICATION_SETTING_NOT_FOUND) {
-				log.info("사용자의 알림 설정을 찾을 수 없어 FCM 알림은 전송하지 않음 - 사용자 ID: {}", userId);
-				return;
-			}
-			throw e;
-		}
+		// 알림을 켠 사용자와 FCM 토큰을 한 번에 조회 (설정이 없거나 비활성화한 사용자는 FCM 알림만 보내지 않음)
+		Map<Integer, List<String>> recipients = notificationRecipientResolver.resolve(userIds, notificationType);
 
 		// FCM 토큰 조회 및 알림 전송
-		sendPushNotification(userId, title, content, notificationType.getCode(), referenceEntityType,
+		sendPushNotification(recipients, title, content, notificationType.getCode(), referenceEntityType,
 			referenceEntityId);
 	}
 
@@ -821,32 +698,28 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 	/**
 	 * FCM을 통해 푸시 알림을 전송합니다.
 	 */
-	private void sendPushNotification(Integer userId, String title, String content,
+	private void sendPushNotification(Map<Integer, List<String>> recipients, String title, String content,
 		NotificationTypeCode typeCode,
 		String referenceEntityType, Integer referenceEntityId) {
-		// FCM 토큰 조회
-		List<FcmToken> fcmTokens = fcmTokenRepository.findAllByUserId(userId);
-
-		if (fcmTokens.isEmpty()) {
-			log.info("사용자의 FCM 토큰이 없음 - 사용자 ID: {}", userId);
-			return;
-		}
-
-		// 사용자의 모든 기기에 알림 전송
-		for (FcmToken fcmToken : fcmTokens) {
-			NotificationEventDto eventDto = NotificationEventDto.builder()
-				.fcmToken(fcmToken.getValue())
+		// 수신자들의 모든 기기에 보낼 알림을 모아 한 번에 발행
+		List<NotificationEventDto> eventDtos = new ArrayList<>();
+		recipients.forEach((userId, fcmTokens) -> fcmTokens.forEach(fcmToken -> eventDtos.add(
+			NotificationEventDto.builder()
+				.fcmToken(fcmToken)
 				.title(title)
 				.body(content)
 				.userId(userId)
 				.notificationTypeCode(typeCode.name())
 				.referenceEntityId(referenceEntityId)
 				.referenceEntityType(referenceEntityType)
-				.build();
+				.build())));
 
-			applicationEventPublisher.publishEvent(new NotificationEventMessage(eventDto));
+		if (eventDtos.isEmpty()) {
+			log.info("알림을 받을 FCM 토큰이 없음 - 수신자 수: {}", recipients.size());
+			return;
 		}
 
-		log.debug("푸시 알림 전송 완료 - 사용자 ID: {}", userId);
+		applicationEventPublisher.publishEvent(new BulkNotificationEventMessage(eventDtos));
+		log.debug("푸시 알림 전송 완료 - 수신자 수: {}, 토큰 수: {}", recipients.size(), eventDtos.size());
 	}
 }
\ No newline at end of file
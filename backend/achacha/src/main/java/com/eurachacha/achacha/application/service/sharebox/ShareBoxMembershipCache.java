@@ -0,0 +1,66 @@
+package com.eurachacha.achacha.application.service.sharebox;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.service.cache.event.CacheInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쉐어박스 참여 여부 캐시
+ * 사용자 ID -> 참여 중인 쉐어박스 ID 집합을 사용자당 한 번의 쿼리로 적재하여 참여 확인을 메모리 조회로 처리
+ * 참여/탈퇴/삭제 시 커밋 후 모든 노드에서 해당 사용자 항목을 비움 (CacheInvalidationService)
+ * 메시지를 받지 못한 노드도 만료 시간(CACHE_TTL) 안에 반영됨
+ * 그 사이 오래된 값이 보일 수 있으므로 조회 경로에만 사용하고, 참여/탈퇴/공유/사용 같은 쓰기 경로는 DB로 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class ShareBoxMembershipCache {
+
+	private static final long CACHE_MAX_SIZE = 50000L;
+	private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+	private final ParticipationRepository participationRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	// 사용자 ID별 참여 중인 쉐어박스 ID 집합 (참여하지 않은 사용자는 빈 집합)
+	private final Cache<Integer, Set<Integer>> shareBoxIdsByUserId = Caffeine.newBuilder()
+		.maximumSize(CACHE_MAX_SIZE)
+		.expireAfterWrite(CACHE_TTL)
+		.build();
+
+	public boolean isMember(Integer userId, Integer shareBoxId) {
+		return shareBoxIdsByUserId.get(userId, this::loadShareBoxIds).contains(shareBoxId);
+	}
+
+	/**
+	 * 참여 목록이 바뀐 사용자들의 캐시를 현재 트랜잭션 커밋 후 비움
+	 * 커밋 전에 비우면 그 사이 다른 요청이 변경 전 목록을 다시 적재할 수 있음
+	 */
+	public void evict(Collection<Integer> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		applicationEventPublisher.publishEvent(
+			new CacheInvalidationEvent(CacheInvalidationDto.shareBoxMembership(List.copyOf(userIds))));
+	}
+
+	// 현재 노드의 캐시만 비움
+	public void invalidateLocal(List<Integer> userIds) {
+		shareBoxIdsByUserId.invalidateAll(userIds);
+	}
+
+	private Set<Integer> loadShareBoxIds(Integer userId) {
+		return Set.copyOf(participationRepository.findShareBoxIdsByUserId(userId));
+	}
+}
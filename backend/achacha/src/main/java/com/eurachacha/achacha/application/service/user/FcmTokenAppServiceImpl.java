@@ -0,0 +1,62 @@
+package com.eurachacha.achacha.application.service.user;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.input.user.FcmTokenAppService;
+import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FcmTokenAppServiceImpl implements FcmTokenAppService {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final FcmTokenRepository fcmTokenRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final NotificationRecipientResolver notificationRecipientResolver;
+
+	/*
+	 * 배치마다 별도 트랜잭션으로 삭제하여 한 번에 많은 행을 잠그지 않음
+	 * 삭제한 토큰 수는 fcm.token.pruned 카운터로 기록되며 일별 정리 건수는 이 카운터의 증가량으로 확인
+	 */
+	@Override
+	public int pruneInvalidTokens(List<String> tokenValues) {
+		List<String> distinctValues = List.copyOf(new LinkedHashSet<>(tokenValues));
+		int pruned = 0;
+
+		for (int from = 0; from < distinctValues.size(); from += BATCH_SIZE) {
+			List<String> chunk = distinctValues.subList(from, Math.min(from + BATCH_SIZE, distinctValues.size()));
+			Integer deleted = transactionTemplate.execute(status -> fcmTokenRepository.deleteAllByValueIn(chunk));
+			pruned += deleted == null ? 0 : deleted;
+		}
+
+		// 토큰 값으로 삭제하여 소유자를 알 수 없으므로 토큰 캐시 전체 제거
+		notificationRecipientResolver.evictAllFcmTokens();
+		meterRegistry.counter("fcm.token.pruned").increment(pruned);
+		log.info("무효 FCM 토큰 정리: 요청={}, 삭제={}", distinctValues.size(), pruned);
+		return pruned;
+	}
+
+	@Override
+	public int expireStaleTokens(int retentionDays) {
+		LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+		int expired = fcmTokenRepository.deleteAllByLastSeenAtBefore(threshold);
+
+		notificationRecipientResolver.evictAllFcmTokens();
+		meterRegistry.counter("fcm.token.expired").increment(expired);
+		log.info("오래된 FCM 토큰 정리: 기준={}, 삭제={}", threshold, expired);
+		return expired;
+	}
+}
@@ -1,5 +1,7 @@
 package com.eurachacha.achacha.domain.model.fcm;
 
+import java.time.LocalDateTime;
+
 import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
 import com.eurachacha.achacha.domain.model.user.User;
 
@@ -9,8 +11,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +24,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(
+	// 기기 토큰 하나는 한 행에만 존재 (다른 계정으로 로그인하면 사용자가 바뀜)
+	uniqueConstraints = @UniqueConstraint(name = "uk_fcm_token_value", columnNames = "value"),
+	indexes = @Index(name = "idx_fcm_token_last_seen_at", columnList = "last_seen_at")
+)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -37,6 +47,10 @@ public class FcmToken extends TimeStampEntity {
 	@Column(length = 255)
 	private String value;
 
+	// 마지막으로 로그인에 사용된 시각, 오래 보이지 않은 토큰은 만료 처리
+	@Column(name = "last_seen_at")
+	private LocalDateTime lastSeenAt;
+
 	public void updateTokenValue(String newTokenValue) {
 		this.value = newTokenValue;
 	}
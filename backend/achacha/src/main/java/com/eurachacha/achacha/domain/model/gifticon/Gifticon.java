@@ -2,6 +2,7 @@ package com.eurachacha.achacha.domain.model.gifticon;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.Function;
 
 import org.hibernate.annotations.SQLRestriction;
 
@@ -10,19 +11,22 @@ import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.user.User;
-import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.converter.BarcodeConverter;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.listener.GifticonBarcodeListener;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +34,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 커서 페이징(EXPIRY_ASC, CREATED_DESC)용 복합 인덱스
+	@Index(name = "idx_gifticon_user_expiry_id", columnList = "user_id, expiry_date, id"),
+	@Index(name = "idx_gifticon_user_created_id", columnList = "user_id, created_at, id"),
+	@Index(name = "idx_gifticon_sharebox_expiry_id", columnList = "sharebox_id, expiry_date, id"),
+	@Index(name = "idx_gifticon_sharebox_created_id", columnList = "sharebox_id, created_at, id"),
+	// 유효기간 알림 대상 키셋 조회용 인덱스
+	@Index(name = "idx_gifticon_expiry_id", columnList = "expiry_date, id"),
+	// 바코드 중복 검사용 블라인드 인덱스
+	@Index(name = "uk_gifticon_barcode_hash", columnList = "barcode_hash", unique = true)
+})
+@EntityListeners(GifticonBarcodeListener.class)
 @SQLRestriction("is_deleted = false")
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,10 +63,21 @@ public class Gifticon extends TimeStampEntity {
 	@Enumerated(EnumType.STRING)
 	private GifticonType type;
 
-	@Column(length = 128)
-	@Convert(converter = BarcodeConverter.class)
+	// DB에 저장되는 바코드 암호문
+	@Column(name = "barcode", length = 128)
+	private String encryptedBarcode;
+
+	// 평문 바코드 (조회된 엔티티는 getBarcode() 최초 호출 시 복호화)
+	@Transient
 	private String barcode;
 
+	@Transient
+	private Function<String, String> barcodeDecryptor;
+
+	// 바코드 HMAC-SHA256 값 (삭제된 기프티콘은 null)
+	@Column(length = 64)
+	private String barcodeHash;
+
 	private Integer originalAmount;
 
 	private Integer remainingAmount;
@@ -94,6 +121,10 @@ public class Gifticon extends TimeStampEntity {
 		}
 	}
 
+	public void updateBarcodeHash(String barcodeHash) {
+		this.barcodeHash = barcodeHash;
+	}
+
 	// 사용 취소 메서드
 	public void cancelUse() {
 		this.isUsed = false;
@@ -113,6 +144,27 @@ public class Gifticon extends TimeStampEntity {
 
 	public void deleteBarcode() {
 		this.barcode = null;
+		this.encryptedBarcode = null;
+	}
+
+	// 목록 조회처럼 바코드를 쓰지 않는 경우 복호화 비용이 들지 않도록 지연 복호화
+	public String getBarcode() {
+		if (this.barcode == null && this.encryptedBarcode != null && this.barcodeDecryptor != null) {
+			this.barcode = this.barcodeDecryptor.apply(this.encryptedBarcode);
+		}
+
+		return this.barcode;
+	}
+
+	public void attachBarcodeDecryptor(Function<String, String> barcodeDecryptor) {
+		this.barcodeDecryptor = barcodeDecryptor;
+	}
+
+	// 신규 등록된 바코드 암호화
+	public void encryptBarcode(Function<String, String> barcodeEncryptor) {
+		if (this.barcode != null && this.encryptedBarcode == null) {
+			this.encryptedBarcode = barcodeEncryptor.apply(this.barcode);
+		}
 	}
 
 	public void updateUser(User user) {
@@ -13,7 +13,7 @@ public enum GifticonSortType implements SortableEnum {
 
 		@Override
 		public Sort createSort() {
-			return Sort.by("createdAt").descending();
+			return Sort.by("createdAt").descending().and(Sort.by("id").descending());
 		}
 	},
 	EXPIRY_ASC { // 만료순
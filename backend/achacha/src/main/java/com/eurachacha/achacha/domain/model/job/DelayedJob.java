@@ -0,0 +1,78 @@
+package com.eurachacha.achacha.domain.model.job;
+
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobStatus;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영속화된 지연 작업
+ * 파드가 재시작되어도 유실되지 않으며, lease(lockedBy, lockedUntil)를 통해 하나의 노드만 실행함
+ */
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_delayed_job_status_due_at", columnList = "status, due_at"),
+	@Index(name = "idx_delayed_job_reference", columnList = "job_type, reference_entity_id, status")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class DelayedJob extends TimeStampEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "job_type", length = 32, nullable = false)
+	private DelayedJobType jobType;
+
+	// 같은 작업의 중복 예약을 막기 위한 키 (예: USAGE_COMPLETE_REMINDER:기프티콘ID:사용자ID)
+	@Column(name = "dedupe_key", length = 128, nullable = false, unique = true)
+	private String dedupeKey;
+
+	@Column(name = "user_id")
+	private Integer userId;
+
+	@Column(name = "reference_entity_id")
+	private Integer referenceEntityId;
+
+	@Column(name = "due_at", nullable = false)
+	private LocalDateTime dueAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 16, nullable = false)
+	private DelayedJobStatus status;
+
+	@Column(name = "locked_by", length = 128)
+	private String lockedBy;
+
+	@Column(name = "locked_until")
+	private LocalDateTime lockedUntil;
+
+	@Builder.Default
+	@Column(name = "attempts")
+	private Integer attempts = 0;
+
+	// 중복 예약 방지 키 생성
+	public static String createDedupeKey(DelayedJobType jobType, Integer referenceEntityId, Integer userId) {
+		return jobType.name() + ":" + referenceEntityId + ":" + userId;
+	}
+}
@@ -0,0 +1,76 @@
+package com.eurachacha.achacha.domain.model.job;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대용량 일괄 작업의 진행 위치
+ * 청크 처리와 같은 트랜잭션에서 갱신되므로 장애 후 마지막으로 커밋된 위치부터 재개할 수 있음
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class JobCheckpoint extends TimeStampEntity {
+
+	@Id
+	@Column(name = "job_name", length = 64)
+	private String jobName;
+
+	@Builder.Default
+	@Column(name = "last_processed_id", nullable = false)
+	private Long lastProcessedId = 0L;
+
+	@Builder.Default
+	@Column(name = "processed_count", nullable = false)
+	private Long processedCount = 0L;
+
+	@Builder.Default
+	@Column(name = "failed_count", nullable = false)
+	private Long failedCount = 0L;
+
+	@Builder.Default
+	@Column(name = "completed", nullable = false)
+	private Boolean completed = false;
+
+	// 작업 기준 값 (바코드 재암호화는 대상 키 식별자), 바뀌면 처음부터 다시 진행
+	@Column(name = "target", length = 64)
+	private String target;
+
+	public void advance(Long lastProcessedId, int processedCount, int failedCount) {
+		this.lastProcessedId = lastProcessedId;
+		this.processedCount += processedCount;
+		this.failedCount += failedCount;
+	}
+
+	public boolean isTargeting(String target) {
+		return target != null && target.equals(this.target);
+	}
+
+	public void complete() {
+		this.completed = true;
+	}
+
+	public void reset(String target) {
+		this.lastProcessedId = 0L;
+		this.processedCount = 0L;
+		this.failedCount = 0L;
+		this.completed = false;
+		this.target = target;
+	}
+
+	// 실패한 행을 다시 시도하도록 처음 위치로 되돌림 (처리 건수는 유지)
+	public void rewind() {
+		this.lastProcessedId = 0L;
+		this.failedCount = 0L;
+	}
+}
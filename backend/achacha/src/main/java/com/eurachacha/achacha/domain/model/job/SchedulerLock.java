@@ -0,0 +1,43 @@
+package com.eurachacha.achacha.domain.model.job;
+
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 작업 분산 락
+ * 여러 인스턴스 중 lockedUntil이 지난 락을 먼저 점유한 노드만 작업을 실행하며,
+ * 실행 중에는 heartbeat로 lockedUntil을 연장하여 오래 걸리는 작업도 다른 노드와 겹치지 않음
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class SchedulerLock extends TimeStampEntity {
+
+	@Id
+	@Column(name = "lock_name", length = 64)
+	private String lockName;
+
+	@Column(name = "locked_by", length = 128)
+	private String lockedBy;
+
+	@Column(name = "locked_at")
+	private LocalDateTime lockedAt;
+
+	@Column(name = "locked_until", nullable = false)
+	private LocalDateTime lockedUntil;
+
+	@Column(name = "heartbeat_at")
+	private LocalDateTime heartbeatAt;
+}
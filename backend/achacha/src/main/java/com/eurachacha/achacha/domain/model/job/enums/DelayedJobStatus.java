@@ -0,0 +1,12 @@
+package com.eurachacha.achacha.domain.model.job.enums;
+
+/**
+ * 지연 작업 상태 열거형
+ */
+public enum DelayedJobStatus {
+	PENDING, // 실행 대기
+	RUNNING, // 특정 노드가 점유(lease)하여 실행 중
+	DONE, // 실행 완료
+	CANCELLED, // 실행 전 취소
+	FAILED // 재시도 횟수 초과로 실패
+}
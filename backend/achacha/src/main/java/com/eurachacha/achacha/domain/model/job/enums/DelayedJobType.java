@@ -0,0 +1,9 @@
+package com.eurachacha.achacha.domain.model.job.enums;
+
+/**
+ * 지연 작업 유형 열거형
+ * 일정 시간 뒤에 실행되어야 하는 작업의 종류를 정의
+ */
+public enum DelayedJobType {
+	USAGE_COMPLETE_REMINDER // 바코드 조회 후 사용완료 여부 알림
+}
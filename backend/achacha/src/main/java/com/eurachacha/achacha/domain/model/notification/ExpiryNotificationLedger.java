@@ -0,0 +1,65 @@
+package com.eurachacha.achacha.domain.model.notification;
+
+import java.time.LocalDate;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유효기간 알림 발송 이력
+ * 같은 날 같은 (기프티콘, 사용자, 남은 일수)에 대해 알림이 한 번만 저장/발송되도록 유니크 키로 보장함
+ */
+@Entity
+@Table(
+	uniqueConstraints = @UniqueConstraint(name = "uk_expiry_notification_ledger",
+		columnNames = {"gifticon_id", "user_id", "expiry_offset_days", "notified_date"}),
+	indexes = {
+		@Index(name = "idx_expiry_notification_ledger_notified_date", columnList = "notified_date"),
+		@Index(name = "idx_expiry_notification_ledger_user_date", columnList = "user_id, notified_date")
+	}
+)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class ExpiryNotificationLedger extends TimeStampEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "gifticon_id", nullable = false)
+	private Integer gifticonId;
+
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	// 알림 시점 기준 만료까지 남은 일수
+	@Column(name = "expiry_offset_days", nullable = false)
+	private Integer expiryOffsetDays;
+
+	@Column(name = "notified_date", nullable = false)
+	private LocalDate notifiedDate;
+
+	// 발송 여부 확인용 키 (예: 기프티콘ID:사용자ID:남은일수)
+	public static String createKey(Integer gifticonId, Integer userId, Integer expiryOffsetDays) {
+		return gifticonId + ":" + userId + ":" + expiryOffsetDays;
+	}
+
+	public String getKey() {
+		return createKey(gifticonId, userId, expiryOffsetDays);
+	}
+}
@@ -9,8 +9,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +20,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 알림함 키셋 페이징 (user_id 조건 + created_at, id 내림차순)
+	@Index(name = "idx_notification_user_created_id", columnList = "user_id, created_at, id"),
+	// 전체 읽음 처리 및 읽은 알림 수 조회
+	@Index(name = "idx_notification_user_read", columnList = "user_id, is_read")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -39,6 +47,10 @@ public class Notification extends TimeStampEntity {
 	@Column(name = "reference_entity_id")
 	private Integer referenceEntityId;
 
+	// 요약 알림에 포함된 항목 (예: 기프티콘ID:남은일수,기프티콘ID:남은일수)
+	@Column(name = "detail", length = 1024)
+	private String detail;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "notification_type_id")
 	private NotificationType notificationType;
@@ -0,0 +1,112 @@
+package com.eurachacha.achacha.domain.model.notification;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쉐어박스 참여자 알림 작업
+ * 요청 트랜잭션과 함께 저장되므로 커밋 후 작업 스레드가 실행되기 전에 노드가 내려가도 유실되지 않음
+ * 수신자를 사용자 ID 순으로 청크 단위 처리하며, 청크의 알림 저장과 진행 위치(lastUserId) 갱신이 같은 트랜잭션으로 커밋됨
+ */
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_notification_fan_out_job_next_attempt_at", columnList = "next_attempt_at")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class NotificationFanOutJob extends TimeStampEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "sharebox_id", nullable = false)
+	private Integer shareBoxId;
+
+	// 수신자를 직접 지정한 경우 오름차순 사용자 ID를 쉼표로 연결, null이면 참여자 전체
+	@Lob
+	@Column(name = "recipient_user_ids")
+	private String recipientUserIds;
+
+	@Column(name = "excluded_user_id")
+	private Integer excludedUserId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "type_code", length = 32, nullable = false)
+	private NotificationTypeCode typeCode;
+
+	@Column(name = "title", length = 64)
+	private String title;
+
+	@Column(name = "content", length = 255)
+	private String content;
+
+	@Column(name = "reference_entity_type", length = 32)
+	private String referenceEntityType;
+
+	@Column(name = "reference_entity_id")
+	private Integer referenceEntityId;
+
+	// 마지막으로 처리한 청크의 마지막 사용자 ID
+	@Builder.Default
+	@Column(name = "last_user_id", nullable = false)
+	private Integer lastUserId = 0;
+
+	@Builder.Default
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts = 0;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	public static String joinUserIds(List<Integer> userIds) {
+		return String.join(",", userIds.stream().sorted().distinct().map(String::valueOf).toList());
+	}
+
+	public boolean hasRecipientUserIds() {
+		return recipientUserIds != null;
+	}
+
+	// 직접 지정한 수신자 중 진행 위치 이후의 사용자 ID를 최대 limit명 반환
+	public List<Integer> getRecipientUserIdsAfterLast(int limit) {
+		if (recipientUserIds == null || recipientUserIds.isEmpty()) {
+			return List.of();
+		}
+		return Arrays.stream(recipientUserIds.split(","))
+			.map(Integer::valueOf)
+			.filter(userId -> userId > lastUserId)
+			.limit(limit)
+			.toList();
+	}
+
+	public void advance(Integer lastUserId) {
+		this.lastUserId = lastUserId;
+	}
+
+	public void scheduleRetry(LocalDateTime nextAttemptAt) {
+		this.attempts++;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+}
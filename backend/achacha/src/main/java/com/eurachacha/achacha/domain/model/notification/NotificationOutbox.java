@@ -0,0 +1,49 @@
+package com.eurachacha.achacha.domain.model.notification;
+
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 이벤트 아웃박스
+ * 알림과 같은 트랜잭션에서 저장되고, 릴레이가 브로커의 발행 확인(confirm)을 받은 뒤에만 삭제하므로
+ * 애플리케이션이 재시작되거나 브로커가 일시적으로 내려가도 이벤트가 유실되지 않음
+ */
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_notification_outbox_next_attempt_id", columnList = "next_attempt_at, id")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class NotificationOutbox extends TimeStampEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 발행할 NotificationEventDto의 JSON
+	@Column(name = "payload", length = 4000, nullable = false)
+	private String payload;
+
+	@Builder.Default
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts = 0;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+}
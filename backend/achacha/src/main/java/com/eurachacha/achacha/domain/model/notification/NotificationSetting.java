@@ -12,8 +12,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +23,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_notification_setting_user_type", columnList = "user_id, notification_type_id")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -47,6 +52,11 @@ public class NotificationSetting extends TimeStampEntity {
 	@Column(name = "expiration_cycle", nullable = true)
 	private ExpirationCycle expirationCycle;
 
+	// 유효기간 알림을 기프티콘별로 보내지 않고 사용자별 요약 알림 1건으로 묶어서 보낼지 여부
+	@Builder.Default
+	@Column(name = "is_digest_enabled")
+	private Boolean isDigestEnabled = false;
+
 	public void updateIsEnabled(Boolean isEnabled) {
 		this.isEnabled = isEnabled;
 	}
@@ -55,4 +65,8 @@ public class NotificationSetting extends TimeStampEntity {
 		this.expirationCycle = expirationCycle;
 	}
 
+	public void updateIsDigestEnabled(Boolean isDigestEnabled) {
+		this.isDigestEnabled = isDigestEnabled;
+	}
+
 }
@@ -0,0 +1,35 @@
+package com.eurachacha.achacha.domain.model.notification;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수
+ * 알림 저장 시 증가, 전체 읽음 처리 시 0으로 초기화하며 알림 배지는 COUNT(*) 대신 이 값을 사용함
+ * 알림 저장/읽음 처리와 같은 트랜잭션에서 JDBC로 갱신됨 (행이 없으면 0)
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class NotificationUnreadCount {
+
+	@Id
+	@Column(name = "user_id")
+	private Integer userId;
+
+	@Column(name = "unread_count", nullable = false)
+	private Integer unreadCount;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+}
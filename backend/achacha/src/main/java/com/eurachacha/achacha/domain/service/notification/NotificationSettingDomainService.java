@@ -5,4 +5,6 @@ import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 public interface NotificationSettingDomainService {
 
 	boolean isEnabled(NotificationSetting notificationSetting);
+
+	boolean isDigestEnabled(NotificationSetting notificationSetting);
 }
@@ -11,4 +11,10 @@ public class NotificationSettingDomainServiceImpl implements NotificationSetting
 	public boolean isEnabled(NotificationSetting notificationSetting) {
 		return notificationSetting.getIsEnabled();
 	}
+
+	// 컬럼 추가 이전에 생성된 설정은 null이므로 비활성화로 취급
+	@Override
+	public boolean isDigestEnabled(NotificationSetting notificationSetting) {
+		return Boolean.TRUE.equals(notificationSetting.getIsDigestEnabled());
+	}
 }
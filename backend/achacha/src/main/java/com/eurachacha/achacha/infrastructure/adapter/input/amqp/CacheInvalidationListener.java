@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.amqp;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.cache.CacheInvalidationUseCase;
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener {
+
+	private final CacheInvalidationUseCase cacheInvalidationUseCase;
+
+	// 자신이 보낸 메시지도 받지만 이미 비운 항목을 다시 비우는 것이므로 무해함
+	@RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+	public void handleInvalidation(CacheInvalidationDto invalidationDto) {
+		if (invalidationDto.getTarget() == null || invalidationDto.getUserIds() == null) {
+			return;
+		}
+
+		log.debug("캐시 무효화 수신 - 대상: {}, 사용자 수: {}",
+			invalidationDto.getTarget(), invalidationDto.getUserIds().size());
+		cacheInvalidationUseCase.invalidateLocal(invalidationDto);
+	}
+}
@@ -0,0 +1,33 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.amqp;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.user.FcmTokenAppService;
+import com.eurachacha.achacha.application.port.input.user.dto.request.InvalidFcmTokenEventDto;
+import com.eurachacha.achacha.infrastructure.config.RabbitMQConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InvalidFcmTokenListener {
+
+	private final FcmTokenAppService fcmTokenAppService;
+
+	// 삭제는 멱등이고 같은 토큰은 다음 전송에서 다시 반환되므로 실패한 메시지는 재처리하지 않음
+	@RabbitListener(queues = RabbitMQConfig.INVALID_FCM_TOKEN_QUEUE)
+	public void handleInvalidFcmTokenEvent(InvalidFcmTokenEventDto eventDto) {
+		if (eventDto.getFcmTokens() == null || eventDto.getFcmTokens().isEmpty()) {
+			return;
+		}
+
+		try {
+			fcmTokenAppService.pruneInvalidTokens(eventDto.getFcmTokens());
+		} catch (Exception e) {
+			log.error("Failed to prune invalid FCM tokens: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.job.DelayedJobAppService;
+import com.eurachacha.achacha.application.port.input.job.SchedulerLockAppService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DelayedJobScheduler {
+
+	private static final String CLEANUP_LOCK = "delayedJobCleanupScheduler";
+	private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+	private final DelayedJobAppService delayedJobAppService;
+	private final SchedulerLockAppService schedulerLockAppService;
+
+	// 5초마다 실행 시점이 지난 지연 작업 실행 (작업 단위로 lease를 점유하므로 스케줄러 락 불필요)
+	@Scheduled(fixedDelay = 5000)
+	public void delayedJobScheduler() {
+		delayedJobAppService.executeDueJobs();
+	}
+
+	// 매일 새벽 4시 종료된 지연 작업 정리
+	@Scheduled(cron = "0 0 4 * * *")
+	public void delayedJobCleanupScheduler() {
+		schedulerLockAppService.executeWithLock(CLEANUP_LOCK, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+			delayedJobAppService::purgeFinishedJobs);
+	}
+}
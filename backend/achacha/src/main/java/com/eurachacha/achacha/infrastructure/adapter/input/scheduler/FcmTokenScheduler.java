@@ -0,0 +1,32 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.job.SchedulerLockAppService;
+import com.eurachacha.achacha.application.port.input.user.FcmTokenAppService;
+import com.eurachacha.achacha.infrastructure.config.SchedulerProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class FcmTokenScheduler {
+
+	private static final String EXPIRY_LOCK = "fcmTokenExpiryScheduler";
+	private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+	private final FcmTokenAppService fcmTokenAppService;
+	private final SchedulerLockAppService schedulerLockAppService;
+	private final SchedulerProperties schedulerProperties;
+
+	// 매일 새벽 5시 오래 사용되지 않은 FCM 토큰 정리
+	@Scheduled(cron = "0 0 5 * * *")
+	public void fcmTokenExpiryScheduler() {
+		schedulerLockAppService.executeWithLock(EXPIRY_LOCK, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+			() -> fcmTokenAppService.expireStaleTokens(schedulerProperties.getFcmTokenRetentionDays()));
+	}
+}
@@ -1,9 +1,13 @@
 package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
 
+import java.time.Duration;
+
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.eurachacha.achacha.application.port.input.job.SchedulerLockAppService;
 import com.eurachacha.achacha.application.port.input.notification.GifticonExpiryNotificationAppService;
+import com.eurachacha.achacha.infrastructure.config.SchedulerProperties;
 
 import lombok.RequiredArgsConstructor;
 
@@ -11,11 +15,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GiftNotificationScheduler {
 
+	private static final String EXPIRATION_LOCK = "expirationScheduler";
+	private static final String LEDGER_CLEANUP_LOCK = "expiryNotificationLedgerCleanupScheduler";
+	private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
 	private final GifticonExpiryNotificationAppService gifticonExpiryNotificationAppService;
+	private final SchedulerLockAppService schedulerLockAppService;
+	private final SchedulerProperties schedulerProperties;
 
 	// @Scheduled(cron = "0 0 9 * * *") // 기존 반복 시간 (매일 아침 9시)
 	@Scheduled(cron = "0 0 */1 * * *")
 	public void expirationScheduler() {
-		gifticonExpiryNotificationAppService.sendExpiryDateNotification();
+		// 샤드마다 락을 따로 두어 여러 노드가 서로 다른 사용자 범위를 나누어 처리
+		int shardCount = schedulerProperties.getExpiryNotificationShardCount();
+		for (int shard = 0; shard < shardCount; shard++) {
+			int shardIndex = shard;
+			schedulerLockAppService.executeWithLock(EXPIRATION_LOCK + ":" + shardIndex, LOCK_AT_MOST_FOR,
+				LOCK_AT_LEAST_FOR,
+				() -> gifticonExpiryNotificationAppService.sendExpiryDateNotification(shardIndex, shardCount));
+		}
+	}
+
+	// 매일 새벽 4시 30분 지난 발송 이력 정리
+	@Scheduled(cron = "0 30 4 * * *")
+	public void expiryNotificationLedgerCleanupScheduler() {
+		schedulerLockAppService.executeWithLock(LEDGER_CLEANUP_LOCK, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+			gifticonExpiryNotificationAppService::purgeExpiryNotificationLedger);
 	}
 }
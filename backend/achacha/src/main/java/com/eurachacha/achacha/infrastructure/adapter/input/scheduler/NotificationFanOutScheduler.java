@@ -0,0 +1,21 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationFanOutAppService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOutScheduler {
+
+	private final NotificationFanOutAppService notificationFanOutAppService;
+
+	// 10초마다 커밋 후 처리되지 못한 쉐어박스 알림 작업 재처리 (작업 행 단위로 잠그므로 스케줄러 락 불필요)
+	@Scheduled(fixedDelay = 10000)
+	public void notificationFanOutScheduler() {
+		notificationFanOutAppService.processDueJobs();
+	}
+}
@@ -0,0 +1,21 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationOutboxRelayAppService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+	private final NotificationOutboxRelayAppService notificationOutboxRelayAppService;
+
+	// 1초마다 아웃박스 발행 (행 단위로 잠그므로 여러 노드가 동시에 실행해도 중복 발행되지 않음)
+	@Scheduled(fixedDelay = 1000)
+	public void notificationOutboxRelayScheduler() {
+		notificationOutboxRelayAppService.relayOutbox();
+	}
+}
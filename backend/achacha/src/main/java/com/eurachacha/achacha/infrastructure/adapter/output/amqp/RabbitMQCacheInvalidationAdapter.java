@@ -0,0 +1,23 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.amqp;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.cache.CacheInvalidationEventPort;
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.infrastructure.config.RabbitMQConfig;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RabbitMQCacheInvalidationAdapter implements CacheInvalidationEventPort {
+
+	private final RabbitTemplate rabbitTemplate;
+
+	@Override
+	public void broadcast(CacheInvalidationDto invalidationDto) {
+		// Fanout Exchange는 Routing Key를 사용하지 않음
+		rabbitTemplate.convertAndSend(RabbitMQConfig.CACHE_INVALIDATION_EXCHANGE, "", invalidationDto);
+	}
+}
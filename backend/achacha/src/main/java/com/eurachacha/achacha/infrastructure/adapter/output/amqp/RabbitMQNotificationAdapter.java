@@ -1,10 +1,26 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.amqp;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.notification.NotificationEventPort;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationBatchEventDto;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.NotificationOutboxDto;
 import com.eurachacha.achacha.infrastructure.config.RabbitMQConfig;
 
 import lombok.RequiredArgsConstructor;
@@ -15,20 +31,122 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RabbitMQNotificationAdapter implements NotificationEventPort {
 
+	private static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(10);
+
 	private final RabbitTemplate rabbitTemplate;
 
 	@Override
-	public void sendNotificationEvent(NotificationEventDto eventDto) {
+	public Set<Long> sendNotificationEvents(List<NotificationOutboxDto> outboxes) {
+		if (outboxes.isEmpty()) {
+			return Set.of();
+		}
+
+		List<Envelope> envelopes = toEnvelopes(outboxes);
+		Map<Envelope, CorrelationData> correlations = new LinkedHashMap<>();
+
 		try {
-			rabbitTemplate.convertAndSend(
-				RabbitMQConfig.NOTIFICATION_EXCHANGE,
-				RabbitMQConfig.NOTIFICATION_ROUTING_KEY,
-				eventDto
-			);
-
-			log.info("Sent notification event to queue: {}", eventDto);
-		} catch (Exception e) {
-			log.error("Failed to send notification event: {}", e.getMessage());
+			// 메시지마다 채널을 얻지 않도록 하나의 채널에서 전송하고, 확인은 모두 보낸 뒤 한꺼번에 기다림
+			rabbitTemplate.invoke(operations -> {
+				envelopes.forEach(envelope -> {
+					CorrelationData correlationData = new CorrelationData(
+						String.valueOf(envelope.outboxIds().get(0)));
+					operations.convertAndSend(
+						RabbitMQConfig.NOTIFICATION_EXCHANGE,
+						RabbitMQConfig.NOTIFICATION_BATCH_ROUTING_KEY,
+						envelope.batchEventDto(),
+						correlationData
+					);
+					correlations.put(envelope, correlationData);
+				});
+				return null;
+			});
+		} catch (AmqpException e) {
+			// 전송하지 못한 행은 확인되지 않은 것으로 처리되어 재시도됨
+			log.error("Failed to send notification events: {}", e.getMessage());
+		}
+
+		Set<Long> confirmedIds = new HashSet<>();
+		long deadline = System.nanoTime() + CONFIRM_TIMEOUT.toNanos();
+
+		for (Map.Entry<Envelope, CorrelationData> entry : correlations.entrySet()) {
+			CorrelationData correlationData = entry.getValue();
+			List<Long> outboxIds = entry.getKey().outboxIds();
+			try {
+				CorrelationData.Confirm confirm = correlationData.getFuture()
+					.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+				// 라우팅되지 못하고 반환된 메시지는 ack가 오더라도 전달되지 않은 것으로 처리
+				if (confirm.isAck() && correlationData.getReturned() == null) {
+					confirmedIds.addAll(outboxIds);
+				} else {
+					log.warn("Notification batch not confirmed: ids={}, reason={}", outboxIds, confirm.getReason());
+				}
+			} catch (TimeoutException | ExecutionException e) {
+				log.warn("Notification batch confirm timed out: ids={}", outboxIds);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
 		}
+
+		log.info("Sent {} notification events as {} batches, confirmed {}",
+			outboxes.size(), envelopes.size(), confirmedIds.size());
+		return confirmedIds;
+	}
+
+	/*
+	 * 제목/내용/데이터가 같은 행끼리 묶어 토큰 MAX_TOKENS개 단위의 배치 메시지로 변환
+	 * 배치 하나의 발행 확인 결과는 그 배치에 담긴 모든 아웃박스 행에 적용됨
+	 */
+	private List<Envelope> toEnvelopes(List<NotificationOutboxDto> outboxes) {
+		Map<Payload, List<NotificationOutboxDto>> outboxesByPayload = new LinkedHashMap<>();
+		outboxes.forEach(outbox -> outboxesByPayload
+			.computeIfAbsent(Payload.from(outbox.getEventDto()), key -> new ArrayList<>())
+			.add(outbox));
+
+		List<Envelope> envelopes = new ArrayList<>();
+		outboxesByPayload.forEach((payload, group) -> {
+			Set<String> fcmTokens = new LinkedHashSet<>();
+			List<Long> outboxIds = new ArrayList<>();
+
+			for (NotificationOutboxDto outbox : group) {
+				String fcmToken = outbox.getEventDto().getFcmToken();
+				// 같은 토큰이 중복된 행은 한 번만 전송하고 함께 확인 처리
+				if (!fcmTokens.contains(fcmToken) && fcmTokens.size() == NotificationBatchEventDto.MAX_TOKENS) {
+					envelopes.add(new Envelope(payload.toBatchEventDto(List.copyOf(fcmTokens)), outboxIds));
+					fcmTokens = new LinkedHashSet<>();
+					outboxIds = new ArrayList<>();
+				}
+				fcmTokens.add(fcmToken);
+				outboxIds.add(outbox.getId());
+			}
+			envelopes.add(new Envelope(payload.toBatchEventDto(List.copyOf(fcmTokens)), outboxIds));
+		});
+
+		return envelopes;
+	}
+
+	// 배치로 묶을 수 있는지 판단하는 토큰 외 알림 내용
+	private record Payload(String title, String body, String notificationTypeCode, Integer referenceEntityId,
+						   String referenceEntityType) {
+
+		static Payload from(NotificationEventDto eventDto) {
+			return new Payload(eventDto.getTitle(), eventDto.getBody(), eventDto.getNotificationTypeCode(),
+				eventDto.getReferenceEntityId(), eventDto.getReferenceEntityType());
+		}
+
+		NotificationBatchEventDto toBatchEventDto(List<String> fcmTokens) {
+			return NotificationBatchEventDto.builder()
+				.fcmTokens(fcmTokens)
+				.title(title)
+				.body(body)
+				.notificationTypeCode(notificationTypeCode)
+				.referenceEntityId(referenceEntityId)
+				.referenceEntityType(referenceEntityType)
+				.build();
+		}
+	}
+
+	private record Envelope(NotificationBatchEventDto batchEventDto, List<Long> outboxIds) {
 	}
 }
@@ -1,56 +1,86 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.auth;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.auth.TokenServicePort;
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
 import com.eurachacha.achacha.infrastructure.config.JwtProperties;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * JWT 발급/검증
+ * 파서는 시작 시 한 번만 만들어 재사용하고 (JwtParser는 불변이며 스레드 안전)
+ * 검증에 성공한 액세스 토큰은 토큰 해시 -> (사용자, 만료 시각)으로 캐시하여 같은 토큰의 서명 검증을 건너뜀
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtTokenServiceAdapter implements TokenServicePort {
 
+	private static final String NAME_CLAIM = "name";
+	private static final long VERIFIED_TOKEN_CACHE_MAX_SIZE = 50000L;
+	private static final Duration VERIFIED_TOKEN_CACHE_TTL = Duration.ofMinutes(10);
+
 	private final JwtProperties jwtProperties;
+
 	private SecretKey key;
+	private JwtParser jwtParser;
 
-	// 초기화 메서드
-	private void initializeKey() {
-		if (key == null) {
-			key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-		}
+	// 원본 토큰 대신 SHA-256 해시를 키로 사용 (메모리 절약, 캐시에 토큰 원문을 남기지 않음)
+	private final Cache<String, VerifiedToken> verifiedTokenCache = Caffeine.newBuilder()
+		.maximumSize(VERIFIED_TOKEN_CACHE_MAX_SIZE)
+		.expireAfterWrite(VERIFIED_TOKEN_CACHE_TTL)
+		.build();
+
+	// MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+	private final ThreadLocal<MessageDigest> digestHolder = ThreadLocal.withInitial(this::createDigest);
+
+	@PostConstruct
+	public void init() {
+		key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+		jwtParser = Jwts.parser()
+			.verifyWith(key)
+			.build();
 	}
 
 	@Override
-	public String createAccessToken(Integer userId) {
-		initializeKey();
-		return createToken(userId, jwtProperties.getAccessTokenExpirySeconds());
+	public String createAccessToken(Integer userId, String userName) {
+		return createToken(userId, userName, jwtProperties.getAccessTokenExpirySeconds());
 	}
 
 	@Override
 	public String createRefreshToken(Integer userId) {
-		initializeKey();
-		return createToken(userId, jwtProperties.getRefreshTokenExpirySeconds());
+		return createToken(userId, null, jwtProperties.getRefreshTokenExpirySeconds());
 	}
 
-	private String createToken(Integer userId, long expirySeconds) {
+	private String createToken(Integer userId, String userName, long expirySeconds) {
 		Date now = new Date();
 		Date validity = new Date(now.getTime() + expirySeconds * 1000);
 
 		return Jwts.builder()
 			.subject(userId.toString())
+			.claim(NAME_CLAIM, userName) // null이면 클레임을 넣지 않음
 			.issuedAt(now)
 			.expiration(validity)
 			.signWith(key)
@@ -59,13 +89,9 @@ public class JwtTokenServiceAdapter implements TokenServicePort {
 
 	@Override
 	public Integer validateRefreshTokenAndGetUserId(String refreshToken) {
-		initializeKey();
 		try {
 			return Integer.parseInt(
-				Jwts.parser()
-					.verifyWith(key)
-					.build()
-					.parseSignedClaims(refreshToken)
+				jwtParser.parseSignedClaims(refreshToken)
 					.getPayload()
 					.getSubject()
 			);
@@ -80,16 +106,47 @@ public class JwtTokenServiceAdapter implements TokenServicePort {
 
 	@Override
 	public Integer validateAccessTokenAndGetUserId(String accessToken) {
-		initializeKey();
+		return validateAccessTokenAndGetUser(accessToken).getId();
+	}
+
+	@Override
+	public AuthenticatedUser validateAccessTokenAndGetUser(String accessToken) {
+		String tokenDigest = digest(accessToken);
+
+		// 최근 검증한 토큰이고 아직 만료 전이면 서명 검증 생략
+		VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(tokenDigest);
+		if (verifiedToken != null) {
+			if (verifiedToken.expiresAtMillis() > System.currentTimeMillis()) {
+				return verifiedToken.authenticatedUser();
+			}
+			// 캐시된 사이에 만료된 경우 다시 검증하여 만료 예외를 발생시킴
+			verifiedTokenCache.invalidate(tokenDigest);
+		}
+
+		return verifyAccessToken(accessToken, tokenDigest);
+	}
+
+	@Override
+	public long getAccessTokenExpirySeconds() {
+		return jwtProperties.getAccessTokenExpirySeconds();
+	}
+
+	/**
+	 * 캐시를 거치지 않고 서명과 만료 시각을 검증 (성공하면 캐시에 저장)
+	 */
+	AuthenticatedUser verifyAccessToken(String accessToken, String tokenDigest) {
 		try {
-			return Integer.parseInt(
-				Jwts.parser()
-					.verifyWith(key)
-					.build()
-					.parseSignedClaims(accessToken)
-					.getPayload()
-					.getSubject()
-			);
+			Claims claims = jwtParser.parseSignedClaims(accessToken).getPayload();
+
+			AuthenticatedUser authenticatedUser = new AuthenticatedUser(
+				Integer.parseInt(claims.getSubject()), claims.get(NAME_CLAIM, String.class));
+
+			// 만료 시각이 없는 토큰은 발급하지 않으므로 캐시하지 않음
+			if (claims.getExpiration() != null) {
+				verifiedTokenCache.put(tokenDigest,
+					new VerifiedToken(authenticatedUser, claims.getExpiration().getTime()));
+			}
+			return authenticatedUser;
 		} catch (ExpiredJwtException e) {
 			log.error("액세스 토큰 만료: {}", e.getMessage());
 			throw new CustomException(ErrorCode.EXPIRED_ACCESS_TOKEN);
@@ -99,8 +156,19 @@ public class JwtTokenServiceAdapter implements TokenServicePort {
 		}
 	}
 
-	@Override
-	public long getAccessTokenExpirySeconds() {
-		return jwtProperties.getAccessTokenExpirySeconds();
+	String digest(String token) {
+		byte[] hash = digestHolder.get().digest(token.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(hash);
+	}
+
+	private MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("토큰 해시 생성기 초기화 실패", e);
+		}
+	}
+
+	private record VerifiedToken(AuthenticatedUser authenticatedUser, long expiresAtMillis) {
 	}
-}
\ No newline at end of file
+}
@@ -3,10 +3,10 @@ package com.eurachacha.achacha.infrastructure.adapter.output.auth;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
 import com.eurachacha.achacha.application.port.output.user.UserRepository;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.web.common.exception.CustomException;
@@ -34,22 +34,40 @@ public class SecurityServiceAdapter implements SecurityServicePort {
 	}
 
 	/**
-	 * 현재 로그인한 사용자 정보 반환
-	 * @return 인증된 사용자
+	 * JwtAuthenticationFilter가 토큰 클레임으로 만든 인증 주체 반환
+	 * @return 인증 주체
 	 * @throws CustomException 인증되지 않은 사용자 접근 시
 	 */
 	@Override
-	public User getLoggedInUser() {
+	public AuthenticatedUser getAuthenticatedUser() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication == null || !authentication.isAuthenticated()
-			|| authentication instanceof AnonymousAuthenticationToken) {
+			|| !(authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser)) {
 			throw new CustomException(ErrorCode.NOT_AUTHENTICATED_USER);
 		}
 
-		UserDetails userDetails = (UserDetails)authentication.getPrincipal();
-		Integer userId = Integer.valueOf(userDetails.getUsername());
+		return authenticatedUser;
+	}
 
-		return userRepository.findById(userId);
+	/**
+	 * 현재 로그인한 사용자 ID 반환 (DB 조회 없음)
+	 * @return 인증된 사용자 ID
+	 * @throws CustomException 인증되지 않은 사용자 접근 시
+	 */
+	@Override
+	public Integer getLoggedInUserId() {
+		return getAuthenticatedUser().getId();
+	}
+
+	/**
+	 * 현재 로그인한 사용자 엔티티 반환
+	 * 연관관계 저장 등 엔티티가 필요한 경우에만 조회하며, ID만 필요하면 getLoggedInUserId 사용
+	 * @return 인증된 사용자
+	 * @throws CustomException 인증되지 않은 사용자 접근 시
+	 */
+	@Override
+	public User getLoggedInUser() {
+		return userRepository.findById(getLoggedInUserId());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.listener;
+
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.infrastructure.util.BlindIndexUtil;
+import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * 기프티콘 바코드 암호화와 블라인드 인덱스 관리
+ * 조회 시에는 복호화 함수만 연결하고, 실제 복호화는 getBarcode() 호출 시점에 수행됨
+ * 삭제된 기프티콘은 인덱스를 비워 같은 바코드로 다시 등록할 수 있게 함
+ */
+@Component
+public class GifticonBarcodeListener {
+
+	private final BlindIndexUtil blindIndexUtil;
+	private final Function<String, String> encryptor;
+	private final Function<String, String> decryptor;
+
+	@Autowired
+	public GifticonBarcodeListener(@Lazy EncryptionUtil encryptionUtil, @Lazy BlindIndexUtil blindIndexUtil) {
+		this.blindIndexUtil = blindIndexUtil;
+		this.encryptor = encryptionUtil::encrypt;
+		this.decryptor = encryptionUtil::decrypt;
+	}
+
+	@PostLoad
+	public void attachDecryptor(Gifticon gifticon) {
+		gifticon.attachBarcodeDecryptor(decryptor);
+	}
+
+	@PrePersist
+	public void beforePersist(Gifticon gifticon) {
+		gifticon.encryptBarcode(encryptor);
+		gifticon.attachBarcodeDecryptor(decryptor);
+		gifticon.updateBarcodeHash(blindIndexUtil.hash(gifticon.getBarcode()));
+	}
+
+	@PreUpdate
+	public void beforeUpdate(Gifticon gifticon) {
+		if (Boolean.TRUE.equals(gifticon.getIsDeleted()) || gifticon.getEncryptedBarcode() == null) {
+			gifticon.updateBarcodeHash(null);
+			return;
+		}
+
+		// 바코드는 등록 이후 변경되지 않으므로 인덱스가 비어 있는 경우에만 복호화하여 채움
+		if (gifticon.getBarcodeHash() == null) {
+			gifticon.updateBarcodeHash(blindIndexUtil.hash(gifticon.getBarcode()));
+		}
+	}
+}
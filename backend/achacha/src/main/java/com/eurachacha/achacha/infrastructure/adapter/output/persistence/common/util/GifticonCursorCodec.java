@@ -0,0 +1,63 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+/**
+ * 기프티콘 목록 커서 토큰 인코딩/디코딩
+ * 토큰은 "정렬|정렬키|id" 문자열을 URL-safe Base64로 감싼 값이며 클라이언트에게는 불투명한 값으로 취급됨
+ */
+@Component
+public class GifticonCursorCodec {
+
+	private static final String DELIMITER = "|";
+
+	public String encode(Gifticon gifticon, GifticonSortType sort) {
+		String key = switch (sort) {
+			case EXPIRY_ASC -> gifticon.getExpiryDate().toString();
+			case CREATED_DESC -> gifticon.getCreatedAt().toString();
+		};
+
+		String raw = sort.name() + DELIMITER + key + DELIMITER + gifticon.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public GifticonCursorDto decode(String cursor, GifticonSortType sort) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + DELIMITER);
+
+			// 다른 정렬 기준으로 발급된 커서는 사용할 수 없음
+			if (parts.length != 3 || !sort.name().equals(parts[0])) {
+				throw new CustomException(ErrorCode.GIFTICON_INVALID_CURSOR);
+			}
+
+			Integer id = Integer.valueOf(parts[2]);
+
+			return switch (sort) {
+				case EXPIRY_ASC -> GifticonCursorDto.builder()
+					.expiryDate(LocalDate.parse(parts[1]))
+					.id(id)
+					.build();
+				case CREATED_DESC -> GifticonCursorDto.builder()
+					.createdAt(LocalDateTime.parse(parts[1]))
+					.id(id)
+					.build();
+			};
+		} catch (CustomException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CustomException(ErrorCode.GIFTICON_INVALID_CURSOR);
+		}
+	}
+}
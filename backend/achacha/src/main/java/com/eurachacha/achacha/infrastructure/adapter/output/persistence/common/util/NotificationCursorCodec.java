@@ -0,0 +1,49 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
+import com.eurachacha.achacha.domain.model.notification.Notification;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationSortType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+/**
+ * 알림 목록 커서 토큰 인코딩/디코딩
+ * 토큰은 "정렬|생성일시|id" 문자열을 URL-safe Base64로 감싼 값이며 클라이언트에게는 불투명한 값으로 취급됨
+ */
+@Component
+public class NotificationCursorCodec {
+
+	private static final String DELIMITER = "|";
+
+	public String encode(Notification notification, NotificationSortType sort) {
+		String raw = sort.name() + DELIMITER + notification.getCreatedAt() + DELIMITER + notification.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public NotificationCursorDto decode(String cursor, NotificationSortType sort) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + DELIMITER);
+
+			// 다른 정렬 기준으로 발급된 커서는 사용할 수 없음
+			if (parts.length != 3 || !sort.name().equals(parts[0])) {
+				throw new CustomException(ErrorCode.NOTIFICATION_INVALID_CURSOR);
+			}
+
+			return NotificationCursorDto.builder()
+				.createdAt(LocalDateTime.parse(parts[1]))
+				.id(Integer.valueOf(parts[2]))
+				.build();
+		} catch (CustomException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CustomException(ErrorCode.NOTIFICATION_INVALID_CURSOR);
+		}
+	}
+}
@@ -1,12 +1,15 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.fcm;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 
@@ -15,7 +18,37 @@ public interface FcmTokenJpaRepository extends JpaRepository<FcmToken, Integer>
 
 	List<FcmToken> findAllByUser_Id(Integer userId);
 
+	List<FcmToken> findAllByUser_IdIn(List<Integer> userIds);
+
 	@Modifying
 	@Query("DELETE FROM FcmToken f WHERE f.user.id = :userId AND f.value = :value")
 	void deleteByUserIdAndValue(@Param("userId") Integer userId, @Param("value") String value);
+
+	@Modifying
+	@Query("DELETE FROM FcmToken f WHERE f.value IN :values")
+	int deleteAllByValueIn(@Param("values") List<String> values);
+
+	// 같은 토큰의 동시 upsert가 이전 소유자를 놓치지 않도록 행을 잠그고 조회
+	@Query(value = "SELECT user_id FROM fcm_token WHERE `value` = :value FOR UPDATE", nativeQuery = true)
+	Optional<Integer> findUserIdByValueForUpdate(@Param("value") String value);
+
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO fcm_token (user_id, `value`, last_seen_at, created_at, updated_at) "
+		+ "VALUES (:userId, :value, :lastSeenAt, :lastSeenAt, :lastSeenAt) "
+		+ "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), last_seen_at = VALUES(last_seen_at), "
+		+ "updated_at = VALUES(updated_at)", nativeQuery = true)
+	void upsert(@Param("userId") Integer userId, @Param("value") String value,
+		@Param("lastSeenAt") LocalDateTime lastSeenAt);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE FcmToken f SET f.lastSeenAt = :lastSeenAt WHERE f.user.id = :userId")
+	int touchAllByUserId(@Param("userId") Integer userId, @Param("lastSeenAt") LocalDateTime lastSeenAt);
+
+	// 마이그레이션 이전 행은 last_seen_at이 없으므로 생성 시각으로 판단
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM FcmToken f WHERE COALESCE(f.lastSeenAt, f.createdAt) < :lastSeenAt")
+	int deleteAllByLastSeenAtBefore(@Param("lastSeenAt") LocalDateTime lastSeenAt);
 }
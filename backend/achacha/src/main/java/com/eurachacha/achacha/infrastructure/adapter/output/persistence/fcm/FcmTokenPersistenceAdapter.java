@@ -1,8 +1,11 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.fcm;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
 import com.eurachacha.achacha.domain.model.fcm.FcmToken;
@@ -21,13 +24,47 @@ public class FcmTokenPersistenceAdapter implements FcmTokenRepository {
 		return fcmTokenJpaRepository.findAllByUser_Id(userId);
 	}
 
+	@Override
+	public List<FcmToken> findAllByUserIdIn(List<Integer> userIds) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+		return fcmTokenJpaRepository.findAllByUser_IdIn(userIds);
+	}
+
 	@Override
 	public FcmToken save(FcmToken fcmToken) {
 		return fcmTokenJpaRepository.save(fcmToken);
 	}
 
+	@Override
+	@Transactional
+	public Optional<Integer> upsert(Integer userId, String value, LocalDateTime lastSeenAt) {
+		Optional<Integer> previousUserId = fcmTokenJpaRepository.findUserIdByValueForUpdate(value);
+		fcmTokenJpaRepository.upsert(userId, value, lastSeenAt);
+		return previousUserId;
+	}
+
+	@Override
+	public int touchAllByUserId(Integer userId, LocalDateTime lastSeenAt) {
+		return fcmTokenJpaRepository.touchAllByUserId(userId, lastSeenAt);
+	}
+
+	@Override
+	public int deleteAllByLastSeenAtBefore(LocalDateTime lastSeenAt) {
+		return fcmTokenJpaRepository.deleteAllByLastSeenAtBefore(lastSeenAt);
+	}
+
 	@Override
 	public void deleteByUserIdAndValue(Integer userId, String value) {
 		fcmTokenJpaRepository.deleteByUserIdAndValue(userId, value);
 	}
+
+	@Override
+	public int deleteAllByValueIn(List<String> values) {
+		if (values.isEmpty()) {
+			return 0;
+		}
+		return fcmTokenJpaRepository.deleteAllByValueIn(values);
+	}
 }
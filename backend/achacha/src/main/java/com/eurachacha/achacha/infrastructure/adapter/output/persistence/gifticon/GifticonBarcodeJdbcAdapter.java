@@ -0,0 +1,103 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonBarcodeBatchRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeHashUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonBarcodeDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class GifticonBarcodeJdbcAdapter implements GifticonBarcodeBatchRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Override
+	public List<GifticonBarcodeDto> findBarcodesAfterId(Integer afterId, int limit) {
+		return jdbcTemplate.query(
+			"SELECT id, barcode FROM gifticon WHERE id > ? AND barcode IS NOT NULL ORDER BY id LIMIT ?",
+			(rs, rowNum) -> new GifticonBarcodeDto(rs.getInt("id"), rs.getString("barcode")),
+			afterId, limit);
+	}
+
+	@Override
+	public int updateBarcodes(List<GifticonBarcodeUpdateDto> updates) {
+		if (updates.isEmpty()) {
+			return 0;
+		}
+
+		int[][] results = jdbcTemplate.batchUpdate(
+			"UPDATE gifticon SET barcode = ? WHERE id = ? AND barcode = ?",
+			updates,
+			updates.size(),
+			(ps, update) -> {
+				ps.setString(1, update.getEncryptedBarcode());
+				ps.setInt(2, update.getId());
+				ps.setString(3, update.getPreviousEncryptedBarcode());
+			});
+
+		return sumUpdateCounts(results);
+	}
+
+	@Override
+	public List<GifticonBarcodeDto> findBarcodesWithoutHashAfterId(Integer afterId, int limit) {
+		return jdbcTemplate.query(
+			"SELECT id, barcode FROM gifticon "
+				+ "WHERE id > ? AND barcode IS NOT NULL AND barcode_hash IS NULL AND is_deleted = false "
+				+ "ORDER BY id LIMIT ?",
+			(rs, rowNum) -> new GifticonBarcodeDto(rs.getInt("id"), rs.getString("barcode")),
+			afterId, limit);
+	}
+
+	@Override
+	public Set<String> findExistingBarcodeHashes(Collection<String> barcodeHashes) {
+		if (barcodeHashes.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+			"SELECT barcode_hash FROM gifticon WHERE barcode_hash IN (:barcodeHashes)",
+			new MapSqlParameterSource("barcodeHashes", barcodeHashes),
+			String.class));
+	}
+
+	@Override
+	public int updateBarcodeHashes(List<GifticonBarcodeHashUpdateDto> updates) {
+		if (updates.isEmpty()) {
+			return 0;
+		}
+
+		int[][] results = jdbcTemplate.batchUpdate(
+			"UPDATE gifticon SET barcode_hash = ? WHERE id = ? AND barcode_hash IS NULL",
+			updates,
+			updates.size(),
+			(ps, update) -> {
+				ps.setString(1, update.getBarcodeHash());
+				ps.setInt(2, update.getId());
+			});
+
+		return sumUpdateCounts(results);
+	}
+
+	// 드라이버가 건수를 알 수 없는 경우(SUCCESS_NO_INFO = -2)는 성공 1건으로 집계
+	private int sumUpdateCounts(int[][] results) {
+		return Arrays.stream(results)
+			.flatMapToInt(Arrays::stream)
+			.map(count -> count < 0 ? 1 : count)
+			.sum();
+	}
+}
@@ -24,7 +24,7 @@ public interface GifticonJpaRepository extends JpaRepository<Gifticon, Integer>,
 		""")
 	Optional<Gifticon> findGifticonDetailById(@Param("gifticonId") Integer gifticonId);
 
-	boolean existsByBarcode(String barcode);
+	boolean existsByBarcodeHash(String barcodeHash);
 
 	@Modifying
 	@Query("""
@@ -5,14 +5,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonDetailDto;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+import com.eurachacha.achacha.infrastructure.util.BlindIndexUtil;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
@@ -22,11 +27,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GifticonPersistenceAdapter implements GifticonRepository {
 
+	private static final String BARCODE_HASH_UNIQUE_KEY = "uk_gifticon_barcode_hash";
+
 	private final GifticonJpaRepository gifticonJpaRepository;
+	private final BlindIndexUtil blindIndexUtil;
 
 	@Override
 	public Gifticon save(Gifticon gifticon) {
-		return gifticonJpaRepository.save(gifticon);
+		try {
+			return gifticonJpaRepository.save(gifticon);
+		} catch (DataIntegrityViolationException e) {
+			// 동시 등록으로 바코드 블라인드 인덱스 유니크 제약에 걸린 경우
+			String message = e.getMostSpecificCause().getMessage();
+			if (message != null && message.contains(BARCODE_HASH_UNIQUE_KEY)) {
+				throw new CustomException(ErrorCode.GIFTICON_BARCODE_DUPLICATE);
+			}
+			throw e;
+		}
 	}
 
 	@Override
@@ -35,15 +52,27 @@ public class GifticonPersistenceAdapter implements GifticonRepository {
 		return gifticonJpaRepository.findAvailableGifticons(userId, scope, type, pageable);
 	}
 
+	@Override
+	public Slice<Gifticon> findAvailableGifticonsByCursor(Integer userId, GifticonScopeType scope,
+		GifticonType type, GifticonSortType sort, GifticonCursorDto cursor, int size) {
+		return gifticonJpaRepository.findAvailableGifticonsByCursor(userId, scope, type, sort, cursor, size);
+	}
+
 	@Override
 	public Gifticon getGifticonDetail(Integer gifticonId) {
 		return gifticonJpaRepository.findGifticonDetailById(gifticonId)
 			.orElseThrow(() -> new CustomException(ErrorCode.GIFTICON_NOT_FOUND));
 	}
 
+	@Override
+	public GifticonDetailDto getGifticonDetailView(Integer gifticonId, Integer userId) {
+		return gifticonJpaRepository.findGifticonDetailView(gifticonId, userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.GIFTICON_NOT_FOUND));
+	}
+
 	@Override
 	public boolean existsByBarcode(String barcode) {
-		return gifticonJpaRepository.existsByBarcode(barcode);
+		return gifticonJpaRepository.existsByBarcodeHash(blindIndexUtil.hash(barcode));
 	}
 
 	@Override
@@ -2,12 +2,16 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.giftico
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonDetailDto;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 
 public interface GifticonRepositoryCustom {
@@ -19,6 +23,16 @@ public interface GifticonRepositoryCustom {
 		Pageable pageable
 	);
 
+	// 커서 기반 사용가능 기프티콘 조회
+	Slice<Gifticon> findAvailableGifticonsByCursor(
+		Integer userId,
+		GifticonScopeType scope,
+		GifticonType type,
+		GifticonSortType sort,
+		GifticonCursorDto cursor,
+		int size
+	);
+
 	Slice<Gifticon> findUsedGifticons(
 		Integer userId,
 		GifticonType type,
@@ -38,4 +52,7 @@ public interface GifticonRepositoryCustom {
 	);
 
 	Map<Integer, Long> countGifticonsByShareBoxIds(List<Integer> shareBoxIds);
+
+	// 기프티콘 상세 조회 (기프티콘/브랜드/소유자/쉐어박스 + 참여 여부 한 번, 파일 한 번)
+	Optional<GifticonDetailDto> findGifticonDetailView(Integer gifticonId, Integer userId);
 }
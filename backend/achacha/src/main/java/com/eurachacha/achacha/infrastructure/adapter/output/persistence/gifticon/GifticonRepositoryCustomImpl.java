@@ -2,18 +2,26 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.giftico
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonDetailDto;
 import com.eurachacha.achacha.domain.model.brand.QBrand;
+import com.eurachacha.achacha.domain.model.file.QFile;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.QGifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.history.QGifticonOwnerHistory;
 import com.eurachacha.achacha.domain.model.history.QUsageHistory;
@@ -23,6 +31,7 @@ import com.eurachacha.achacha.domain.model.sharebox.QShareBox;
 import com.eurachacha.achacha.domain.model.user.QUser;
 import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.QueryUtils;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
@@ -73,6 +82,41 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 		return new SliceImpl<>(content, pageable, hasNext);
 	}
 
+	@Override
+	public Slice<Gifticon> findAvailableGifticonsByCursor(Integer userId, GifticonScopeType scope, GifticonType type,
+		GifticonSortType sort, GifticonCursorDto cursor, int size) {
+
+		QGifticon qGifticon = QGifticon.gifticon;
+		QBrand qBrand = QBrand.brand;
+		QUser qUser = QUser.user;
+		QShareBox qShareBox = QShareBox.shareBox;
+		QParticipation qParticipation = QParticipation.participation;
+
+		// offset 없이 커서 이후 데이터만 조회하므로 페이지 깊이와 무관하게 비용이 일정함
+		List<Gifticon> content = jpaQueryFactory
+			.selectFrom(qGifticon)
+			.join(qGifticon.brand, qBrand).fetchJoin()
+			.join(qGifticon.user, qUser).fetchJoin()
+			.leftJoin(qGifticon.sharebox, qShareBox).fetchJoin()
+			.where(
+				qGifticon.isUsed.eq(false),
+				scopeCondition(scope, userId, qGifticon, qParticipation),
+				typeCondition(type, qGifticon),
+				cursorCondition(sort, cursor, qGifticon)
+			)
+			.limit(size + 1)
+			.orderBy(cursorOrderSpecifiers(sort, qGifticon))
+			.fetch();
+
+		boolean hasNext = false;
+		if (content.size() > size) {
+			content = content.subList(0, size);
+			hasNext = true;
+		}
+
+		return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+	}
+
 	@Override
 	public Slice<Gifticon> findUsedGifticons(
 		Integer userId,
@@ -223,6 +267,53 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 			));
 	}
 
+	@Override
+	public Optional<GifticonDetailDto> findGifticonDetailView(Integer gifticonId, Integer userId) {
+
+		QGifticon qGifticon = QGifticon.gifticon;
+		QBrand qBrand = QBrand.brand;
+		QUser qUser = QUser.user;
+		QShareBox qShareBox = QShareBox.shareBox;
+		QParticipation qParticipation = QParticipation.participation;
+		QFile qFile = QFile.file;
+
+		// 쉐어박스가 없는 기프티콘은 서브쿼리 조건이 맞지 않아 false
+		Expression<Boolean> participating = new CaseBuilder()
+			.when(existsParticipation(userId, qGifticon, qParticipation))
+			.then(true)
+			.otherwise(false);
+
+		Tuple row = jpaQueryFactory
+			.select(qGifticon, participating)
+			.from(qGifticon)
+			.join(qGifticon.brand, qBrand).fetchJoin()
+			.join(qGifticon.user, qUser).fetchJoin()
+			.leftJoin(qGifticon.sharebox, qShareBox).fetchJoin()
+			.where(qGifticon.id.eq(gifticonId))
+			.fetchOne();
+
+		if (row == null) {
+			return Optional.empty();
+		}
+
+		// 썸네일/원본/바코드 파일을 한 번에 조회 (reference_entity_type, reference_entity_id, type 인덱스 사용)
+		Map<FileType, String> filePaths = new EnumMap<>(FileType.class);
+		jpaQueryFactory
+			.select(qFile.type, qFile.path)
+			.from(qFile)
+			.where(
+				qFile.referenceEntityType.eq("gifticon"),
+				qFile.referenceEntityId.eq(gifticonId)
+			)
+			.fetch()
+			.forEach(file -> filePaths.putIfAbsent(file.get(qFile.type), file.get(qFile.path)));
+
+		return Optional.of(new GifticonDetailDto(
+			row.get(qGifticon),
+			Boolean.TRUE.equals(row.get(participating)),
+			filePaths));
+	}
+
 	/**
 	 * 범위 타입에 따른 적절한 조건식 선택
 	 */
@@ -323,6 +414,34 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 				.and(qUsageHistory.id.isNotNull()));
 	}
 
+	/**
+	 * 커서 이후 데이터 조건 생성
+	 * EXPIRY_ASC: (expiryDate, id) > (커서 만료일, 커서 id)
+	 * CREATED_DESC: (createdAt, id) < (커서 등록일, 커서 id)
+	 */
+	private BooleanExpression cursorCondition(GifticonSortType sort, GifticonCursorDto cursor, QGifticon qGifticon) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return switch (sort) {
+			case EXPIRY_ASC -> qGifticon.expiryDate.gt(cursor.getExpiryDate())
+				.or(qGifticon.expiryDate.eq(cursor.getExpiryDate()).and(qGifticon.id.gt(cursor.getId())));
+			case CREATED_DESC -> qGifticon.createdAt.lt(cursor.getCreatedAt())
+				.or(qGifticon.createdAt.eq(cursor.getCreatedAt()).and(qGifticon.id.lt(cursor.getId())));
+		};
+	}
+
+	/**
+	 * 커서 페이징용 정렬 조건 (동일 정렬값 사이의 순서를 고정하기 위해 id를 보조 정렬키로 사용)
+	 */
+	private OrderSpecifier<?>[] cursorOrderSpecifiers(GifticonSortType sort, QGifticon qGifticon) {
+		return switch (sort) {
+			case EXPIRY_ASC -> new OrderSpecifier<?>[] {qGifticon.expiryDate.asc(), qGifticon.id.asc()};
+			case CREATED_DESC -> new OrderSpecifier<?>[] {qGifticon.createdAt.desc(), qGifticon.id.desc()};
+		};
+	}
+
 	/**
 	 * 기프티콘 타입 조건
 	 */
@@ -42,4 +42,17 @@ public interface UsageHistoryJpaRepository extends JpaRepository<UsageHistory, I
 	List<UsageHistory> findLatestForEachGifticonByIdsAndUserId(
 		@Param("ids") List<Integer> ids,
 		@Param("userId") Integer userId);
+
+	// 기프티콘별 가장 최근 사용 내역 (사용자 무관, 사용자 정보 포함)
+	@Query("""
+		SELECT uh1
+		FROM UsageHistory uh1
+		JOIN FETCH uh1.user
+		LEFT JOIN UsageHistory uh2
+		ON uh1.gifticon.id = uh2.gifticon.id
+		AND (uh1.createdAt < uh2.createdAt OR (uh1.createdAt = uh2.createdAt AND uh1.id < uh2.id))
+		WHERE uh1.gifticon.id IN :ids
+		AND uh2.id IS NULL
+		""")
+	List<UsageHistory> findLatestForEachGifticonByIds(@Param("ids") List<Integer> ids);
 }
@@ -47,4 +47,9 @@ public class UsageHistoryPersistenceAdapter implements UsageHistoryRepository {
 	public List<UsageHistory> findLatestForEachGifticonByIdsAndUserId(List<Integer> ids, Integer userId) {
 		return usageHistoryJpaRepository.findLatestForEachGifticonByIdsAndUserId(ids, userId);
 	}
+
+	@Override
+	public List<UsageHistory> findLatestForEachGifticonByIds(List<Integer> ids) {
+		return usageHistoryJpaRepository.findLatestForEachGifticonByIds(ids);
+	}
 }
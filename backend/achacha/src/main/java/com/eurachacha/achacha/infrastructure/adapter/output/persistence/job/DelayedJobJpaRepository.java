@@ -0,0 +1,107 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eurachacha.achacha.domain.model.job.DelayedJob;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobStatus;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
+
+@Repository
+public interface DelayedJobJpaRepository extends JpaRepository<DelayedJob, Long> {
+
+	// 실행 중(RUNNING)인 작업은 그대로 두고, 그 외에는 실행 시각을 갱신하여 대기 상태로 되돌림
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO delayed_job
+			(job_type, dedupe_key, user_id, reference_entity_id, due_at, status, attempts, created_at, updated_at)
+		VALUES (:jobType, :dedupeKey, :userId, :referenceEntityId, :dueAt, 'PENDING', 0, :now, :now)
+		ON DUPLICATE KEY UPDATE
+			due_at = IF(status = 'RUNNING', due_at, VALUES(due_at)),
+			locked_by = IF(status = 'RUNNING', locked_by, NULL),
+			locked_until = IF(status = 'RUNNING', locked_until, NULL),
+			attempts = IF(status = 'RUNNING', attempts, 0),
+			status = IF(status = 'RUNNING', status, 'PENDING'),
+			updated_at = VALUES(updated_at)
+		""", nativeQuery = true)
+	void upsert(@Param("jobType") String jobType, @Param("dedupeKey") String dedupeKey,
+		@Param("userId") Integer userId, @Param("referenceEntityId") Integer referenceEntityId,
+		@Param("dueAt") LocalDateTime dueAt, @Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE DelayedJob j
+		SET j.status = :cancelled
+		WHERE j.jobType = :jobType
+		AND j.referenceEntityId = :referenceEntityId
+		AND j.status = :pending
+		""")
+	void cancelByReference(@Param("jobType") DelayedJobType jobType,
+		@Param("referenceEntityId") Integer referenceEntityId,
+		@Param("pending") DelayedJobStatus pending,
+		@Param("cancelled") DelayedJobStatus cancelled);
+
+	// 행 단위 UPDATE로 점유하므로 여러 노드가 동시에 실행해도 하나의 노드만 해당 작업을 가져감
+	// lease가 만료된 RUNNING 작업(점유 노드 장애)도 다시 점유 대상이 됨
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE delayed_job
+		SET status = 'RUNNING', locked_by = :owner, locked_until = :leaseUntil,
+			attempts = attempts + 1, updated_at = :now
+		WHERE (status = 'PENDING' AND due_at <= :now)
+		OR (status = 'RUNNING' AND locked_until < :now)
+		ORDER BY due_at
+		LIMIT :limit
+		""", nativeQuery = true)
+	int claim(@Param("owner") String owner, @Param("now") LocalDateTime now,
+		@Param("leaseUntil") LocalDateTime leaseUntil, @Param("limit") int limit);
+
+	@Query("""
+		SELECT j FROM DelayedJob j
+		WHERE j.lockedBy = :owner
+		AND j.status = :running
+		ORDER BY j.dueAt
+		""")
+	List<DelayedJob> findClaimedJobs(@Param("owner") String owner, @Param("running") DelayedJobStatus running);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE DelayedJob j
+		SET j.status = :status, j.lockedBy = NULL, j.lockedUntil = NULL
+		WHERE j.id = :id
+		AND j.lockedBy = :owner
+		""")
+	void release(@Param("id") Long id, @Param("owner") String owner, @Param("status") DelayedJobStatus status);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE DelayedJob j
+		SET j.status = :pending, j.dueAt = :nextDueAt, j.lockedBy = NULL, j.lockedUntil = NULL
+		WHERE j.id = :id
+		AND j.lockedBy = :owner
+		""")
+	void reschedule(@Param("id") Long id, @Param("owner") String owner,
+		@Param("nextDueAt") LocalDateTime nextDueAt, @Param("pending") DelayedJobStatus pending);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		DELETE FROM DelayedJob j
+		WHERE j.status IN :statuses
+		AND j.updatedAt < :threshold
+		""")
+	int deleteByStatusInAndUpdatedAtBefore(@Param("statuses") List<DelayedJobStatus> statuses,
+		@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,65 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.job.DelayedJobRepository;
+import com.eurachacha.achacha.domain.model.job.DelayedJob;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobStatus;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DelayedJobPersistenceAdapter implements DelayedJobRepository {
+
+	private final DelayedJobJpaRepository delayedJobJpaRepository;
+
+	@Override
+	public void schedule(DelayedJobType jobType, String dedupeKey, Integer userId, Integer referenceEntityId,
+		LocalDateTime dueAt) {
+		delayedJobJpaRepository.upsert(jobType.name(), dedupeKey, userId, referenceEntityId, dueAt,
+			LocalDateTime.now());
+	}
+
+	@Override
+	public void cancelPendingByReference(DelayedJobType jobType, Integer referenceEntityId) {
+		delayedJobJpaRepository.cancelByReference(jobType, referenceEntityId, DelayedJobStatus.PENDING,
+			DelayedJobStatus.CANCELLED);
+	}
+
+	@Override
+	public List<DelayedJob> claimDueJobs(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+		int claimed = delayedJobJpaRepository.claim(owner, now, leaseUntil, limit);
+
+		if (claimed == 0) {
+			return List.of();
+		}
+
+		return delayedJobJpaRepository.findClaimedJobs(owner, DelayedJobStatus.RUNNING);
+	}
+
+	@Override
+	public void markDone(Long jobId, String owner) {
+		delayedJobJpaRepository.release(jobId, owner, DelayedJobStatus.DONE);
+	}
+
+	@Override
+	public void markRetry(Long jobId, String owner, LocalDateTime nextDueAt) {
+		delayedJobJpaRepository.reschedule(jobId, owner, nextDueAt, DelayedJobStatus.PENDING);
+	}
+
+	@Override
+	public void markFailed(Long jobId, String owner) {
+		delayedJobJpaRepository.release(jobId, owner, DelayedJobStatus.FAILED);
+	}
+
+	@Override
+	public int deleteFinishedBefore(LocalDateTime threshold) {
+		return delayedJobJpaRepository.deleteByStatusInAndUpdatedAtBefore(
+			List.of(DelayedJobStatus.DONE, DelayedJobStatus.CANCELLED, DelayedJobStatus.FAILED), threshold);
+	}
+}
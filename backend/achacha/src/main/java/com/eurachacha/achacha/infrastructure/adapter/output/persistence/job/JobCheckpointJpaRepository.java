@@ -0,0 +1,10 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.eurachacha.achacha.domain.model.job.JobCheckpoint;
+
+@Repository
+public interface JobCheckpointJpaRepository extends JpaRepository<JobCheckpoint, String> {
+}
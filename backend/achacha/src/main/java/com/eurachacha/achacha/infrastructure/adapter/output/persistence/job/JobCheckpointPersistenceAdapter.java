@@ -0,0 +1,28 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.job;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.job.JobCheckpointRepository;
+import com.eurachacha.achacha.domain.model.job.JobCheckpoint;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class JobCheckpointPersistenceAdapter implements JobCheckpointRepository {
+
+	private final JobCheckpointJpaRepository jobCheckpointJpaRepository;
+
+	@Override
+	public JobCheckpoint findOrCreate(String jobName) {
+		return jobCheckpointJpaRepository.findById(jobName)
+			.orElseGet(() -> jobCheckpointJpaRepository.save(JobCheckpoint.builder()
+				.jobName(jobName)
+				.build()));
+	}
+
+	@Override
+	public JobCheckpoint save(JobCheckpoint jobCheckpoint) {
+		return jobCheckpointJpaRepository.save(jobCheckpoint);
+	}
+}
@@ -0,0 +1,59 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.job;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eurachacha.achacha.domain.model.job.SchedulerLock;
+
+@Repository
+public interface SchedulerLockJpaRepository extends JpaRepository<SchedulerLock, String> {
+
+	// 락 행이 없으면 만료된 상태로 생성
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO scheduler_lock (lock_name, locked_until, created_at, updated_at)
+		VALUES (:lockName, :now, :now, :now)
+		ON DUPLICATE KEY UPDATE lock_name = lock_name
+		""", nativeQuery = true)
+	void insertIfAbsent(@Param("lockName") String lockName, @Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE scheduler_lock
+		SET locked_by = :owner, locked_at = :now, locked_until = :lockedUntil, heartbeat_at = :now, updated_at = :now
+		WHERE lock_name = :lockName
+		AND locked_until <= :now
+		""", nativeQuery = true)
+	int acquire(@Param("lockName") String lockName, @Param("owner") String owner, @Param("now") LocalDateTime now,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE scheduler_lock
+		SET locked_until = :lockedUntil, heartbeat_at = :now, updated_at = :now
+		WHERE lock_name = :lockName
+		AND locked_by = :owner
+		""", nativeQuery = true)
+	int extend(@Param("lockName") String lockName, @Param("owner") String owner, @Param("now") LocalDateTime now,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE scheduler_lock
+		SET locked_until = :lockedUntil, updated_at = :lockedUntil
+		WHERE lock_name = :lockName
+		AND locked_by = :owner
+		""", nativeQuery = true)
+	int release(@Param("lockName") String lockName, @Param("owner") String owner,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,32 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.job;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.job.SchedulerLockRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockPersistenceAdapter implements SchedulerLockRepository {
+
+	private final SchedulerLockJpaRepository schedulerLockJpaRepository;
+
+	@Override
+	public boolean tryAcquire(String lockName, String owner, LocalDateTime now, LocalDateTime lockedUntil) {
+		schedulerLockJpaRepository.insertIfAbsent(lockName, now);
+		return schedulerLockJpaRepository.acquire(lockName, owner, now, lockedUntil) > 0;
+	}
+
+	@Override
+	public boolean extend(String lockName, String owner, LocalDateTime now, LocalDateTime lockedUntil) {
+		return schedulerLockJpaRepository.extend(lockName, owner, now, lockedUntil) > 0;
+	}
+
+	@Override
+	public void release(String lockName, String owner, LocalDateTime lockedUntil) {
+		schedulerLockJpaRepository.release(lockName, owner, lockedUntil);
+	}
+}
@@ -0,0 +1,27 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eurachacha.achacha.domain.model.notification.ExpiryNotificationLedger;
+
+@Repository
+public interface ExpiryNotificationLedgerJpaRepository extends JpaRepository<ExpiryNotificationLedger, Long> {
+
+	List<ExpiryNotificationLedger> findAllByGifticonIdInAndNotifiedDate(List<Integer> gifticonIds,
+		LocalDate notifiedDate);
+
+	List<ExpiryNotificationLedger> findAllByUserIdInAndNotifiedDate(List<Integer> userIds, LocalDate notifiedDate);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM ExpiryNotificationLedger l WHERE l.notifiedDate < :notifiedDate")
+	int deleteAllByNotifiedDateBefore(@Param("notifiedDate") LocalDate notifiedDate);
+}
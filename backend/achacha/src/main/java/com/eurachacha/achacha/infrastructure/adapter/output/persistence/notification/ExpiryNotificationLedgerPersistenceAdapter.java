@@ -0,0 +1,79 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.notification.ExpiryNotificationLedgerRepository;
+import com.eurachacha.achacha.domain.model.notification.ExpiryNotificationLedger;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ExpiryNotificationLedgerPersistenceAdapter implements ExpiryNotificationLedgerRepository {
+
+	private static final int BATCH_SIZE = 500;
+	private static final String INSERT_LEDGER = """
+		INSERT INTO expiry_notification_ledger
+			(gifticon_id, user_id, expiry_offset_days, notified_date, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?)
+		""";
+
+	private final ExpiryNotificationLedgerJpaRepository expiryNotificationLedgerJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<ExpiryNotificationLedger> findAllByGifticonIdsAndNotifiedDate(List<Integer> gifticonIds,
+		LocalDate notifiedDate) {
+		if (gifticonIds.isEmpty()) {
+			return List.of();
+		}
+		return expiryNotificationLedgerJpaRepository.findAllByGifticonIdInAndNotifiedDate(gifticonIds, notifiedDate);
+	}
+
+	@Override
+	public List<ExpiryNotificationLedger> findAllByUserIdsAndNotifiedDate(List<Integer> userIds,
+		LocalDate notifiedDate) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+		return expiryNotificationLedgerJpaRepository.findAllByUserIdInAndNotifiedDate(userIds, notifiedDate);
+	}
+
+	@Override
+	public void saveAll(List<ExpiryNotificationLedger> ledgers) {
+		if (ledgers.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		try {
+			jdbcTemplate.batchUpdate(INSERT_LEDGER, ledgers, BATCH_SIZE, (ps, ledger) -> {
+				ps.setInt(1, ledger.getGifticonId());
+				ps.setInt(2, ledger.getUserId());
+				ps.setInt(3, ledger.getExpiryOffsetDays());
+				ps.setDate(4, Date.valueOf(ledger.getNotifiedDate()));
+				ps.setTimestamp(5, now);
+				ps.setTimestamp(6, now);
+			});
+		} catch (DuplicateKeyException e) {
+			// 다른 실행(다른 샤드 노드, 설정 변경 시 사용자별 발송)이 같은 알림을 먼저 기록한 경우
+			throw new CustomException(ErrorCode.EXPIRY_NOTIFICATION_ALREADY_SENT);
+		}
+	}
+
+	@Override
+	public int deleteAllByNotifiedDateBefore(LocalDate notifiedDate) {
+		return expiryNotificationLedgerJpaRepository.deleteAllByNotifiedDateBefore(notifiedDate);
+	}
+}
@@ -0,0 +1,166 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.notification.ExpiryNotificationTargetRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.ExpiryNotificationTargetDto;
+import com.eurachacha.achacha.domain.model.notification.enums.ExpirationCycle;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ExpiryNotificationTargetJdbcAdapter implements ExpiryNotificationTargetRepository {
+
+	// 알림 주기(enum 이름) → 일수 변환식, enum 상수로만 만들어지므로 SQL에 직접 포함해도 안전함
+	private static final String CYCLE_DAYS_EXPRESSION = Arrays.stream(ExpirationCycle.values())
+		.map(cycle -> "WHEN '" + cycle.name() + "' THEN " + cycle.getDays())
+		.collect(Collectors.joining(" ", "CASE ns.expiration_cycle ", " END"));
+
+	private static final String FIND_EXPIRING_GIFTICON_IDS = """
+		SELECT g.id
+		FROM gifticon g
+		WHERE g.expiry_date = :expiryDate
+		AND g.id > :afterId
+		AND g.is_used = false
+		AND g.is_deleted = false
+		ORDER BY g.id
+		LIMIT :limit
+		""";
+
+	private static final String FIND_TARGETS = """
+		SELECT r.gifticon_id, g.name, g.expiry_date, r.user_id, ns.is_enabled, ft.value AS fcm_token
+		FROM (
+			SELECT g1.id AS gifticon_id, g1.user_id AS user_id
+			FROM gifticon g1
+			WHERE g1.id IN (:gifticonIds)
+			AND g1.sharebox_id IS NULL
+			UNION
+			SELECT g2.id AS gifticon_id, p.user_id AS user_id
+			FROM gifticon g2
+			JOIN participation p ON p.sharebox_id = g2.sharebox_id
+			WHERE g2.id IN (:gifticonIds)
+		) r
+		JOIN gifticon g ON g.id = r.gifticon_id
+		JOIN notification_setting ns ON ns.user_id = r.user_id AND ns.notification_type_id = :notificationTypeId
+		LEFT JOIN fcm_token ft ON ft.user_id = r.user_id AND ns.is_enabled = true
+		WHERE r.user_id BETWEEN :userIdFrom AND :userIdTo
+		AND COALESCE(ns.is_digest_enabled, false) = false
+		AND %s >= DATEDIFF(g.expiry_date, :today)
+		ORDER BY r.gifticon_id, r.user_id
+		""".formatted(CYCLE_DAYS_EXPRESSION);
+
+	private static final String FIND_DIGEST_USER_IDS = """
+		SELECT ns.user_id
+		FROM notification_setting ns
+		WHERE ns.notification_type_id = :notificationTypeId
+		AND ns.is_digest_enabled = true
+		AND ns.user_id > :afterUserId
+		AND ns.user_id <= :userIdTo
+		ORDER BY ns.user_id
+		LIMIT :limit
+		""";
+
+	private static final String FIND_DIGEST_TARGETS = """
+		SELECT r.gifticon_id, g.name, g.expiry_date, r.user_id, ns.is_enabled
+		FROM (
+			SELECT g1.id AS gifticon_id, g1.user_id AS user_id
+			FROM gifticon g1
+			WHERE g1.user_id IN (:userIds)
+			AND g1.sharebox_id IS NULL
+			AND g1.expiry_date IN (:expiryDates)
+			AND g1.is_used = false
+			AND g1.is_deleted = false
+			UNION
+			SELECT g2.id AS gifticon_id, p.user_id AS user_id
+			FROM participation p
+			JOIN gifticon g2 ON g2.sharebox_id = p.sharebox_id
+			WHERE p.user_id IN (:userIds)
+			AND g2.expiry_date IN (:expiryDates)
+			AND g2.is_used = false
+			AND g2.is_deleted = false
+		) r
+		JOIN gifticon g ON g.id = r.gifticon_id
+		JOIN notification_setting ns ON ns.user_id = r.user_id AND ns.notification_type_id = :notificationTypeId
+		WHERE %s >= DATEDIFF(g.expiry_date, :today)
+		ORDER BY r.user_id, g.expiry_date, r.gifticon_id
+		""".formatted(CYCLE_DAYS_EXPRESSION);
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Override
+	public List<Integer> findExpiringGifticonIds(LocalDate expiryDate, Integer afterId, int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("expiryDate", expiryDate)
+			.addValue("afterId", afterId)
+			.addValue("limit", limit);
+
+		return namedParameterJdbcTemplate.queryForList(FIND_EXPIRING_GIFTICON_IDS, params, Integer.class);
+	}
+
+	@Override
+	public List<ExpiryNotificationTargetDto> findTargets(List<Integer> gifticonIds, Integer notificationTypeId,
+		LocalDate today, int userIdFrom, int userIdTo) {
+		if (gifticonIds.isEmpty()) {
+			return List.of();
+		}
+
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("gifticonIds", gifticonIds)
+			.addValue("notificationTypeId", notificationTypeId)
+			.addValue("today", today)
+			.addValue("userIdFrom", userIdFrom)
+			.addValue("userIdTo", userIdTo);
+
+		return namedParameterJdbcTemplate.query(FIND_TARGETS, params, (rs, rowNum) ->
+			new ExpiryNotificationTargetDto(
+				rs.getInt("gifticon_id"),
+				rs.getString("name"),
+				rs.getObject("expiry_date", LocalDate.class),
+				rs.getInt("user_id"),
+				rs.getBoolean("is_enabled"),
+				rs.getString("fcm_token")));
+	}
+
+	@Override
+	public List<Integer> findDigestUserIds(Integer notificationTypeId, Integer afterUserId, int userIdTo,
+		int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("notificationTypeId", notificationTypeId)
+			.addValue("afterUserId", afterUserId)
+			.addValue("userIdTo", userIdTo)
+			.addValue("limit", limit);
+
+		return namedParameterJdbcTemplate.queryForList(FIND_DIGEST_USER_IDS, params, Integer.class);
+	}
+
+	@Override
+	public List<ExpiryNotificationTargetDto> findDigestTargets(List<Integer> userIds, Integer notificationTypeId,
+		List<LocalDate> expiryDates, LocalDate today) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("userIds", userIds)
+			.addValue("notificationTypeId", notificationTypeId)
+			.addValue("expiryDates", expiryDates)
+			.addValue("today", today);
+
+		return namedParameterJdbcTemplate.query(FIND_DIGEST_TARGETS, params, (rs, rowNum) ->
+			new ExpiryNotificationTargetDto(
+				rs.getInt("gifticon_id"),
+				rs.getString("name"),
+				rs.getObject("expiry_date", LocalDate.class),
+				rs.getInt("user_id"),
+				rs.getBoolean("is_enabled"),
+				null));
+	}
+}
@@ -0,0 +1,32 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+
+@Repository
+public interface NotificationFanOutJobJpaRepository extends JpaRepository<NotificationFanOutJob, Long> {
+
+	// 다른 노드가 잠근 작업은 기다리지 않고 건너뜀
+	@Query(value = """
+		SELECT * FROM notification_fan_out_job
+		WHERE id = :id
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	Optional<NotificationFanOutJob> findByIdForUpdate(@Param("id") Long id);
+
+	@Query(value = """
+		SELECT id FROM notification_fan_out_job
+		WHERE next_attempt_at <= :now
+		ORDER BY id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Long> findDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,39 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.notification.NotificationFanOutJobRepository;
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOutJobPersistenceAdapter implements NotificationFanOutJobRepository {
+
+	private final NotificationFanOutJobJpaRepository notificationFanOutJobJpaRepository;
+
+	@Override
+	public NotificationFanOutJob save(NotificationFanOutJob job) {
+		return notificationFanOutJobJpaRepository.save(job);
+	}
+
+	@Override
+	public Optional<NotificationFanOutJob> findByIdForUpdate(Long id) {
+		return notificationFanOutJobJpaRepository.findByIdForUpdate(id);
+	}
+
+	@Override
+	public List<Long> findDueIds(LocalDateTime now, int limit) {
+		return notificationFanOutJobJpaRepository.findDueIds(now, limit);
+	}
+
+	@Override
+	public void delete(NotificationFanOutJob job) {
+		notificationFanOutJobJpaRepository.delete(job);
+	}
+}
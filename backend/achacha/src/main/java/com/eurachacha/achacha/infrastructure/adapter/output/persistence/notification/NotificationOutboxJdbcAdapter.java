@@ -0,0 +1,130 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.notification.NotificationOutboxRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.NotificationOutboxDto;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxJdbcAdapter implements NotificationOutboxRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_OUTBOX = """
+		INSERT INTO notification_outbox (payload, attempts, next_attempt_at, created_at, updated_at)
+		VALUES (?, 0, ?, ?, ?)
+		""";
+
+	// 여러 노드의 릴레이가 같은 행을 중복 발행하지 않도록 잠긴 행은 건너뜀
+	private static final String FIND_PUBLISHABLE_FOR_UPDATE = """
+		SELECT id, attempts, payload
+		FROM notification_outbox
+		WHERE next_attempt_at <= :now
+		ORDER BY id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""";
+
+	private static final String DELETE_BY_IDS = "DELETE FROM notification_outbox WHERE id IN (:ids)";
+
+	private static final String UPDATE_NEXT_ATTEMPT = """
+		UPDATE notification_outbox
+		SET attempts = attempts + 1, next_attempt_at = ?, updated_at = ?
+		WHERE id = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void saveAll(List<NotificationEventDto> eventDtos) {
+		if (eventDtos.isEmpty()) {
+			return;
+		}
+
+		List<String> payloads = eventDtos.stream().map(this::serialize).toList();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_OUTBOX, payloads, BATCH_SIZE, (ps, payload) -> {
+			ps.setString(1, payload);
+			ps.setTimestamp(2, now);
+			ps.setTimestamp(3, now);
+			ps.setTimestamp(4, now);
+		});
+	}
+
+	@Override
+	public List<NotificationOutboxDto> findPublishableForUpdate(LocalDateTime now, int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("now", now)
+			.addValue("limit", limit);
+
+		return namedParameterJdbcTemplate.query(FIND_PUBLISHABLE_FOR_UPDATE, params, (rs, rowNum) ->
+			new NotificationOutboxDto(
+				rs.getLong("id"),
+				rs.getInt("attempts"),
+				deserialize(rs.getString("payload"))));
+	}
+
+	@Override
+	public void deleteAllByIds(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		namedParameterJdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+	}
+
+	@Override
+	public void updateNextAttempts(Map<Long, LocalDateTime> nextAttemptAtById) {
+		if (nextAttemptAtById.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(UPDATE_NEXT_ATTEMPT, new ArrayList<>(nextAttemptAtById.entrySet()), BATCH_SIZE,
+			(ps, entry) -> {
+				ps.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+				ps.setTimestamp(2, now);
+				ps.setLong(3, entry.getKey());
+			});
+	}
+
+	private String serialize(NotificationEventDto eventDto) {
+		try {
+			return objectMapper.writeValueAsString(eventDto);
+		} catch (JsonProcessingException e) {
+			log.error("알림 이벤트 JSON 변환 실패", e);
+			throw new CustomException(ErrorCode.NOTIFICATION_EVENT_SERIALIZATION_ERROR);
+		}
+	}
+
+	private NotificationEventDto deserialize(String payload) {
+		try {
+			return objectMapper.readValue(payload, NotificationEventDto.class);
+		} catch (JsonProcessingException e) {
+			log.error("알림 이벤트 JSON 변환 실패: {}", payload, e);
+			throw new CustomException(ErrorCode.NOTIFICATION_EVENT_SERIALIZATION_ERROR);
+		}
+	}
+}
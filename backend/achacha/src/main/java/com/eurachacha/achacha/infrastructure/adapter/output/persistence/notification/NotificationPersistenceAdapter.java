@@ -1,10 +1,19 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 
 import lombok.RequiredArgsConstructor;
@@ -13,11 +22,58 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NotificationPersistenceAdapter implements NotificationRepository {
 
+	private static final int BATCH_SIZE = 500;
+	private static final String INSERT_NOTIFICATION = """
+		INSERT INTO notification
+			(title, content, reference_entity_type, reference_entity_id, detail, notification_type_id, user_id,
+			is_read, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String INCREASE_UNREAD_COUNT = """
+		INSERT INTO notification_unread_count (user_id, unread_count, updated_at)
+		VALUES (?, ?, ?)
+		ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count), updated_at = VALUES(updated_at)
+		""";
+	private static final String RESET_UNREAD_COUNT = """
+		UPDATE notification_unread_count SET unread_count = 0, updated_at = ? WHERE user_id = ?
+		""";
+	private static final String FIND_UNREAD_COUNT = """
+		SELECT unread_count FROM notification_unread_count WHERE user_id = ?
+		""";
+
 	private final NotificationJpaRepository notificationJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Notification save(Notification notification) {
-		return notificationJpaRepository.save(notification);
+		Notification savedNotification = notificationJpaRepository.save(notification);
+		increaseUnreadCounts(List.of(savedNotification));
+		return savedNotification;
+	}
+
+	// IDENTITY 전략에서는 Hibernate 배치 insert가 동작하지 않으므로 JDBC 배치로 직접 저장
+	@Override
+	public void saveAll(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, notifications, BATCH_SIZE, (ps, notification) -> {
+			ps.setString(1, notification.getTitle());
+			ps.setString(2, notification.getContent());
+			ps.setString(3, notification.getReferenceEntityType());
+			ps.setObject(4, notification.getReferenceEntityId());
+			ps.setString(5, notification.getDetail());
+			ps.setInt(6, notification.getNotificationType().getId());
+			ps.setInt(7, notification.getUser().getId());
+			ps.setBoolean(8, Boolean.TRUE.equals(notification.getIsRead()));
+			ps.setTimestamp(9, now);
+			ps.setTimestamp(10, now);
+		});
+
+		increaseUnreadCounts(notifications);
 	}
 
 	@Override
@@ -25,13 +81,47 @@ public class NotificationPersistenceAdapter implements NotificationRepository {
 		return notificationJpaRepository.findNotifications(userId, pageable);
 	}
 
+	@Override
+	public Slice<Notification> findNotificationsByCursor(Integer userId, NotificationCursorDto cursor, int size) {
+		return notificationJpaRepository.findNotificationsByCursor(userId, cursor, size);
+	}
+
 	@Override
 	public int countByUserIdAndRead(Integer userId, boolean read) {
 		return notificationJpaRepository.countByUserIdAndIsRead(userId, read);
 	}
 
+	@Override
+	public int countUnread(Integer userId) {
+		List<Integer> counts = jdbcTemplate.queryForList(FIND_UNREAD_COUNT, Integer.class, userId);
+		return counts.isEmpty() ? 0 : Math.max(counts.get(0), 0);
+	}
+
 	@Override
 	public void updateAllNotificationsToRead(Integer userId) {
 		notificationJpaRepository.updateAllNotificationsToRead(userId);
+		jdbcTemplate.update(RESET_UNREAD_COUNT, Timestamp.valueOf(LocalDateTime.now()), userId);
+	}
+
+	// 알림 저장과 같은 트랜잭션에서 사용자별 읽지 않은 알림 수 증가
+	// 여러 트랜잭션이 같은 사용자 행을 잠글 때 교착 상태가 생기지 않도록 사용자 ID 순으로 갱신
+	private void increaseUnreadCounts(List<Notification> notifications) {
+		Map<Integer, Integer> unreadCountByUserId = new TreeMap<>();
+		notifications.stream()
+			.filter(notification -> !Boolean.TRUE.equals(notification.getIsRead()))
+			.forEach(notification -> unreadCountByUserId.merge(notification.getUser().getId(), 1, Integer::sum));
+
+		if (unreadCountByUserId.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INCREASE_UNREAD_COUNT, new ArrayList<>(unreadCountByUserId.entrySet()), BATCH_SIZE,
+			(ps, entry) -> {
+				ps.setInt(1, entry.getKey());
+				ps.setInt(2, entry.getValue());
+				ps.setTimestamp(3, now);
+			});
 	}
 }
@@ -3,8 +3,11 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notific
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 
 public interface NotificationRepositoryCustom {
 	Slice<Notification> findNotifications(Integer userId, Pageable pageable);
+
+	Slice<Notification> findNotificationsByCursor(Integer userId, NotificationCursorDto cursor, int size);
 }
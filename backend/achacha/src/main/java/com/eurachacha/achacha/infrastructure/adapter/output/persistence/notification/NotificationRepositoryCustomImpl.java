@@ -2,14 +2,17 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notific
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.QNotification;
 import com.eurachacha.achacha.domain.model.notification.QNotificationType;
 import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.QueryUtils;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -26,9 +29,10 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
 		List<Notification> notifications = jpaQueryFactory
 			.selectFrom(qNotification)
 			.join(qNotification.notificationType, qNotificationType).fetchJoin() // 알림 타입 정보를 한 번에 가져오기 위한 fetch join
-			.join(qNotification.user).fetchJoin() // 사용자 정보도 함께 가져오기
 			.where(qNotification.user.id.eq(userId))
 			.orderBy(QueryUtils.getOrderSpecifier(pageable.getSort(), qNotification))
+			// 같은 시각에 일괄 저장된 알림의 순서를 고정하여 페이지 간 중복/누락이 없도록 id를 보조 정렬키로 사용 (커서 조회와 동일)
+			.orderBy(qNotification.id.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize() + 1) // 다음 페이지 존재 여부 확인을 위해 1개 더 가져옴
 			.fetch();
@@ -41,4 +45,42 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
 
 		return new SliceImpl<>(notifications, pageable, hasNext);
 	}
-}
\ No newline at end of file
+
+	@Override
+	public Slice<Notification> findNotificationsByCursor(Integer userId, NotificationCursorDto cursor, int size) {
+		QNotification qNotification = QNotification.notification;
+		QNotificationType qNotificationType = QNotificationType.notificationType;
+
+		// (user_id, created_at, id) 인덱스 순서대로 커서 이후 데이터만 읽으므로 페이지 깊이와 무관하게 비용이 일정함
+		List<Notification> notifications = jpaQueryFactory
+			.selectFrom(qNotification)
+			.join(qNotification.notificationType, qNotificationType).fetchJoin()
+			.where(
+				qNotification.user.id.eq(userId),
+				cursorCondition(cursor, qNotification)
+			)
+			.orderBy(qNotification.createdAt.desc(), qNotification.id.desc())
+			.limit(size + 1)
+			.fetch();
+
+		boolean hasNext = false;
+		if (notifications.size() > size) {
+			notifications = notifications.subList(0, size);
+			hasNext = true;
+		}
+
+		return new SliceImpl<>(notifications, PageRequest.ofSize(size), hasNext);
+	}
+
+	/**
+	 * 커서 이후 조건 (동일 생성일시 사이의 순서를 고정하기 위해 id를 보조 정렬키로 사용)
+	 */
+	private BooleanExpression cursorCondition(NotificationCursorDto cursor, QNotification qNotification) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return qNotification.createdAt.lt(cursor.getCreatedAt())
+			.or(qNotification.createdAt.eq(cursor.getCreatedAt()).and(qNotification.id.lt(cursor.getId())));
+	}
+}
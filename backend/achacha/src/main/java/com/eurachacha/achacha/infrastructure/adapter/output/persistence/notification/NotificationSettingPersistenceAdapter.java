@@ -1,7 +1,10 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.notification;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
@@ -15,7 +18,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NotificationSettingPersistenceAdapter implements NotificationSettingRepository {
 
+	private static final int BATCH_SIZE = 500;
+	private static final String INSERT_NOTIFICATION_SETTING = """
+		INSERT INTO notification_setting
+			(user_id, notification_type_id, is_enabled, expiration_cycle, is_digest_enabled, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
 	private final NotificationSettingJpaRepository notificationSettingJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public List<NotificationSetting> findAllByUserId(Integer userId) {
@@ -33,9 +44,24 @@ public class NotificationSettingPersistenceAdapter implements NotificationSettin
 		return notificationSettingJpaRepository.save(notificationSetting);
 	}
 
+	// IDENTITY 전략에서는 Hibernate 배치 insert가 동작하지 않으므로 JDBC 배치로 직접 저장
 	@Override
-	public List<NotificationSetting> saveAll(List<NotificationSetting> notificationSettings) {
-		return notificationSettingJpaRepository.saveAll(notificationSettings);
+	public void saveAll(List<NotificationSetting> notificationSettings) {
+		if (notificationSettings.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SETTING, notificationSettings, BATCH_SIZE, (ps, setting) -> {
+			ps.setInt(1, setting.getUser().getId());
+			ps.setInt(2, setting.getNotificationType().getId());
+			ps.setBoolean(3, Boolean.TRUE.equals(setting.getIsEnabled()));
+			ps.setString(4, setting.getExpirationCycle() == null ? null : setting.getExpirationCycle().name());
+			ps.setBoolean(5, Boolean.TRUE.equals(setting.getIsDigestEnabled()));
+			ps.setTimestamp(6, now);
+			ps.setTimestamp(7, now);
+		});
 	}
 
 	@Override
@@ -2,6 +2,7 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.sharebo
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -24,6 +25,27 @@ public interface ParticipationJpaRepository extends JpaRepository<Participation,
 		""")
 	List<Participation> findByShareboxId(@Param("shareBoxId") Integer shareBoxId);
 
+	@Query("""
+		SELECT p.user.id FROM Participation p
+		WHERE p.sharebox.id = :shareBoxId
+		""")
+	List<Integer> findUserIdsByShareboxId(@Param("shareBoxId") Integer shareBoxId);
+
+	@Query("""
+		SELECT p.user.id FROM Participation p
+		WHERE p.sharebox.id = :shareBoxId
+		AND p.user.id > :afterUserId
+		ORDER BY p.user.id
+		""")
+	List<Integer> findUserIdsByShareboxIdAfter(@Param("shareBoxId") Integer shareBoxId,
+		@Param("afterUserId") Integer afterUserId, Pageable pageable);
+
+	@Query("""
+		SELECT p.sharebox.id FROM Participation p
+		WHERE p.user.id = :userId
+		""")
+	List<Integer> findShareboxIdsByUserId(@Param("userId") Integer userId);
+
 	@Query("""
 		SELECT p FROM Participation p
 		JOIN FETCH p.sharebox
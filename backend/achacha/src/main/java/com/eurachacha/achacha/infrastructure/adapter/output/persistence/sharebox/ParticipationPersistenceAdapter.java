@@ -2,10 +2,14 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.sharebo
 
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.domain.model.sharebox.Participation;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ParticipationPersistenceAdapter implements ParticipationRepository {
 
+	private static final String PARTICIPATION_UNIQUE_KEY = "uk_participation_user_sharebox";
+
 	private final ParticipationJpaRepository participationJpaRepository;
 
 	@Override
@@ -22,7 +28,16 @@ public class ParticipationPersistenceAdapter implements ParticipationRepository
 
 	@Override
 	public Participation save(Participation participation) {
-		return participationJpaRepository.save(participation);
+		try {
+			return participationJpaRepository.save(participation);
+		} catch (DataIntegrityViolationException e) {
+			// 동시 참여 요청으로 참여 유니크 제약에 걸린 경우
+			String message = e.getMostSpecificCause().getMessage();
+			if (message != null && message.contains(PARTICIPATION_UNIQUE_KEY)) {
+				throw new CustomException(ErrorCode.ALREADY_PARTICIPATING_SHAREBOX);
+			}
+			throw e;
+		}
 	}
 
 	@Override
@@ -35,6 +50,22 @@ public class ParticipationPersistenceAdapter implements ParticipationRepository
 		return participationJpaRepository.findByShareboxId(shareBoxId);
 	}
 
+	@Override
+	public List<Integer> findUserIdsByShareBoxId(Integer shareBoxId) {
+		return participationJpaRepository.findUserIdsByShareboxId(shareBoxId);
+	}
+
+	@Override
+	public List<Integer> findUserIdsByShareBoxIdAfter(Integer shareBoxId, Integer afterUserId, int limit) {
+		return participationJpaRepository.findUserIdsByShareboxIdAfter(shareBoxId, afterUserId,
+			PageRequest.ofSize(limit));
+	}
+
+	@Override
+	public List<Integer> findShareBoxIdsByUserId(Integer userId) {
+		return participationJpaRepository.findShareboxIdsByUserId(userId);
+	}
+
 	@Override
 	public void deleteByUserIdAndShareBoxId(Integer userId, Integer shareBoxId) {
 		participationJpaRepository.deleteByUserIdAndShareboxId(userId, shareBoxId);
@@ -3,6 +3,7 @@ package com.eurachacha.achacha.infrastructure.adapter.output.persistence.user;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.eurachacha.achacha.domain.model.user.User;
@@ -11,4 +12,7 @@ import com.eurachacha.achacha.domain.model.user.User;
 public interface UserJpaRepository extends JpaRepository<User, Integer> {
 	Optional<User> findByProviderAndProviderUserId(String provider, String providerUserId);
 
+	@Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+	int findMaxId();
+
 }
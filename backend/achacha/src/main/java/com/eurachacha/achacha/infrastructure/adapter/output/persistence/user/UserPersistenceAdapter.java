@@ -32,4 +32,9 @@ public class UserPersistenceAdapter implements UserRepository {
 	public User save(User user) {
 		return userJpaRepository.save(user);
 	}
+
+	@Override
+	public int findMaxId() {
+		return userJpaRepository.findMaxId();
+	}
 }
@@ -1,18 +1,28 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.storage;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.amazonaws.services.cloudfront.CloudFrontCookieSigner;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.dto.response.SignedCookieDto;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.infrastructure.config.AwsCloudFrontProperties;
 import com.eurachacha.achacha.infrastructure.config.AwsS3Properties;
@@ -34,6 +44,20 @@ public class S3StorageAdapter implements FileStoragePort {
 	// 기본 만료 시간 설정 (5분)
 	private static final long DEFAULT_EXPIRATION_TIME = 300000L;
 
+	// 만료 시각을 맞추는 시간 구간 (10분)
+	private static final long EXPIRATION_BUCKET_SIZE = 600000L;
+	private static final long URL_CACHE_MAX_SIZE = 10000L;
+
+	// (파일 경로, 파일 타입, 만료 구간)별 서명 URL 캐시
+	private final Cache<SignedUrlKey, String> signedUrlCache = Caffeine.newBuilder()
+		.maximumSize(URL_CACHE_MAX_SIZE)
+		.expireAfterWrite(Duration.ofMillis(DEFAULT_EXPIRATION_TIME + EXPIRATION_BUCKET_SIZE))
+		.build();
+
+	// 서명된 쿠키 모드에서 URL 서명 없이 제공하는 파일 타입 (목록 화면용 이미지)
+	private static final Set<FileType> COOKIE_SCOPED_TYPES = EnumSet.of(
+		FileType.THUMBNAIL, FileType.PRESENT_THUMBNAIL, FileType.PRESENT_CARD);
+
 	@Override
 	public String uploadFile(MultipartFile file, FileType fileType, Integer entityId) {
 		try {
@@ -70,17 +94,50 @@ public class S3StorageAdapter implements FileStoragePort {
 			throw new CustomException(ErrorCode.INVALID_PARAMETER);
 		}
 
-		try {
-			String fullPath = fileType.getPathPrefix() + "/" + fileName;
-			String resourceUrl = "https://" + cloudFrontProperties.getDomain() + "/" + fullPath;
-			Date expirationDate = new Date(System.currentTimeMillis() + expirationTimeInMillis);
+		String fullPath = fileType.getPathPrefix() + "/" + fileName;
+		String resourceUrl = "https://" + cloudFrontProperties.getDomain() + "/" + fullPath;
+
+		// 서명된 쿠키로 접근 가능한 경로는 서명 없이 CDN 경로만 반환
+		if (isCookieScoped(fileType)) {
+			return resourceUrl;
+		}
 
-			return cloudFrontSigner.generateSignedUrl(resourceUrl, expirationDate);
+		// 만료 시각을 구간 경계로 올림하여 같은 구간 안에서는 동일한 URL을 반환 (브라우저/CDN 캐시 재사용)
+		// 최소 expirationTimeInMillis 만큼의 유효 시간은 항상 보장됨
+		long expirationTime = bucketedExpirationTime(System.currentTimeMillis(), expirationTimeInMillis);
+
+		try {
+			return signedUrlCache.get(new SignedUrlKey(fullPath, fileType, expirationTime),
+				key -> cloudFrontSigner.generateSignedUrl(resourceUrl, new Date(expirationTime)));
 		} catch (Exception e) {
 			throw new CustomException(ErrorCode.CLOUDFRONT_URL_GENERATION_ERROR);
 		}
 	}
 
+	@Override
+	public List<SignedCookieDto> generateSignedCookies() {
+		if (!cloudFrontProperties.isSignedCookieEnabled()) {
+			return List.of();
+		}
+
+		long expiration = cloudFrontProperties.getSignedCookieExpiration();
+		Date expirationDate = new Date(System.currentTimeMillis() + expiration);
+
+		// CloudFront 커스텀 정책은 하나의 리소스만 허용하므로 경로별로 쿠키를 발급하고 쿠키 Path로 범위를 제한
+		return COOKIE_SCOPED_TYPES.stream()
+			.flatMap(fileType -> {
+				String path = "/" + fileType.getPathPrefix();
+				String resourcePattern = "https://" + cloudFrontProperties.getDomain() + path + "/*";
+
+				CloudFrontCookieSigner.CookiesForCustomPolicy cookies =
+					cloudFrontSigner.generateSignedCookies(resourcePattern, expirationDate);
+
+				return Stream.of(cookies.getPolicy(), cookies.getSignature(), cookies.getKeyPairId())
+					.map(cookie -> toSignedCookieDto(cookie, path, expiration));
+			})
+			.toList();
+	}
+
 	@Override
 	public void deleteFile(String fileName, FileType fileType) {
 		if (fileName == null || fileName.isEmpty()) {
@@ -96,10 +153,32 @@ public class S3StorageAdapter implements FileStoragePort {
 		}
 	}
 
+	private long bucketedExpirationTime(long now, long expirationTimeInMillis) {
+		long minimumExpirationTime = now + expirationTimeInMillis;
+		return ((minimumExpirationTime + EXPIRATION_BUCKET_SIZE - 1) / EXPIRATION_BUCKET_SIZE) * EXPIRATION_BUCKET_SIZE;
+	}
+
+	private boolean isCookieScoped(FileType fileType) {
+		return cloudFrontProperties.isSignedCookieEnabled() && COOKIE_SCOPED_TYPES.contains(fileType);
+	}
+
+	private SignedCookieDto toSignedCookieDto(Map.Entry<String, String> cookie, String path, long expiration) {
+		return SignedCookieDto.builder()
+			.name(cookie.getKey())
+			.value(cookie.getValue())
+			.domain(cloudFrontProperties.getCookieDomain())
+			.path(path)
+			.maxAgeSeconds(expiration / 1000)
+			.build();
+	}
+
 	private String getExtension(String filename) {
 		if (filename == null || filename.lastIndexOf(".") == -1) {
 			return "jpg";
 		}
 		return filename.substring(filename.lastIndexOf(".") + 1);
 	}
-}
\ No newline at end of file
+
+	private record SignedUrlKey(String fullPath, FileType fileType, long expirationTime) {
+	}
+}
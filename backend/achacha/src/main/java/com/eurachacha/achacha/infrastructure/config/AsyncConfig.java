@@ -1,6 +1,7 @@
 package com.eurachacha.achacha.infrastructure.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,10 @@ public class AsyncConfig {
 		executor.setMaxPoolSize(coreCount * 5);
 		executor.setQueueCapacity(100);
 
+		// 큐가 가득 차면 거절하고, 쉐어박스 알림 작업은 DB에 남아 있으므로 NotificationFanOutScheduler가 이어서 처리
+		// (요청 스레드에서 직접 실행하면 이미 커밋된 트랜잭션의 리소스가 남아 있어 응답이 늦어지고 저장이 누락될 수 있음)
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
 		executor.setThreadNamePrefix("notification-");
 		executor.initialize();
 		return executor;
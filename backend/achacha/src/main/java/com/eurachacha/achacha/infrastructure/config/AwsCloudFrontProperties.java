@@ -12,4 +12,9 @@ public class AwsCloudFrontProperties {
 	private final String domain;
 	private final String keypairId;
 	private final String privateKey;
+	// 서명된 쿠키 모드 (썸네일 이미지를 URL 서명 없이 제공)
+	private final boolean signedCookieEnabled;
+	// 쿠키를 공유할 도메인 (API 서버와 CloudFront 대체 도메인의 공통 상위 도메인)
+	private final String cookieDomain;
+	private final long signedCookieExpiration;
 }
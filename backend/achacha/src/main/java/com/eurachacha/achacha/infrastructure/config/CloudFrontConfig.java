@@ -1,5 +1,8 @@
 package com.eurachacha.achacha.infrastructure.config;
 
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.Base64;
 
 import org.springframework.context.annotation.Bean;
@@ -24,14 +27,17 @@ public class CloudFrontConfig {
 		}
 
 		try {
-			// Base64 디코딩 후, DER 형식으로 SignedURL 생성
+			// Base64 디코딩 후, DER(PKCS#8) 형식의 키를 기동 시 한 번만 파싱
 			byte[] privateKeyBytes = Base64.getDecoder().decode(cloudFrontProperties.getPrivateKey());
+			PrivateKey privateKey = KeyFactory.getInstance("RSA")
+				.generatePrivate(new PKCS8EncodedKeySpec(privateKeyBytes));
+
 			return new CloudFrontSigner(
 				cloudFrontProperties.getKeypairId(),
-				privateKeyBytes
+				privateKey
 			);
 		} catch (Exception e) {
 			throw new CustomException(ErrorCode.CLOUDFRONT_PRIVATE_KEY_ERROR);
 		}
 	}
-}
\ No newline at end of file
+}
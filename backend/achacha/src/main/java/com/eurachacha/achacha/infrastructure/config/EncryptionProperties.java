@@ -10,5 +10,10 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public class EncryptionProperties {
 	private final String key;
-
+	// 현재 키 식별자 (비어 있으면 식별자 없이 암호문 저장)
+	private final String keyId;
+	// 키 교체 중 이전 키로 암호화된 값을 읽기 위한 키
+	private final String previousKey;
+	private final String previousKeyId;
+	private final String blindIndexKey;
 }
@@ -1,5 +1,12 @@
 package com.eurachacha.achacha.infrastructure.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -16,6 +23,16 @@ public class RabbitMQConfig {
 	// 메시지 전송에 사용할 Exchange와 Routing Key 상수 정의
 	public static final String NOTIFICATION_EXCHANGE = "achacha.notification.exchange";
 	public static final String NOTIFICATION_ROUTING_KEY = "achacha.notification";
+	// 여러 토큰을 묶은 배치 메시지용 Routing Key
+	public static final String NOTIFICATION_BATCH_ROUTING_KEY = "achacha.notification.batch";
+
+	// 알림 서버가 반환하는 무효 FCM 토큰을 받을 Queue와 Routing Key
+	public static final String INVALID_FCM_TOKEN_QUEUE = "achacha.notification.token.invalid.queue";
+	public static final String INVALID_FCM_TOKEN_ROUTING_KEY = "achacha.notification.token.invalid";
+
+	// 서버 노드 간 로컬 캐시(쉐어박스 참여 여부, 알림 수신자) 무효화용 Fanout Exchange와 노드별 Queue 이름 접두사
+	public static final String CACHE_INVALIDATION_EXCHANGE = "achacha.cache.invalidation.exchange";
+	public static final String CACHE_INVALIDATION_QUEUE_PREFIX = "achacha.cache.invalidation.";
 
 	/**
 	 * 알림 메시지를 위한 Topic Exchange 정의
@@ -26,6 +43,46 @@ public class RabbitMQConfig {
 		return new TopicExchange(NOTIFICATION_EXCHANGE);
 	}
 
+	/**
+	 * 무효 FCM 토큰 Queue 정의
+	 * 메인 서버가 소비자이므로 Queue와 Binding을 이쪽에서 선언
+	 */
+	@Bean
+	public Queue invalidFcmTokenQueue() {
+		return QueueBuilder.durable(INVALID_FCM_TOKEN_QUEUE).build();
+	}
+
+	@Bean
+	public Binding invalidFcmTokenBinding() {
+		return BindingBuilder.bind(invalidFcmTokenQueue())
+			.to(notificationExchange())
+			.with(INVALID_FCM_TOKEN_ROUTING_KEY);
+	}
+
+	/**
+	 * 로컬 캐시 무효화 Exchange 정의
+	 * 모든 노드가 같은 메시지를 받아야 하므로 Fanout 사용
+	 */
+	@Bean
+	public FanoutExchange cacheInvalidationExchange() {
+		return new FanoutExchange(CACHE_INVALIDATION_EXCHANGE);
+	}
+
+	/**
+	 * 노드별 캐시 무효화 Queue 정의
+	 * 노드가 내려가면 함께 삭제되는 익명 Queue (재시작한 노드는 빈 캐시로 시작하므로 지난 메시지가 필요 없음)
+	 */
+	@Bean
+	public AnonymousQueue cacheInvalidationQueue() {
+		return new AnonymousQueue(new Base64UrlNamingStrategy(CACHE_INVALIDATION_QUEUE_PREFIX));
+	}
+
+	@Bean
+	public Binding cacheInvalidationBinding() {
+		return BindingBuilder.bind(cacheInvalidationQueue())
+			.to(cacheInvalidationExchange());
+	}
+
 	/**
 	 * 메시지 변환기 설정
 	 * Java 객체 <-> JSON 변환을 처리
@@ -46,6 +103,8 @@ public class RabbitMQConfig {
 	public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
 		RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
 		rabbitTemplate.setMessageConverter(jsonMessageConverter());
+		// 라우팅되지 않은 메시지를 반환받아 아웃박스 릴레이가 재시도할 수 있도록 함
+		rabbitTemplate.setMandatory(true);
 		return rabbitTemplate;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.eurachacha.achacha.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@ConfigurationProperties(prefix = "scheduler")
+@RequiredArgsConstructor
+@Getter
+public class SchedulerProperties {
+	// 유효기간 알림 작업을 사용자 ID 범위로 나눌 개수 (1이면 한 노드가 전체 처리)
+	private final int expiryNotificationShardCount;
+
+	// 이 기간(일) 동안 로그인에 사용되지 않은 FCM 토큰은 삭제
+	private final int fcmTokenRetentionDays;
+}
@@ -1,16 +1,17 @@
 package com.eurachacha.achacha.infrastructure.security;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.eurachacha.achacha.application.port.input.auth.AuthenticationUseCase;
+import com.eurachacha.achacha.application.port.output.auth.dto.response.AuthenticatedUser;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -31,13 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String jwt = extractJwtFromRequest(request);
 
 		if (StringUtils.hasText(jwt)) {
-			// 토큰에서 사용자 ID 추출
-			Integer userId = authenticationUseCase.validateAccessToken(jwt);
+			// 토큰 클레임으로 인증 주체 생성 (사용자 엔티티는 필요한 서비스에서만 조회)
+			AuthenticatedUser authenticatedUser = authenticationUseCase.authenticate(jwt);
 
 			// SecurityContext에 인증 정보 설정
-			UserDetails userDetails = authenticationUseCase.createUserDetails(userId);
 			UsernamePasswordAuthenticationToken authentication =
-				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+				new UsernamePasswordAuthenticationToken(authenticatedUser, null, List.of());
 			authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
 			SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,60 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 암호화된 컬럼의 동등 비교용 블라인드 인덱스(HMAC-SHA256) 생성
+ * 암호문과 무관하게 같은 평문은 항상 같은 값이 되므로 암호화 방식이 바뀌어도 조회에 영향이 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class BlindIndexUtil {
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private final EncryptionProperties encryptionProperties;
+
+	private SecretKeySpec secretKey;
+
+	// Mac은 스레드 안전하지 않으므로 스레드별로 재사용
+	private final ThreadLocal<Mac> macHolder = ThreadLocal.withInitial(this::createMac);
+
+	@PostConstruct
+	public void init() {
+		try {
+			byte[] key = encryptionProperties.getBlindIndexKey().getBytes(StandardCharsets.UTF_8);
+			secretKey = new SecretKeySpec(key, ALGORITHM);
+		} catch (Exception e) {
+			throw new RuntimeException("블라인드 인덱스 키 초기화 실패", e);
+		}
+	}
+
+	public String hash(String data) {
+		if (data == null) {
+			return null;
+		}
+
+		byte[] digest = macHolder.get().doFinal(data.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest);
+	}
+
+	private Mac createMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(secretKey);
+			return mac;
+		} catch (Exception e) {
+			throw new RuntimeException("블라인드 인덱스 생성기 초기화 실패", e);
+		}
+	}
+}
@@ -1,33 +1,40 @@
 package com.eurachacha.achacha.infrastructure.util;
 
-import java.security.KeyFactory;
 import java.security.PrivateKey;
-import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.Date;
 
+import com.amazonaws.services.cloudfront.CloudFrontCookieSigner;
 import com.amazonaws.services.cloudfront.CloudFrontUrlSigner;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 public class CloudFrontSigner {
 	private final String keyPairId;
-	private final byte[] privateKeyBytes;
+	// 기동 시 한 번만 파싱한 키를 재사용 (요청마다 KeyFactory로 파싱하지 않음)
+	private final PrivateKey privateKey;
 
-	public CloudFrontSigner(String keyPairId, byte[] privateKeyBytes) {
+	public CloudFrontSigner(String keyPairId, PrivateKey privateKey) {
 		this.keyPairId = keyPairId;
-		this.privateKeyBytes = privateKeyBytes;
+		this.privateKey = privateKey;
 	}
 
 	public String generateSignedUrl(String resourcePath, Date expirationDate) {
 		try {
-			PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(privateKeyBytes);
-			KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-			PrivateKey privateKey = keyFactory.generatePrivate(keySpec);
-
 			return CloudFrontUrlSigner.getSignedURLWithCannedPolicy(
 				resourcePath, keyPairId, privateKey, expirationDate);
 		} catch (Exception e) {
 			throw new CustomException(ErrorCode.CLOUDFRONT_URL_GENERATION_ERROR);
 		}
 	}
-}
\ No newline at end of file
+
+	// resourcePattern은 와일드카드(*)를 포함할 수 있는 커스텀 정책 리소스
+	public CloudFrontCookieSigner.CookiesForCustomPolicy generateSignedCookies(String resourcePattern,
+		Date expirationDate) {
+		try {
+			return CloudFrontCookieSigner.getCookiesForCustomPolicy(
+				resourcePattern, privateKey, keyPairId, expirationDate, null, null);
+		} catch (Exception e) {
+			throw new CustomException(ErrorCode.CLOUDFRONT_COOKIE_GENERATION_ERROR);
+		}
+	}
+}
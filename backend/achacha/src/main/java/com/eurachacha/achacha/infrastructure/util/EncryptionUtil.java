@@ -4,32 +4,56 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 바코드 암복호화
+ * 키 식별자가 설정되면 암호문을 "키ID:Base64" 형식으로 저장하며, 식별자가 없는 암호문은 식별자가 비어 있는 키로 복호화함
+ * 키 교체 시 현재 키와 이전 키를 함께 보관하여 재암호화가 끝나기 전에도 기존 데이터를 읽을 수 있음
+ */
 @Component
 @RequiredArgsConstructor
 public class EncryptionUtil {
+	private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+	private static final String KEY_ID_DELIMITER = ":";
+
 	private final EncryptionProperties encryptionProperties;
 
-	private SecretKeySpec secretKey;
+	// 키 식별자별 비밀키
+	private final Map<String, SecretKeySpec> secretKeys = new HashMap<>();
+	private String currentKeyId;
+
+	// Cipher는 스레드 안전하지 않으므로 스레드별로 (모드, 키)마다 초기화된 인스턴스를 재사용
+	// doFinal 이후 Cipher는 초기화 직후 상태로 돌아가므로 다시 init 하지 않아도 됨
+	private final ThreadLocal<Map<String, Cipher>> cipherHolder = ThreadLocal.withInitial(HashMap::new);
 
 	@PostConstruct
 	public void init() {
 		try {
-			byte[] key = encryptionProperties.getKey().getBytes(StandardCharsets.UTF_8);
-			MessageDigest sha = MessageDigest.getInstance("SHA-256");
-			key = sha.digest(key);
-			key = Arrays.copyOf(key, 32); // AES-256 사용
-			secretKey = new SecretKeySpec(key, "AES");
+			currentKeyId = normalizeKeyId(encryptionProperties.getKeyId());
+			secretKeys.put(currentKeyId, createSecretKey(encryptionProperties.getKey()));
+
+			if (StringUtils.hasText(encryptionProperties.getPreviousKey())) {
+				String previousKeyId = normalizeKeyId(encryptionProperties.getPreviousKeyId());
+
+				if (previousKeyId.equals(currentKeyId)) {
+					throw new IllegalStateException("현재 키와 이전 키의 식별자가 같습니다.");
+				}
+
+				secretKeys.put(previousKeyId, createSecretKey(encryptionProperties.getPreviousKey()));
+			}
 		} catch (Exception e) {
 			throw new RuntimeException("비밀키 초기화 실패", e);
 		}
@@ -37,24 +61,84 @@ public class EncryptionUtil {
 
 	public String encrypt(String data) {
 		try {
-			Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-			cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+			Cipher cipher = getCipher(Cipher.ENCRYPT_MODE, currentKeyId);
 			byte[] encryptedBytes = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-			return Base64.getEncoder().encodeToString(encryptedBytes);
+			String encoded = Base64.getEncoder().encodeToString(encryptedBytes);
+
+			return currentKeyId.isEmpty() ? encoded : currentKeyId + KEY_ID_DELIMITER + encoded;
 		} catch (Exception e) {
+			// 예외 발생 시 Cipher 상태를 신뢰할 수 없으므로 재사용하지 않음
+			cipherHolder.get().clear();
 			throw new RuntimeException("암호화 실패", e);
 		}
 	}
 
 	public String decrypt(String encryptedData) {
 		try {
-			Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-			cipher.init(Cipher.DECRYPT_MODE, secretKey);
-			byte[] decodedBytes = Base64.getDecoder().decode(encryptedData);
+			String keyId = extractKeyId(encryptedData);
+			String payload = keyId.isEmpty() ? encryptedData : encryptedData.substring(keyId.length() + 1);
+
+			Cipher cipher = getCipher(Cipher.DECRYPT_MODE, keyId);
+			byte[] decodedBytes = Base64.getDecoder().decode(payload);
 			byte[] decryptedBytes = cipher.doFinal(decodedBytes);
 			return new String(decryptedBytes, StandardCharsets.UTF_8);
 		} catch (Exception e) {
+			cipherHolder.get().clear();
 			throw new RuntimeException("복호화 실패", e);
 		}
 	}
+
+	// 현재 암호화 키 식별자 (재암호화 작업의 대상 키 기록용)
+	public String getCurrentKeyId() {
+		return currentKeyId;
+	}
+
+	// 현재 키로 암호화된 값인지 확인 (재암호화 대상 판별용)
+	public boolean isEncryptedWithCurrentKey(String encryptedData) {
+		return currentKeyId.equals(extractKeyId(encryptedData));
+	}
+
+	private Cipher getCipher(int mode, String keyId) throws Exception {
+		SecretKeySpec secretKey = secretKeys.get(keyId);
+
+		if (secretKey == null) {
+			throw new IllegalStateException("등록되지 않은 암호화 키입니다. keyId=" + keyId);
+		}
+
+		Map<String, Cipher> ciphers = cipherHolder.get();
+		String cacheKey = mode + KEY_ID_DELIMITER + keyId;
+		Cipher cipher = ciphers.get(cacheKey);
+
+		if (cipher == null) {
+			cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(mode, secretKey);
+			ciphers.put(cacheKey, cipher);
+		}
+
+		return cipher;
+	}
+
+	// Base64에는 ':'가 포함되지 않으므로 구분자 앞부분을 키 식별자로 사용
+	private String extractKeyId(String encryptedData) {
+		int delimiterIndex = encryptedData.indexOf(KEY_ID_DELIMITER);
+		return delimiterIndex < 0 ? "" : encryptedData.substring(0, delimiterIndex);
+	}
+
+	private String normalizeKeyId(String keyId) {
+		String normalized = keyId == null ? "" : keyId.trim();
+
+		if (normalized.contains(KEY_ID_DELIMITER)) {
+			throw new IllegalStateException("키 식별자에는 '" + KEY_ID_DELIMITER + "'를 사용할 수 없습니다.");
+		}
+
+		return normalized;
+	}
+
+	private SecretKeySpec createSecretKey(String rawKey) throws Exception {
+		byte[] key = rawKey.getBytes(StandardCharsets.UTF_8);
+		MessageDigest sha = MessageDigest.getInstance("SHA-256");
+		key = sha.digest(key);
+		key = Arrays.copyOf(key, 32); // AES-256 사용
+		return new SecretKeySpec(key, "AES");
+	}
 }
@@ -1,5 +1,9 @@
 package com.eurachacha.achacha.web.auth;
 
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,6 +15,7 @@ import com.eurachacha.achacha.application.port.input.auth.dto.request.KakaoLogin
 import com.eurachacha.achacha.application.port.input.auth.dto.request.LogoutRequestDto;
 import com.eurachacha.achacha.application.port.input.auth.dto.request.RefreshTokenRequestDto;
 import com.eurachacha.achacha.application.port.input.auth.dto.response.TokenResponseDto;
+import com.eurachacha.achacha.application.port.output.file.dto.response.SignedCookieDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,13 +28,25 @@ public class AuthController {
 	@PostMapping("/kakao")
 	public ResponseEntity<TokenResponseDto> kakaoLogin(@RequestBody KakaoLoginRequestDto requestDto) {
 		TokenResponseDto tokenResponseDto = authAppService.loginWithKakao(requestDto);
-		return ResponseEntity.ok(tokenResponseDto);
+		return ResponseEntity.ok()
+			.headers(imageAccessCookieHeaders(authAppService.issueImageAccessCookies()))
+			.body(tokenResponseDto);
 	}
 
 	@PostMapping("/refresh")
 	public ResponseEntity<TokenResponseDto> refreshToken(@RequestBody RefreshTokenRequestDto requestDto) {
 		TokenResponseDto tokenResponseDto = authAppService.refreshToken(requestDto);
-		return ResponseEntity.ok(tokenResponseDto);
+		return ResponseEntity.ok()
+			.headers(imageAccessCookieHeaders(authAppService.issueImageAccessCookies()))
+			.body(tokenResponseDto);
+	}
+
+	// 이미지 접근 쿠키는 액세스 토큰보다 먼저 만료되므로, 썸네일 요청이 403이거나 앱이 다시 활성화될 때 재발급
+	@PostMapping("/image-cookies")
+	public ResponseEntity<String> reissueImageAccessCookies() {
+		return ResponseEntity.ok()
+			.headers(imageAccessCookieHeaders(authAppService.reissueImageAccessCookies()))
+			.body("이미지 접근 쿠키 재발급 성공");
 	}
 
 	// Swagger-ui 문서용 메서드, 동작하지 않음
@@ -39,4 +56,26 @@ public class AuthController {
 		return ResponseEntity.ok("로그아웃 성공");
 	}
 
+	// 서명된 쿠키 모드인 경우 썸네일 이미지 접근용 CloudFront 쿠키를 함께 발급
+	private HttpHeaders imageAccessCookieHeaders(List<SignedCookieDto> cookies) {
+		HttpHeaders headers = new HttpHeaders();
+
+		for (SignedCookieDto cookie : cookies) {
+			ResponseCookie.ResponseCookieBuilder builder = ResponseCookie.from(cookie.getName(), cookie.getValue())
+				.path(cookie.getPath())
+				.maxAge(cookie.getMaxAgeSeconds())
+				.httpOnly(true)
+				.secure(true)
+				.sameSite("None");
+
+			if (cookie.getDomain() != null && !cookie.getDomain().isEmpty()) {
+				builder.domain(cookie.getDomain());
+			}
+
+			headers.add(HttpHeaders.SET_COOKIE, builder.build().toString());
+		}
+
+		return headers;
+	}
+
 }
\ No newline at end of file
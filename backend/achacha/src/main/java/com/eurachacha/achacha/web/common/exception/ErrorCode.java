@@ -33,6 +33,10 @@ public enum ErrorCode {
 	NOTIFICATION_TYPE_NOT_FOUND(HttpStatus.NOT_FOUND, "NOTIFICATION_001", "알림 타입을 찾을 수 없습니다."),
 	NOTIFICATION_SETTING_NOT_FOUND(HttpStatus.NOT_FOUND, "NOTIFICATION_002", "알림 설정을 찾을 수 없습니다."),
 	NOTIFICATION_SETTING_DISABLED(HttpStatus.BAD_REQUEST, "NOTIFICATION_003", "비활성화된 알림입니다."),
+	NOTIFICATION_EVENT_SERIALIZATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "NOTIFICATION_004",
+		"알림 이벤트 변환 중 오류가 발생했습니다."),
+	NOTIFICATION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "NOTIFICATION_005", "유효하지 않은 페이지 커서입니다."),
+	EXPIRY_NOTIFICATION_ALREADY_SENT(HttpStatus.CONFLICT, "NOTIFICATION_006", "이미 발송된 유효기간 알림입니다."),
 
 	// 기프티콘 관련 에러 코드
 	GIFTICON_NOT_FOUND(HttpStatus.NOT_FOUND, "GIFTICON_001", "기프티콘 정보를 찾을 수 없습니다."),
@@ -47,6 +51,7 @@ public enum ErrorCode {
 	INVALID_GIFTICON_TYPE(HttpStatus.BAD_REQUEST, "GIFTICON_011", "기프티콘 타입이 올바르지 않습니다."),
 	INVALID_AMOUNT_VALUE(HttpStatus.BAD_REQUEST, "GIFTICON_012", "금액이 유효하지 않습니다."),
 	GIFTICON_EXPIRED_DATE(HttpStatus.BAD_REQUEST, "GIFTICON_013", "유효기간이 지난 기프티콘입니다."),
+	GIFTICON_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "GIFTICON_014", "유효하지 않은 페이지 커서입니다."),
 
 	// 브랜드 관련 에러 코드
 	BRAND_NOT_FOUND(HttpStatus.NOT_FOUND, "BRAND_001", "브랜드 정보를 찾을 수 없습니다,"),
@@ -84,6 +89,7 @@ public enum ErrorCode {
 	CLOUDFRONT_URL_GENERATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CF_001", "URL 생성 중 오류가 발생했습니다."),
 	CLOUDFRONT_PRIVATE_KEY_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CF_002", "CloudFront 인증 키 처리 중 오류가 발생했습니다."),
 	CLOUDFRONT_SIGNED_URL_EXPIRED(HttpStatus.FORBIDDEN, "CF_003", "URL이 만료되었습니다."),
+	CLOUDFRONT_COOKIE_GENERATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CF_004", "서명된 쿠키 생성 중 오류가 발생했습니다."),
 
 	// ShareBox 관련 에러 코드
 	SHAREBOX_NOT_FOUND(HttpStatus.NOT_FOUND, "SHAREBOX_001", "쉐어박스를 찾을 수 없습니다."),
@@ -1,6 +1,7 @@
 package com.eurachacha.achacha.web.gifticon;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,7 +31,12 @@ public class AvailableGifticonController {
 		@RequestParam(required = false) GifticonType type,
 		@RequestParam(required = false, defaultValue = "CREATED_DESC") GifticonSortType sort,
 		@RequestParam(required = false, defaultValue = "0") @Min(0) Integer page,
-		@RequestParam(required = false, defaultValue = "10") @Min(1) Integer size) {
+		@RequestParam(required = false, defaultValue = "10") @Min(1) Integer size,
+		@RequestParam(required = false) String cursor) {
+		// 커서가 전달되면 키셋 페이징, 없으면 기존 페이지 번호 기반 조회
+		if (StringUtils.hasText(cursor)) {
+			return ResponseEntity.ok(gifticonAppService.getAvailableGifticonsByCursor(scope, type, sort, cursor, size));
+		}
 		return ResponseEntity.ok(gifticonAppService.getAvailableGifticons(scope, type, sort, page, size));
 	}
 
@@ -3,6 +3,7 @@ package com.eurachacha.achacha.web.gifticon;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.eurachacha.achacha.application.service.gifticon.GifticonMigrationService;
@@ -17,11 +18,20 @@ public class GifticonMigrationController {
 	private final GifticonMigrationService gifticonMigrationService;
 
 	@PostMapping("/barcodes")
-	public ResponseEntity<String> migrateBarcodes() {
-		gifticonMigrationService.migrateExistingBarcodes();
+	public ResponseEntity<String> migrateBarcodes(
+		@RequestParam(defaultValue = "1000") Integer chunkSize,
+		@RequestParam(defaultValue = "false") Boolean restart) {
+		gifticonMigrationService.reEncryptBarcodes(chunkSize, restart);
 		return ResponseEntity.ok("Barcodes migrated");
 	}
 
+	@PostMapping("/barcode-hashes")
+	public ResponseEntity<String> backfillBarcodeHashes(
+		@RequestParam(defaultValue = "1000") Integer chunkSize) {
+		gifticonMigrationService.backfillBarcodeHashes(chunkSize);
+		return ResponseEntity.ok("Barcode hashes backfilled");
+	}
+
 	// /**
 	//  * 테스트 기프티콘 저장 (자동 암호화)
 	//  */
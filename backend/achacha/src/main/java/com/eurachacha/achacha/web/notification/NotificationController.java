@@ -1,6 +1,7 @@
 package com.eurachacha.achacha.web.notification;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -29,7 +30,12 @@ public class NotificationController {
 	public ResponseEntity<NotificationsResponseDto> getNotifications(
 		@RequestParam(required = false, defaultValue = "CREATED_DESC") NotificationSortType sort,
 		@RequestParam(required = false, defaultValue = "0") @Min(0) Integer page,
-		@RequestParam(required = false, defaultValue = "6") @Min(1) Integer size) {
+		@RequestParam(required = false, defaultValue = "6") @Min(1) Integer size,
+		@RequestParam(required = false) String cursor) {
+		// 커서가 전달되면 키셋 페이징, 없으면 기존 페이지 번호 기반 조회
+		if (StringUtils.hasText(cursor)) {
+			return ResponseEntity.ok(notificationAppService.getNotificationsByCursor(sort, cursor, size));
+		}
 		return ResponseEntity.ok(notificationAppService.getNotifications(sort, page, size));
 	}
 
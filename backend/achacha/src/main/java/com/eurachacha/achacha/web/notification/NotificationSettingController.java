@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.eurachacha.achacha.application.port.input.notification.NotificationSettingAppService;
 import com.eurachacha.achacha.application.port.input.notification.dto.request.ExpirationCycleUpdateRequestDto;
+import com.eurachacha.achacha.application.port.input.notification.dto.request.ExpiryDigestUpdateRequestDto;
 import com.eurachacha.achacha.application.port.input.notification.dto.request.NotificationSettingUpdateRequestDto;
 import com.eurachacha.achacha.application.port.input.notification.dto.response.NotificationSettingDto;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
@@ -48,4 +49,12 @@ public class NotificationSettingController {
 
 		return ResponseEntity.ok("알림 주기 변경 성공");
 	}
+
+	@PatchMapping("/expiry-digest")
+	public ResponseEntity<?> updateExpiryDigest(
+		@RequestBody ExpiryDigestUpdateRequestDto expiryDigestUpdateDto) {
+		notificationSettingAppService.updateExpiryDigest(expiryDigestUpdateDto.getIsDigestEnabled());
+
+		return ResponseEntity.ok("요약 알림 설정 변경 성공");
+	}
 }
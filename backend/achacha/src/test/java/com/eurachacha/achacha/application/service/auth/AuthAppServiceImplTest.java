@@ -0,0 +1,158 @@
+package com.eurachacha.achacha.application.service.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.eurachacha.achacha.application.port.input.auth.dto.request.KakaoLoginRequestDto;
+import com.eurachacha.achacha.application.port.input.auth.dto.request.RefreshTokenRequestDto;
+import com.eurachacha.achacha.application.port.input.auth.dto.response.TokenResponseDto;
+import com.eurachacha.achacha.application.port.output.auth.AuthServicePort;
+import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
+import com.eurachacha.achacha.application.port.output.auth.TokenServicePort;
+import com.eurachacha.achacha.application.port.output.auth.dto.response.KakaoUserInfoDto;
+import com.eurachacha.achacha.application.port.output.ble.BleTokenRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
+import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
+import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.port.output.user.RefreshTokenRepository;
+import com.eurachacha.achacha.application.port.output.user.UserRepository;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.domain.model.user.RefreshToken;
+import com.eurachacha.achacha.domain.model.user.User;
+
+@ExtendWith(MockitoExtension.class)
+class AuthAppServiceImplTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private FcmTokenRepository fcmTokenRepository;
+
+	@Mock
+	private BleTokenRepository bleTokenRepository;
+
+	@Mock
+	private NotificationTypeRepository notificationTypeRepository;
+
+	@Mock
+	private NotificationSettingRepository notificationSettingRepository;
+
+	@Mock
+	private AuthServicePort authServicePort;
+
+	@Mock
+	private TokenServicePort tokenServicePort;
+
+	@Mock
+	private SecurityServicePort securityServicePort;
+
+	@Mock
+	private FileStoragePort fileStoragePort;
+
+	@Mock
+	private NotificationRecipientResolver notificationRecipientResolver;
+
+	@InjectMocks
+	private AuthAppServiceImpl authAppService;
+
+	@Test
+	@DisplayName("로그인 시 FCM 토큰은 토큰 값 기준으로 upsert하고 로그인한 사용자의 토큰 캐시를 비워야 한다.")
+	void loginWithKakao_WhenNewFcmToken_ThenUpsertAndEvictUser() {
+		// given
+		User user = givenKakaoUser(1);
+		given(fcmTokenRepository.upsert(eq(1), eq("fcm-token"), any())).willReturn(Optional.empty());
+
+		// when
+		TokenResponseDto response = authAppService.loginWithKakao(createLoginRequest("fcm-token"));
+
+		// then
+		assertThat(response.getAccessToken()).isEqualTo("access-token");
+		verify(fcmTokenRepository).upsert(eq(user.getId()), eq("fcm-token"), any());
+		verify(notificationRecipientResolver).evictFcmTokens(List.of(1));
+	}
+
+	@Test
+	@DisplayName("다른 사용자가 쓰던 FCM 토큰으로 로그인하면 이전 사용자의 토큰 캐시도 비워야 한다.")
+	void loginWithKakao_WhenFcmTokenOwnedByAnotherUser_ThenEvictPreviousOwner() {
+		// given
+		givenKakaoUser(1);
+		given(fcmTokenRepository.upsert(eq(1), eq("fcm-token"), any())).willReturn(Optional.of(2));
+
+		// when
+		authAppService.loginWithKakao(createLoginRequest("fcm-token"));
+
+		// then
+		verify(notificationRecipientResolver).evictFcmTokens(List.of(1, 2));
+	}
+
+	@Test
+	@DisplayName("같은 사용자가 같은 기기로 다시 로그인하면 해당 사용자의 토큰 캐시만 비워야 한다.")
+	void loginWithKakao_WhenSameOwner_ThenEvictOnlyUser() {
+		// given
+		givenKakaoUser(1);
+		given(fcmTokenRepository.upsert(eq(1), eq("fcm-token"), any())).willReturn(Optional.of(1));
+
+		// when
+		authAppService.loginWithKakao(createLoginRequest("fcm-token"));
+
+		// then
+		verify(notificationRecipientResolver).evictFcmTokens(List.of(1));
+	}
+
+	@Test
+	@DisplayName("토큰 재발급 시 사용자의 FCM 토큰 마지막 사용 시각을 갱신해야 한다.")
+	void refreshToken_ThenTouchFcmTokens() {
+		// given
+		User user = User.builder().id(1).name("사용자").build();
+		RefreshToken refreshToken = RefreshToken.builder().user(user).value("refresh-token").build();
+		RefreshTokenRequestDto requestDto = new RefreshTokenRequestDto();
+		ReflectionTestUtils.setField(requestDto, "refreshToken", "refresh-token");
+
+		given(tokenServicePort.validateRefreshTokenAndGetUserId("refresh-token")).willReturn(1);
+		given(userRepository.findById(1)).willReturn(user);
+		given(refreshTokenRepository.findByUserIdAndValue(1, "refresh-token")).willReturn(refreshToken);
+		given(tokenServicePort.createAccessToken(1, "사용자")).willReturn("access-token");
+
+		// when
+		TokenResponseDto response = authAppService.refreshToken(requestDto);
+
+		// then
+		assertThat(response.getAccessToken()).isEqualTo("access-token");
+		assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+		verify(fcmTokenRepository).touchAllByUserId(eq(1), any());
+	}
+
+	private User givenKakaoUser(Integer userId) {
+		User user = User.builder().id(userId).provider("KAKAO").providerUserId("kakao-id").name("사용자").build();
+		given(authServicePort.validateKakaoToken("kakao-access-token"))
+			.willReturn(new KakaoUserInfoDto("kakao-id", "사용자"));
+		given(userRepository.findByProviderAndProviderUserId("KAKAO", "kakao-id")).willReturn(Optional.of(user));
+		given(tokenServicePort.createAccessToken(userId, "사용자")).willReturn("access-token");
+		given(tokenServicePort.createRefreshToken(userId)).willReturn("refresh-token");
+		return user;
+	}
+
+	private KakaoLoginRequestDto createLoginRequest(String fcmToken) {
+		KakaoLoginRequestDto requestDto = new KakaoLoginRequestDto();
+		ReflectionTestUtils.setField(requestDto, "kakaoAccessToken", "kakao-access-token");
+		ReflectionTestUtils.setField(requestDto, "fcmToken", fcmToken);
+		return requestDto;
+	}
+}
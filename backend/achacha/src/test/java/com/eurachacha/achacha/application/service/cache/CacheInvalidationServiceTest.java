@@ -0,0 +1,81 @@
+package com.eurachacha.achacha.application.service.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eurachacha.achacha.application.port.output.cache.CacheInvalidationEventPort;
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.service.cache.event.CacheInvalidationEvent;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.sharebox.ShareBoxMembershipCache;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationServiceTest {
+
+	@Mock
+	private ShareBoxMembershipCache shareBoxMembershipCache;
+
+	@Mock
+	private NotificationRecipientResolver notificationRecipientResolver;
+
+	@Mock
+	private CacheInvalidationEventPort cacheInvalidationEventPort;
+
+	@InjectMocks
+	private CacheInvalidationService cacheInvalidationService;
+
+	@Test
+	@DisplayName("커밋 후 이벤트를 처리하면 로컬 캐시를 비우고 다른 노드에 전파해야 한다.")
+	void handleCacheInvalidation_ThenInvalidateLocalAndBroadcast() {
+		// given
+		CacheInvalidationDto invalidation = CacheInvalidationDto.fcmTokens(List.of(1, 2));
+
+		// when
+		cacheInvalidationService.handleCacheInvalidation(new CacheInvalidationEvent(invalidation));
+
+		// then
+		verify(notificationRecipientResolver).invalidateFcmTokens(List.of(1, 2));
+		verify(cacheInvalidationEventPort).broadcast(invalidation);
+	}
+
+	@Test
+	@DisplayName("다른 노드로 전파에 실패해도 로컬 캐시는 비워야 한다.")
+	void invalidateAndBroadcast_WhenBroadcastFails_ThenStillInvalidateLocal() {
+		// given
+		willThrow(new RuntimeException("broker down"))
+			.given(cacheInvalidationEventPort).broadcast(any());
+
+		// when
+		Throwable thrown = catchThrowable(() -> cacheInvalidationService.invalidateAndBroadcast(
+			CacheInvalidationDto.shareBoxMembership(List.of(1))));
+
+		// then
+		assertThat(thrown).isNull();
+		verify(shareBoxMembershipCache).invalidateLocal(List.of(1));
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 온 메시지는 대상 캐시만 비우고 다시 전파하지 않아야 한다.")
+	void invalidateLocal_ThenDispatchByTargetWithoutBroadcast() {
+		// when
+		cacheInvalidationService.invalidateLocal(
+			CacheInvalidationDto.notificationSetting(1, NotificationTypeCode.EXPIRY_DATE));
+		cacheInvalidationService.invalidateLocal(CacheInvalidationDto.allFcmTokens());
+
+		// then
+		verify(notificationRecipientResolver).invalidateSettings(List.of(1), NotificationTypeCode.EXPIRY_DATE);
+		verify(notificationRecipientResolver).invalidateAllFcmTokens();
+		verifyNoInteractions(shareBoxMembershipCache, cacheInvalidationEventPort);
+	}
+}
@@ -5,7 +5,6 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -17,28 +16,33 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.notification.ExpiryNotificationLedgerRepository;
+import com.eurachacha.achacha.application.port.output.notification.ExpiryNotificationTargetRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
-import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.ExpiryNotificationTargetDto;
 import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.port.output.user.UserRepository;
 import com.eurachacha.achacha.application.service.notification.GifticonExpiryNotificationAppServiceImpl;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
-import com.eurachacha.achacha.domain.model.brand.Brand;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.notification.ExpiryNotificationLedger;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.ExpirationCycle;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
-import com.eurachacha.achacha.domain.model.sharebox.Participation;
-import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.user.User;
-import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
 import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 @ExtendWith(MockitoExtension.class)
 class GifticonExpiryNotificationAppServiceImplTest {
@@ -46,12 +50,6 @@ class GifticonExpiryNotificationAppServiceImplTest {
 	@Mock
 	private GifticonRepository gifticonRepository;
 
-	@Mock
-	private GifticonDomainService gifticonDomainService;
-
-	@Mock
-	private ParticipationRepository participationRepository;
-
 	@Mock
 	private NotificationTypeRepository notificationTypeRepository;
 
@@ -71,80 +69,59 @@ class GifticonExpiryNotificationAppServiceImplTest {
 	@Mock
 	private NotificationSettingDomainService notificationSettingDomainService;
 
+	@Mock
+	private ExpiryNotificationTargetRepository expiryNotificationTargetRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private ExpiryNotificationLedgerRepository expiryNotificationLedgerRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
 	@InjectMocks
 	private GifticonExpiryNotificationAppServiceImpl fcmAppService;
 
+	private final NotificationType notificationType = NotificationType.builder()
+		.id(1)
+		.code(NotificationTypeCode.EXPIRY_DATE)
+		.build();
+
 	@Test
 	@DisplayName("유효기간 만료 예정 알림 전송 - 본인이 소유한 기프티콘에 대한 알림은 성공적으로 전송되어야 한다.")
 	void sendExpiryDateNotification_WhenUnsharedGifticon_ThenSuccessfullySendNotification() {
 		// given
 		LocalDate today = LocalDate.now();
+		LocalDate expiryDate = today.plusDays(30); // 30일 후 만료
 
-		// 테스트용 사용자, 브랜드, 기프티콘 생성
-		User user = User.builder().id(1).name("테스트 사용자").build();
-		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-
-		// 30일 후 만료 예정인 기프티콘 (비공유)
-		Gifticon gifticon = Gifticon.builder()
-			.id(1)
-			.name("테스트 기프티콘")
-			.user(user)
-			.brand(brand)
-			.expiryDate(today.plusDays(30)) // 30일 후 만료
-			.sharebox(null) // 공유되지 않은 기프티콘
-			.build();
-
-		NotificationType notificationType = NotificationType.builder()
-			.id(1)
-			.code(NotificationTypeCode.EXPIRY_DATE)
-			.build();
-
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(user)
-			.notificationType(notificationType)
-			.expirationCycle(ExpirationCycle.ONE_MONTH) // 30일 전 알림 설정
-			.isEnabled(true)
-			.build();
-
-		FcmToken fcmToken = FcmToken.builder()
-			.id(1)
-			.user(user)
-			.value("test_fcm_token")
-			.build();
+		// 소유자 1명, 알림 활성화, 토큰 1개
+		ExpiryNotificationTargetDto target = new ExpiryNotificationTargetDto(1, "테스트 기프티콘", expiryDate, 1,
+			true, "test_fcm_token");
 
-		// mock 설정
-		given(gifticonRepository.findGifticonsWithExpiryDates(anyList())).willReturn(List.of(gifticon));
-		given(notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE)).willReturn(notificationType);
-		given(gifticonDomainService.isAlreadyShared(gifticon)).willReturn(false); // 공유되지 않은 기프티콘
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(user.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
-		given(fcmTokenRepository.findAllByUserId(user.getId())).willReturn(List.of(fcmToken));
-		given(notificationSettingDomainService.isEnabled(notificationSetting)).willReturn(true);
+		givenCommonMocks();
+		givenExpiringGifticonIds(expiryDate, List.of(1));
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0, Integer.MAX_VALUE))
+			.willReturn(List.of(target));
 
 		// when
 		fcmAppService.sendExpiryDateNotification();
 
 		// then
 		// 알림 저장 검증
-		ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
-		verify(notificationRepository).save(notificationCaptor.capture());
-		Notification capturedNotification = notificationCaptor.getValue();
-
-		verify(notificationRepository, times(1)).save(any(Notification.class));
+		List<Notification> savedNotifications = captureSavedNotifications();
+		assertThat(savedNotifications).hasSize(1);
+		assertThat(savedNotifications.get(0).getUser().getId()).isEqualTo(1);
+		assertThat(savedNotifications.get(0).getReferenceEntityId()).isEqualTo(1);
+		assertThat(savedNotifications.get(0).getContent()).isEqualTo("테스트 기프티콘의 유효기간이 30일 남았습니다.");
 
 		// ApplicationEventPublisher로 이벤트 발행 검증
-		ArgumentCaptor<NotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
-			NotificationEventMessage.class);
-		verify(applicationEventPublisher).publishEvent(eventMessageCaptor.capture());
-		NotificationEventMessage capturedEventMessage = eventMessageCaptor.getValue();
-
-		verify(applicationEventPublisher, times(1)).publishEvent(any(NotificationEventMessage.class));
-
-		// 이벤트 메시지의 EventDto 검증
-		assertThat(capturedEventMessage.getEventDto().getFcmToken()).isEqualTo("test_fcm_token");
-		assertThat(capturedEventMessage.getEventDto().getUserId()).isEqualTo(user.getId());
-		assertThat(capturedEventMessage.getEventDto().getReferenceEntityId()).isEqualTo(gifticon.getId());
+		List<NotificationEventDto> eventDtos = capturePublishedEvents();
+		assertThat(eventDtos).hasSize(1);
+		assertThat(eventDtos.get(0).getFcmToken()).isEqualTo("test_fcm_token");
+		assertThat(eventDtos.get(0).getUserId()).isEqualTo(1);
+		assertThat(eventDtos.get(0).getReferenceEntityId()).isEqualTo(1);
 	}
 
 	@Test
@@ -152,341 +129,348 @@ class GifticonExpiryNotificationAppServiceImplTest {
 	void sendExpiryDateNotification_WhenSharedGifticon_ThenSuccessfullySendNotification() {
 		// given
 		LocalDate today = LocalDate.now();
+		LocalDate expiryDate = today.plusDays(7); // 7일 후 만료
 
-		// 테스트용 사용자, 브랜드, 공유박스 생성
-		User owner = User.builder().id(1).name("소유자").build();
-		User participant = User.builder().id(2).name("참여자").build();
-		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-		ShareBox shareBox = ShareBox.builder().id(1).name("테스트 공유박스").build();
-
-		// 공유 참여자 생성
-		Participation participation1 = Participation.builder()
-			.id(1)
-			.user(owner)
-			.sharebox(shareBox)
-			.build();
+		// 쉐어박스 참여자 2명, 첫 번째 참여자는 토큰 2개
+		List<ExpiryNotificationTargetDto> targets = List.of(
+			new ExpiryNotificationTargetDto(1, "공유 기프티콘", expiryDate, 1, true, "token_1_a"),
+			new ExpiryNotificationTargetDto(1, "공유 기프티콘", expiryDate, 1, true, "token_1_b"),
+			new ExpiryNotificationTargetDto(1, "공유 기프티콘", expiryDate, 2, true, "token_2"));
 
-		Participation participation2 = Participation.builder()
-			.id(2)
-			.user(participant)
-			.sharebox(shareBox)
-			.build();
+		givenCommonMocks();
+		givenExpiringGifticonIds(expiryDate, List.of(1));
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0, Integer.MAX_VALUE))
+			.willReturn(targets);
 
-		// 30일 후 만료 예정인 공유 기프티콘
-		Gifticon gifticon = Gifticon.builder()
-			.id(1)
-			.name("테스트 공유 기프티콘")
-			.user(owner)
-			.brand(brand)
-			.expiryDate(today.plusDays(30)) // 30일 후 만료
-			.sharebox(shareBox) // 공유 기프티콘
-			.build();
+		// when
+		fcmAppService.sendExpiryDateNotification();
 
-		NotificationType notificationType = NotificationType.builder()
-			.id(1)
-			.code(NotificationTypeCode.EXPIRY_DATE)
-			.build();
+		// then
+		// 토큰 수와 관계없이 참여자마다 알림은 1건씩 저장
+		List<Notification> savedNotifications = captureSavedNotifications();
+		assertThat(savedNotifications).extracting(notification -> notification.getUser().getId())
+			.containsExactly(1, 2);
+
+		// 푸시는 토큰마다 발행
+		List<NotificationEventDto> eventDtos = capturePublishedEvents();
+		assertThat(eventDtos).extracting(NotificationEventDto::getFcmToken)
+			.containsExactly("token_1_a", "token_1_b", "token_2");
+	}
 
-		// 소유자: 30일 전 알림, 활성화
-		NotificationSetting setting1 = NotificationSetting.builder()
-			.id(1)
-			.user(owner)
-			.notificationType(notificationType)
-			.expirationCycle(ExpirationCycle.ONE_MONTH) // 30일 전 알림 설정
-			.isEnabled(true)
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("유효기간 만료 예정 알림 전송 - 오늘 이미 발송된 (기프티콘, 사용자, 남은 일수)는 다시 저장/발송하지 않는다.")
+	void sendExpiryDateNotification_WhenAlreadyNotifiedToday_ThenSkipNotification() {
+		// given
+		LocalDate today = LocalDate.now();
+		LocalDate expiryDate = today.plusDays(7);
+
+		List<ExpiryNotificationTargetDto> targets = List.of(
+			new ExpiryNotificationTargetDto(1, "공유 기프티콘", expiryDate, 1, true, "token_1"),
+			new ExpiryNotificationTargetDto(1, "공유 기프티콘", expiryDate, 2, true, "token_2"));
+
+		// 사용자 1은 이전 실행에서 이미 발송됨
+		ExpiryNotificationLedger ledger = ExpiryNotificationLedger.builder()
+			.gifticonId(1)
+			.userId(1)
+			.expiryOffsetDays(7)
+			.notifiedDate(today)
 			.build();
 
-		// 참여자: 30일 전 알림, 활성화
-		NotificationSetting setting2 = NotificationSetting.builder()
-			.id(2)
-			.user(participant)
-			.notificationType(notificationType)
-			.expirationCycle(ExpirationCycle.ONE_MONTH) // 30일 전 알림 설정
-			.isEnabled(true)
-			.build();
+		givenCommonMocks();
+		givenExpiringGifticonIds(expiryDate, List.of(1));
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0, Integer.MAX_VALUE))
+			.willReturn(targets);
+		given(expiryNotificationLedgerRepository.findAllByGifticonIdsAndNotifiedDate(List.of(1), today))
+			.willReturn(List.of(ledger));
 
-		FcmToken fcmToken1 = FcmToken.builder()
-			.id(1)
-			.user(owner)
-			.value("test_fcm_token_1")
-			.build();
+		// when
+		fcmAppService.sendExpiryDateNotification();
 
-		FcmToken fcmToken2 = FcmToken.builder()
-			.id(2)
-			.user(participant)
-			.value("test_fcm_token_2")
-			.build();
+		// then
+		// 새로 발송된 사용자 2만 이력 저장
+		ArgumentCaptor<List<ExpiryNotificationLedger>> ledgerCaptor = ArgumentCaptor.forClass(List.class);
+		verify(expiryNotificationLedgerRepository).saveAll(ledgerCaptor.capture());
+		assertThat(ledgerCaptor.getValue()).extracting(ExpiryNotificationLedger::getKey)
+			.containsExactly("1:2:7");
+
+		assertThat(captureSavedNotifications()).extracting(notification -> notification.getUser().getId())
+			.containsExactly(2);
+		assertThat(capturePublishedEvents()).extracting(NotificationEventDto::getFcmToken)
+			.containsExactly("token_2");
+	}
 
-		// mock 설정
-		given(gifticonRepository.findGifticonsWithExpiryDates(anyList())).willReturn(List.of(gifticon));
-		given(notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE)).willReturn(notificationType);
-		given(gifticonDomainService.isAlreadyShared(gifticon)).willReturn(true); // 공유 기프티콘
+	@Test
+	@DisplayName("유효기간 만료 예정 알림 전송 - 알림 설정이 비활성화된 경우 FCM 알림은 전송하지 않고 성공적으로 저장되어야 한다.")
+	void sendExpiryDateNotification_WhenNotificationDisabled_ThenOnlySaveNotification() {
+		// given
+		LocalDate today = LocalDate.now();
+		LocalDate expiryDate = today.plusDays(3);
 
-		given(participationRepository.findByShareBoxId(shareBox.getId())).willReturn(
-			List.of(participation1, participation2));
-		given(notificationSettingRepository.findByUserIdInAndNotificationTypeId(
-			List.of(owner.getId(), participant.getId()), notificationType.getId()))
-			.willReturn(List.of(setting1, setting2));
+		// 비활성화된 경우 토큰이 조인되지 않음
+		ExpiryNotificationTargetDto target = new ExpiryNotificationTargetDto(1, "테스트 기프티콘", expiryDate, 1,
+			false, null);
 
-		given(fcmTokenRepository.findAllByUserId(owner.getId())).willReturn(List.of(fcmToken1));
-		given(fcmTokenRepository.findAllByUserId(participant.getId())).willReturn(List.of(fcmToken2));
-		given(notificationSettingDomainService.isEnabled(setting1)).willReturn(true);
-		given(notificationSettingDomainService.isEnabled(setting2)).willReturn(true);
+		givenCommonMocks();
+		givenExpiringGifticonIds(expiryDate, List.of(1));
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0, Integer.MAX_VALUE))
+			.willReturn(List.of(target));
 
 		// when
 		fcmAppService.sendExpiryDateNotification();
 
 		// then
-		// 두 참여자 모두에게 알림 저장 및 전송
-		verify(notificationRepository, times(2)).save(any(Notification.class));
-		verify(applicationEventPublisher, times(2)).publishEvent(any(NotificationEventMessage.class));
-
-		// 알림 저장 검증
-		ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
-		verify(notificationRepository, times(2)).save(notificationCaptor.capture());
-		List<Notification> capturedNotifications = notificationCaptor.getAllValues();
-
-		// 두 알림이 각각 다른 사용자에게 저장되었는지 확인
-		assertThat(capturedNotifications).hasSize(2);
-		List<Integer> userIds = capturedNotifications.stream()
-			.map(n -> n.getUser().getId())
-			.toList();
-		assertThat(userIds).containsExactlyInAnyOrder(owner.getId(), participant.getId());
-
-		// 알림 이벤트 전송 검증
-		ArgumentCaptor<NotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
-			NotificationEventMessage.class);
-		verify(applicationEventPublisher, times(2)).publishEvent(eventMessageCaptor.capture());
-		List<NotificationEventMessage> capturedEventMessages = eventMessageCaptor.getAllValues();
-
-		// 두 알림 이벤트가 발송되었는지 확인
-		assertThat(capturedEventMessages).hasSize(2);
-		List<String> fcmTokens = capturedEventMessages.stream()
-			.map(message -> message.getEventDto().getFcmToken())
-			.toList();
-		assertThat(fcmTokens).containsExactlyInAnyOrder("test_fcm_token_1", "test_fcm_token_2");
+		assertThat(captureSavedNotifications()).hasSize(1);
+		verify(applicationEventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
-	@DisplayName("유효기간 만료 예정 알림 전송 - 알림 설정이 비활성화된 경우 FCM 알림은 전송하지 않고 성공적으로 저장되어야 한다.")
-	void sendExpiryDateNotification_WhenNotificationDisabled_ThenOnlySaveNotification() {
+	@DisplayName("유효기간 만료 예정 알림 전송 - 샤드로 나누어 실행하면 담당 사용자 ID 범위의 수신자만 조회한다.")
+	void sendExpiryDateNotification_WhenSharded_ThenFindTargetsInUserIdRange() {
 		// given
 		LocalDate today = LocalDate.now();
+		LocalDate expiryDate = today.plusDays(1);
 
-		// 테스트용 사용자, 브랜드, 기프티콘 생성
-		User user = User.builder().id(1).name("테스트 사용자").build();
-		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-
-		// 3일 후 만료 예정인 기프티콘 (비공유)
-		Gifticon gifticon = Gifticon.builder()
-			.id(1)
-			.name("테스트 기프티콘")
-			.user(user)
-			.brand(brand)
-			.expiryDate(today.plusDays(3)) // 3일 후 만료
-			.sharebox(null) // 공유되지 않은 기프티콘
-			.build();
+		givenCommonMocks();
+		givenExpiringGifticonIds(expiryDate, List.of(1));
+		given(userRepository.findMaxId()).willReturn(99); // 샤드 크기 = 99 / 2 + 1 = 50
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0, 49))
+			.willReturn(List.of(new ExpiryNotificationTargetDto(1, "테스트 기프티콘", expiryDate, 10, true, "token")));
 
-		NotificationType notificationType = NotificationType.builder()
-			.id(1)
-			.code(NotificationTypeCode.EXPIRY_DATE)
-			.build();
+		// when
+		fcmAppService.sendExpiryDateNotification(0, 2);
 
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(user)
-			.notificationType(notificationType)
-			.expirationCycle(ExpirationCycle.THREE_DAYS) // 3일 전 알림 설정
-			.isEnabled(false) // 알림 비활성화
-			.build();
+		// then
+		assertThat(captureSavedNotifications()).extracting(notification -> notification.getUser().getId())
+			.containsExactly(10);
+	}
 
-		// mock 설정
-		given(gifticonRepository.findGifticonsWithExpiryDates(anyList())).willReturn(List.of(gifticon));
-		given(notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE)).willReturn(notificationType);
-		given(gifticonDomainService.isAlreadyShared(gifticon)).willReturn(false); // 공유되지 않은 기프티콘
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(user.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
-		given(notificationSettingDomainService.isEnabled(notificationSetting)).willReturn(false); // 알림 비활성화
+	@Test
+	@DisplayName("유효기간 만료 예정 알림 전송 - 다른 실행이 먼저 기록한 알림이 있는 청크는 건너뛰고 나머지 만료일을 계속 처리한다.")
+	void sendExpiryDateNotification_WhenLedgerDuplicated_ThenSkipChunkAndContinue() {
+		// given
+		LocalDate today = LocalDate.now();
+		LocalDate firstExpiryDate = today.plusDays(1);
+		LocalDate secondExpiryDate = today.plusDays(7);
+
+		givenCommonMocks();
+		givenExpiringGifticonIds(firstExpiryDate, List.of(1));
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(eq(secondExpiryDate), eq(0), anyInt()))
+			.willReturn(List.of(2));
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0,
+			Integer.MAX_VALUE))
+			.willReturn(List.of(new ExpiryNotificationTargetDto(1, "아메리카노", firstExpiryDate, 10, true, "token")));
+		given(expiryNotificationTargetRepository.findTargets(List.of(2), notificationType.getId(), today, 0,
+			Integer.MAX_VALUE))
+			.willReturn(List.of(new ExpiryNotificationTargetDto(2, "케이크", secondExpiryDate, 10, true, "token")));
+		willAnswer(invocation -> {
+			List<ExpiryNotificationLedger> ledgers = invocation.getArgument(0);
+			if (ledgers.get(0).getGifticonId() == 1) {
+				throw new CustomException(ErrorCode.EXPIRY_NOTIFICATION_ALREADY_SENT);
+			}
+			return null;
+		}).given(expiryNotificationLedgerRepository).saveAll(anyList());
 
 		// when
 		fcmAppService.sendExpiryDateNotification();
 
 		// then
-		// 알림 저장은 수행하지만
-		verify(notificationRepository, times(1)).save(any(Notification.class));
+		// 중복된 청크는 알림을 저장/발행하지 않고, 다음 만료일의 알림은 정상 처리됨
+		assertThat(captureSavedNotifications()).extracting(Notification::getReferenceEntityId)
+			.containsExactly(2);
+		assertThat(capturePublishedEvents()).extracting(NotificationEventDto::getReferenceEntityId)
+			.containsExactly(2);
+		verify(expiryNotificationTargetRepository).findDigestUserIds(anyInt(), anyInt(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("유효기간 만료 예정 알림 전송 - 요약 알림을 선택한 사용자는 여러 기프티콘을 요약 알림 1건으로 받아야 한다.")
+	void sendExpiryDateNotification_WhenDigestEnabled_ThenSendOneDigestPerUser() {
+		// given
+		LocalDate today = LocalDate.now();
+		User user = User.builder().id(5).build();
+
+		List<ExpiryNotificationTargetDto> items = List.of(
+			new ExpiryNotificationTargetDto(3, "아메리카노", today.plusDays(2), 5, true, null),
+			new ExpiryNotificationTargetDto(1, "케이크", today.plusDays(7), 5, true, null));
+
+		givenCommonMocks();
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(any(), anyInt(), anyInt()))
+			.willReturn(Collections.emptyList());
+		given(expiryNotificationTargetRepository.findDigestUserIds(eq(notificationType.getId()), eq(-1),
+			eq(Integer.MAX_VALUE), anyInt())).willReturn(List.of(5));
+		given(expiryNotificationTargetRepository.findDigestTargets(eq(List.of(5)), eq(notificationType.getId()),
+			anyList(), eq(today))).willReturn(items);
+		given(fcmTokenRepository.findAllByUserIdIn(List.of(5))).willReturn(List.of(
+			FcmToken.builder().id(1).user(user).value("phone_token").build(),
+			FcmToken.builder().id(2).user(user).value("watch_token").build()));
+		given(transactionTemplate.execute(any())).willAnswer(
+			invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
 
-		// FCM 토큰 조회 및 알림 전송은 수행하지 않음
-		verify(fcmTokenRepository, never()).findAllByUserId(anyInt());
-		verify(applicationEventPublisher, never()).publishEvent(any(NotificationEventMessage.class));
+		// when
+		fcmAppService.sendExpiryDateNotification();
+
+		// then
+		List<Notification> savedNotifications = captureSavedNotifications();
+		assertThat(savedNotifications).hasSize(1);
+		assertThat(savedNotifications.get(0).getContent()).isEqualTo("아메리카노 외 1개 기프티콘의 유효기간이 7일 이내로 남았습니다.");
+		assertThat(savedNotifications.get(0).getDetail()).isEqualTo("digest:3:2,1:7");
+		assertThat(savedNotifications.get(0).getReferenceEntityType()).isEqualTo("gifticon");
+		assertThat(savedNotifications.get(0).getReferenceEntityId()).isEqualTo(3);
+
+		// 기기마다 1건씩만 발송
+		assertThat(capturePublishedEvents()).extracting(NotificationEventDto::getFcmToken)
+			.containsExactly("phone_token", "watch_token");
 	}
 
 	@Test
 	@DisplayName("유효기간 만료 예정 알림 전송 - 만료 예정 기프티콘이 없는 경우 알림을 전송하지 않는다.")
 	void sendExpiryDateNotification_WhenNoGifticons_ThenDoNothing() {
 		// given
-		given(gifticonRepository.findGifticonsWithExpiryDates(anyList())).willReturn(Collections.emptyList());
+		givenCommonMocks();
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(any(), anyInt(), anyInt()))
+			.willReturn(Collections.emptyList());
 
 		// when
 		fcmAppService.sendExpiryDateNotification();
 
 		// then
-		verify(notificationTypeRepository, never()).findByCode(any());
-		verify(gifticonDomainService, never()).isAlreadyShared(any());
-		verify(notificationSettingRepository, never()).findByUserIdAndNotificationTypeId(anyInt(), anyInt());
-		verify(notificationSettingRepository, never()).findByUserIdInAndNotificationTypeId(anyList(), anyInt());
-		verify(notificationRepository, never()).save(any());
+		verify(transactionTemplate, never()).execute(any());
+		verify(expiryNotificationTargetRepository, never()).findTargets(anyList(), anyInt(), any(), anyInt(), anyInt());
+		verify(notificationRepository, never()).saveAll(anyList());
 		verify(applicationEventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
+	@SuppressWarnings("unchecked")
 	@DisplayName("유효기간 만료 예정 알림 전송 - 알림 주기와 같거나 더 짧은 만료일의 기프티콘에 대해 알림을 전송한다.")
 	void sendExpiryDateNotification_WhenExpiryDateSameOrEarlierThanNotificationPeriod_ThenSendNotification() {
 		// given
 		LocalDate today = LocalDate.now();
+		LocalDate oneDayLater = today.plusDays(1);
+		LocalDate oneMonthLater = today.plusDays(30);
+
+		// 알림 주기 필터링은 조회 쿼리에서 수행되므로 조회된 대상만 알림 전송
+		givenCommonMocks();
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(any(), anyInt(), anyInt()))
+			.willReturn(Collections.emptyList());
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(eq(oneDayLater), eq(0), anyInt()))
+			.willReturn(List.of(1));
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(eq(oneMonthLater), eq(0), anyInt()))
+			.willReturn(List.of(2));
+		given(expiryNotificationTargetRepository.findTargets(List.of(1), notificationType.getId(), today, 0, Integer.MAX_VALUE))
+			.willReturn(List.of(new ExpiryNotificationTargetDto(1, "기프티콘1", oneDayLater, 1, true, "token")));
+		given(expiryNotificationTargetRepository.findTargets(List.of(2), notificationType.getId(), today, 0, Integer.MAX_VALUE))
+			.willReturn(List.of(new ExpiryNotificationTargetDto(2, "기프티콘2", oneMonthLater, 1, true, "token")));
+		given(transactionTemplate.execute(any())).willAnswer(
+			invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
 
-		// 테스트용 사용자, 브랜드 생성
-		User user = User.builder().id(1).name("테스트 사용자").build();
-		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-
-		// 90일 후 만료 기프티콘 (비공유) - 알림 주기와 같은 날짜
-		Gifticon gifticon90 = Gifticon.builder()
-			.id(1)
-			.name("테스트 기프티콘 90일")
-			.user(user)
-			.brand(brand)
-			.expiryDate(today.plusDays(90)) // 90일 후 만료
-			.sharebox(null) // 공유되지 않은 기프티콘
-			.build();
+		// when
+		fcmAppService.sendExpiryDateNotification();
 
-		// 30일 후 만료 기프티콘 (비공유) - 알림 주기보다 짧은 날짜
-		Gifticon gifticon30 = Gifticon.builder()
-			.id(2)
-			.name("테스트 기프티콘 30일")
-			.user(user)
-			.brand(brand)
-			.expiryDate(today.plusDays(30)) // 30일 후 만료
-			.sharebox(null) // 공유되지 않은 기프티콘
-			.build();
+		// then
+		// 만료일마다 청크 트랜잭션 1번씩 실행
+		verify(transactionTemplate, times(2)).execute(any());
 
-		NotificationType notificationType = NotificationType.builder()
-			.id(1)
-			.code(NotificationTypeCode.EXPIRY_DATE)
-			.build();
+		ArgumentCaptor<List<Notification>> notificationsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(notificationRepository, times(2)).saveAll(notificationsCaptor.capture());
+		assertThat(notificationsCaptor.getAllValues()).flatExtracting(notifications -> notifications)
+			.extracting(Notification::getContent)
+			.containsExactly("기프티콘1의 유효기간이 1일 남았습니다.", "기프티콘2의 유효기간이 30일 남았습니다.");
 
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(user)
-			.notificationType(notificationType)
-			.expirationCycle(ExpirationCycle.THREE_MONTHS) // 90일 전 알림 설정
-			.isEnabled(true)
-			.build();
+		verify(applicationEventPublisher, times(2)).publishEvent(any(BulkNotificationEventMessage.class));
+	}
 
-		FcmToken fcmToken = FcmToken.builder()
-			.id(1)
-			.user(user)
-			.value("test_fcm_token")
-			.build();
+	@Test
+	@DisplayName("유효기간 만료 예정 알림 전송 - 표준 알림 주기에 해당하지 않는 만료일의 기프티콘에 대해서는 알림을 전송하지 않는다.")
+	void sendExpiryDateNotification_WhenExpiryDateNotInStandardCycles_ThenDoNotSendNotification() {
+		// given
+		LocalDate today = LocalDate.now();
 
-		// mock 설정
-		given(gifticonRepository.findGifticonsWithExpiryDates(anyList())).willReturn(List.of(gifticon90, gifticon30));
-		given(notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE)).willReturn(notificationType);
-		given(gifticonDomainService.isAlreadyShared(any(Gifticon.class))).willReturn(false); // 공유되지 않은 기프티콘
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(user.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
-		given(fcmTokenRepository.findAllByUserId(user.getId())).willReturn(List.of(fcmToken));
-		given(notificationSettingDomainService.isEnabled(notificationSetting)).willReturn(true);
+		givenCommonMocks();
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(any(), anyInt(), anyInt()))
+			.willReturn(Collections.emptyList());
 
 		// when
 		fcmAppService.sendExpiryDateNotification();
 
 		// then
-		// 두 기프티콘 모두에 대해 알림 저장 및 전송이 이루어짐 (총 2회)
-		verify(notificationRepository, times(2)).save(any(Notification.class));
-		verify(fcmTokenRepository, times(2)).findAllByUserId(anyInt());
-		verify(applicationEventPublisher, times(2)).publishEvent(any(NotificationEventMessage.class));
-
-		// 알림 내용 검증
-		ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
-		verify(notificationRepository, times(2)).save(notificationCaptor.capture());
-		List<Notification> capturedNotifications = notificationCaptor.getAllValues();
-
-		// 알림 이벤트 검증
-		ArgumentCaptor<NotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
-			NotificationEventMessage.class);
-		verify(applicationEventPublisher, times(2)).publishEvent(eventMessageCaptor.capture());
-		List<NotificationEventMessage> capturedEventMessages = eventMessageCaptor.getAllValues();
-
-		// 두 알림이 모두 저장되었는지 확인 (ID로 확인 가능)
-		assertThat(capturedNotifications).hasSize(2);
-		List<Integer> referenceIds = capturedNotifications.stream()
-			.map(Notification::getReferenceEntityId)
-			.toList();
-		assertThat(referenceIds).containsExactlyInAnyOrder(gifticon90.getId(), gifticon30.getId());
+		// 표준 알림 주기(1, 2, 3, 7, 30, 60, 90일)에 해당하는 만료일만 조회
+		verify(expiryNotificationTargetRepository, never()).findExpiringGifticonIds(eq(today.plusDays(5)), anyInt(),
+			anyInt());
+		verify(expiryNotificationTargetRepository).findExpiringGifticonIds(eq(today.plusDays(90)), eq(0), anyInt());
+		verify(notificationRepository, never()).saveAll(anyList());
+		verify(applicationEventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
-	@DisplayName("유효기간 만료 예정 알림 전송 - 표준 알림 주기에 해당하지 않는 만료일의 기프티콘에 대해서는 알림을 전송하지 않는다.")
-	void sendExpiryDateNotification_WhenExpiryDateNotInStandardCycles_ThenDoNotSendNotification() {
+	@DisplayName("사용자 유효기간 알림 전송 - FCM 토큰은 한 번만 조회하고 모든 기프티콘 알림을 한 번에 발행해야 한다.")
+	void sendExpiryDateNotificationForUser_WhenManyGifticons_ThenLoadTokensOnceAndPublishBulk() {
 		// given
 		LocalDate today = LocalDate.now();
-
-		// 테스트용 사용자, 브랜드, 기프티콘 생성
-		User user = User.builder().id(1).name("테스트 사용자").build();
-		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-
-		// 31일 후 만료 예정인 기프티콘 (비공유) - 표준 알림 주기(1,2,3,7,30,60,90)에 해당하지 않는 경우
-		Gifticon gifticon31 = Gifticon.builder()
+		User user = User.builder().id(5).build();
+		NotificationSetting setting = NotificationSetting.builder()
 			.id(1)
-			.name("테스트 기프티콘 31일")
-			.user(user)
-			.brand(brand)
-			.expiryDate(today.plusDays(31)) // 31일 후 만료 (표준 알림 주기에 없음)
-			.sharebox(null) // 공유되지 않은 기프티콘
-			.build();
-
-		// 91일 후 만료 예정인 기프티콘 (비공유) - 표준 알림 주기(1,2,3,7,30,60,90)에 해당하지 않는 경우
-		Gifticon gifticon91 = Gifticon.builder()
-			.id(2)
-			.name("테스트 기프티콘 91일")
 			.user(user)
-			.brand(brand)
-			.expiryDate(today.plusDays(91)) // 91일 후 만료 (표준 알림 주기에 없음)
-			.sharebox(null) // 공유되지 않은 기프티콘
+			.isEnabled(true)
+			.expirationCycle(ExpirationCycle.ONE_MONTH)
 			.build();
+		List<Gifticon> gifticons = List.of(
+			Gifticon.builder().id(1).name("아메리카노").expiryDate(today.plusDays(2)).build(),
+			Gifticon.builder().id(2).name("케이크").expiryDate(today.plusDays(7)).build());
+
+		givenCommonMocks();
+		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(5, notificationType.getId()))
+			.willReturn(setting);
+		given(notificationSettingDomainService.isEnabled(setting)).willReturn(true);
+		given(notificationSettingDomainService.isDigestEnabled(setting)).willReturn(false);
+		given(gifticonRepository.findAllRelevantGifticonsWithExpiryDates(anyList(), eq(5))).willReturn(gifticons);
+		given(expiryNotificationLedgerRepository.findAllByGifticonIdsAndNotifiedDate(List.of(1, 2), today))
+			.willReturn(Collections.emptyList());
+		given(fcmTokenRepository.findAllByUserId(5)).willReturn(List.of(
+			FcmToken.builder().id(1).user(user).value("phone_token").build(),
+			FcmToken.builder().id(2).user(user).value("watch_token").build()));
 
-		NotificationType notificationType = NotificationType.builder()
-			.id(1)
-			.code(NotificationTypeCode.EXPIRY_DATE)
-			.build();
+		// when
+		fcmAppService.sendExpiryDateNotificationForUser(5);
 
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(user)
-			.notificationType(notificationType)
-			.expirationCycle(ExpirationCycle.THREE_MONTHS) // 90일 전 알림 설정
-			.isEnabled(true)
-			.build();
+		// then
+		assertThat(captureSavedNotifications()).extracting(Notification::getContent)
+			.containsExactly("아메리카노의 유효기간이 2일 남았습니다.", "케이크의 유효기간이 7일 남았습니다.");
+		verify(fcmTokenRepository).findAllByUserId(5);
+
+		// 기프티콘 2건 x 기기 2대를 이벤트 1건으로 발행
+		assertThat(capturePublishedEvents())
+			.extracting(NotificationEventDto::getReferenceEntityId, NotificationEventDto::getFcmToken)
+			.containsExactly(
+				tuple(1, "phone_token"), tuple(1, "watch_token"),
+				tuple(2, "phone_token"), tuple(2, "watch_token"));
+	}
 
-		// mock 설정
-		given(gifticonRepository.findGifticonsWithExpiryDates(anyList())).willReturn(List.of(gifticon31, gifticon91));
+	private void givenCommonMocks() {
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.EXPIRY_DATE)).willReturn(notificationType);
-		given(gifticonDomainService.isAlreadyShared(any(Gifticon.class))).willReturn(false); // 공유되지 않은 기프티콘
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(user.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
+	}
 
-		// when
-		fcmAppService.sendExpiryDateNotification();
+	private void givenExpiringGifticonIds(LocalDate expiryDate, List<Integer> gifticonIds) {
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(any(), anyInt(), anyInt()))
+			.willReturn(Collections.emptyList());
+		given(expiryNotificationTargetRepository.findExpiringGifticonIds(eq(expiryDate), eq(0), anyInt()))
+			.willReturn(gifticonIds);
+		given(transactionTemplate.execute(any())).willAnswer(
+			invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+	}
 
-		// then
-		// 알림 저장 및 전송이 이루어지지 않음
-		verify(notificationRepository, never()).save(any());
-		verify(fcmTokenRepository, never()).findAllByUserId(anyInt());
-		verify(applicationEventPublisher, never()).publishEvent(any());
+	@SuppressWarnings("unchecked")
+	private List<Notification> captureSavedNotifications() {
+		ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+		verify(notificationRepository).saveAll(captor.capture());
+		return captor.getValue();
 	}
 
-	private List<LocalDate> getExpiryDates(LocalDate today) {
-		return Arrays.stream(ExpirationCycle.values())
-			.map(cycle -> today.plusDays(cycle.getDays()))
-			.toList();
+	private List<NotificationEventDto> capturePublishedEvents() {
+		ArgumentCaptor<BulkNotificationEventMessage> captor = ArgumentCaptor.forClass(
+			BulkNotificationEventMessage.class);
+		verify(applicationEventPublisher).publishEvent(captor.capture());
+		return captor.getValue().getEventDtos();
 	}
 }
@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,9 +15,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonSaveRequestDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonDetailResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonsResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonBarcodeResponseDto;
 import com.eurachacha.achacha.application.port.output.ai.OcrTrainingDataRepository;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
@@ -23,16 +29,23 @@ import com.eurachacha.achacha.application.port.output.brand.BrandRepository;
 import com.eurachacha.achacha.application.port.output.file.FileRepository;
 import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonDetailDto;
+import com.eurachacha.achacha.application.port.output.job.DelayedJobRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.sharebox.ShareBoxMembershipCache;
 import com.eurachacha.achacha.domain.model.brand.Brand;
 import com.eurachacha.achacha.domain.model.file.File;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
@@ -40,7 +53,7 @@ import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.file.FileDomainService;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.GifticonCursorCodec;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
@@ -53,9 +66,18 @@ class GifticonAppServiceImplTest {
 	@Mock
 	private GifticonRepository gifticonRepository;
 
+	@Mock
+	private ShareBoxMembershipCache shareBoxMembershipCache;
+
 	@Mock
 	private ParticipationRepository participationRepository;
 
+	@Mock
+	private GifticonCursorCodec gifticonCursorCodec;
+
+	@Mock
+	private GifticonPageAssembler gifticonPageAssembler;
+
 	@Mock
 	private BrandRepository brandRepository;
 
@@ -84,10 +106,10 @@ class GifticonAppServiceImplTest {
 	private NotificationRepository notificationRepository;
 
 	@Mock
-	private NotificationSettingRepository notificationSettingRepository;
+	private NotificationRecipientResolver notificationRecipientResolver;
 
 	@Mock
-	private NotificationSettingDomainService notificationSettingDomainService;
+	private DelayedJobRepository delayedJobRepository;
 
 	@InjectMocks
 	private GifticonAppServiceImpl gifticonAppService;
@@ -306,7 +328,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 
@@ -331,6 +353,10 @@ class GifticonAppServiceImplTest {
 		assertThat(result.getGifticonBarcodeNumber()).isEqualTo("1234567890");
 		assertThat(result.getBarcodePath()).isEqualTo("https://example.com/barcode.jpg");
 
+		// 5분 뒤 알림이 지연 작업으로 예약되어야 함
+		verify(delayedJobRepository).schedule(eq(DelayedJobType.USAGE_COMPLETE_REMINDER),
+			eq("USAGE_COMPLETE_REMINDER:" + gifticonId + ":" + userId), eq(userId), eq(gifticonId), any());
+
 		// 5분 후 로직을 시뮬레이션하기 위해 직접 호출
 		// 이미 사용됨으로 알림이 발생하지 않아야 함
 		gifticonAppService.checkUsedAndSaveAndSendNotification(userId, gifticonId);
@@ -365,7 +391,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 
@@ -382,11 +408,8 @@ class GifticonAppServiceImplTest {
 		given(gifticonDomainService.isUsed(any(Gifticon.class))).willReturn(false);
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.USAGE_COMPLETE)).willReturn(notificationType);
 
-		// NotificationSetting 모킹 추가
-		// 이 부분이 없으면 NotificationSettingRepository를 호출할 때 NullPointerException 발생
-		// NOTIFICATION_SETTING_NOT_FOUND 예외를 던지도록 설정
-		willThrow(new CustomException(ErrorCode.NOTIFICATION_SETTING_NOT_FOUND))
-			.given(notificationSettingRepository).findByUserIdAndNotificationTypeId(anyInt(), anyInt());
+		// 알림 설정이 없어 FCM 알림을 받을 수신자가 없는 경우
+		given(notificationRecipientResolver.resolve(List.of(userId), notificationType)).willReturn(Map.of());
 
 		// when
 		GifticonBarcodeResponseDto result = gifticonAppService.getAvailableGifticonBarcode(gifticonId);
@@ -416,7 +439,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 
 		// validateGifticonIsAvailable에서 예외 발생하도록 설정
@@ -444,7 +467,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 
 		// validateGifticonIsAvailable에서 예외 발생하도록 설정
@@ -485,7 +508,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 		given(fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(eq("gifticon"), eq(gifticonId),
@@ -545,7 +568,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 		given(fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(eq("gifticon"), eq(gifticonId),
@@ -555,7 +578,7 @@ class GifticonAppServiceImplTest {
 			"https://example.com/barcode.jpg");
 
 		// 쉐어박스 참여 확인
-		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
+		given(shareBoxMembershipCache.isMember(userId, shareBoxId)).willReturn(true);
 		given(gifticonDomainService.isUsed(any(Gifticon.class))).willReturn(false);
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.USAGE_COMPLETE)).willReturn(notificationType);
 
@@ -591,7 +614,7 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 
@@ -626,16 +649,148 @@ class GifticonAppServiceImplTest {
 			.build();
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 
 		// 쉐어박스 참여 확인 실패
-		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(false);
+		given(shareBoxMembershipCache.isMember(userId, shareBoxId)).willReturn(false);
 
 		// when & then
 		assertThatThrownBy(() -> gifticonAppService.getAvailableGifticonBarcode(gifticonId))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
 	}
+
+	@Test
+	@DisplayName("사용가능 기프티콘 상세 조회 - 참여 중인 쉐어박스 기프티콘은 읽기 모델의 참여 여부와 파일 경로로 조회되어야 한다")
+	void getAvailableGifticonDetail_WhenUserParticipatesInShareBox_ThenUseDetailView() {
+		// given
+		Integer gifticonId = 1;
+		Integer userId = 1;
+		User user = User.builder().id(userId).name("테스트 사용자").build();
+		User owner = User.builder().id(2).name("소유자").build();
+		ShareBox shareBox = ShareBox.builder().id(1).name("테스트 쉐어박스").build();
+		Brand brand = Brand.builder().id(1).name("스타벅스").build();
+
+		Gifticon gifticon = Gifticon.builder()
+			.id(gifticonId)
+			.name("테스트 기프티콘")
+			.type(GifticonType.PRODUCT)
+			.brand(brand)
+			.user(owner)
+			.sharebox(shareBox)
+			.build();
+
+		GifticonDetailDto gifticonDetail = new GifticonDetailDto(gifticon, true, Map.of(
+			FileType.THUMBNAIL, "path/to/thumbnail.jpg",
+			FileType.ORIGINAL, "path/to/original.jpg",
+			FileType.BARCODE, "path/to/barcode.jpg"));
+
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
+		given(gifticonRepository.getGifticonDetailView(gifticonId, userId)).willReturn(gifticonDetail);
+		given(fileStoragePort.generateFileUrl("path/to/thumbnail.jpg", FileType.THUMBNAIL))
+			.willReturn("https://example.com/thumbnail.jpg");
+		given(fileStoragePort.generateFileUrl("path/to/original.jpg", FileType.ORIGINAL))
+			.willReturn("https://example.com/original.jpg");
+
+		// when
+		AvailableGifticonDetailResponseDto result = gifticonAppService.getAvailableGifticonDetail(gifticonId);
+
+		// then
+		assertThat(result.getScope()).isEqualTo("SHARE_BOX");
+		assertThat(result.getShareBoxName()).isEqualTo("테스트 쉐어박스");
+		assertThat(result.getThumbnailPath()).isEqualTo("https://example.com/thumbnail.jpg");
+		assertThat(result.getOriginalImagePath()).isEqualTo("https://example.com/original.jpg");
+
+		// 참여 여부와 파일은 읽기 모델에서 가져오므로 별도 조회가 없어야 함
+		verify(shareBoxMembershipCache, never()).isMember(any(), any());
+		verify(fileRepository, never()).findByReferenceEntityTypeAndReferenceEntityIdAndType(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("사용가능 기프티콘 상세 조회 - 참여하지 않은 쉐어박스 기프티콘인 경우 예외가 발생해야 한다")
+	void getAvailableGifticonDetail_WhenUserNotParticipatesInShareBox_ThenThrowException() {
+		// given
+		Integer gifticonId = 1;
+		Integer userId = 1;
+		User user = User.builder().id(userId).name("테스트 사용자").build();
+		User owner = User.builder().id(2).name("소유자").build();
+		ShareBox shareBox = ShareBox.builder().id(1).name("테스트 쉐어박스").build();
+
+		Gifticon gifticon = Gifticon.builder()
+			.id(gifticonId)
+			.name("테스트 기프티콘")
+			.user(owner)
+			.sharebox(shareBox)
+			.build();
+
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
+		given(gifticonRepository.getGifticonDetailView(gifticonId, userId))
+			.willReturn(new GifticonDetailDto(gifticon, false, Map.of()));
+
+		// when & then
+		assertThatThrownBy(() -> gifticonAppService.getAvailableGifticonDetail(gifticonId))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+		verify(fileStoragePort, never()).generateFileUrl(any(), any());
+	}
+
+	@Test
+	@DisplayName("사용가능 기프티콘 커서 조회 - 다음 페이지가 있으면 마지막 기프티콘으로 다음 커서를 만들어야 한다")
+	void getAvailableGifticonsByCursor_WhenHasNext_ThenReturnCursorOfLastRow() {
+		// given
+		Integer userId = 1;
+		GifticonCursorDto cursorDto = GifticonCursorDto.builder()
+			.expiryDate(LocalDate.of(2025, 6, 1))
+			.id(10)
+			.build();
+		Gifticon first = Gifticon.builder().id(11).expiryDate(LocalDate.of(2025, 6, 1)).build();
+		Gifticon last = Gifticon.builder().id(12).expiryDate(LocalDate.of(2025, 6, 2)).build();
+
+		given(securityServicePort.getLoggedInUserId()).willReturn(userId);
+		given(gifticonCursorCodec.decode("cursor", GifticonSortType.EXPIRY_ASC)).willReturn(cursorDto);
+		given(gifticonRepository.findAvailableGifticonsByCursor(userId, GifticonScopeType.ALL, null,
+			GifticonSortType.EXPIRY_ASC, cursorDto, 2))
+			.willReturn(new SliceImpl<>(List.of(first, last), PageRequest.ofSize(2), true));
+		given(gifticonPageAssembler.toAvailableGifticonResponseDtos(List.of(first, last))).willReturn(List.of());
+		given(gifticonCursorCodec.encode(last, GifticonSortType.EXPIRY_ASC)).willReturn("next");
+
+		// when
+		AvailableGifticonsResponseDto response = gifticonAppService.getAvailableGifticonsByCursor(
+			GifticonScopeType.ALL, null, GifticonSortType.EXPIRY_ASC, "cursor", 2);
+
+		// then
+		assertThat(response.getHasNextPage()).isTrue();
+		assertThat(response.getNextCursor()).isEqualTo("next");
+		verify(gifticonCursorCodec, never()).encode(eq(first), any());
+	}
+
+	@Test
+	@DisplayName("사용가능 기프티콘 커서 조회 - 마지막 페이지면 다음 커서가 없어야 한다")
+	void getAvailableGifticonsByCursor_WhenLastPage_ThenNoNextCursor() {
+		// given
+		Integer userId = 1;
+		GifticonCursorDto cursorDto = GifticonCursorDto.builder()
+			.expiryDate(LocalDate.of(2025, 6, 1))
+			.id(10)
+			.build();
+		Gifticon gifticon = Gifticon.builder().id(11).expiryDate(LocalDate.of(2025, 6, 1)).build();
+
+		given(securityServicePort.getLoggedInUserId()).willReturn(userId);
+		given(gifticonCursorCodec.decode("cursor", GifticonSortType.EXPIRY_ASC)).willReturn(cursorDto);
+		given(gifticonRepository.findAvailableGifticonsByCursor(userId, GifticonScopeType.ALL, null,
+			GifticonSortType.EXPIRY_ASC, cursorDto, 2))
+			.willReturn(new SliceImpl<>(List.of(gifticon), PageRequest.ofSize(2), false));
+		given(gifticonPageAssembler.toAvailableGifticonResponseDtos(List.of(gifticon))).willReturn(List.of());
+
+		// when
+		AvailableGifticonsResponseDto response = gifticonAppService.getAvailableGifticonsByCursor(
+			GifticonScopeType.ALL, null, GifticonSortType.EXPIRY_ASC, "cursor", 2);
+
+		// then
+		assertThat(response.getHasNextPage()).isFalse();
+		assertThat(response.getNextCursor()).isNull();
+		verify(gifticonCursorCodec, never()).encode(any(), any());
+	}
 }
@@ -8,6 +8,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,23 +26,20 @@ import com.eurachacha.achacha.application.port.output.ble.BleTokenRepository;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
 import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
 import com.eurachacha.achacha.application.port.output.present.ColorPaletteRepository;
 import com.eurachacha.achacha.application.port.output.present.PresentCardRepository;
 import com.eurachacha.achacha.application.port.output.present.PresentTemplateRepository;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.domain.model.ble.BleToken;
 import com.eurachacha.achacha.domain.model.brand.Brand;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.history.GifticonOwnerHistory;
 import com.eurachacha.achacha.domain.model.history.enums.TransferType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
 import com.eurachacha.achacha.domain.model.present.ColorPalette;
@@ -51,7 +49,6 @@ import com.eurachacha.achacha.domain.model.present.enums.TemplateCategory;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonGiveDomainService;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
@@ -92,18 +89,12 @@ public class GifticonGiveAppServiceImplTest {
 	private NotificationRepository notificationRepository;
 
 	@Mock
-	private NotificationSettingRepository notificationSettingRepository;
-
-	@Mock
-	private NotificationSettingDomainService notificationSettingDomainService;
+	private NotificationRecipientResolver notificationRecipientResolver;
 
 	// NotificationEventPort 대신 ApplicationEventPublisher 사용
 	@Mock
 	private ApplicationEventPublisher applicationEventPublisher;
 
-	@Mock
-	private FcmTokenRepository fcmTokenRepository;
-
 	@InjectMocks
 	private GifticonGiveAppServiceImpl gifticonGiveAppService;
 
@@ -575,13 +566,6 @@ public class GifticonGiveAppServiceImplTest {
 			.code(NotificationTypeCode.RECEIVE_GIFTICON)
 			.build();
 
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(receiverUser)
-			.notificationType(notificationType)
-			.isEnabled(true)
-			.build();
-
 		// Mock 설정
 		given(securityServicePort.getLoggedInUser()).willReturn(loggedInUser);
 		given(gifticonRepository.getGifticonDetail(gifticonId)).willReturn(validGifticon);
@@ -592,12 +576,6 @@ public class GifticonGiveAppServiceImplTest {
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.RECEIVE_GIFTICON))
 			.willReturn(notificationType);
 
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(
-			receiverUser.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
-
-		given(notificationSettingDomainService.isEnabled(notificationSetting)).willReturn(true);
-
 		// when
 		gifticonGiveAppService.giveAwayGifticon(gifticonId, validUuids);
 
@@ -652,21 +630,6 @@ public class GifticonGiveAppServiceImplTest {
 			.code(NotificationTypeCode.RECEIVE_GIFTICON)
 			.build();
 
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(receiverUser)
-			.notificationType(notificationType)
-			.isEnabled(true)
-			.build();
-
-		List<FcmToken> fcmTokens = Arrays.asList(
-			FcmToken.builder()
-				.id(1)
-				.user(receiverUser)
-				.value("fcm-token-123")
-				.build()
-		);
-
 		// Mock 설정
 		given(securityServicePort.getLoggedInUser()).willReturn(loggedInUser);
 		given(gifticonRepository.getGifticonDetail(gifticonId)).willReturn(validGifticon);
@@ -677,14 +640,9 @@ public class GifticonGiveAppServiceImplTest {
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.RECEIVE_GIFTICON))
 			.willReturn(notificationType);
 
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(
-			receiverUser.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
-
-		given(notificationSettingDomainService.isEnabled(notificationSetting)).willReturn(true);
-
-		// FCM 토큰 설정
-		given(fcmTokenRepository.findAllByUserId(receiverUser.getId())).willReturn(fcmTokens);
+		// 알림을 켠 수신자와 FCM 토큰 설정
+		given(notificationRecipientResolver.resolve(List.of(receiverUser.getId()), notificationType))
+			.willReturn(Map.of(receiverUser.getId(), List.of("fcm-token-123")));
 
 		// when
 		gifticonGiveAppService.giveAwayGifticon(gifticonId, validUuids);
@@ -703,19 +661,14 @@ public class GifticonGiveAppServiceImplTest {
 		assertThat(capturedNotification.getReferenceEntityId()).isEqualTo(gifticonId);
 		assertThat(capturedNotification.getIsRead()).isFalse();
 
-		// 알림 설정 확인이 호출되었는지 검증
-		verify(notificationSettingDomainService).isEnabled(notificationSetting);
-
-		// FCM 토큰 조회가 호출되었는지 검증
-		verify(fcmTokenRepository).findAllByUserId(receiverUser.getId());
-
 		// 이벤트 발행이 호출되었는지 검증 (NotificationEventPort 대신 ApplicationEventPublisher 사용)
-		ArgumentCaptor<NotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
-			NotificationEventMessage.class);
+		ArgumentCaptor<BulkNotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
+			BulkNotificationEventMessage.class);
 		verify(applicationEventPublisher).publishEvent(eventMessageCaptor.capture());
 
-		NotificationEventMessage capturedEventMessage = eventMessageCaptor.getValue();
-		NotificationEventDto capturedEventDto = capturedEventMessage.getEventDto();
+		BulkNotificationEventMessage capturedEventMessage = eventMessageCaptor.getValue();
+		assertThat(capturedEventMessage.getEventDtos()).hasSize(1);
+		NotificationEventDto capturedEventDto = capturedEventMessage.getEventDtos().get(0);
 
 		assertThat(capturedEventDto.getFcmToken()).isEqualTo("fcm-token-123");
 		assertThat(capturedEventDto.getUserId()).isEqualTo(receiverUser.getId());
@@ -0,0 +1,180 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonBarcodeBatchRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonBarcodeHashUpdateDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.response.GifticonBarcodeDto;
+import com.eurachacha.achacha.application.port.output.job.JobCheckpointRepository;
+import com.eurachacha.achacha.domain.model.job.JobCheckpoint;
+import com.eurachacha.achacha.infrastructure.util.BlindIndexUtil;
+import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
+
+@ExtendWith(MockitoExtension.class)
+class GifticonMigrationServiceTest {
+
+	@Mock
+	private EncryptionUtil encryptionUtil;
+
+	@Mock
+	private BlindIndexUtil blindIndexUtil;
+
+	@Mock
+	private GifticonBarcodeBatchRepository gifticonBarcodeBatchRepository;
+
+	@Mock
+	private JobCheckpointRepository jobCheckpointRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private GifticonMigrationService gifticonMigrationService;
+
+	@BeforeEach
+	void setUp() {
+		given(transactionTemplate.execute(any())).willAnswer(
+			inv -> inv.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+	}
+
+	@Test
+	@DisplayName("바코드 해시 생성 - 이미 저장된 해시나 같은 청크의 앞선 해시와 겹치는 행은 갱신하지 않아야 한다.")
+	void backfillBarcodeHashes_WhenDuplicateHashes_ThenSkipCollidingRows() {
+		// given
+		given(gifticonBarcodeBatchRepository.findBarcodesWithoutHashAfterId(0, 10)).willReturn(List.of(
+			new GifticonBarcodeDto(1, "enc-a"),
+			new GifticonBarcodeDto(2, "enc-a2"),
+			new GifticonBarcodeDto(3, "enc-b")));
+		given(encryptionUtil.decrypt("enc-a")).willReturn("A");
+		given(encryptionUtil.decrypt("enc-a2")).willReturn("A");
+		given(encryptionUtil.decrypt("enc-b")).willReturn("B");
+		given(blindIndexUtil.hash("A")).willReturn("hash-a");
+		given(blindIndexUtil.hash("B")).willReturn("hash-b");
+		given(gifticonBarcodeBatchRepository.findExistingBarcodeHashes(Set.of("hash-a", "hash-b")))
+			.willReturn(Set.of("hash-b"));
+		given(gifticonBarcodeBatchRepository.updateBarcodeHashes(anyList())).willReturn(1);
+
+		// when
+		gifticonMigrationService.backfillBarcodeHashes(10);
+
+		// then
+		ArgumentCaptor<List<GifticonBarcodeHashUpdateDto>> updatesCaptor = ArgumentCaptor.forClass(List.class);
+		verify(gifticonBarcodeBatchRepository).updateBarcodeHashes(updatesCaptor.capture());
+		assertThat(updatesCaptor.getValue())
+			.extracting(GifticonBarcodeHashUpdateDto::getId, GifticonBarcodeHashUpdateDto::getBarcodeHash)
+			.containsExactly(tuple(1, "hash-a"));
+
+		// 마지막 청크가 chunkSize보다 작으므로 추가 조회하지 않음
+		verify(gifticonBarcodeBatchRepository, times(1)).findBarcodesWithoutHashAfterId(anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("바코드 해시 생성 - 청크마다 별도 트랜잭션으로 마지막 ID 이후를 이어서 처리해야 한다.")
+	void backfillBarcodeHashes_WhenFullChunk_ThenContinueAfterLastId() {
+		// given
+		given(gifticonBarcodeBatchRepository.findBarcodesWithoutHashAfterId(0, 2)).willReturn(List.of(
+			new GifticonBarcodeDto(3, "enc-a"),
+			new GifticonBarcodeDto(7, "enc-b")));
+		given(gifticonBarcodeBatchRepository.findBarcodesWithoutHashAfterId(7, 2)).willReturn(List.of());
+		given(encryptionUtil.decrypt("enc-a")).willReturn("A");
+		given(encryptionUtil.decrypt("enc-b")).willThrow(new IllegalStateException("복호화 실패"));
+		given(blindIndexUtil.hash("A")).willReturn("hash-a");
+		given(gifticonBarcodeBatchRepository.findExistingBarcodeHashes(Set.of("hash-a"))).willReturn(Set.of());
+		given(gifticonBarcodeBatchRepository.updateBarcodeHashes(anyList())).willReturn(1);
+
+		// when
+		gifticonMigrationService.backfillBarcodeHashes(2);
+
+		// then
+		verify(transactionTemplate, times(2)).execute(any());
+		verify(gifticonBarcodeBatchRepository).findBarcodesWithoutHashAfterId(7, 2);
+		verify(gifticonBarcodeBatchRepository, times(1)).updateBarcodeHashes(anyList());
+	}
+
+	@Test
+	@DisplayName("바코드 재암호화 - 마지막 청크가 chunkSize보다 작으면 완료로 표시하고 다시 호출해도 진행하지 않아야 한다.")
+	void reEncryptBarcodes_WhenPartialLastChunk_ThenMarkCompleted() {
+		// given
+		JobCheckpoint checkpoint = JobCheckpoint.builder().jobName("BARCODE_RE_ENCRYPTION").target("v2").build();
+		given(encryptionUtil.getCurrentKeyId()).willReturn("v2");
+		given(jobCheckpointRepository.findOrCreate("BARCODE_RE_ENCRYPTION")).willReturn(checkpoint);
+		given(jobCheckpointRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(gifticonBarcodeBatchRepository.findBarcodesAfterId(0, 10)).willReturn(List.of(
+			new GifticonBarcodeDto(5, "v1:old")));
+		given(encryptionUtil.isEncryptedWithCurrentKey("v1:old")).willReturn(false);
+		given(encryptionUtil.decrypt("v1:old")).willReturn("1234");
+		given(encryptionUtil.encrypt("1234")).willReturn("v2:new");
+		given(gifticonBarcodeBatchRepository.updateBarcodes(anyList())).willReturn(1);
+
+		// when
+		gifticonMigrationService.reEncryptBarcodes(10, false);
+		gifticonMigrationService.reEncryptBarcodes(10, false);
+
+		// then
+		assertThat(checkpoint.getCompleted()).isTrue();
+		assertThat(checkpoint.getLastProcessedId()).isEqualTo(5L);
+		verify(gifticonBarcodeBatchRepository, times(1)).findBarcodesAfterId(anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("바코드 재암호화 - 완료된 체크포인트라도 대상 키가 바뀌었으면 처음부터 다시 진행해야 한다.")
+	void reEncryptBarcodes_WhenKeyChanged_ThenRestartFromBeginning() {
+		// given
+		JobCheckpoint checkpoint = JobCheckpoint.builder()
+			.jobName("BARCODE_RE_ENCRYPTION")
+			.target("v1")
+			.lastProcessedId(100L)
+			.completed(true)
+			.build();
+		given(encryptionUtil.getCurrentKeyId()).willReturn("v2");
+		given(jobCheckpointRepository.findOrCreate("BARCODE_RE_ENCRYPTION")).willReturn(checkpoint);
+		given(jobCheckpointRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(gifticonBarcodeBatchRepository.findBarcodesAfterId(0, 10)).willReturn(List.of());
+
+		// when
+		gifticonMigrationService.reEncryptBarcodes(10, false);
+
+		// then
+		verify(gifticonBarcodeBatchRepository).findBarcodesAfterId(0, 10);
+		assertThat(checkpoint.getTarget()).isEqualTo("v2");
+		assertThat(checkpoint.getCompleted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("바코드 재암호화 - 복호화에 실패한 행이 있으면 완료로 표시하지 않고 처음 위치로 되돌려야 한다.")
+	void reEncryptBarcodes_WhenDecryptFails_ThenNotCompleted() {
+		// given
+		JobCheckpoint checkpoint = JobCheckpoint.builder().jobName("BARCODE_RE_ENCRYPTION").target("v2").build();
+		given(encryptionUtil.getCurrentKeyId()).willReturn("v2");
+		given(jobCheckpointRepository.findOrCreate("BARCODE_RE_ENCRYPTION")).willReturn(checkpoint);
+		given(jobCheckpointRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(gifticonBarcodeBatchRepository.findBarcodesAfterId(0, 10)).willReturn(List.of(
+			new GifticonBarcodeDto(5, "v0:broken")));
+		given(encryptionUtil.isEncryptedWithCurrentKey("v0:broken")).willReturn(false);
+		given(encryptionUtil.decrypt("v0:broken")).willThrow(new RuntimeException("복호화 실패"));
+		given(gifticonBarcodeBatchRepository.updateBarcodes(anyList())).willReturn(0);
+
+		// when
+		gifticonMigrationService.reEncryptBarcodes(10, false);
+
+		// then
+		assertThat(checkpoint.getCompleted()).isFalse();
+		assertThat(checkpoint.getLastProcessedId()).isZero();
+	}
+}
@@ -0,0 +1,121 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonResponseDto;
+import com.eurachacha.achacha.application.port.output.file.FileRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
+import com.eurachacha.achacha.domain.model.brand.Brand;
+import com.eurachacha.achacha.domain.model.file.File;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.history.UsageHistory;
+import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
+import com.eurachacha.achacha.domain.model.user.User;
+
+@ExtendWith(MockitoExtension.class)
+class GifticonPageAssemblerTest {
+
+	@Mock
+	private FileRepository fileRepository;
+
+	@Mock
+	private FileStoragePort fileStoragePort;
+
+	@Mock
+	private UsageHistoryRepository usageHistoryRepository;
+
+	@InjectMocks
+	private GifticonPageAssembler gifticonPageAssembler;
+
+	private final User owner = User.builder().id(1).name("소유자").build();
+	private final User lastUser = User.builder().id(2).name("사용자").build();
+	private final Brand brand = Brand.builder().id(1).name("스타벅스").build();
+	private final ShareBox shareBox = ShareBox.builder().id(1).name("테스트 쉐어박스").build();
+
+	@Test
+	@DisplayName("사용가능 기프티콘 목록 - 페이지의 썸네일을 한 번에 조회하고 썸네일이 없는 기프티콘은 null이어야 한다")
+	void toAvailableGifticonResponseDtos_ThenResolveThumbnailsOnce() {
+		// given
+		List<Gifticon> gifticons = List.of(createGifticon(1), createGifticon(2));
+		File thumbnail = File.builder()
+			.path("thumbnails/1.jpg")
+			.type(FileType.THUMBNAIL)
+			.referenceEntityType("gifticon")
+			.referenceEntityId(1)
+			.build();
+
+		given(fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType("gifticon", List.of(1, 2),
+			FileType.THUMBNAIL)).willReturn(List.of(thumbnail));
+		given(fileStoragePort.generateFileUrl("thumbnails/1.jpg", FileType.THUMBNAIL)).willReturn("signed-url");
+
+		// when
+		List<AvailableGifticonResponseDto> result = gifticonPageAssembler.toAvailableGifticonResponseDtos(gifticons);
+
+		// then
+		assertThat(result).extracting(AvailableGifticonResponseDto::getThumbnailPath)
+			.containsExactly("signed-url", null);
+		assertThat(result).extracting(AvailableGifticonResponseDto::getShareboxId).containsOnly(1);
+		verify(fileRepository).findAllByReferenceEntityTypeAndReferenceEntityIdInAndType("gifticon", List.of(1, 2),
+			FileType.THUMBNAIL);
+	}
+
+	@Test
+	@DisplayName("쉐어박스 사용완료 기프티콘 목록 - 최근 사용 내역을 한 번에 조회하고 사용 내역이 없는 기프티콘은 제외해야 한다")
+	void toShareBoxUsedGifticonResponseDtos_ThenUseLatestUsageAndSkipMissing() {
+		// given
+		List<Gifticon> gifticons = List.of(createGifticon(1), createGifticon(2));
+		LocalDateTime usedAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+		UsageHistory lastUsage = mock(UsageHistory.class);
+
+		given(lastUsage.getGifticon()).willReturn(gifticons.get(0));
+		given(lastUsage.getUser()).willReturn(lastUser);
+		given(lastUsage.getCreatedAt()).willReturn(usedAt);
+		given(usageHistoryRepository.findLatestForEachGifticonByIds(List.of(1, 2))).willReturn(List.of(lastUsage));
+		given(fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType("gifticon", List.of(1, 2),
+			FileType.THUMBNAIL)).willReturn(List.of());
+
+		// when
+		List<UsedGifticonResponseDto> result = gifticonPageAssembler.toShareBoxUsedGifticonResponseDtos(gifticons);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getGifticonId()).isEqualTo(1);
+		assertThat(result.get(0).getUserId()).isEqualTo(lastUser.getId());
+		assertThat(result.get(0).getUsedAt()).isEqualTo(usedAt);
+	}
+
+	@Test
+	@DisplayName("빈 페이지 - 조회 쿼리를 실행하지 않아야 한다")
+	void toShareBoxUsedGifticonResponseDtos_WhenEmpty_ThenSkipQueries() {
+		// when
+		List<UsedGifticonResponseDto> result = gifticonPageAssembler.toShareBoxUsedGifticonResponseDtos(List.of());
+
+		// then
+		assertThat(result).isEmpty();
+		verifyNoInteractions(usageHistoryRepository, fileRepository);
+	}
+
+	private Gifticon createGifticon(Integer id) {
+		return Gifticon.builder()
+			.id(id)
+			.name("기프티콘 " + id)
+			.brand(brand)
+			.user(owner)
+			.sharebox(shareBox)
+			.build();
+	}
+}
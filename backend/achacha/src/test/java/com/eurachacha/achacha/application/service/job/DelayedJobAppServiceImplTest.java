@@ -0,0 +1,121 @@
+package com.eurachacha.achacha.application.service.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonAppService;
+import com.eurachacha.achacha.application.port.output.job.DelayedJobRepository;
+import com.eurachacha.achacha.domain.model.job.DelayedJob;
+import com.eurachacha.achacha.domain.model.job.enums.DelayedJobType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class DelayedJobAppServiceImplTest {
+
+	@Mock
+	private DelayedJobRepository delayedJobRepository;
+
+	@Mock
+	private GifticonAppService gifticonAppService;
+
+	@InjectMocks
+	private DelayedJobAppServiceImpl delayedJobAppService;
+
+	@Test
+	@DisplayName("점유한 작업이 성공하면 완료 처리해야 한다.")
+	void executeDueJobs_WhenJobSucceeds_ThenMarkDone() {
+		// given
+		givenClaimedJob(createJob(1));
+
+		// when
+		delayedJobAppService.executeDueJobs();
+
+		// then
+		verify(gifticonAppService).checkUsedAndSaveAndSendNotification(5, 10);
+		verify(delayedJobRepository).markDone(eq(1L), anyString());
+		verify(delayedJobRepository, never()).markRetry(anyLong(), anyString(), any());
+		verify(delayedJobRepository, never()).markFailed(anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("재시도해도 결과가 같은 예외가 발생하면 바로 실패 처리해야 한다.")
+	void executeDueJobs_WhenCustomException_ThenMarkFailed() {
+		// given
+		givenClaimedJob(createJob(1));
+		willThrow(new CustomException(ErrorCode.GIFTICON_DELETED))
+			.given(gifticonAppService).checkUsedAndSaveAndSendNotification(5, 10);
+
+		// when
+		delayedJobAppService.executeDueJobs();
+
+		// then
+		verify(delayedJobRepository).markFailed(eq(1L), anyString());
+		verify(delayedJobRepository, never()).markRetry(anyLong(), anyString(), any());
+		verify(delayedJobRepository, never()).markDone(anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("일시적인 오류가 발생하면 30초 뒤에 다시 실행되도록 재시도 처리해야 한다.")
+	void executeDueJobs_WhenTransientError_ThenMarkRetryWithDelay() {
+		// given
+		givenClaimedJob(createJob(1));
+		willThrow(new RuntimeException("db timeout"))
+			.given(gifticonAppService).checkUsedAndSaveAndSendNotification(5, 10);
+		LocalDateTime before = LocalDateTime.now();
+
+		// when
+		delayedJobAppService.executeDueJobs();
+
+		// then
+		ArgumentCaptor<LocalDateTime> nextDueAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(delayedJobRepository).markRetry(eq(1L), anyString(), nextDueAtCaptor.capture());
+		assertThat(nextDueAtCaptor.getValue())
+			.isBetween(before.plusSeconds(30), LocalDateTime.now().plusSeconds(30));
+		verify(delayedJobRepository, never()).markFailed(anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수에 도달한 작업에서 오류가 발생하면 더 이상 재시도하지 않고 실패 처리해야 한다.")
+	void executeDueJobs_WhenMaxAttemptsReached_ThenMarkFailed() {
+		// given
+		givenClaimedJob(createJob(3));
+		willThrow(new RuntimeException("db timeout"))
+			.given(gifticonAppService).checkUsedAndSaveAndSendNotification(5, 10);
+
+		// when
+		delayedJobAppService.executeDueJobs();
+
+		// then
+		verify(delayedJobRepository).markFailed(eq(1L), anyString());
+		verify(delayedJobRepository, never()).markRetry(anyLong(), anyString(), any());
+	}
+
+	private void givenClaimedJob(DelayedJob job) {
+		given(delayedJobRepository.claimDueJobs(anyString(), any(), any(), anyInt())).willReturn(List.of(job));
+	}
+
+	private DelayedJob createJob(int attempts) {
+		return DelayedJob.builder()
+			.id(1L)
+			.jobType(DelayedJobType.USAGE_COMPLETE_REMINDER)
+			.dedupeKey(DelayedJob.createDedupeKey(DelayedJobType.USAGE_COMPLETE_REMINDER, 10, 5))
+			.userId(5)
+			.referenceEntityId(10)
+			.dueAt(LocalDateTime.now())
+			.attempts(attempts)
+			.build();
+	}
+}
@@ -0,0 +1,86 @@
+package com.eurachacha.achacha.application.service.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eurachacha.achacha.application.port.output.job.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockAppServiceImplTest {
+
+	private static final String LOCK_NAME = "testScheduler";
+	private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+	@Mock
+	private SchedulerLockRepository schedulerLockRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private SchedulerLockAppServiceImpl schedulerLockAppService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		schedulerLockAppService = new SchedulerLockAppServiceImpl(schedulerLockRepository, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("락 점유에 성공하면 작업을 실행하고 최소 유지 시간까지 락을 유지한 채 해제해야 한다.")
+	void executeWithLock_WhenAcquired_ThenRunTaskAndRelease() {
+		// given
+		LocalDateTime before = LocalDateTime.now();
+		AtomicBoolean executed = new AtomicBoolean(false);
+		given(schedulerLockRepository.tryAcquire(eq(LOCK_NAME), anyString(), any(), any())).willReturn(true);
+
+		// when
+		boolean result = schedulerLockAppService.executeWithLock(LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+			() -> executed.set(true));
+
+		// then
+		assertThat(result).isTrue();
+		assertThat(executed).isTrue();
+
+		ArgumentCaptor<LocalDateTime> lockedUntilCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(schedulerLockRepository).release(eq(LOCK_NAME), anyString(), lockedUntilCaptor.capture());
+		assertThat(lockedUntilCaptor.getValue()).isAfterOrEqualTo(before.plus(LOCK_AT_LEAST_FOR));
+
+		assertThat(meterRegistry.counter("scheduler.lock.acquisition", "lock", LOCK_NAME, "result", "acquired")
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 락을 점유 중이면 작업을 실행하지 않아야 한다.")
+	void executeWithLock_WhenLockedByOtherNode_ThenSkipTask() {
+		// given
+		AtomicBoolean executed = new AtomicBoolean(false);
+		given(schedulerLockRepository.tryAcquire(eq(LOCK_NAME), anyString(), any(), any())).willReturn(false);
+
+		// when
+		boolean result = schedulerLockAppService.executeWithLock(LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+			() -> executed.set(true));
+
+		// then
+		assertThat(result).isFalse();
+		assertThat(executed).isFalse();
+		verify(schedulerLockRepository, never()).release(anyString(), anyString(), any());
+
+		assertThat(meterRegistry.counter("scheduler.lock.acquisition", "lock", LOCK_NAME, "result", "skipped")
+			.count()).isEqualTo(1);
+	}
+}
@@ -4,8 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,25 +16,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import com.eurachacha.achacha.application.port.input.notification.dto.request.LocationBasedNotificationRequestDto;
+import com.eurachacha.achacha.application.port.input.notification.dto.response.NotificationsResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
-import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationCursorDto;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
-import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
-import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
 import com.eurachacha.achacha.domain.model.brand.Brand;
-import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.notification.Notification;
-import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationSortType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
 import com.eurachacha.achacha.domain.model.user.User;
-import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.NotificationCursorCodec;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
@@ -49,22 +51,19 @@ public class NotificationAppServiceImplTest {
 	@Mock
 	private NotificationTypeRepository notificationTypeRepository;
 
-	@Mock
-	private NotificationSettingRepository notificationSettingRepository;
-
-	@Mock
-	private FcmTokenRepository fcmTokenRepository;
-
 	// NotificationEventPort 대신 ApplicationEventPublisher 사용
 	@Mock
 	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Mock
-	private NotificationSettingDomainService notificationSettingDomainService;
+	private NotificationRecipientResolver notificationRecipientResolver;
 
 	@Mock
 	private GifticonRepository gifticonRepository;
 
+	@Mock
+	private NotificationCursorCodec notificationCursorCodec;
+
 	@InjectMocks
 	private NotificationAppServiceImpl notificationAppService;
 
@@ -77,7 +76,7 @@ public class NotificationAppServiceImplTest {
 		LocationBasedNotificationRequestDto requestDto = new LocationBasedNotificationRequestDto(gifticonId);
 
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(loggedInUser);
+		given(securityServicePort.getLoggedInUserId()).willReturn(loggedInUser.getId());
 
 		// 기프티콘을 찾을 수 없는 경우
 		given(gifticonRepository.findById(gifticonId))
@@ -109,32 +108,14 @@ public class NotificationAppServiceImplTest {
 			.code(NotificationTypeCode.LOCATION_BASED)
 			.build();
 
-		NotificationSetting notificationSetting = NotificationSetting.builder()
-			.id(1)
-			.user(loggedInUser)
-			.notificationType(notificationType)
-			.isEnabled(true)
-			.build();
-
-		List<FcmToken> fcmTokens = Arrays.asList(
-			FcmToken.builder()
-				.id(1)
-				.user(loggedInUser)
-				.value("fcm-token-123")
-				.build()
-		);
-
 		// Mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(loggedInUser);
+		given(securityServicePort.getLoggedInUserId()).willReturn(loggedInUser.getId());
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.LOCATION_BASED)).willReturn(notificationType);
 
-		given(notificationSettingRepository.findByUserIdAndNotificationTypeId(
-			loggedInUser.getId(), notificationType.getId()))
-			.willReturn(notificationSetting);
-
-		given(notificationSettingDomainService.isEnabled(notificationSetting)).willReturn(true);
-		given(fcmTokenRepository.findAllByUserId(loggedInUser.getId())).willReturn(fcmTokens);
+		// 알림을 켠 수신자와 FCM 토큰 설정
+		given(notificationRecipientResolver.resolve(List.of(loggedInUser.getId()), notificationType))
+			.willReturn(Map.of(loggedInUser.getId(), List.of("fcm-token-123")));
 
 		// when
 		notificationAppService.requestNotification(requestDto);
@@ -157,19 +138,14 @@ public class NotificationAppServiceImplTest {
 		assertThat(capturedNotification.getReferenceEntityId()).isEqualTo(gifticonId);
 		assertThat(capturedNotification.getIsRead()).isFalse();
 
-		// 알림 설정 확인이 호출되었는지 검증
-		verify(notificationSettingDomainService).isEnabled(notificationSetting);
-
-		// FCM 토큰 조회가 호출되었는지 검증
-		verify(fcmTokenRepository).findAllByUserId(loggedInUser.getId());
-
 		// 이벤트 발행이 호출되었는지 검증 (NotificationEventPort 대신 ApplicationEventPublisher 사용)
-		ArgumentCaptor<NotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
-			NotificationEventMessage.class);
+		ArgumentCaptor<BulkNotificationEventMessage> eventMessageCaptor = ArgumentCaptor.forClass(
+			BulkNotificationEventMessage.class);
 		verify(applicationEventPublisher).publishEvent(eventMessageCaptor.capture());
 
-		NotificationEventMessage capturedEventMessage = eventMessageCaptor.getValue();
-		NotificationEventDto capturedEventDto = capturedEventMessage.getEventDto();
+		BulkNotificationEventMessage capturedEventMessage = eventMessageCaptor.getValue();
+		assertThat(capturedEventMessage.getEventDtos()).hasSize(1);
+		NotificationEventDto capturedEventDto = capturedEventMessage.getEventDtos().get(0);
 
 		assertThat(capturedEventDto.getFcmToken()).isEqualTo("fcm-token-123");
 		assertThat(capturedEventDto.getUserId()).isEqualTo(loggedInUser.getId());
@@ -180,6 +156,55 @@ public class NotificationAppServiceImplTest {
 		assertThat(capturedEventDto.getReferenceEntityId()).isEqualTo(gifticonId);
 	}
 
+	@Test
+	@DisplayName("읽지 않은 알림 수 조회 - COUNT 쿼리 대신 사용자별로 유지되는 값을 사용해야 한다")
+	void countUnreadNotifications_WhenUnread_ThenUseMaintainedCounter() {
+		// given
+		User loggedInUser = createUser(1);
+		given(securityServicePort.getLoggedInUserId()).willReturn(loggedInUser.getId());
+		given(notificationRepository.countUnread(loggedInUser.getId())).willReturn(3);
+
+		// when
+		int count = notificationAppService.countUnreadNotifications(false).getCount();
+
+		// then
+		assertThat(count).isEqualTo(3);
+		verify(notificationRepository, never()).countByUserIdAndRead(any(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("알림 목록 커서 조회 - 커서 이후 알림을 조회하고 다음 페이지가 있으면 다음 커서를 반환해야 한다")
+	void getNotificationsByCursor_WhenHasNext_ThenReturnNextCursor() {
+		// given
+		User loggedInUser = createUser(1);
+		NotificationCursorDto cursorDto = NotificationCursorDto.builder()
+			.createdAt(LocalDateTime.of(2025, 5, 1, 12, 0))
+			.id(100)
+			.build();
+		Notification notification = Notification.builder()
+			.id(99)
+			.title("유효기간 알림")
+			.notificationType(NotificationType.builder().id(1).code(NotificationTypeCode.EXPIRY_DATE).build())
+			.isRead(false)
+			.build();
+
+		given(securityServicePort.getLoggedInUserId()).willReturn(loggedInUser.getId());
+		given(notificationCursorCodec.decode("cursor", NotificationSortType.CREATED_DESC)).willReturn(cursorDto);
+		given(notificationRepository.findNotificationsByCursor(loggedInUser.getId(), cursorDto, 1))
+			.willReturn(new SliceImpl<>(List.of(notification), PageRequest.ofSize(1), true));
+		given(notificationCursorCodec.encode(notification, NotificationSortType.CREATED_DESC)).willReturn("next");
+
+		// when
+		NotificationsResponseDto response = notificationAppService.getNotificationsByCursor(
+			NotificationSortType.CREATED_DESC, "cursor", 1);
+
+		// then
+		assertThat(response.getNotifications()).hasSize(1);
+		assertThat(response.getNotifications().get(0).getNotificationId()).isEqualTo(99);
+		assertThat(response.isHasNextPage()).isTrue();
+		assertThat(response.getNextCursor()).isEqualTo("next");
+	}
+
 	// 테스트 헬퍼 메서드
 	private User createUser(Integer id) {
 		return User.builder()
@@ -0,0 +1,204 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.eurachacha.achacha.application.port.output.notification.NotificationFanOutJobRepository;
+import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
+import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
+import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.service.notification.event.BulkNotificationEventMessage;
+import com.eurachacha.achacha.domain.model.notification.Notification;
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+import com.eurachacha.achacha.domain.model.notification.NotificationType;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanOutAppServiceImplTest {
+
+	@Mock
+	private NotificationFanOutJobRepository notificationFanOutJobRepository;
+
+	@Mock
+	private ParticipationRepository participationRepository;
+
+	@Mock
+	private NotificationTypeRepository notificationTypeRepository;
+
+	@Mock
+	private NotificationRepository notificationRepository;
+
+	@Mock
+	private NotificationRecipientResolver notificationRecipientResolver;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private NotificationFanOutAppServiceImpl notificationFanOutAppService;
+
+	private final NotificationType notificationType = NotificationType.builder()
+		.id(1)
+		.code(NotificationTypeCode.SHAREBOX_MEMBER_JOIN)
+		.build();
+
+	@BeforeEach
+	void setUp() {
+		notificationFanOutAppService = new NotificationFanOutAppServiceImpl(notificationFanOutJobRepository,
+			participationRepository, notificationTypeRepository, notificationRepository,
+			notificationRecipientResolver, applicationEventPublisher, transactionManager);
+	}
+
+	@Test
+	@DisplayName("참여자 전체 알림 - 제외 대상을 뺀 참여자에게 알림을 일괄 저장하고 푸시를 한 번에 발행한 후 작업을 삭제해야 한다.")
+	void processJob_WhenShareBoxMembers_ThenSaveAllAndPublishOnce() {
+		// given
+		Integer shareBoxId = 1;
+		Integer newMemberId = 3;
+		NotificationFanOutJob job = createJob(null, newMemberId, NotificationTypeCode.SHAREBOX_MEMBER_JOIN);
+
+		given(notificationFanOutJobRepository.findByIdForUpdate(10L))
+			.willReturn(Optional.of(job))
+			.willReturn(Optional.empty());
+		given(participationRepository.findUserIdsByShareBoxIdAfter(shareBoxId, 0, 500))
+			.willReturn(List.of(1, 2, newMemberId));
+		given(notificationTypeRepository.findByCode(NotificationTypeCode.SHAREBOX_MEMBER_JOIN))
+			.willReturn(notificationType);
+		given(notificationRecipientResolver.resolve(List.of(1, 2), notificationType))
+			.willReturn(Map.of(1, List.of("token_1"), 2, List.of()));
+
+		// when
+		notificationFanOutAppService.processJob(10L);
+
+		// then
+		ArgumentCaptor<List<Notification>> notificationsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(notificationRepository).saveAll(notificationsCaptor.capture());
+		assertThat(notificationsCaptor.getValue())
+			.extracting(notification -> notification.getUser().getId())
+			.containsExactly(1, 2);
+		assertThat(notificationsCaptor.getValue())
+			.allSatisfy(notification -> assertThat(notification.getReferenceEntityId()).isEqualTo(shareBoxId));
+
+		ArgumentCaptor<BulkNotificationEventMessage> messageCaptor =
+			ArgumentCaptor.forClass(BulkNotificationEventMessage.class);
+		verify(applicationEventPublisher).publishEvent(messageCaptor.capture());
+		assertThat(messageCaptor.getValue().getEventDtos())
+			.extracting(dto -> dto.getFcmToken())
+			.containsExactly("token_1");
+
+		verify(notificationFanOutJobRepository).delete(job);
+		// 청크마다 독립된 트랜잭션으로 커밋
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	@Test
+	@DisplayName("수신자 지정 알림 - 참여자를 다시 조회하지 않고 청크마다 진행 위치를 갱신하며 나누어 저장해야 한다.")
+	void processJob_WhenUserIdsGiven_ThenSplitIntoChunksAndAdvance() {
+		// given
+		List<Integer> userIds = IntStream.rangeClosed(1, 501).boxed().toList();
+		NotificationFanOutJob job = createJob(NotificationFanOutJob.joinUserIds(userIds), null,
+			NotificationTypeCode.SHAREBOX_DELETED);
+
+		given(notificationFanOutJobRepository.findByIdForUpdate(10L))
+			.willReturn(Optional.of(job))
+			.willReturn(Optional.of(job))
+			.willReturn(Optional.empty());
+		given(notificationTypeRepository.findByCode(NotificationTypeCode.SHAREBOX_DELETED))
+			.willReturn(notificationType);
+		given(notificationRecipientResolver.resolve(anyList(), eq(notificationType))).willReturn(Map.of());
+
+		// when
+		notificationFanOutAppService.processJob(10L);
+
+		// then
+		verify(participationRepository, never()).findUserIdsByShareBoxIdAfter(any(), any(), anyInt());
+		verify(notificationRepository, times(2)).saveAll(anyList());
+		verify(applicationEventPublisher, never()).publishEvent(any());
+		assertThat(job.getLastUserId()).isEqualTo(500);
+		verify(notificationFanOutJobRepository).delete(job);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 처리 중이거나 이미 끝난 작업이면 아무것도 하지 않아야 한다.")
+	void processJob_WhenJobLockedOrDone_ThenDoNothing() {
+		// given
+		given(notificationFanOutJobRepository.findByIdForUpdate(10L)).willReturn(Optional.empty());
+
+		// when
+		notificationFanOutAppService.processJob(10L);
+
+		// then
+		verify(notificationRepository, never()).saveAll(anyList());
+		verify(notificationFanOutJobRepository, never()).delete(any());
+	}
+
+	@Test
+	@DisplayName("청크 처리에 실패하면 작업을 남겨두고 재시도 시점을 뒤로 미뤄야 한다.")
+	void processJob_WhenChunkFails_ThenScheduleRetry() {
+		// given
+		NotificationFanOutJob job = createJob("1,2", null, NotificationTypeCode.SHAREBOX_DELETED);
+
+		given(notificationFanOutJobRepository.findByIdForUpdate(10L)).willReturn(Optional.of(job));
+		given(notificationTypeRepository.findByCode(NotificationTypeCode.SHAREBOX_DELETED))
+			.willReturn(notificationType);
+		willThrow(new RuntimeException("db down")).given(notificationRepository).saveAll(anyList());
+
+		// when
+		Throwable thrown = catchThrowable(() -> notificationFanOutAppService.processJob(10L));
+
+		// then
+		assertThat(thrown).isNull();
+		assertThat(job.getAttempts()).isEqualTo(1);
+		assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		verify(transactionManager).rollback(any());
+	}
+
+	@Test
+	@DisplayName("실행 시점이 지난 작업만 다시 처리해야 한다.")
+	void processDueJobs_ThenProcessEachDueJob() {
+		// given
+		given(notificationFanOutJobRepository.findDueIds(any(), anyInt())).willReturn(List.of(10L));
+		given(notificationFanOutJobRepository.findByIdForUpdate(10L)).willReturn(Optional.empty());
+
+		// when
+		notificationFanOutAppService.processDueJobs();
+
+		// then
+		verify(notificationFanOutJobRepository).findByIdForUpdate(10L);
+	}
+
+	private NotificationFanOutJob createJob(String recipientUserIds, Integer excludedUserId,
+		NotificationTypeCode typeCode) {
+		return NotificationFanOutJob.builder()
+			.id(10L)
+			.shareBoxId(1)
+			.recipientUserIds(recipientUserIds)
+			.excludedUserId(excludedUserId)
+			.typeCode(typeCode)
+			.title(typeCode.getDisplayName())
+			.content("테스트")
+			.referenceEntityType("sharebox")
+			.referenceEntityId(1)
+			.nextAttemptAt(LocalDateTime.now())
+			.build();
+	}
+}
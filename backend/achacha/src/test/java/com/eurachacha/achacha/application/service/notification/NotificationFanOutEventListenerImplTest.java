@@ -0,0 +1,98 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.eurachacha.achacha.application.port.input.notification.NotificationFanOutAppService;
+import com.eurachacha.achacha.application.port.output.notification.NotificationFanOutJobRepository;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutJobCreatedEvent;
+import com.eurachacha.achacha.domain.model.notification.NotificationFanOutJob;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanOutEventListenerImplTest {
+
+	@Mock
+	private NotificationFanOutJobRepository notificationFanOutJobRepository;
+
+	@Mock
+	private NotificationFanOutAppService notificationFanOutAppService;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@InjectMocks
+	private NotificationFanOutEventListenerImpl notificationFanOutEventListener;
+
+	@Test
+	@DisplayName("알림 요청은 커밋 전에 작업으로 저장하고, 커밋 후 처리할 작업 ID를 발행해야 한다.")
+	void handleNotificationFanOut_ThenSaveJobAndPublishJobCreated() {
+		// given
+		NotificationFanOutEvent event = NotificationFanOutEvent.toUsers(1, List.of(3, 1, 2),
+			NotificationTypeCode.SHAREBOX_DELETED, "테스트 쉐어박스가 삭제되었어요.");
+
+		given(notificationFanOutJobRepository.save(any())).willReturn(NotificationFanOutJob.builder().id(10L).build());
+
+		// when
+		notificationFanOutEventListener.handleNotificationFanOut(event);
+
+		// then
+		ArgumentCaptor<NotificationFanOutJob> jobCaptor = ArgumentCaptor.forClass(NotificationFanOutJob.class);
+		verify(notificationFanOutJobRepository).save(jobCaptor.capture());
+		NotificationFanOutJob savedJob = jobCaptor.getValue();
+		assertThat(savedJob.getShareBoxId()).isEqualTo(1);
+		assertThat(savedJob.getRecipientUserIds()).isEqualTo("1,2,3");
+		assertThat(savedJob.getTypeCode()).isEqualTo(NotificationTypeCode.SHAREBOX_DELETED);
+		assertThat(savedJob.getLastUserId()).isZero();
+		// 커밋 직후 작업 스레드가 먼저 처리하도록 스케줄러 실행 시점은 뒤로 미룸
+		assertThat(savedJob.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+		ArgumentCaptor<NotificationFanOutJobCreatedEvent> eventCaptor =
+			ArgumentCaptor.forClass(NotificationFanOutJobCreatedEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().getJobId()).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("참여자 전체 알림은 수신자 목록 없이 제외 대상만 저장해야 한다.")
+	void handleNotificationFanOut_WhenShareBoxMembers_ThenSaveWithoutRecipients() {
+		// given
+		NotificationFanOutEvent event = NotificationFanOutEvent.toShareBoxMembers(1, 3,
+			NotificationTypeCode.SHAREBOX_MEMBER_JOIN, "테스트 쉐어박스에 새 멤버가 참여했어요.");
+
+		given(notificationFanOutJobRepository.save(any())).willReturn(NotificationFanOutJob.builder().id(10L).build());
+
+		// when
+		notificationFanOutEventListener.handleNotificationFanOut(event);
+
+		// then
+		ArgumentCaptor<NotificationFanOutJob> jobCaptor = ArgumentCaptor.forClass(NotificationFanOutJob.class);
+		verify(notificationFanOutJobRepository).save(jobCaptor.capture());
+		assertThat(jobCaptor.getValue().hasRecipientUserIds()).isFalse();
+		assertThat(jobCaptor.getValue().getExcludedUserId()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("커밋 후에는 저장된 작업을 처리해야 한다.")
+	void handleNotificationFanOutJobCreated_ThenProcessJob() {
+		// when
+		notificationFanOutEventListener.handleNotificationFanOutJobCreated(new NotificationFanOutJobCreatedEvent(10L));
+
+		// then
+		verify(notificationFanOutAppService).processJob(10L);
+	}
+}
@@ -0,0 +1,100 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.output.notification.NotificationEventPort;
+import com.eurachacha.achacha.application.port.output.notification.NotificationOutboxRepository;
+import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
+import com.eurachacha.achacha.application.port.output.notification.dto.response.NotificationOutboxDto;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayAppServiceImplTest {
+
+	@Mock
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Mock
+	private NotificationEventPort notificationEventPort;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private NotificationOutboxRelayAppServiceImpl notificationOutboxRelayAppService;
+
+	@Test
+	@DisplayName("아웃박스 발행 - 브로커가 확인한 행은 삭제하고 확인되지 않은 행은 재시도를 예약해야 한다.")
+	@SuppressWarnings("unchecked")
+	void relayOutbox_WhenPartiallyConfirmed_ThenDeleteConfirmedAndRetryOthers() {
+		// given
+		NotificationOutboxDto confirmed = new NotificationOutboxDto(1L, 0, eventDto("token_1"));
+		NotificationOutboxDto notConfirmed = new NotificationOutboxDto(2L, 2, eventDto("token_2"));
+		LocalDateTime before = LocalDateTime.now();
+
+		given(transactionTemplate.execute(any())).willAnswer(
+			invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+		given(notificationOutboxRepository.findPublishableForUpdate(any(), anyInt()))
+			.willReturn(List.of(confirmed, notConfirmed));
+		given(notificationEventPort.sendNotificationEvents(List.of(confirmed, notConfirmed))).willReturn(Set.of(1L));
+
+		// when
+		notificationOutboxRelayAppService.relayOutbox();
+
+		// then
+		verify(notificationOutboxRepository).deleteAllByIds(List.of(1L));
+
+		ArgumentCaptor<Map<Long, LocalDateTime>> retryCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(notificationOutboxRepository).updateNextAttempts(retryCaptor.capture());
+		assertThat(retryCaptor.getValue()).containsOnlyKeys(2L);
+		// 세 번째 시도이므로 5초 * 2^2 = 20초 후 재시도
+		assertThat(retryCaptor.getValue().get(2L)).isAfterOrEqualTo(before.plusSeconds(20));
+
+		// 배치가 가득 차지 않았으므로 한 번만 실행
+		verify(transactionTemplate, times(1)).execute(any());
+	}
+
+	@Test
+	@DisplayName("아웃박스 발행 - 발행할 행이 없으면 브로커로 전송하지 않아야 한다.")
+	void relayOutbox_WhenEmpty_ThenDoNothing() {
+		// given
+		given(transactionTemplate.execute(any())).willAnswer(
+			invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+		given(notificationOutboxRepository.findPublishableForUpdate(any(), anyInt())).willReturn(List.of());
+
+		// when
+		notificationOutboxRelayAppService.relayOutbox();
+
+		// then
+		verify(notificationEventPort, never()).sendNotificationEvents(anyList());
+		verify(notificationOutboxRepository, never()).deleteAllByIds(anyList());
+	}
+
+	private NotificationEventDto eventDto(String fcmToken) {
+		return NotificationEventDto.builder()
+			.fcmToken(fcmToken)
+			.title("유효기간 만료 알림")
+			.body("테스트 기프티콘의 유효기간이 1일 남았습니다.")
+			.userId(1)
+			.notificationTypeCode("EXPIRY_DATE")
+			.referenceEntityId(1)
+			.referenceEntityType("gifticon")
+			.build();
+	}
+}
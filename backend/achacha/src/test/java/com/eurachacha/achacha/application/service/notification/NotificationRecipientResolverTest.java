@@ -0,0 +1,127 @@
+package com.eurachacha.achacha.application.service.notification;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
+import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.service.cache.event.CacheInvalidationEvent;
+import com.eurachacha.achacha.domain.model.fcm.FcmToken;
+import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
+import com.eurachacha.achacha.domain.model.notification.NotificationType;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
+import com.eurachacha.achacha.domain.model.user.User;
+import com.eurachacha.achacha.domain.service.notification.NotificationSettingDomainService;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRecipientResolverTest {
+
+	@Mock
+	private NotificationSettingRepository notificationSettingRepository;
+
+	@Mock
+	private FcmTokenRepository fcmTokenRepository;
+
+	@Mock
+	private NotificationSettingDomainService notificationSettingDomainService;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private NotificationRecipientResolver notificationRecipientResolver;
+
+	private final NotificationType notificationType = NotificationType.builder()
+		.id(1)
+		.code(NotificationTypeCode.SHAREBOX_GIFTICON)
+		.build();
+
+	private final User enabledUser = User.builder().id(1).build();
+	private final User disabledUser = User.builder().id(2).build();
+
+	@BeforeEach
+	void setUp() {
+		notificationRecipientResolver = new NotificationRecipientResolver(notificationSettingRepository,
+			fcmTokenRepository, notificationSettingDomainService, applicationEventPublisher);
+	}
+
+	@Test
+	@DisplayName("알림을 켠 사용자만 FCM 토큰과 함께 반환하고, 설정이 없거나 끈 사용자는 제외해야 한다.")
+	void resolve_ThenReturnOnlyEnabledUsersWithTokens() {
+		// given
+		stubSettingsAndTokens();
+
+		// when
+		Map<Integer, List<String>> recipients = notificationRecipientResolver.resolve(List.of(1, 2, 3),
+			notificationType);
+
+		// then
+		assertThat(recipients).containsOnlyKeys(1);
+		assertThat(recipients.get(1)).containsExactly("phone_token", "watch_token");
+		verify(fcmTokenRepository).findAllByUserIdIn(List.of(1));
+	}
+
+	@Test
+	@DisplayName("같은 수신자를 다시 조회하면 캐시를 사용하고, 캐시를 비우면 다시 조회해야 한다.")
+	void resolve_WhenCalledTwice_ThenUseCacheUntilEvicted() {
+		// given
+		stubSettingsAndTokens();
+
+		// when
+		notificationRecipientResolver.resolve(List.of(1, 2), notificationType);
+		notificationRecipientResolver.resolve(List.of(1, 2), notificationType);
+
+		notificationRecipientResolver.invalidateSettings(List.of(1), NotificationTypeCode.SHAREBOX_GIFTICON);
+		notificationRecipientResolver.invalidateFcmTokens(List.of(1));
+		notificationRecipientResolver.resolve(List.of(1, 2), notificationType);
+
+		// then
+		verify(notificationSettingRepository, times(2)).findByUserIdInAndNotificationTypeId(anyList(), eq(1));
+		verify(notificationSettingRepository).findByUserIdInAndNotificationTypeId(List.of(1), 1);
+		verify(fcmTokenRepository, times(2)).findAllByUserIdIn(List.of(1));
+	}
+
+	@Test
+	@DisplayName("토큰 캐시 제거는 바로 비우지 않고 커밋 후 모든 노드에서 처리하도록 이벤트로 발행해야 한다.")
+	void evictFcmTokens_ThenPublishInvalidationEvent() {
+		// when
+		notificationRecipientResolver.evictFcmTokens(List.of(1, 2));
+
+		// then
+		ArgumentCaptor<CacheInvalidationEvent> eventCaptor = ArgumentCaptor.forClass(CacheInvalidationEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		CacheInvalidationDto invalidation = eventCaptor.getValue().getInvalidation();
+		assertThat(invalidation.getTarget()).isEqualTo(CacheInvalidationDto.Target.FCM_TOKEN);
+		assertThat(invalidation.getUserIds()).containsExactly(1, 2);
+	}
+
+	private void stubSettingsAndTokens() {
+		NotificationSetting enabledSetting = NotificationSetting.builder()
+			.id(1).user(enabledUser).notificationType(notificationType).isEnabled(true).build();
+		NotificationSetting disabledSetting = NotificationSetting.builder()
+			.id(2).user(disabledUser).notificationType(notificationType).isEnabled(false).build();
+
+		given(notificationSettingRepository.findByUserIdInAndNotificationTypeId(anyList(), eq(1)))
+			.willAnswer(inv -> List.of(enabledSetting, disabledSetting).stream()
+				.filter(setting -> inv.<List<Integer>>getArgument(0).contains(setting.getUser().getId()))
+				.toList());
+		given(notificationSettingDomainService.isEnabled(any()))
+			.willAnswer(inv -> inv.<NotificationSetting>getArgument(0).getIsEnabled());
+		given(fcmTokenRepository.findAllByUserIdIn(List.of(1))).willReturn(List.of(
+			FcmToken.builder().id(1).user(enabledUser).value("phone_token").build(),
+			FcmToken.builder().id(2).user(enabledUser).value("watch_token").build()));
+	}
+}
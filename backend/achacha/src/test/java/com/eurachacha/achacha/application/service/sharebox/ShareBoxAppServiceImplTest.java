@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,8 +13,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.eurachacha.achacha.application.port.input.sharebox.dto.request.ShareBoxJoinRequestDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.request.ShareBoxNameUpdateRequestDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.request.ShareBoxParticipationSettingRequestDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.response.ShareBoxSettingsResponseDto;
@@ -21,8 +25,10 @@ import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepositor
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
 import com.eurachacha.achacha.application.port.output.user.UserRepository;
+import com.eurachacha.achacha.application.service.notification.event.NotificationFanOutEvent;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
 import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
 import com.eurachacha.achacha.domain.model.user.User;
 import com.eurachacha.achacha.domain.service.gifticon.GifticonDomainService;
@@ -51,9 +57,15 @@ class ShareBoxAppServiceImplTest {
 	@Mock
 	private ParticipationRepository participationRepository;
 
+	@Mock
+	private ShareBoxMembershipCache shareBoxMembershipCache;
+
 	@Mock
 	private SecurityServicePort securityServicePort;
 
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	@InjectMocks
 	private ShareBoxAppServiceImpl shareBoxAppService;
 
@@ -78,7 +90,7 @@ class ShareBoxAppServiceImplTest {
 		Integer userId = user.getId();
 
 		// BDDMockito를 사용한 mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -102,6 +114,16 @@ class ShareBoxAppServiceImplTest {
 		Gifticon capturedGifticon = gifticonCaptor.getValue();
 
 		assertThat(capturedGifticon.getSharebox()).isEqualTo(shareBox);
+
+		// 참여자 알림은 커밋 후 처리되도록 이벤트 하나만 발행
+		ArgumentCaptor<NotificationFanOutEvent> eventCaptor = ArgumentCaptor.forClass(NotificationFanOutEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		NotificationFanOutEvent event = eventCaptor.getValue();
+
+		assertThat(event.getShareBoxId()).isEqualTo(shareBoxId);
+		assertThat(event.getUserIds()).isNull();
+		assertThat(event.getTypeCode()).isEqualTo(NotificationTypeCode.SHAREBOX_GIFTICON);
+		verify(participationRepository, never()).findUserIdsByShareBoxId(any());
 	}
 
 	@Test
@@ -118,7 +140,7 @@ class ShareBoxAppServiceImplTest {
 		Integer userId = user.getId();
 
 		// BDDMockito를 사용한 mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(false);
 
@@ -151,7 +173,7 @@ class ShareBoxAppServiceImplTest {
 		Integer userId = user.getId();
 
 		// BDDMockito를 사용한 mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -184,7 +206,7 @@ class ShareBoxAppServiceImplTest {
 		Integer userId = user.getId();
 
 		// BDDMockito를 사용한 mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -227,7 +249,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.existsById(shareBoxId)).willReturn(true);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -256,7 +278,7 @@ class ShareBoxAppServiceImplTest {
 
 		User user = User.builder().id(1).name("테스트 사용자").build();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.existsById(shareBoxId)).willReturn(false);
 
 		// when
@@ -280,7 +302,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.existsById(shareBoxId)).willReturn(true);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(false);
 
@@ -315,7 +337,7 @@ class ShareBoxAppServiceImplTest {
 		Integer userId = user.getId();
 
 		// BDDMockito를 사용한 mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.existsById(shareBoxId)).willReturn(true);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -350,7 +372,7 @@ class ShareBoxAppServiceImplTest {
 		Integer userId = user.getId();
 
 		// BDDMockito를 사용한 mock 설정
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.existsById(shareBoxId)).willReturn(true);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -387,7 +409,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		willDoNothing().given(shareBoxDomainService).validateShareBoxOwner(shareBox, userId);
 
@@ -418,8 +440,8 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		willThrow(new CustomException(ErrorCode.UNAUTHORIZED_SHAREBOX_OWNER_ACCESS))
 			.given(shareBoxDomainService).validateShareBoxOwner(shareBox, userId);
@@ -453,9 +475,9 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
-		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
+		given(shareBoxMembershipCache.isMember(userId, shareBoxId)).willReturn(true);
 
 		// when
 		ShareBoxSettingsResponseDto result = shareBoxAppService.getShareBoxSettings(shareBoxId);
@@ -484,9 +506,9 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
-		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(false);
+		given(shareBoxMembershipCache.isMember(userId, shareBoxId)).willReturn(false);
 
 		// when
 		Throwable thrown = catchThrowable(() ->
@@ -513,7 +535,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		willDoNothing().given(shareBoxDomainService).validateShareBoxOwner(shareBox, userId);
 		willDoNothing().given(shareBoxDomainService).validateShareBoxName(newName);
@@ -545,7 +567,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		willThrow(new CustomException(ErrorCode.UNAUTHORIZED_SHAREBOX_OWNER_ACCESS))
 			.given(shareBoxDomainService).validateShareBoxOwner(shareBox, userId);
@@ -574,10 +596,12 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(shareBoxDomainService.isShareBoxOwner(shareBox, userId)).willReturn(true);
+		given(shareBox.getId()).willReturn(shareBoxId);
+		given(participationRepository.findUserIdsByShareBoxId(shareBoxId)).willReturn(List.of(userId, 2));
 
 		// when
 		Throwable thrown = catchThrowable(() -> shareBoxAppService.leaveShareBox(shareBoxId));
@@ -587,6 +611,14 @@ class ShareBoxAppServiceImplTest {
 		verify(gifticonRepository).unshareAllGifticonsByShareBoxId(eq(shareBoxId));
 		verify(participationRepository).deleteAllByShareBoxId(eq(shareBoxId));
 		verify(shareBoxRepository).delete(eq(shareBox));
+		// 모든 참여자의 참여 여부 캐시를 비워야 함
+		verify(shareBoxMembershipCache).evict(List.of(userId, 2));
+
+		// 참여 정보가 삭제되므로 삭제 전에 조회한 참여자 ID를 이벤트에 담아야 함
+		ArgumentCaptor<NotificationFanOutEvent> eventCaptor = ArgumentCaptor.forClass(NotificationFanOutEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().getUserIds()).containsExactly(userId, 2);
+		assertThat(eventCaptor.getValue().getTypeCode()).isEqualTo(NotificationTypeCode.SHAREBOX_DELETED);
 	}
 
 	@DisplayName("쉐어박스 탈퇴 - 일반 참여자가 탈퇴하면 자신의 참여 정보만 삭제되어야 한다")
@@ -601,7 +633,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(shareBoxDomainService.isShareBoxOwner(shareBox, userId)).willReturn(false);
@@ -613,6 +645,7 @@ class ShareBoxAppServiceImplTest {
 		assertThat(thrown).isNull();
 		verify(gifticonRepository).unshareAllAvailableGifticonsByUserIdAndShareBoxId(eq(userId), eq(shareBoxId));
 		verify(participationRepository).deleteByUserIdAndShareBoxId(eq(userId), eq(shareBoxId));
+		verify(shareBoxMembershipCache).evict(List.of(userId));
 		verify(shareBoxRepository, never()).delete(any());
 	}
 
@@ -628,7 +661,7 @@ class ShareBoxAppServiceImplTest {
 
 		Integer userId = user.getId();
 
-		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(securityServicePort.getLoggedInUserId()).willReturn(user.getId());
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(false);
 
@@ -646,4 +679,28 @@ class ShareBoxAppServiceImplTest {
 		verify(participationRepository, never()).deleteAllByShareBoxId(any());
 		verify(shareBoxRepository, never()).delete(any());
 	}
+
+	@DisplayName("쉐어박스 참여 - DB 기준으로 이미 참여 중이면 참여 여부 캐시와 무관하게 예외가 발생해야 한다")
+	@Test
+	void joinShareBox_WhenAlreadyParticipatingInDatabase_ThenThrowException() {
+		// given
+		User user = User.builder().id(1).name("테스트 사용자").build();
+		ShareBox shareBox = ShareBox.builder().id(1).name("테스트 쉐어박스").inviteCode("ABCDEFGHIJ").build();
+
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(shareBoxRepository.findByInviteCode("ABCDEFGHIJ")).willReturn(shareBox);
+		given(participationRepository.checkParticipation(user.getId(), shareBox.getId())).willReturn(true);
+
+		// when
+		Throwable thrown = catchThrowable(() ->
+			shareBoxAppService.joinShareBox(new ShareBoxJoinRequestDto("ABCDEFGHIJ")));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_PARTICIPATING_SHAREBOX);
+
+		verify(shareBoxMembershipCache, never()).isMember(any(), any());
+		verify(participationRepository, never()).save(any());
+	}
 }
@@ -0,0 +1,88 @@
+package com.eurachacha.achacha.application.service.sharebox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.eurachacha.achacha.application.port.output.cache.dto.request.CacheInvalidationDto;
+import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.service.cache.event.CacheInvalidationEvent;
+
+@ExtendWith(MockitoExtension.class)
+class ShareBoxMembershipCacheTest {
+
+	@Mock
+	private ParticipationRepository participationRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private ShareBoxMembershipCache shareBoxMembershipCache;
+
+	@BeforeEach
+	void setUp() {
+		shareBoxMembershipCache = new ShareBoxMembershipCache(participationRepository, applicationEventPublisher);
+	}
+
+	@Test
+	@DisplayName("사용자의 쉐어박스 목록을 한 번만 조회하고, 이후 참여 확인은 캐시를 사용해야 한다.")
+	void isMember_WhenCalledRepeatedly_ThenLoadOncePerUser() {
+		// given
+		given(participationRepository.findShareBoxIdsByUserId(1)).willReturn(List.of(10, 20));
+
+		// when & then
+		assertThat(shareBoxMembershipCache.isMember(1, 10)).isTrue();
+		assertThat(shareBoxMembershipCache.isMember(1, 20)).isTrue();
+		assertThat(shareBoxMembershipCache.isMember(1, 30)).isFalse();
+		verify(participationRepository, times(1)).findShareBoxIdsByUserId(1);
+	}
+
+	@Test
+	@DisplayName("참여 목록 변경은 바로 비우지 않고 커밋 후 처리하도록 이벤트로 발행해야 한다.")
+	void evict_ThenPublishInvalidationEventWithoutInvalidating() {
+		// given
+		given(participationRepository.findShareBoxIdsByUserId(1)).willReturn(List.of());
+		assertThat(shareBoxMembershipCache.isMember(1, 10)).isFalse();
+
+		// when
+		shareBoxMembershipCache.evict(List.of(1));
+
+		// then
+		ArgumentCaptor<CacheInvalidationEvent> eventCaptor = ArgumentCaptor.forClass(CacheInvalidationEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		CacheInvalidationDto invalidation = eventCaptor.getValue().getInvalidation();
+		assertThat(invalidation.getTarget()).isEqualTo(CacheInvalidationDto.Target.SHAREBOX_MEMBERSHIP);
+		assertThat(invalidation.getUserIds()).containsExactly(1);
+
+		// 커밋 전에는 캐시가 유지됨
+		assertThat(shareBoxMembershipCache.isMember(1, 10)).isFalse();
+		verify(participationRepository, times(1)).findShareBoxIdsByUserId(1);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시를 비우면 다음 참여 확인에서 다시 조회해야 한다.")
+	void invalidateLocal_ThenReloadOnNextCheck() {
+		// given
+		given(participationRepository.findShareBoxIdsByUserId(1))
+			.willReturn(List.of())
+			.willReturn(List.of(10));
+		assertThat(shareBoxMembershipCache.isMember(1, 10)).isFalse();
+
+		// when
+		shareBoxMembershipCache.invalidateLocal(List.of(1));
+
+		// then
+		assertThat(shareBoxMembershipCache.isMember(1, 10)).isTrue();
+		verify(participationRepository, times(2)).findShareBoxIdsByUserId(1);
+	}
+}
@@ -0,0 +1,92 @@
+package com.eurachacha.achacha.application.service.user;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.service.notification.NotificationRecipientResolver;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenAppServiceImplTest {
+
+	@Mock
+	private FcmTokenRepository fcmTokenRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private NotificationRecipientResolver notificationRecipientResolver;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private FcmTokenAppServiceImpl fcmTokenAppService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		fcmTokenAppService = new FcmTokenAppServiceImpl(fcmTokenRepository, transactionTemplate, meterRegistry,
+			notificationRecipientResolver);
+	}
+
+	@Test
+	@DisplayName("무효 토큰은 중복을 제거한 뒤 500개씩 나누어 삭제하고 삭제 건수를 카운터에 기록해야 한다.")
+	void pruneInvalidTokens_WhenManyTokens_ThenDeleteInBatchesAndCount() {
+		// given
+		List<String> tokens = IntStream.range(0, 700).mapToObj(i -> "token-" + i).toList();
+		List<String> withDuplicates = new ArrayList<>(tokens);
+		withDuplicates.add("token-0");
+		given(transactionTemplate.execute(any())).willAnswer(
+			inv -> inv.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+		given(fcmTokenRepository.deleteAllByValueIn(anyList()))
+			.willAnswer(inv -> inv.<List<String>>getArgument(0).size());
+
+		// when
+		int pruned = fcmTokenAppService.pruneInvalidTokens(withDuplicates);
+
+		// then
+		assertThat(pruned).isEqualTo(700);
+		verify(fcmTokenRepository).deleteAllByValueIn(tokens.subList(0, 500));
+		verify(fcmTokenRepository).deleteAllByValueIn(tokens.subList(500, 700));
+		assertThat(meterRegistry.counter("fcm.token.pruned").count()).isEqualTo(700);
+		verify(notificationRecipientResolver).evictAllFcmTokens();
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 토큰은 마지막 사용 시각 기준으로 삭제하고 토큰 캐시를 비워야 한다.")
+	void expireStaleTokens_ThenDeleteBeforeRetentionAndEvictCache() {
+		// given
+		LocalDateTime before = LocalDateTime.now().minusDays(60);
+		given(fcmTokenRepository.deleteAllByLastSeenAtBefore(any())).willReturn(3);
+
+		// when
+		int expired = fcmTokenAppService.expireStaleTokens(60);
+
+		// then
+		ArgumentCaptor<LocalDateTime> thresholdCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(fcmTokenRepository).deleteAllByLastSeenAtBefore(thresholdCaptor.capture());
+		assertThat(thresholdCaptor.getValue()).isBetween(before, LocalDateTime.now().minusDays(60));
+		assertThat(expired).isEqualTo(3);
+		assertThat(meterRegistry.counter("fcm.token.expired").count()).isEqualTo(3);
+		verify(notificationRecipientResolver).evictAllFcmTokens();
+		verifyNoInteractions(transactionTemplate);
+	}
+}
@@ -0,0 +1,99 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.request.GifticonCursorDto;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+class GifticonCursorCodecTest {
+
+	private final GifticonCursorCodec gifticonCursorCodec = new GifticonCursorCodec();
+
+	@Test
+	@DisplayName("만료순 커서는 (만료일, id)를 그대로 복원해야 한다")
+	void encodeAndDecode_WhenExpiryAsc_ThenRestoreExpiryDateAndId() {
+		// given
+		Gifticon gifticon = Gifticon.builder()
+			.id(42)
+			.expiryDate(LocalDate.of(2025, 12, 31))
+			.build();
+
+		// when
+		String cursor = gifticonCursorCodec.encode(gifticon, GifticonSortType.EXPIRY_ASC);
+		GifticonCursorDto cursorDto = gifticonCursorCodec.decode(cursor, GifticonSortType.EXPIRY_ASC);
+
+		// then
+		assertThat(cursorDto.getExpiryDate()).isEqualTo(LocalDate.of(2025, 12, 31));
+		assertThat(cursorDto.getCreatedAt()).isNull();
+		assertThat(cursorDto.getId()).isEqualTo(42);
+	}
+
+	@Test
+	@DisplayName("등록순 커서는 (등록일시, id)를 그대로 복원해야 한다")
+	void encodeAndDecode_WhenCreatedDesc_ThenRestoreCreatedAtAndId() {
+		// given
+		LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000_000);
+		Gifticon gifticon = Gifticon.builder()
+			.id(7)
+			.build();
+		gifticon.updateCreatedAt(createdAt);
+
+		// when
+		String cursor = gifticonCursorCodec.encode(gifticon, GifticonSortType.CREATED_DESC);
+		GifticonCursorDto cursorDto = gifticonCursorCodec.decode(cursor, GifticonSortType.CREATED_DESC);
+
+		// then
+		assertThat(cursor).doesNotContain("+", "/", "=");
+		assertThat(cursorDto.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(cursorDto.getExpiryDate()).isNull();
+		assertThat(cursorDto.getId()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("다른 정렬 기준으로 발급된 커서를 사용하면 예외가 발생해야 한다")
+	void decode_WhenSortMismatch_ThenThrowException() {
+		// given
+		Gifticon gifticon = Gifticon.builder()
+			.id(1)
+			.expiryDate(LocalDate.of(2025, 12, 31))
+			.build();
+		String cursor = gifticonCursorCodec.encode(gifticon, GifticonSortType.EXPIRY_ASC);
+
+		// when & then
+		assertThatThrownBy(() -> gifticonCursorCodec.decode(cursor, GifticonSortType.CREATED_DESC))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.GIFTICON_INVALID_CURSOR);
+	}
+
+	@Test
+	@DisplayName("Base64가 아니거나 형식이 맞지 않는 커서는 예외가 발생해야 한다")
+	void decode_WhenMalformed_ThenThrowException() {
+		// given
+		String notBase64 = "%%%";
+		String missingId = encodeRaw("EXPIRY_ASC|2025-12-31");
+		String invalidDate = encodeRaw("EXPIRY_ASC|2025-13-45|1");
+		String invalidId = encodeRaw("EXPIRY_ASC|2025-12-31|abc");
+
+		// when & then
+		for (String cursor : new String[] {notBase64, missingId, invalidDate, invalidId}) {
+			assertThatThrownBy(() -> gifticonCursorCodec.decode(cursor, GifticonSortType.EXPIRY_ASC))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.GIFTICON_INVALID_CURSOR);
+		}
+	}
+
+	private String encodeRaw(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}